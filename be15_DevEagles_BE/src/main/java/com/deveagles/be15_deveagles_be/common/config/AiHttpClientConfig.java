@@ -0,0 +1,152 @@
+package com.deveagles.be15_deveagles_be.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 AI API(Gemini, HuggingFace) 전용 HTTP 클라이언트 설정
+ *
+ * <p>제공자마다 커넥션 풀, keep-alive, 타임아웃을 따로 두어 한쪽 API 가 느려져도 다른 쪽 연결을 잡아먹지 않는다. 풀 상태는
+ * httpcomponents.httpclient.pool.* 게이지로, 요청마다 새 연결을 열었는지 재사용했는지는 ai.http.client.requests 카운터로 남긴다.
+ */
+@Configuration
+public class AiHttpClientConfig {
+
+  public static final String REQUESTS_METRIC = "ai.http.client.requests";
+
+  @Bean
+  public CloseableHttpClient geminiHttpClient(
+      MeterRegistry meterRegistry,
+      @Value("${gemini.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+      @Value("${gemini.http.response-timeout-ms:5000}") int responseTimeoutMs,
+      @Value("${gemini.http.max-connections:32}") int maxConnections,
+      @Value("${gemini.http.keep-alive-ms:30000}") long keepAliveMs) {
+    return pooledHttpClient(
+        "gemini",
+        new PoolSettings(connectTimeoutMs, responseTimeoutMs, maxConnections, keepAliveMs),
+        meterRegistry);
+  }
+
+  @Bean
+  public RestTemplate geminiRestTemplate(
+      @Qualifier("geminiHttpClient") CloseableHttpClient geminiHttpClient) {
+    return restTemplateFor(geminiHttpClient);
+  }
+
+  @Bean
+  public CloseableHttpClient huggingFaceHttpClient(
+      MeterRegistry meterRegistry,
+      @Value("${huggingface.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+      @Value("${huggingface.http.response-timeout-ms:5000}") int responseTimeoutMs,
+      @Value("${huggingface.http.max-connections:16}") int maxConnections,
+      @Value("${huggingface.http.keep-alive-ms:30000}") long keepAliveMs) {
+    return pooledHttpClient(
+        "huggingface",
+        new PoolSettings(connectTimeoutMs, responseTimeoutMs, maxConnections, keepAliveMs),
+        meterRegistry);
+  }
+
+  @Bean
+  public RestTemplate huggingFaceRestTemplate(
+      @Qualifier("huggingFaceHttpClient") CloseableHttpClient huggingFaceHttpClient) {
+    return restTemplateFor(huggingFaceHttpClient);
+  }
+
+  /**
+   * 풀링 HTTP 클라이언트를 만든다.
+   *
+   * @param clientName 메트릭 태그로 쓰는 클라이언트 이름
+   * @param settings 풀/타임아웃 설정
+   * @param meterRegistry 풀 상태와 연결 재사용 메트릭을 등록할 레지스트리
+   * @return 종료 시 close 해야 하는 HTTP 클라이언트
+   */
+  public static CloseableHttpClient pooledHttpClient(
+      String clientName, PoolSettings settings, MeterRegistry meterRegistry) {
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(settings.maxConnections())
+            .setMaxConnPerRoute(settings.maxConnections())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(settings.connectTimeoutMs()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(settings.responseTimeoutMs()))
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build())
+            .build();
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName)
+        .bindTo(meterRegistry);
+
+    Counter newConnectionRequests = requestCounter(meterRegistry, clientName, "new");
+    Counter reusedConnectionRequests = requestCounter(meterRegistry, clientName, "reused");
+    long keepAliveMs = settings.keepAliveMs();
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(
+            RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.connectTimeoutMs()))
+                .setResponseTimeout(Timeout.ofMilliseconds(settings.responseTimeoutMs()))
+                .build())
+        // 서버가 Keep-Alive 헤더로 더 짧은 시간을 주면 그 값을 따른다
+        .setKeepAliveStrategy(
+            (response, context) -> {
+              TimeValue serverKeepAlive =
+                  DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(
+                      response, context);
+              return serverKeepAlive.toMilliseconds() > 0
+                      && serverKeepAlive.toMilliseconds() < keepAliveMs
+                  ? serverKeepAlive
+                  : TimeValue.ofMilliseconds(keepAliveMs);
+            })
+        // 재시도와 실패 처리는 어댑터가 맡는다. 기본 전략은 503/429 를 한 번 더 보내 오류 코드가 바뀐다
+        .disableAutomaticRetries()
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs))
+        // 연결에서 보낸 요청 수가 1보다 크면 풀에서 재사용한 연결이다
+        .addResponseInterceptorLast(
+            (response, entity, context) -> {
+              EndpointDetails details =
+                  HttpClientContext.castOrCreate(context).getEndpointDetails();
+              if (details != null && details.getRequestCount() > 1) {
+                reusedConnectionRequests.increment();
+              } else {
+                newConnectionRequests.increment();
+              }
+            })
+        .build();
+  }
+
+  public static RestTemplate restTemplateFor(CloseableHttpClient httpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+  }
+
+  private static Counter requestCounter(
+      MeterRegistry meterRegistry, String clientName, String connection) {
+    return Counter.builder(REQUESTS_METRIC)
+        .description("외부 AI API 요청 수 (연결 재사용 여부별)")
+        .tag("client", clientName)
+        .tag("connection", connection)
+        .register(meterRegistry);
+  }
+
+  public record PoolSettings(
+      int connectTimeoutMs, int responseTimeoutMs, int maxConnections, long keepAliveMs) {}
+}
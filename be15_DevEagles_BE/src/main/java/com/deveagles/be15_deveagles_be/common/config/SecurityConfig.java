@@ -4,7 +4,9 @@ import com.deveagles.be15_deveagles_be.common.jwt.JwtAuthenticationFilter;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
 import com.deveagles.be15_deveagles_be.common.jwt.RestAccessDeniedHandler;
 import com.deveagles.be15_deveagles_be.common.jwt.RestAuthenticationEntryPoint;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -30,6 +32,10 @@ public class SecurityConfig {
   private final UserDetailsService userDetailsService;
   private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
   private final RestAccessDeniedHandler restAccessDeniedHandler;
+  private final UserStatusCache userStatusCache;
+
+  @Value("${jwt.stateless-auth:true}")
+  private boolean statelessAuth;
 
   @Bean
   public PasswordEncoder passwordEncoder() {
@@ -84,6 +90,7 @@ public class SecurityConfig {
 
   @Bean
   public JwtAuthenticationFilter jwtAuthenticationFilter() {
-    return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+    return new JwtAuthenticationFilter(
+        jwtTokenProvider, userDetailsService, userStatusCache, statelessAuth);
   }
 }
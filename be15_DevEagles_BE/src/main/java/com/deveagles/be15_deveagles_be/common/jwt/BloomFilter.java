@@ -0,0 +1,98 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ *
+ * <p>넣은 값은 항상 있다고 답하고(거짓 음성 없음), 넣지 않은 값은 설정한 확률 이하로만 있다고 잘못 답한다. 비트는 {@link AtomicLongArray} 에
+ * 보관하므로 락 없이 여러 스레드에서 동시에 넣고 조회할 수 있다. 값을 지울 수 없으므로 만료가 필요하면 필터 자체를 교체한다.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  private BloomFilter(long bitCount, int hashCount) {
+    int words = (int) ((bitCount + 63) / 64);
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words * 64;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * @param expectedInsertions 필터 하나에 넣을 것으로 예상하는 값 수
+   * @param falsePositiveRate 예상 수만큼 넣었을 때 허용하는 거짓 양성 비율 (0 초과 1 미만)
+   */
+  static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions < 1) {
+      throw new IllegalArgumentException("expectedInsertions 는 1 이상이어야 합니다.");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate 는 0 과 1 사이여야 합니다.");
+    }
+
+    double ln2 = Math.log(2);
+    double bitsPerInsertion = -Math.log(falsePositiveRate) / ln2 / ln2;
+    long bitCount = Math.max(64, (long) Math.ceil(expectedInsertions * bitsPerInsertion));
+    int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    return new BloomFilter(bitCount, hashCount);
+  }
+
+  void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = bitIndex(h1 + i * h2);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current = bits.get(word);
+      while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+        current = bits.get(word);
+      }
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = bitIndex(h1 + i * h2);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long bitCount() {
+    return bitCount;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  private long bitIndex(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bitCount;
+  }
+
+  /** 64비트 FNV-1a 후 비트를 섞어 두 개의 32비트 해시로 나눠 쓴다 (Kirsch–Mitzenmacher). */
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -1,10 +1,14 @@
 package com.deveagles.be15_deveagles_be.common.jwt;
 
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,12 +18,21 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * JWT 인증 필터
+ *
+ * <p>토큰은 요청마다 한 번만 파싱한다. stateless 모드에서는 토큰 클레임으로 인증 사용자를 만들고, 토큰 발급 이후의 탈퇴·상태 변경은 {@link
+ * UserStatusCache} 로만 확인하므로 인증된 요청에서 사용자를 DB 에서 읽지 않는다. stateless 모드를 끄거나 클레임이 부족한 토큰이면 기존처럼
+ * {@link UserDetailsService} 로 사용자를 읽는다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final UserDetailsService userDetailsService;
+  private final UserStatusCache userStatusCache;
+  private final boolean statelessAuth;
 
   @Override
   protected void doFilterInternal(
@@ -29,25 +42,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String token = getJwtFromRequest(request);
     log.info("## user login -> token: {}", token);
     try {
-      if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+      if (StringUtils.hasText(token)) {
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
 
-        if (jwtTokenProvider.isRefreshToken(token)) {
+        if (jwtTokenProvider.isRefreshToken(claims)) {
           log.warn("# refreshToken으로 접근 시도 차단");
           response.sendError(
               HttpServletResponse.SC_UNAUTHORIZED, "refreshToken은 API 인증에 사용할 수 없습니다.");
           return;
         }
 
-        if (Boolean.TRUE.equals(jwtTokenProvider.isAccessTokenBlacklisted(token))) {
+        if (jwtTokenProvider.isAccessTokenBlacklisted(claims, token)) {
           log.warn("# 블랙리스트 토큰 사용 시도");
           response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
           return;
         }
 
-        String username = jwtTokenProvider.getUsernameFromJWT(token);
-        log.info("## user login -> username: {}", username);
+        UserDetails userDetails = loadUser(claims);
+        if (userDetails == null) {
+          log.warn("# 탈퇴했거나 존재하지 않는 사용자의 토큰 사용 시도");
+          response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "사용할 수 없는 계정입니다.");
+          return;
+        }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
@@ -61,6 +78,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  /** @return 인증 사용자. 탈퇴했거나 존재하지 않는 사용자면 null */
+  private UserDetails loadUser(Claims claims) {
+    Optional<CustomUser> tokenUser =
+        statelessAuth ? jwtTokenProvider.getUserFromClaims(claims) : Optional.empty();
+    if (tokenUser.isEmpty()) {
+      return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
+    CustomUser user = tokenUser.get();
+    Optional<UserStatus> status = userStatusCache.activeStatus(user.getUserId());
+    if (status.isEmpty()) {
+      return null;
+    }
+    if (status.get() == user.getUserStatus()) {
+      return user;
+    }
+    return CustomUser.builder()
+        .userId(user.getUserId())
+        .username(user.getUsername())
+        .userStatus(status.get())
+        .build();
+  }
+
   private String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
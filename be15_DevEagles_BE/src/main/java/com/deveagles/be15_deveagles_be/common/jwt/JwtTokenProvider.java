@@ -1,20 +1,23 @@
 package com.deveagles.be15_deveagles_be.common.jwt;
 
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
 import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.User;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
 import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
@@ -33,15 +36,19 @@ public class JwtTokenProvider {
   private long jwtRefreshExpiration;
 
   private SecretKey secretKey;
+  // 파서는 불변·스레드 안전하므로 한 번만 만들어 재사용한다
+  private JwtParser jwtParser;
 
-  private final RedisTemplate<String, String> redisTemplate;
   private final UserRepository userRepository;
+  private final UserStatusCache userStatusCache;
+  private final TokenRevocationStore tokenRevocationStore;
 
   @PostConstruct
   public void init() {
 
     byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
     secretKey = Keys.hmacShaKeyFor(keyBytes);
+    jwtParser = Jwts.parser().verifyWith(secretKey).build();
   }
 
   public String createToken(String username) {
@@ -56,6 +63,7 @@ public class JwtTokenProvider {
     if (user.getDeletedAt() != null) {
       user.returnUser();
       userRepository.save(user);
+      userStatusCache.evict(user.getUserId());
       isReturnUser = true;
     }
 
@@ -68,6 +76,7 @@ public class JwtTokenProvider {
     map.put("returnUser", String.valueOf(isReturnUser));
 
     return Jwts.builder()
+        .id(UUID.randomUUID().toString())
         .subject(username)
         .issuedAt(now)
         .claims(map)
@@ -105,9 +114,14 @@ public class JwtTokenProvider {
   }
 
   public boolean validateToken(String token) {
+    parseVerifiedClaims(token);
+    return true;
+  }
+
+  /** 서명과 만료를 검증하고 claims 를 꺼낸다. 요청마다 토큰을 한 번만 파싱하려면 이 결과를 재사용한다. */
+  public Claims parseVerifiedClaims(String token) {
     try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
+      return jwtParser.parseSignedClaims(token).getPayload();
     } catch (SecurityException | MalformedJwtException e) {
       throw new BadCredentialsException("Invalid JWT Token", e);
     } catch (ExpiredJwtException e) {
@@ -120,9 +134,7 @@ public class JwtTokenProvider {
   }
 
   public String getUsernameFromJWT(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.getSubject();
+    return jwtParser.parseSignedClaims(token).getPayload().getSubject();
   }
 
   public long getRemainingExpiration(String token) {
@@ -132,18 +144,53 @@ public class JwtTokenProvider {
 
   public Claims parseClaims(String token) {
     try {
-      return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+      return jwtParser.parseSignedClaims(token).getPayload();
     } catch (ExpiredJwtException e) {
       return e.getClaims(); // 만료된 토큰도 claims는 꺼낼 수 있음
     }
   }
 
   public boolean isRefreshToken(String token) {
-    Claims claims = parseClaims(token);
+    return isRefreshToken(parseClaims(token));
+  }
+
+  public boolean isRefreshToken(Claims claims) {
     return "refresh".equals(claims.get("type", String.class));
   }
 
+  /**
+   * 검증된 access token claims 로 인증 사용자를 만든다. DB 를 읽지 않으며 비밀번호는 비워 둔다.
+   *
+   * @return userId·userStatus 클레임이 없는 토큰이면 빈 값
+   */
+  public Optional<CustomUser> getUserFromClaims(Claims claims) {
+    String userId = claims.get("userId", String.class);
+    String userStatus = claims.get("userStatus", String.class);
+    if (userId == null || userStatus == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        CustomUser.builder()
+            .userId(Long.valueOf(userId))
+            .username(claims.getSubject())
+            .userStatus(UserStatus.valueOf(userStatus))
+            .build());
+  }
+
   public boolean isAccessTokenBlacklisted(String token) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + token));
+    return isAccessTokenBlacklisted(parseClaims(token), token);
+  }
+
+  public boolean isAccessTokenBlacklisted(Claims claims, String token) {
+    return tokenRevocationStore.isRevoked(TokenRevocationStore.revocationId(claims.getId(), token));
+  }
+
+  /** access token 을 남은 유효시간 동안 폐기한다. */
+  public void revokeAccessToken(String accessToken) {
+    Claims claims = parseClaims(accessToken);
+    String revocationId = TokenRevocationStore.revocationId(claims.getId(), accessToken);
+    long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+    tokenRevocationStore.revoke(revocationId, Duration.ofMillis(remaining));
   }
 }
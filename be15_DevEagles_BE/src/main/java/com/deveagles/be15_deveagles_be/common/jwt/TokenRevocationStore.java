@@ -0,0 +1,198 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token 저장소
+ *
+ * <p>폐기된 토큰은 Redis 에 {@code BL:<폐기 ID>} 로 남은 유효시간 동안 저장한다. 폐기 ID 는 토큰의 jti 이고, jti 가 없는 토큰은 토큰
+ * 문자열의 SHA-256 이다. 대부분의 요청은 폐기되지 않은 토큰이므로, 서버마다 폐기 ID 블룸 필터를 두고 필터가 있다고 답할 때만 Redis 를 조회한다.
+ * 필터는 거짓 음성이 없으므로 폐기된 토큰을 놓치지 않는다.
+ *
+ * <p>필터는 폐기 시 {@link #REVOCATION_CHANNEL} 로 전파되는 ID 와, 시작 시·주기적으로 Redis 를 SCAN 한 결과로
+ * 채운다({@link #sync()}). 첫 동기화가 끝나기 전에는 필터를 믿을 수 없으므로 모든 조회를 Redis 로 보낸다. 블룸 필터에서는 값을 지울 수 없어서
+ * access token 유효시간마다 새 필터로 교체하고 직전 필터 하나를 함께 조회한다. 한 번 들어간 ID 는 최소한 유효시간 동안 필터에 남는다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+  public static final String KEY_PREFIX = "BL:";
+
+  /** 폐기 전파 채널. 메시지 본문은 폐기 ID 이다. */
+  public static final String REVOCATION_CHANNEL = "auth:token-revocation";
+
+  private static final int SCAN_COUNT = 500;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final long expectedRevocations;
+  private final double falsePositiveRate;
+  private final long generationMillis;
+  private final Clock clock;
+
+  private volatile Generations generations;
+  private volatile boolean synced;
+
+  @Autowired
+  public TokenRevocationStore(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${jwt.expiration}") long accessTokenExpirationMillis,
+      @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+      @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+    this(
+        redisTemplate,
+        Duration.ofMillis(accessTokenExpirationMillis),
+        expectedRevocations,
+        falsePositiveRate,
+        Clock.systemUTC());
+  }
+
+  TokenRevocationStore(
+      RedisTemplate<String, String> redisTemplate,
+      Duration accessTokenExpiration,
+      long expectedRevocations,
+      double falsePositiveRate,
+      Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.expectedRevocations = expectedRevocations;
+    this.falsePositiveRate = falsePositiveRate;
+    this.generationMillis = accessTokenExpiration.toMillis();
+    this.clock = clock;
+    this.generations = new Generations(newFilter(), newFilter(), clock.millis() + generationMillis);
+  }
+
+  /** 토큰의 폐기 ID. jti 가 있으면 jti, 없으면 토큰 문자열의 SHA-256 */
+  public static String revocationId(String jti, String token) {
+    if (jti != null && !jti.isBlank()) {
+      return jti;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /** 토큰을 폐기하고 다른 서버에 전파한다. 이미 만료된 토큰은 저장하지 않는다. */
+  public void revoke(String revocationId, Duration remaining) {
+    if (remaining.isNegative() || remaining.isZero()) {
+      return;
+    }
+
+    redisTemplate.opsForValue().set(KEY_PREFIX + revocationId, "logout", remaining);
+    addLocal(revocationId);
+    try {
+      redisTemplate.convertAndSend(REVOCATION_CHANNEL, revocationId);
+    } catch (Exception e) {
+      log.warn("토큰 폐기 전파 실패: {}", e.getMessage());
+    }
+  }
+
+  public boolean isRevoked(String revocationId) {
+    if (synced) {
+      Generations current = rotateIfNeeded();
+      if (!current.active().mightContain(revocationId)
+          && !current.previous().mightContain(revocationId)) {
+        return false;
+      }
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + revocationId));
+  }
+
+  /** 이 서버의 필터에만 폐기 ID 를 넣는다. 전파 채널 구독자가 호출한다. */
+  public void addLocal(String revocationId) {
+    rotateIfNeeded().active().put(revocationId);
+  }
+
+  /**
+   * Redis 의 폐기 목록을 SCAN 해 필터에 넣는다. 처음 성공하면 이후 조회는 필터를 먼저 본다.
+   *
+   * <p>폐기 ID 형식 도입 전의 {@code BL:<토큰 전체>} 키는 남은 유효시간 그대로 새 형식 키로 옮긴다.
+   *
+   * @return 필터에 넣은 폐기 ID 수
+   */
+  public int sync() {
+    ScanOptions scanOptions =
+        ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+    int count = 0;
+    try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+      while (cursor.hasNext()) {
+        String revocationId = cursor.next().substring(KEY_PREFIX.length());
+        if (isLegacyToken(revocationId)) {
+          revocationId = migrateLegacyKey(revocationId);
+          if (revocationId == null) {
+            continue;
+          }
+        }
+        addLocal(revocationId);
+        count++;
+      }
+    }
+    synced = true;
+    return count;
+  }
+
+  boolean isSynced() {
+    return synced;
+  }
+
+  private static boolean isLegacyToken(String revocationId) {
+    return revocationId.indexOf('.') >= 0;
+  }
+
+  private String migrateLegacyKey(String token) {
+    Long ttlMillis = redisTemplate.getExpire(KEY_PREFIX + token, TimeUnit.MILLISECONDS);
+    if (ttlMillis == null || ttlMillis <= 0) {
+      return null;
+    }
+
+    // 이전 형식 토큰에는 jti 가 없으므로 해시가 폐기 ID 가 된다
+    String revocationId = revocationId(null, token);
+    redisTemplate
+        .opsForValue()
+        .set(KEY_PREFIX + revocationId, "logout", Duration.ofMillis(ttlMillis));
+    redisTemplate.delete(KEY_PREFIX + token);
+    return revocationId;
+  }
+
+  private Generations rotateIfNeeded() {
+    Generations current = generations;
+    long now = clock.millis();
+    if (now < current.rotateAt()) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = generations;
+      if (now >= current.rotateAt()) {
+        // 한 주기 넘게 조회가 없었으면 직전 필터도 이미 만료된 ID 만 담고 있다
+        BloomFilter previous =
+            now < current.rotateAt() + generationMillis ? current.active() : newFilter();
+        current = new Generations(newFilter(), previous, now + generationMillis);
+        generations = current;
+      }
+      return current;
+    }
+  }
+
+  private BloomFilter newFilter() {
+    return BloomFilter.create(expectedRevocations, falsePositiveRate);
+  }
+
+  /** 현재 넣는 필터와 직전 주기 필터. 직전 필터의 ID 는 교체 후 한 주기 동안만 유효할 수 있다. */
+  private record Generations(BloomFilter active, BloomFilter previous, long rotateAt) {}
+}
@@ -0,0 +1,62 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 서버에서 전파된 토큰 폐기를 구독해 이 서버의 {@link TokenRevocationStore} 필터에 넣는다.
+ *
+ * <p>구독을 먼저 등록한 뒤 Redis 의 폐기 목록을 동기화하므로, 동기화 도중 폐기된 토큰도 빠지지 않는다. 공용 리스너 컨테이너는 컨텍스트 초기화가 끝날 때
+ * 구독을 시작하므로 그 뒤에 한 번 더 동기화한다. 구독 연결이 끊긴 동안 놓친 전파는 주기적인 재동기화로 채운다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationSubscriber {
+
+  private final TokenRevocationStore tokenRevocationStore;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public TokenRevocationSubscriber(
+      TokenRevocationStore tokenRevocationStore, RedisMessageListenerContainer listenerContainer) {
+    this.tokenRevocationStore = tokenRevocationStore;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    MessageListener messageListener =
+        (message, pattern) ->
+            tokenRevocationStore.addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    listenerContainer.addMessageListener(
+        messageListener, new ChannelTopic(TokenRevocationStore.REVOCATION_CHANNEL));
+    log.info("토큰 폐기 채널 구독: {}", TokenRevocationStore.REVOCATION_CHANNEL);
+
+    resync();
+  }
+
+  /** 공용 리스너 컨테이너가 구독을 시작한 뒤 그 사이 전파된 폐기를 채운다. */
+  @EventListener(ContextRefreshedEvent.class)
+  public void resyncAfterListening() {
+    if (listenerContainer.isRunning()) {
+      resync();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval-ms:300000}")
+  public void resync() {
+    try {
+      int count = tokenRevocationStore.sync();
+      log.debug("토큰 폐기 목록 동기화: {}건", count);
+    } catch (Exception e) {
+      log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+    }
+  }
+}
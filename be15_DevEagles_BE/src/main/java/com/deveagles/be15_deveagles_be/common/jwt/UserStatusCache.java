@@ -0,0 +1,63 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.User;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
+import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 상태 캐시
+ *
+ * <p>토큰 클레임만으로 인증할 때 토큰 발급 이후의 탈퇴·상태 변경을 반영하기 위해 사용자별 현재 상태를 짧게 보관한다. 캐시가 비었을 때만 DB 를 읽으므로 인증된
+ * 요청마다 사용자를 조회하지 않는다. 상태를 바꾸는 쪽에서 {@link #evict(Long)} 를 호출하면 이 서버에는 즉시 반영되고, 다른 서버에는 TTL 이 지난 뒤
+ * 반영된다.
+ */
+@Component
+public class UserStatusCache {
+
+  private final UserRepository userRepository;
+  private final LoadingCache<Long, Optional<UserStatus>> statuses;
+
+  @Autowired
+  public UserStatusCache(
+      UserRepository userRepository,
+      @Value("${jwt.status-cache.ttl-seconds:30}") long ttlSeconds,
+      @Value("${jwt.status-cache.max-entries:10000}") long maxEntries) {
+    this(userRepository, Duration.ofSeconds(ttlSeconds), maxEntries, Ticker.systemTicker());
+  }
+
+  UserStatusCache(UserRepository userRepository, Duration ttl, long maxEntries, Ticker ticker) {
+    this.userRepository = userRepository;
+    this.statuses =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .build(this::load);
+  }
+
+  /** @return 현재 사용자 상태. 탈퇴했거나 존재하지 않는 사용자면 빈 값 */
+  public Optional<UserStatus> activeStatus(Long userId) {
+    return statuses.get(userId);
+  }
+
+  public void evict(Long userId) {
+    if (userId != null) {
+      statuses.invalidate(userId);
+    }
+  }
+
+  private Optional<UserStatus> load(Long userId) {
+    return userRepository
+        .findUserByUserId(userId)
+        .filter(user -> user.getDeletedAt() == null)
+        .map(User::getUserStatus);
+  }
+}
@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.auth.command.application.service;
 
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.UserFindIdRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.UserFindPwdRequest;
@@ -12,7 +13,6 @@ import com.deveagles.be15_deveagles_be.features.user.command.domain.exception.Us
 import com.deveagles.be15_deveagles_be.features.user.command.domain.exception.UserErrorCode;
 import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
 import jakarta.mail.MessagingException;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +35,7 @@ public class AuthServiceImpl implements AuthService {
   private final RedisTemplate<String, String> redisTemplate;
   private final AuthCodeService authCodeService;
   private final MailService mailService;
+  private final UserStatusCache userStatusCache;
 
   @Override
   public TokenResponse login(LoginRequest request) {
@@ -63,8 +64,7 @@ public class AuthServiceImpl implements AuthService {
     String username = jwtTokenProvider.getUsernameFromJWT(refreshToken);
     refreshTokenService.deleteRefreshToken(username);
 
-    long remainTime = jwtTokenProvider.getRemainingExpiration(accessToken);
-    redisTemplate.opsForValue().set("BL:" + accessToken, "logout", Duration.ofMillis(remainTime));
+    jwtTokenProvider.revokeAccessToken(accessToken);
   }
 
   @Override
@@ -182,6 +182,7 @@ public class AuthServiceImpl implements AuthService {
 
     user.setEnabledUser(UserStatus.ENABLED);
     userRepository.save(user);
+    userStatusCache.evict(user.getUserId());
 
     authCodeService.deleteAuthCode(email);
   }
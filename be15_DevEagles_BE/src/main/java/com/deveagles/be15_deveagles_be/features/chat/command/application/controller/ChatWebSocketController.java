@@ -5,23 +5,18 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.res
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.AiChatService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.AutoEmotionAnalysisService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
-import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
-import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ReadReceiptService;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ReadReceiptRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.AiTaskDispatcher;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.ReadReceiptBatchWriter;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.response.UserDetailResponse;
 import com.deveagles.be15_deveagles_be.features.user.command.application.service.UserCommandService;
 import java.security.Principal;
 import java.time.ZoneId;
-import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -29,40 +24,30 @@ public class ChatWebSocketController {
 
   private static final Logger log = LoggerFactory.getLogger(ChatWebSocketController.class);
   private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
-  private static final String CHATROOM_READ_TOPIC_FORMAT = "/topic/chatroom.%s.read";
 
   private final ChatMessageService chatMessageService;
-  private final ChatRoomService chatRoomService;
   private final AiChatService aiChatService;
   private final AutoEmotionAnalysisService autoEmotionAnalysisService;
-  private final ChatRoomRepository chatRoomRepository;
-  private final ReadReceiptRepository readReceiptRepository;
-  private final SimpMessagingTemplate messagingTemplate;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final ChatRoomMembershipCache chatRoomMembershipCache;
   private final UserCommandService userCommandService;
-  private final ReadReceiptService readReceiptService;
+  private final ReadReceiptBatchWriter readReceiptBatchWriter;
+  private final AiTaskDispatcher aiTaskDispatcher;
 
   public ChatWebSocketController(
       ChatMessageService chatMessageService,
-      ChatRoomService chatRoomService,
       AiChatService aiChatService,
       AutoEmotionAnalysisService autoEmotionAnalysisService,
-      ChatRoomRepository chatRoomRepository,
-      ReadReceiptRepository readReceiptRepository,
-      SimpMessagingTemplate messagingTemplate,
-      RedisTemplate<String, String> redisTemplate,
+      ChatRoomMembershipCache chatRoomMembershipCache,
       UserCommandService userCommandService,
-      ReadReceiptService readReceiptService) {
+      ReadReceiptBatchWriter readReceiptBatchWriter,
+      AiTaskDispatcher aiTaskDispatcher) {
     this.chatMessageService = chatMessageService;
-    this.chatRoomService = chatRoomService;
     this.aiChatService = aiChatService;
     this.autoEmotionAnalysisService = autoEmotionAnalysisService;
-    this.chatRoomRepository = chatRoomRepository;
-    this.readReceiptRepository = readReceiptRepository;
-    this.messagingTemplate = messagingTemplate;
-    this.redisTemplate = redisTemplate;
+    this.chatRoomMembershipCache = chatRoomMembershipCache;
     this.userCommandService = userCommandService;
-    this.readReceiptService = readReceiptService;
+    this.readReceiptBatchWriter = readReceiptBatchWriter;
+    this.aiTaskDispatcher = aiTaskDispatcher;
   }
 
   @MessageMapping("/chat.send")
@@ -118,36 +103,32 @@ public class ChatWebSocketController {
 
     ChatMessageResponse userMessageResponse = chatMessageService.sendMessage(finalRequest);
 
+    // sendMessage 에서 이미 적재된 멤버십 캐시로 채팅방 타입 확인 (채팅방 재조회 없음)
     final ChatMessageRequest aiRequest = finalRequest;
-    chatRoomRepository
-        .findById(finalRequest.getChatroomId())
+    chatRoomMembershipCache
+        .get(finalRequest.getChatroomId())
         .ifPresent(
-            chatRoom -> {
-              if (chatRoom.getType() == ChatRoomType.AI) {
+            membership -> {
+              if (membership.isAiChatRoom()) {
                 log.info("AI 채팅방에 메시지 수신: {}", aiRequest.getContent());
 
-                // AI 응답 생성
-                CompletableFuture.runAsync(
-                    () -> {
-                      try {
-                        aiChatService.processUserMessage(aiRequest);
-                      } catch (Exception e) {
-                        log.error("AI 응답 생성 중 오류 발생", e);
-                      }
-                    });
-
-                // 자동 감정 분석 (5개 메시지마다)
-                CompletableFuture.runAsync(
-                    () -> {
-                      try {
+                // AI 응답 생성. 전용 실행기가 거절하면 기본 응답으로 대신한다
+                aiTaskDispatcher.submit(
+                    aiRequest.getSenderId(),
+                    "reply",
+                    () -> aiChatService.processUserMessage(aiRequest),
+                    () -> aiChatService.sendDefaultResponse(aiRequest));
+
+                // 자동 감정 분석 (5개 메시지마다). 메시지 수를 빠짐없이 세도록 응답 생성과 사용자 한도를 나누지 않는다
+                aiTaskDispatcher.submitUnlimited(
+                    aiRequest.getSenderId(),
+                    "emotion",
+                    () ->
                         autoEmotionAnalysisService.processUserMessage(
                             aiRequest.getSenderId(),
                             aiRequest.getChatroomId(),
-                            aiRequest.getContent());
-                      } catch (Exception e) {
-                        log.error("자동 감정 분석 중 오류 발생", e);
-                      }
-                    });
+                            aiRequest.getContent()),
+                    null);
               }
             });
 
@@ -161,82 +142,23 @@ public class ChatWebSocketController {
       return;
     }
 
-    String userId = principal.getName();
-    String chatroomId = request.getChatroomId();
-    String messageId = request.getMessageId();
-
-    boolean success = false;
-
-    // 1. ReadReceiptService를 사용하여 DB에 읽음 상태 저장
-    try {
-      readReceiptService.markMessageAsRead(chatroomId, messageId, userId);
-      log.info(
-          "ReadReceipt 저장 성공: userId={}, messageId={}, chatroomId={}",
-          userId,
-          messageId,
-          chatroomId);
-      success = true;
-    } catch (Exception e) {
-      log.error(
-          "ReadReceipt 저장 실패: userId={}, messageId={}, chatroomId={}, error={}",
-          userId,
-          messageId,
-          chatroomId,
-          e.getMessage(),
-          e);
-    }
-
-    // 2. Redis에 읽음 상태 저장 (빠른 응답용, 폴백)
-    if (success) {
-      try {
-        String redisKey = "chat:last_read_message:" + chatroomId;
-        redisTemplate.opsForHash().put(redisKey, userId, messageId);
-        log.debug(
-            "Redis 읽음 상태 업데이트 성공: userId={}, messageId={}, chatroomId={}",
-            userId,
-            messageId,
-            chatroomId);
-      } catch (Exception e) {
-        log.error(
-            "Redis 읽음 상태 업데이트 실패: userId={}, messageId={}, chatroomId={}, error={}",
-            userId,
-            messageId,
-            chatroomId,
-            e.getMessage(),
-            e);
-      }
-    }
-
-    // 3. ChatRoom의 participant lastReadMessage 업데이트 (폴백)
-    if (!success) {
-      try {
-        chatRoomService.updateLastReadMessage(chatroomId, userId, messageId);
-        log.info(
-            "ChatRoom 폴백 읽음 처리 성공: userId={}, messageId={}, chatroomId={}",
-            userId,
-            messageId,
-            chatroomId);
-        success = true;
-      } catch (Exception e) {
-        log.error(
-            "ChatRoom 폴백 읽음 처리 실패: userId={}, messageId={}, chatroomId={}, error={}",
-            userId,
-            messageId,
-            chatroomId,
-            e.getMessage(),
-            e);
-        return;
-      }
+    // 참가자가 아닌 사용자의 읽음 요청은 큐에 넣기 전에 멤버십 캐시로 걸러낸다
+    boolean participant =
+        chatRoomMembershipCache
+            .get(request.getChatroomId())
+            .map(membership -> membership.isParticipant(principal.getName()))
+            .orElse(false);
+    if (!participant) {
+      log.warn(
+          "채팅방 참가자가 아닌 사용자의 읽음 요청: chatroomId={}, userId={}",
+          request.getChatroomId(),
+          principal.getName());
+      return;
     }
 
-    // 4. 읽음 상태 이벤트 전송
-    if (success) {
-      ReadStatusResponse readStatusResponse = new ReadStatusResponse(chatroomId, userId, messageId);
-      String destination = String.format(CHATROOM_READ_TOPIC_FORMAT, chatroomId);
-      messagingTemplate.convertAndSend(destination, readStatusResponse);
-      log.debug(
-          "읽음 상태 이벤트 전송: destination={}, userId={}, messageId={}", destination, userId, messageId);
-    }
+    // 짧은 윈도우 동안 (채팅방, 사용자)별 최신 메시지로 합쳐서 일괄 저장/전송
+    readReceiptBatchWriter.enqueue(
+        request.getChatroomId(), principal.getName(), request.getMessageId());
   }
 
   @MessageMapping("/chat.ai.init")
@@ -264,30 +186,6 @@ public class ChatWebSocketController {
     }
   }
 
-  public static class ReadStatusResponse {
-    private String chatroomId;
-    private String userId;
-    private String lastReadMessageId;
-
-    public ReadStatusResponse(String chatroomId, String userId, String lastReadMessageId) {
-      this.chatroomId = chatroomId;
-      this.userId = userId;
-      this.lastReadMessageId = lastReadMessageId;
-    }
-
-    public String getChatroomId() {
-      return chatroomId;
-    }
-
-    public String getUserId() {
-      return userId;
-    }
-
-    public String getLastReadMessageId() {
-      return lastReadMessageId;
-    }
-  }
-
   public static class AiChatInitRequest {
     private String chatroomId;
 
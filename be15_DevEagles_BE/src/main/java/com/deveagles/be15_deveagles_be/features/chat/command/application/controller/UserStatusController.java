@@ -1,7 +1,9 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.application.controller;
 
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
-import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.UserStatusMessage;
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PresenceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -9,13 +11,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -25,13 +28,47 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "사용자 상태", description = "사용자 온라인/오프라인 상태 관리 API")
 public class UserStatusController {
 
-  private final RedisTemplate<String, String> redisTemplate;
-  private final SimpMessagingTemplate messagingTemplate;
-  private static final String REDIS_KEY_ONLINE_USERS = "chat:online_users";
-  private static final String USER_STATUS_TOPIC = "/topic/status";
+  private final PresenceService presenceService;
 
+  @GetMapping("/teams/{teamId}")
+  @Operation(
+      summary = "팀원 접속 상태 조회",
+      description =
+          "팀원별 온라인 여부와 팀 상태 버전을 조회합니다. since 에 이전 응답의 version 을 보내면 그 이후 상태가 바뀐 팀원만 돌려줍니다")
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "팀원 접속 상태 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "팀원이 아님",
+            content = @Content)
+      })
+  public ResponseEntity<ApiResponse<TeamPresenceResponse>> getTeamPresence(
+      @AuthenticationPrincipal CustomUser customUser,
+      @PathVariable Long teamId,
+      @RequestParam(required = false) Long since) {
+    TeamPresenceResponse response =
+        presenceService.getTeamPresence(customUser.getUserId(), teamId, since);
+    log.debug(
+        "팀원 접속 상태 조회: 팀ID={}, version={}, delta={}, {}명",
+        teamId,
+        response.getVersion(),
+        response.getDelta(),
+        response.getMembers().size());
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
+  /**
+   * @deprecated 응답 크기가 전체 접속자 수에 비례한다. 팀 단위 조회 {@code GET /teams/{teamId}} 를 사용한다.
+   */
+  @Deprecated
   @GetMapping("/online-users")
-  @Operation(summary = "온라인 사용자 목록 조회", description = "현재 온라인 상태인 사용자 목록을 조회합니다")
+  @Operation(
+      summary = "온라인 사용자 목록 조회",
+      description = "현재 온라인 상태인 사용자 목록을 조회합니다. 팀원 접속 상태 조회를 사용하세요",
+      deprecated = true)
   @ApiResponses(
       value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -44,8 +81,8 @@ public class UserStatusController {
       })
   public ResponseEntity<ApiResponse<Set<String>>> getOnlineUsers() {
     try {
-      Set<String> onlineUsers = redisTemplate.opsForSet().members(REDIS_KEY_ONLINE_USERS);
-      log.info("온라인 사용자 목록 조회: {}명", onlineUsers != null ? onlineUsers.size() : 0);
+      Set<String> onlineUsers = presenceService.getOnlineUsers();
+      log.info("온라인 사용자 목록 조회: {}명", onlineUsers.size());
       return ResponseEntity.ok(ApiResponse.success(onlineUsers));
     } catch (Exception e) {
       log.error("온라인 사용자 목록 조회 실패", e);
@@ -54,7 +91,7 @@ public class UserStatusController {
   }
 
   @DeleteMapping("/logout")
-  @Operation(summary = "사용자 로그아웃", description = "사용자를 오프라인 상태로 변경하고 다른 사용자들에게 알립니다")
+  @Operation(summary = "사용자 로그아웃", description = "사용자를 오프라인 상태로 변경하고 같은 팀 사용자들에게 알립니다")
   @ApiResponses(
       value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -67,17 +104,13 @@ public class UserStatusController {
       })
   public ResponseEntity<ApiResponse<Void>> logout(Authentication authentication) {
     try {
-      if (authentication != null && authentication.getName() != null) {
-        String userId = authentication.getName();
-
-        // Redis에서 사용자 제거
-        Long removed = redisTemplate.opsForSet().remove(REDIS_KEY_ONLINE_USERS, userId);
-        log.info("사용자 {} 로그아웃 처리: Redis에서 {}개 제거됨", userId, removed);
+      // 접속 상태는 웹소켓 Principal 과 같은 사용자 ID 로 관리한다 (getName() 은 이메일)
+      if (authentication != null && authentication.getPrincipal() instanceof CustomUser user) {
+        String userId = String.valueOf(user.getUserId());
 
-        // 오프라인 상태 브로드캐스트
-        UserStatusMessage statusMessage = new UserStatusMessage(userId, false);
-        messagingTemplate.convertAndSend(USER_STATUS_TOPIC, statusMessage);
-        log.info("사용자 {} 오프라인 상태 브로드캐스트 완료", userId);
+        // 접속 상태 제거 후 소속 팀에 오프라인 알림
+        presenceService.forceOffline(userId);
+        log.info("사용자 {} 로그아웃 처리 완료", userId);
 
         return ResponseEntity.ok(ApiResponse.success(null));
       } else {
@@ -0,0 +1,33 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AI 응답 스트리밍 조각
+ *
+ * <p>같은 streamId 의 조각을 sequence 순서대로 이어 붙이면 응답 전체가 된다. 마지막 조각은 done=true 이며, 저장된 AI 메시지의 ID 를
+ * 담는다. 클라이언트는 이 ID 로 채팅방 토픽에 오는 최종 메시지와 스트리밍 중이던 말풍선을 맞바꾼다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AiStreamChunk {
+  private final String streamId;
+  private final String chatroomId;
+  private final int sequence;
+  private final String delta;
+  private final boolean done;
+  private final String messageId;
+
+  public static AiStreamChunk delta(
+      String streamId, String chatroomId, int sequence, String delta) {
+    return new AiStreamChunk(streamId, chatroomId, sequence, delta, false, null);
+  }
+
+  public static AiStreamChunk done(
+      String streamId, String chatroomId, int sequence, String messageId) {
+    return new AiStreamChunk(streamId, chatroomId, sequence, null, true, messageId);
+  }
+}
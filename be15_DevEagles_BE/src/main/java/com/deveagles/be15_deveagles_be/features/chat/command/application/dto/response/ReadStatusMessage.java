@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class ReadStatusMessage {
+  private final String chatroomId;
+  private final String userId;
+  private final String lastReadMessageId;
+}
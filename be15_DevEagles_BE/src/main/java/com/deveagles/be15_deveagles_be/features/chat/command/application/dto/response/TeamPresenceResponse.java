@@ -0,0 +1,32 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamPresenceResponse {
+  private Long teamId;
+
+  /** 다음 변경 조회 때 since 로 보낼 버전 */
+  private Long version;
+
+  /** true 면 since 이후 바뀐 팀원만, false 면 전체 팀원을 담는다 */
+  private Boolean delta;
+
+  private List<MemberStatusDto> members;
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class MemberStatusDto {
+    private Long userId;
+    private Boolean online;
+  }
+}
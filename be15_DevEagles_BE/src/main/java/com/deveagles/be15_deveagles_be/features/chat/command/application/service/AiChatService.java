@@ -7,6 +7,9 @@ public interface AiChatService {
 
   ChatMessageResponse processUserMessage(ChatMessageRequest userMessage);
 
+  /** AI 응답을 생성할 수 없을 때 기본 응답을 대신 전송한다. */
+  ChatMessageResponse sendDefaultResponse(ChatMessageRequest userMessage);
+
   void initializeAiChatSession(String userId, String chatroomId);
 
   void terminateAiChatSession(String userId, String chatroomId);
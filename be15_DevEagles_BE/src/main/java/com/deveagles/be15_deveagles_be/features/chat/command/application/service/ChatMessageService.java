@@ -14,11 +14,12 @@ public interface ChatMessageService {
 
   Optional<ChatMessageResponse> deleteMessage(String messageId);
 
+  /** cursor 이전 메시지를 최신순으로 조회한다. cursor 가 없으면 가장 최근 메시지부터 조회한다. */
   List<ChatMessageResponse> getMessagesByChatroomBefore(
-      String chatroomId, String messageId, int limit);
+      String chatroomId, String cursor, int limit);
 
-  List<ChatMessageResponse> getMessagesByChatroomAfter(
-      String chatroomId, String messageId, int limit);
+  /** cursor 이후 메시지를 오래된 순으로 조회한다. */
+  List<ChatMessageResponse> getMessagesByChatroomAfter(String chatroomId, String cursor, int limit);
 
   ChatMessageResponse sendRouletteResult(Long userId, String teamId, String result);
 }
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.application.service;
 
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.EmotionScores;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
 import java.util.List;
 
@@ -7,9 +8,10 @@ public interface EmotionAnalysisService {
 
   EmotionAnalysisResult analyzeEmotion(String text);
 
-  List<EmotionData> parseEmotionAnalysisJson(String emotionAnalysisJson);
+  /** 저장된 감정 분석 JSON 을 감정별 점수로 변환한다. 기존 이력 백필에만 쓴다. */
+  EmotionScores parseEmotionScores(String emotionAnalysisJson);
 
-  StrongestEmotionResult extractStrongestEmotion(String emotionAnalysisJson);
+  StrongestEmotionResult extractStrongestEmotion(EmotionScores emotionScores);
 
   MoodType convertToMoodType(String emotionLabel);
 
@@ -60,6 +62,18 @@ public interface EmotionAnalysisService {
       return intensity;
     }
 
+    /** 감정별 점수. 이력에 함께 저장한다. */
+    public EmotionScores getScores() {
+      if (emotions == null || emotions.isEmpty()) {
+        return EmotionScores.empty();
+      }
+      EmotionScores.Builder builder = EmotionScores.builder();
+      for (EmotionData emotion : emotions) {
+        builder.put(emotion.getLabel(), emotion.getScore());
+      }
+      return builder.build();
+    }
+
     public boolean isEmpty() {
       return dominantEmotion == null || dominantEmotion.isEmpty();
     }
@@ -0,0 +1,55 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface PresenceService {
+
+  /**
+   * 웹소켓 세션 연결 처리. 사용자의 첫 세션이면 소속 팀에 온라인 상태를 알린다.
+   *
+   * @param userId 사용자 ID
+   */
+  void sessionConnected(String userId);
+
+  /**
+   * 웹소켓 세션 종료 처리. 잠깐의 유예 뒤에 세션을 해제하고, 마지막 세션이었으면 소속 팀에 오프라인 상태를 알린다.
+   *
+   * @param userId 사용자 ID
+   */
+  void sessionDisconnected(String userId);
+
+  /**
+   * 남은 세션과 관계없이 오프라인으로 처리한다 (로그아웃).
+   *
+   * @param userId 사용자 ID
+   */
+  void forceOffline(String userId);
+
+  /**
+   * 여러 사용자의 접속 여부를 한 번에 조회
+   *
+   * @param userIds 사용자 ID 목록
+   * @return 사용자 ID별 접속 여부
+   */
+  Map<String, Boolean> getOnlineStatus(Collection<String> userIds);
+
+  /**
+   * 팀원 접속 상태 조회
+   *
+   * @param requesterId 요청한 사용자 ID (팀원이어야 한다)
+   * @param teamId 팀 ID
+   * @param sinceVersion 이 버전 이후 상태가 바뀐 팀원만 조회한다. null 이면 전체 팀원
+   * @return 팀 상태 버전과 팀원별 접속 여부
+   */
+  TeamPresenceResponse getTeamPresence(Long requesterId, Long teamId, Long sinceVersion);
+
+  /**
+   * 전체 온라인 사용자 조회. 전체 사용자 수에 비례하므로 팀 단위 조회를 우선 사용한다.
+   *
+   * @return 온라인 사용자 ID 목록
+   */
+  Set<String> getOnlineUsers();
+}
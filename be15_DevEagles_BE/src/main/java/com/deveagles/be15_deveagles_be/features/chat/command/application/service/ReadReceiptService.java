@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.chat.command.application.servic
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface ReadReceiptService {
 
@@ -42,6 +43,15 @@ public interface ReadReceiptService {
    */
   int getUnreadMessageCount(String chatroomId, String userId);
 
+  /**
+   * 여러 채팅방의 읽지 않은 메시지 수를 한 번에 계산
+   *
+   * @param chatroomIds 채팅방 ID 목록
+   * @param userId 사용자 ID
+   * @return 채팅방 ID별 읽지 않은 메시지 수
+   */
+  Map<String, Integer> getUnreadMessageCounts(List<String> chatroomIds, String userId);
+
   /**
    * 특정 메시지의 읽음 상태 조회
    *
@@ -6,6 +6,12 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.service
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.MoodInquiryService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PromptTemplate;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore.AiChatSession;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiReplyStreamer;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.GeminiResponseCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
@@ -14,18 +20,10 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.C
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -37,8 +35,6 @@ public class AiChatServiceImpl implements AiChatService {
   private static final Logger log = LoggerFactory.getLogger(AiChatServiceImpl.class);
   private static final String AI_NAME = "수리 AI";
   private static final String AI_USER_ID = "ai-assistant";
-  private static final long SESSION_TIMEOUT_HOURS = 24;
-  private static final int MAX_CACHE_SIZE = 1000; // 최대 캐시 크기
 
   private final ChatMessageRepository chatMessageRepository;
   private final ChatRoomRepository chatRoomRepository;
@@ -47,20 +43,9 @@ public class AiChatServiceImpl implements AiChatService {
   private final UserMoodHistoryRepository moodHistoryRepository;
   private final MoodInquiryService moodInquiryService;
   private final GeminiApiAdapter geminiApiAdapter;
-
-  private final Map<String, Map<String, Object>> userChatContexts =
-      new LinkedHashMap<String, Map<String, Object>>(MAX_CACHE_SIZE, 0.75f, true) {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
-          if (size() > MAX_CACHE_SIZE) {
-            log.info("LRU 캐시 한계 도달 - 가장 오래된 세션 제거: {}", eldest.getKey());
-            return true;
-          }
-          return false;
-        }
-      };
-
-  private final ScheduledExecutorService cleanupExecutor = Executors.newScheduledThreadPool(1);
+  private final AiReplyStreamer aiReplyStreamer;
+  private final GeminiResponseCache geminiResponseCache;
+  private final AiChatSessionStore sessionStore;
 
   public AiChatServiceImpl(
       ChatMessageRepository chatMessageRepository,
@@ -69,7 +54,10 @@ public class AiChatServiceImpl implements AiChatService {
       ChatMessageService chatMessageService,
       UserMoodHistoryRepository moodHistoryRepository,
       MoodInquiryService moodInquiryService,
-      GeminiApiAdapter geminiApiAdapter) {
+      GeminiApiAdapter geminiApiAdapter,
+      AiReplyStreamer aiReplyStreamer,
+      GeminiResponseCache geminiResponseCache,
+      AiChatSessionStore sessionStore) {
     this.chatMessageRepository = chatMessageRepository;
     this.chatRoomRepository = chatRoomRepository;
     this.messagingTemplate = messagingTemplate;
@@ -77,103 +65,38 @@ public class AiChatServiceImpl implements AiChatService {
     this.moodHistoryRepository = moodHistoryRepository;
     this.moodInquiryService = moodInquiryService;
     this.geminiApiAdapter = geminiApiAdapter;
+    this.aiReplyStreamer = aiReplyStreamer;
+    this.geminiResponseCache = geminiResponseCache;
+    this.sessionStore = sessionStore;
   }
 
-  @PostConstruct
-  public void init() {
-    cleanupExecutor.scheduleAtFixedRate(this::cleanupExpiredSessions, 1, 1, TimeUnit.HOURS);
-    log.info("AI 채팅 서비스 초기화 - 백그라운드 정리 작업 시작");
-  }
-
-  @PreDestroy
-  public void destroy() {
-    cleanupExecutor.shutdown();
-    try {
-      if (!cleanupExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-        cleanupExecutor.shutdownNow();
-      }
-    } catch (InterruptedException e) {
-      cleanupExecutor.shutdownNow();
-      Thread.currentThread().interrupt();
-    }
-    log.info("AI 채팅 서비스 종료 - 백그라운드 정리 작업 중단");
-  }
-
-  private String getContextKey(String userId, String chatroomId) {
-    return userId + ":" + chatroomId;
-  }
-
-  private synchronized void updateSessionActivity(String userId, String chatroomId) {
-    String contextKey = getContextKey(userId, chatroomId);
-    Map<String, Object> context = userChatContexts.get(contextKey);
-    if (context != null) {
-      context.put("lastActivity", LocalDateTime.now());
-      Integer messageCount = (Integer) context.getOrDefault("messageCount", 0);
-      context.put("messageCount", messageCount + 1);
-    }
-  }
-
-  private synchronized void cleanupExpiredSessions() {
-    LocalDateTime now = LocalDateTime.now();
-    List<String> keysToRemove = new ArrayList<>();
-
-    userChatContexts.forEach(
-        (key, context) -> {
-          LocalDateTime lastActivity =
-              (LocalDateTime) context.getOrDefault("lastActivity", context.get("initialized"));
-          if (lastActivity != null && lastActivity.plusHours(SESSION_TIMEOUT_HOURS).isBefore(now)) {
-            keysToRemove.add(key);
-          }
-        });
-
-    keysToRemove.forEach(
-        key -> {
-          userChatContexts.remove(key);
-          log.info("만료된 AI 채팅 세션 정리: {}", key);
-        });
-
-    if (!keysToRemove.isEmpty()) {
-      log.info(
-          "총 {}개의 만료된 AI 채팅 세션 정리됨. 현재 활성 세션: {}", keysToRemove.size(), userChatContexts.size());
+  /**
+   * 사용자 메시지를 세션의 대화 창에 넣고 갱신된 창을 돌려준다.
+   *
+   * <p>세션이 없거나 대화 창을 아직 채우지 않았으면 최근 메시지를 한 번 읽어 채운다. 사용자 메시지는 이미 저장된 뒤이므로 읽어 온 대화에 포함되어 있다.
+   */
+  private ChatContextWindow recordUserTurn(String userId, String chatroomId, String content) {
+    Optional<AiChatSession> session =
+        sessionStore.appendTurn(userId, chatroomId, ChatTurn.user(content));
+    if (session.isPresent()) {
+      return session.get().context();
     }
-  }
 
-  private Optional<ChatMessage> findLastAiMessageInChatroom(String chatroomId) {
     List<ChatMessage> recentMessages =
-        chatMessageRepository.findRecentMessagesByChatroomId(chatroomId, 5);
-
-    return recentMessages.stream().filter(msg -> AI_USER_ID.equals(msg.getSenderId())).findFirst();
-  }
-
-  private String buildChatHistory(String chatroomId) {
-    List<ChatMessage> recentMessages =
-        chatMessageRepository.findRecentMessagesByChatroomId(chatroomId, 10);
-
-    if (recentMessages.isEmpty()) {
-      return "";
-    }
-
-    StringBuilder historyBuilder = new StringBuilder();
+        chatMessageRepository.findRecentMessagesByChatroomId(chatroomId, sessionStore.maxTurns());
+    List<ChatTurn> turns = new ArrayList<>(recentMessages.size());
     for (int i = recentMessages.size() - 1; i >= 0; i--) {
       ChatMessage message = recentMessages.get(i);
-      String senderName = AI_USER_ID.equals(message.getSenderId()) ? "수리" : "사용자";
-      historyBuilder.append(senderName).append(": ").append(message.getContent()).append("\n");
+      turns.add(new ChatTurn(AI_USER_ID.equals(message.getSenderId()), message.getContent()));
     }
-
-    return historyBuilder.toString().trim();
+    return sessionStore.resume(userId, chatroomId, turns).context();
   }
 
-  private String generateAiResponse(String userMessage, String chatroomId) {
-    String chatHistory = buildChatHistory(chatroomId);
-
-    String prompt =
-        chatHistory.isEmpty()
-            ? PromptTemplate.getAiResponsePrompt(userMessage)
-            : PromptTemplate.getAiResponsePromptWithHistory(chatHistory, userMessage);
-
+  private String generateAiResponse(String prompt, Consumer<GeminiTextResponse> onGenerated) {
     try {
       GeminiTextResponse response = geminiApiAdapter.generateText(prompt);
       if (response != null && !response.isEmpty()) {
+        onGenerated.accept(response);
         return response.getText();
       }
     } catch (Exception e) {
@@ -189,40 +112,15 @@ public class AiChatServiceImpl implements AiChatService {
     return PromptTemplate.getMoodFeedback(moodType);
   }
 
-  private ChatMessageResponse generateMoodFeedbackResponse(
-      ChatMessageRequest userMessage, UserMoodHistory moodHistory) {
-    String feedbackContent = generateMoodFeedbackContent(moodHistory);
-
-    ChatMessageRequest feedbackRequest =
-        ChatMessageRequest.builder()
-            .chatroomId(userMessage.getChatroomId())
-            .senderId(AI_USER_ID)
-            .senderName(AI_NAME)
-            .messageType(MessageType.TEXT)
-            .content(feedbackContent)
-            .build();
-
-    return chatMessageService.sendMessage(feedbackRequest);
-  }
-
   @Override
   public void initializeAiChatSession(String userId, String chatroomId) {
-    cleanupExpiredSessions();
-
-    String contextKey = getContextKey(userId, chatroomId);
-    Map<String, Object> context = new HashMap<>();
-    context.put("initialized", LocalDateTime.now());
-    context.put("messageCount", 0);
-    context.put("lastActivity", LocalDateTime.now());
-    userChatContexts.put(contextKey, context);
-
+    sessionStore.start(userId, chatroomId);
     log.info("AI 채팅 세션 초기화 - 사용자: {}, 채팅방: {}", userId, chatroomId);
   }
 
   @Override
   public void terminateAiChatSession(String userId, String chatroomId) {
-    String contextKey = getContextKey(userId, chatroomId);
-    userChatContexts.remove(contextKey);
+    sessionStore.end(userId, chatroomId);
     log.info("AI 채팅 세션 종료 - 사용자: {}, 채팅방: {}", userId, chatroomId);
   }
 
@@ -230,7 +128,10 @@ public class AiChatServiceImpl implements AiChatService {
   public ChatMessageResponse processUserMessage(ChatMessageRequest userMessage) {
     log.info("AI 채팅 처리 - 사용자: {}, 메시지: {}", userMessage.getSenderId(), userMessage.getContent());
 
-    updateSessionActivity(userMessage.getSenderId(), userMessage.getChatroomId());
+    String userId = userMessage.getSenderId();
+    String chatroomId = userMessage.getChatroomId();
+    String content = userMessage.getContent();
+    ChatContextWindow context = recordUserTurn(userId, chatroomId, content);
 
     // 1. 기분 조사 답변 처리 (MoodInquiryService에 위임)
     Optional<String> pendingInquiryId =
@@ -243,7 +144,7 @@ public class AiChatServiceImpl implements AiChatService {
         log.info(
             "기분 조사 답변 처리 완료 - 사용자: {}, 기분: {}", userMessage.getSenderId(), savedMood.getMoodType());
 
-        return generateMoodFeedbackResponse(userMessage, savedMood);
+        return sendAiMessage(userId, chatroomId, generateMoodFeedbackContent(savedMood));
       } catch (Exception e) {
         log.error("기분 조사 답변 처리 실패", e);
         // 실패해도 일반 AI 응답으로 계속 진행
@@ -251,17 +152,57 @@ public class AiChatServiceImpl implements AiChatService {
     }
 
     // 2. 일반 AI 응답 생성
-    String aiResponse = generateAiResponse(userMessage.getContent(), userMessage.getChatroomId());
+    // 방금 보낸 메시지 외에 이전 대화가 없으면 응답은 메시지 내용으로만 정해지므로 캐시를 쓴다
+    boolean conversationOpener = context.size() <= 1;
+    String history = context.render();
+    String prompt;
+    Consumer<GeminiTextResponse> onGenerated;
+    if (conversationOpener) {
+      Optional<GeminiTextResponse> cached = geminiResponseCache.get(content);
+      if (cached.isPresent()) {
+        return sendAiMessage(userId, chatroomId, cached.get().getText());
+      }
+      prompt = PromptTemplate.getAiResponsePrompt(content);
+      onGenerated = response -> geminiResponseCache.put(content, response);
+    } else {
+      prompt =
+          history.isEmpty()
+              ? PromptTemplate.getAiResponsePrompt(content)
+              : PromptTemplate.getAiResponsePromptWithHistory(history, content);
+      onGenerated = response -> {};
+    }
+
+    if (aiReplyStreamer.isEnabled()) {
+      // 조각은 스트리밍 토픽으로 먼저 보내고, 완성된 응답만 한 번 저장한다
+      return aiReplyStreamer.stream(
+          chatroomId, prompt, text -> sendAiMessage(userId, chatroomId, text), onGenerated);
+    }
+
+    return sendAiMessage(userId, chatroomId, generateAiResponse(prompt, onGenerated));
+  }
+
+  @Override
+  public ChatMessageResponse sendDefaultResponse(ChatMessageRequest userMessage) {
+    String userId = userMessage.getSenderId();
+    String chatroomId = userMessage.getChatroomId();
+    // 응답 생성을 건너뛴 사용자 메시지도 대화 창에 남겨야 AI 응답만 이어지는 기록이 생기지 않는다
+    sessionStore.appendTurn(userId, chatroomId, ChatTurn.user(userMessage.getContent()));
+    return sendAiMessage(userId, chatroomId, PromptTemplate.getRandomDefaultResponse());
+  }
 
+  /** AI 메시지를 저장·전송하고 사용자의 대화 창에도 이어 붙인다. */
+  private ChatMessageResponse sendAiMessage(String userId, String chatroomId, String content) {
     ChatMessageRequest aiMessageRequest =
         ChatMessageRequest.builder()
-            .chatroomId(userMessage.getChatroomId())
+            .chatroomId(chatroomId)
             .senderId(AI_USER_ID)
             .senderName(AI_NAME)
             .messageType(MessageType.TEXT)
-            .content(aiResponse)
+            .content(content)
             .build();
 
-    return chatMessageService.sendMessage(aiMessageRequest);
+    ChatMessageResponse response = chatMessageService.sendMessage(aiMessageRequest);
+    sessionStore.appendTurn(userId, chatroomId, ChatTurn.ai(content));
+    return response;
   }
 }
@@ -2,10 +2,12 @@ package com.deveagles.be15_deveagles_be.features.chat.command.application.servic
 
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.AutoEmotionAnalysisService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.RedisCountTrigger;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,9 +26,11 @@ public class AutoEmotionAnalysisServiceImpl implements AutoEmotionAnalysisServic
   private final UserMoodHistoryRepository userMoodHistoryRepository;
   private final EmotionAnalysisService emotionAnalysisService;
   private final RedisTemplate<String, String> redisTemplate;
+  private final RedisCountTrigger redisCountTrigger;
 
   private static final String MESSAGE_COUNT_KEY_PREFIX = "chat:message_count:";
   private static final int ANALYSIS_TRIGGER_COUNT = 5;
+  private static final Duration MESSAGE_COUNT_TTL = Duration.ofHours(24);
   private static final String AI_SENDER_ID = "ai-assistant";
 
   @Override
@@ -37,21 +41,16 @@ public class AutoEmotionAnalysisServiceImpl implements AutoEmotionAnalysisServic
       return Optional.empty();
     }
 
-    // 메시지 카운트 증가
-    int currentCount = incrementMessageCount(userId, chatroomId);
-    log.debug("사용자 {} 채팅방 {} 메시지 카운트: {}", userId, chatroomId, currentCount);
-
-    // 5개 메시지마다 감정 분석 수행
-    if (currentCount >= ANALYSIS_TRIGGER_COUNT) {
-      log.info("사용자 {}의 메시지 {}개 달성, 감정 분석 시작", userId, ANALYSIS_TRIGGER_COUNT);
-
-      // 카운트 리셋
-      resetUserMessageCount(userId, chatroomId);
-
-      return analyzeRecentMessages(userId, chatroomId);
+    // 5개 메시지마다 감정 분석 수행 (카운트 증가와 리셋을 한 번에 처리해 동시 전송에도 한 번만 발동)
+    boolean triggered =
+        redisCountTrigger.hit(
+            buildCountKey(userId, chatroomId), ANALYSIS_TRIGGER_COUNT, MESSAGE_COUNT_TTL);
+    if (!triggered) {
+      return Optional.empty();
     }
 
-    return Optional.empty();
+    log.info("사용자 {}의 메시지 {}개 달성, 감정 분석 시작", userId, ANALYSIS_TRIGGER_COUNT);
+    return analyzeRecentMessages(userId, chatroomId);
   }
 
   @Override
@@ -108,11 +107,13 @@ public class AutoEmotionAnalysisServiceImpl implements AutoEmotionAnalysisServic
               .inquiryId("auto_" + System.currentTimeMillis())
               .userAnswer(combinedText)
               .emotionAnalysis(analysisResult.getRawJson())
+              .emotionScores(analysisResult.getScores())
               .createdAt(LocalDateTime.now())
               .answeredAt(LocalDateTime.now())
               .build();
 
       UserMoodHistory savedHistory = userMoodHistoryRepository.save(moodHistory);
+      userMoodHistoryRepository.refreshLatestMood(savedHistory);
 
       log.info(
           "사용자 {}의 감정 분석 완료: 감정={}, 강도={}",
@@ -128,18 +129,6 @@ public class AutoEmotionAnalysisServiceImpl implements AutoEmotionAnalysisServic
     }
   }
 
-  private int incrementMessageCount(String userId, String chatroomId) {
-    String key = buildCountKey(userId, chatroomId);
-    Long newCount = redisTemplate.opsForValue().increment(key);
-
-    // TTL 설정 (24시간)
-    if (newCount != null && newCount == 1) {
-      redisTemplate.expire(key, java.time.Duration.ofHours(24));
-    }
-
-    return newCount != null ? newCount.intValue() : 0;
-  }
-
   private List<ChatMessage> getRecentUserMessages(String userId, String chatroomId) {
     // 최근 메시지들을 조회 (AI 메시지 포함)
     List<ChatMessage> allMessages =
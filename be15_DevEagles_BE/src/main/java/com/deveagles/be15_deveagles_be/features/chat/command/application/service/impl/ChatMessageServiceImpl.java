@@ -4,13 +4,17 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.request.ChatMessageRequest;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache.Membership;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.UnreadCountStore;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatErrorCode;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.RecentMessageCache;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -20,6 +24,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
@@ -39,41 +44,38 @@ public class ChatMessageServiceImpl implements ChatMessageService {
   private final ChatRoomRepository chatRoomRepository;
   private final SimpMessagingTemplate messagingTemplate;
   private final RedisTemplate<String, String> redisTemplate;
-  private final ObjectMapper objectMapper;
+  private final ChatRoomMembershipCache chatRoomMembershipCache;
+  private final UnreadCountStore unreadCountStore;
+  private final RecentMessageCache recentMessageCache;
 
   public ChatMessageServiceImpl(
       ChatMessageRepository chatMessageRepository,
       ChatRoomRepository chatRoomRepository,
       SimpMessagingTemplate messagingTemplate,
       RedisTemplate<String, String> redisTemplate,
-      ObjectMapper objectMapper) {
+      ChatRoomMembershipCache chatRoomMembershipCache,
+      UnreadCountStore unreadCountStore,
+      RecentMessageCache recentMessageCache) {
     this.chatMessageRepository = chatMessageRepository;
     this.chatRoomRepository = chatRoomRepository;
     this.messagingTemplate = messagingTemplate;
     this.redisTemplate = redisTemplate;
-    this.objectMapper = objectMapper;
+    this.chatRoomMembershipCache = chatRoomMembershipCache;
+    this.unreadCountStore = unreadCountStore;
+    this.recentMessageCache = recentMessageCache;
   }
 
   @Override
   @Transactional
   public ChatMessageResponse sendMessage(ChatMessageRequest request) {
-    ChatRoom chatRoom =
-        chatRoomRepository
-            .findById(request.getChatroomId())
-            .orElseThrow(() -> new ChatBusinessException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+    Membership membership = chatRoomMembershipCache.getOrThrow(request.getChatroomId());
 
     // AI 사용자에 대한 특별 처리
     boolean isAiUser = "ai-assistant".equals(request.getSenderId());
-    boolean isAiChatRoom = chatRoom.getType() == ChatRoom.ChatRoomType.AI;
-    boolean isTeamChatRoom = chatRoom.getType() == ChatRoom.ChatRoomType.TEAM;
 
     // AI 사용자가 AI 채팅방 또는 팀 채팅방에서 메시지를 보내는 경우 권한 검증 생략
-    if (!isAiUser || (!isAiChatRoom && !isTeamChatRoom)) {
-      boolean isParticipant =
-          chatRoom.getActiveParticipants().stream()
-              .anyMatch(participant -> participant.getUserId().equals(request.getSenderId()));
-
-      if (!isParticipant) {
+    if (!isAiUser || (!membership.isAiChatRoom() && !membership.isTeamChatRoom())) {
+      if (!membership.isParticipant(request.getSenderId())) {
         throw new ChatBusinessException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
       }
     }
@@ -96,7 +98,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     ChatMessage savedMessage = chatMessageRepository.save(message);
 
     // 채팅방 마지막 메시지 정보 업데이트
-    updateChatRoomLastMessage(chatRoom, savedMessage);
+    updateChatRoomLastMessage(savedMessage);
 
     ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
 
@@ -105,24 +107,30 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     messagingTemplate.convertAndSend(destination, response);
     log.debug("채팅방 메시지 전송 완료 -> 채팅방ID: {}, 메시지ID: {}", request.getChatroomId(), response.getId());
 
-    try {
-      String messageJson = objectMapper.writeValueAsString(response);
-      String redisKey = "chat:messages:" + request.getChatroomId();
-
-      // UTC 기준으로 score 계산 (시간대 문제 해결)
-      double score = savedMessage.getCreatedAt().atZone(ZoneOffset.UTC).toInstant().toEpochMilli();
+    List<String> recipientIds =
+        membership.getActiveUserIds().stream()
+            .filter(userId -> !userId.equals(request.getSenderId()))
+            .toList();
+    cacheRecentMessage(savedMessage, recipientIds);
 
-      redisTemplate.opsForZSet().add(redisKey, messageJson, score);
+    return response;
+  }
 
-      Long size = redisTemplate.opsForZSet().size(redisKey);
-      if (size != null && size > 100) {
-        redisTemplate.opsForZSet().removeRange(redisKey, 0, 0);
-      }
+  private void cacheRecentMessage(ChatMessage savedMessage, List<String> recipientIds) {
+    try {
+      // ZADD, 최근 메시지 개수 유지, 수신자 읽지 않은 메시지 카운터 증가를 한 번의 왕복으로 처리
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                recentMessageCache.writeMessages(
+                    connection, savedMessage.getChatroomId(), List.of(savedMessage));
+                unreadCountStore.writeIncrement(
+                    connection, savedMessage.getChatroomId(), recipientIds);
+                return null;
+              });
     } catch (Exception e) {
-      System.err.println("Failed to cache message in Redis: " + e.getMessage());
+      log.warn("Redis 최근 메시지 캐싱 실패: messageId={}, error={}", savedMessage.getId(), e.getMessage());
     }
-
-    return response;
   }
 
   @Override
@@ -132,9 +140,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
   @Override
   public List<ChatMessageResponse> getMessagesByChatroom(String chatroomId, int page, int size) {
-    chatRoomRepository
-        .findById(chatroomId)
-        .orElseThrow(() -> new ChatBusinessException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+    chatRoomMembershipCache.getOrThrow(chatroomId);
 
     PagedResult<ChatMessage> messages =
         chatMessageRepository.findMessagesByChatroomIdWithPagination(chatroomId, page, size);
@@ -182,45 +188,29 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
   @Override
   public List<ChatMessageResponse> getMessagesByChatroomBefore(
-      String chatroomId, String messageId, int limit) {
-    chatRoomRepository
-        .findById(chatroomId)
-        .orElseThrow(() -> new ChatBusinessException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+      String chatroomId, String cursor, int limit) {
+    chatRoomMembershipCache.getOrThrow(chatroomId);
 
-    Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId);
-    if (messageOpt.isEmpty()) {
-      throw new ChatBusinessException(ChatErrorCode.MESSAGE_NOT_FOUND);
-    }
-
-    ChatMessage message = messageOpt.get();
+    MessageCursor messageCursor =
+        cursor == null || cursor.isBlank() ? null : MessageCursor.decode(cursor);
     List<ChatMessage> messages =
-        chatMessageRepository.findMessagesByChatroomIdBeforeTimestamp(
-            chatroomId, message.getCreatedAt(), limit);
+        chatMessageRepository.findMessagesBefore(chatroomId, messageCursor, limit);
 
     return messages.stream().map(ChatMessageResponse::from).collect(Collectors.toList());
   }
 
   @Override
   public List<ChatMessageResponse> getMessagesByChatroomAfter(
-      String chatroomId, String messageId, int limit) {
-    chatRoomRepository
-        .findById(chatroomId)
-        .orElseThrow(() -> new ChatBusinessException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+      String chatroomId, String cursor, int limit) {
+    chatRoomMembershipCache.getOrThrow(chatroomId);
 
-    Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId);
-    if (messageOpt.isEmpty()) {
-      throw new ChatBusinessException(ChatErrorCode.MESSAGE_NOT_FOUND);
-    }
-
-    ChatMessage message = messageOpt.get();
     List<ChatMessage> messages =
-        chatMessageRepository.findMessagesByChatroomIdAfterTimestamp(
-            chatroomId, message.getCreatedAt(), limit);
+        chatMessageRepository.findMessagesAfter(chatroomId, MessageCursor.decode(cursor), limit);
 
     return messages.stream().map(ChatMessageResponse::from).collect(Collectors.toList());
   }
 
-  private void updateChatRoomLastMessage(ChatRoom chatRoom, ChatMessage message) {
+  private void updateChatRoomLastMessage(ChatMessage message) {
     ChatRoom.LastMessageInfo lastMessageInfo =
         ChatRoom.LastMessageInfo.builder()
             .id(message.getId())
@@ -230,8 +220,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             .sentAt(message.getCreatedAt())
             .build();
 
-    chatRoom.updateLastMessage(lastMessageInfo);
-    chatRoomRepository.save(chatRoom);
+    chatRoomRepository.updateLastMessage(message.getChatroomId(), lastMessageInfo);
   }
 
   @Override
@@ -6,11 +6,14 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.res
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.NotificationToggleResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomHelper;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache.Membership;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomOperationHelper;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomValidator;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ParticipantValidator;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatErrorCode;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.factory.ChatRoomFactory;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
@@ -29,18 +32,21 @@ public class ChatRoomServiceImpl implements ChatRoomService {
   private final ParticipantValidator participantValidator;
   private final ChatRoomHelper chatRoomHelper;
   private final ChatRoomOperationHelper operationHelper;
+  private final ChatRoomMembershipCache chatRoomMembershipCache;
 
   public ChatRoomServiceImpl(
       ChatRoomRepository chatRoomRepository,
       ChatRoomValidator chatRoomValidator,
       ParticipantValidator participantValidator,
       ChatRoomHelper chatRoomHelper,
-      ChatRoomOperationHelper operationHelper) {
+      ChatRoomOperationHelper operationHelper,
+      ChatRoomMembershipCache chatRoomMembershipCache) {
     this.chatRoomRepository = chatRoomRepository;
     this.chatRoomValidator = chatRoomValidator;
     this.participantValidator = participantValidator;
     this.chatRoomHelper = chatRoomHelper;
     this.operationHelper = operationHelper;
+    this.chatRoomMembershipCache = chatRoomMembershipCache;
   }
 
   @Override
@@ -126,7 +132,9 @@ public class ChatRoomServiceImpl implements ChatRoomService {
       chatRoomValidator.validateNotDefaultChatRoom(chatRoom);
 
       chatRoom.delete();
-      return Optional.of(chatRoomHelper.saveAndConvertToResponse(chatRoom));
+      ChatRoomResponse response = chatRoomHelper.saveAndConvertToResponse(chatRoom);
+      chatRoomMembershipCache.evict(chatroomId);
+      return Optional.of(response);
     }
 
     return Optional.empty();
@@ -138,8 +146,11 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     ChatRoom chatRoom = chatRoomValidator.validateAndGetChatRoom(chatroomId);
     participantValidator.validateParticipantNotExists(chatRoom, userId);
 
-    return chatRoomHelper.executeAndSave(
-        chatRoom, room -> room.addParticipant(userId), ChatErrorCode.PARTICIPANT_ADD_FAILED);
+    ChatRoomResponse response =
+        chatRoomHelper.executeAndSave(
+            chatRoom, room -> room.addParticipant(userId), ChatErrorCode.PARTICIPANT_ADD_FAILED);
+    chatRoomMembershipCache.evict(chatroomId);
+    return response;
   }
 
   @Override
@@ -148,8 +159,13 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     ChatRoom chatRoom = chatRoomValidator.validateAndGetChatRoom(chatroomId);
     participantValidator.validateAndGetParticipant(chatRoom, userId);
 
-    return chatRoomHelper.executeAndSave(
-        chatRoom, room -> room.removeParticipant(userId), ChatErrorCode.PARTICIPANT_REMOVE_FAILED);
+    ChatRoomResponse response =
+        chatRoomHelper.executeAndSave(
+            chatRoom,
+            room -> room.removeParticipant(userId),
+            ChatErrorCode.PARTICIPANT_REMOVE_FAILED);
+    chatRoomMembershipCache.evict(chatroomId);
+    return response;
   }
 
   @Override
@@ -159,11 +175,14 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     ChatRoom.Participant participant =
         participantValidator.validateAndGetParticipant(chatRoom, userId);
 
-    return chatRoomHelper.executeParticipantOperationAndSave(
-        chatRoom,
-        participant,
-        ChatRoom.Participant::toggleNotification,
-        ChatErrorCode.PARTICIPANT_NOTIFICATION_TOGGLE_FAILED);
+    ChatRoomResponse response =
+        chatRoomHelper.executeParticipantOperationAndSave(
+            chatRoom,
+            participant,
+            ChatRoom.Participant::toggleNotification,
+            ChatErrorCode.PARTICIPANT_NOTIFICATION_TOGGLE_FAILED);
+    chatRoomMembershipCache.evict(chatroomId);
+    return response;
   }
 
   @Override
@@ -200,11 +219,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
   @Override
   @Transactional(readOnly = true)
   public Boolean getChatNotificationSetting(String chatroomId, String userId) {
-    ChatRoom chatRoom = chatRoomValidator.validateAndGetChatRoom(chatroomId);
-    ChatRoom.Participant participant =
-        participantValidator.validateAndGetParticipant(chatRoom, userId);
+    Membership membership = chatRoomMembershipCache.getOrThrow(chatroomId);
+    if (!membership.isParticipant(userId)) {
+      throw new ChatBusinessException(ChatErrorCode.PARTICIPANT_NOT_FOUND);
+    }
 
-    return participant.isNotificationEnabled();
+    return membership.isNotificationEnabled(userId);
   }
 
   @Override
@@ -222,6 +242,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         },
         ChatErrorCode.PARTICIPANT_NOTIFICATION_TOGGLE_FAILED,
         "알림 설정 변경 실패");
+    chatRoomMembershipCache.evict(chatroomId);
 
     return NotificationToggleResponse.of(participant.isNotificationEnabled());
   }
@@ -1,15 +1,16 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.EmotionScores;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.EmotionAnalysisBatcher;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter.EmotionAnalysisResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -19,12 +20,12 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
 
   private static final Logger log = LoggerFactory.getLogger(EmotionAnalysisServiceImpl.class);
 
-  private final HuggingFaceApiAdapter huggingFaceApiAdapter;
+  private final EmotionAnalysisBatcher emotionAnalysisBatcher;
   private final ObjectMapper objectMapper;
 
   public EmotionAnalysisServiceImpl(
-      HuggingFaceApiAdapter huggingFaceApiAdapter, ObjectMapper objectMapper) {
-    this.huggingFaceApiAdapter = huggingFaceApiAdapter;
+      EmotionAnalysisBatcher emotionAnalysisBatcher, ObjectMapper objectMapper) {
+    this.emotionAnalysisBatcher = emotionAnalysisBatcher;
     this.objectMapper = objectMapper;
   }
 
@@ -35,7 +36,7 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
     }
 
     try {
-      EmotionAnalysisResponse apiResponse = huggingFaceApiAdapter.analyzeEmotion(text);
+      EmotionAnalysisResponse apiResponse = emotionAnalysisBatcher.analyze(text);
 
       if (apiResponse.isEmpty()) {
         return createEmptyResult();
@@ -59,79 +60,38 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
   }
 
   @Override
-  public List<EmotionData> parseEmotionAnalysisJson(String emotionAnalysisJson) {
+  public EmotionScores parseEmotionScores(String emotionAnalysisJson) {
     if (emotionAnalysisJson == null || emotionAnalysisJson.isBlank()) {
-      return new ArrayList<>();
+      return EmotionScores.empty();
     }
 
     try {
-      List<List<Map<String, Object>>> emotions =
-          objectMapper.readValue(
-              emotionAnalysisJson, new TypeReference<List<List<Map<String, Object>>>>() {});
-
-      if (emotions.isEmpty() || emotions.get(0).isEmpty()) {
-        return new ArrayList<>();
-      }
-
-      List<EmotionData> result = new ArrayList<>();
-      for (Map<String, Object> emotion : emotions.get(0)) {
-        String label = (String) emotion.get("label");
-        double score = ((Number) emotion.get("score")).doubleValue();
-        result.add(new EmotionData(label, score));
+      // [[{label, score}, ...]] 형태에서 첫 번째 입력의 결과만 읽는다
+      JsonNode emotions = objectMapper.readTree(emotionAnalysisJson).path(0);
+      EmotionScores.Builder builder = EmotionScores.builder();
+      for (JsonNode emotion : emotions) {
+        JsonNode label = emotion.get("label");
+        JsonNode score = emotion.get("score");
+        if (label != null && label.isTextual() && score != null && score.isNumber()) {
+          builder.put(label.asText(), score.asDouble());
+        }
       }
-
-      return result;
+      return builder.build();
     } catch (JsonProcessingException e) {
       log.error("감정 분석 JSON 파싱 실패: {}", e.getMessage());
-      return new ArrayList<>();
-    } catch (Exception e) {
-      log.error("감정 분석 JSON 처리 중 오류 발생: {}", e.getMessage());
-      return new ArrayList<>();
+      return EmotionScores.empty();
     }
   }
 
   @Override
-  public StrongestEmotionResult extractStrongestEmotion(String emotionAnalysisJson) {
-    if (emotionAnalysisJson == null || emotionAnalysisJson.isBlank()) {
+  public StrongestEmotionResult extractStrongestEmotion(EmotionScores emotionScores) {
+    if (emotionScores == null || emotionScores.isEmpty()) {
       return new StrongestEmotionResult(MoodType.NEUTRAL, 0, "NEUTRAL", 0.0);
     }
 
-    try {
-      List<List<Map<String, Object>>> emotions =
-          objectMapper.readValue(
-              emotionAnalysisJson, new TypeReference<List<List<Map<String, Object>>>>() {});
-
-      if (emotions.isEmpty() || emotions.get(0).isEmpty()) {
-        return new StrongestEmotionResult(MoodType.NEUTRAL, 0, "NEUTRAL", 0.0);
-      }
-
-      Map<String, Object> strongestEmotion = null;
-      double maxScore = -1.0;
-
-      for (Map<String, Object> emotion : emotions.get(0)) {
-        double score = ((Number) emotion.get("score")).doubleValue();
-        if (score > maxScore) {
-          maxScore = score;
-          strongestEmotion = emotion;
-        }
-      }
-
-      if (strongestEmotion != null) {
-        String label = (String) strongestEmotion.get("label");
-        double score = ((Number) strongestEmotion.get("score")).doubleValue();
-        MoodType moodType = convertToMoodType(label);
-        int intensity = (int) (score * 100);
-
-        return new StrongestEmotionResult(moodType, intensity, label, score);
-      }
-
-    } catch (JsonProcessingException e) {
-      log.error("감정 분석 JSON 파싱 실패: {}", e.getMessage());
-    } catch (Exception e) {
-      log.error("감정 분석 처리 중 오류 발생: {}", e.getMessage());
-    }
-
-    return new StrongestEmotionResult(MoodType.NEUTRAL, 0, "NEUTRAL", 0.0);
+    MoodType moodType = emotionScores.strongest();
+    double score = emotionScores.score(moodType);
+    return new StrongestEmotionResult(moodType, (int) (score * 100), moodType.name(), score);
   }
 
   @Override
@@ -6,13 +6,15 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.service
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.MoodInquiryService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PromptTemplate;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.GeminiResponseCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,27 +36,32 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
   private static final Logger log = LoggerFactory.getLogger(MoodInquiryServiceImpl.class);
   private static final String AI_SENDER_ID = "ai-assistant";
   private static final String AI_SENDER_NAME = "수리 AI";
+  // 기분 조사 프롬프트는 늘 같으므로 질문 몇 개만 받아 두고 사용자마다 돌려 쓴다
+  private static final int MOOD_QUESTION_VARIANTS = 3;
 
   private final UserMoodHistoryRepository moodHistoryRepository;
   private final ChatRoomRepository chatRoomRepository;
   private final ChatRoomService chatRoomService;
   private final ChatMessageService chatMessageService;
-  private final GeminiApiAdapter geminiApiAdapter;
+  private final GeminiResponseCache geminiResponseCache;
   private final EmotionAnalysisService emotionAnalysisService;
+  private final AiChatSessionStore sessionStore;
 
   public MoodInquiryServiceImpl(
       UserMoodHistoryRepository moodHistoryRepository,
       ChatRoomRepository chatRoomRepository,
       ChatRoomService chatRoomService,
       ChatMessageService chatMessageService,
-      GeminiApiAdapter geminiApiAdapter,
-      EmotionAnalysisService emotionAnalysisService) {
+      GeminiResponseCache geminiResponseCache,
+      EmotionAnalysisService emotionAnalysisService,
+      AiChatSessionStore sessionStore) {
     this.moodHistoryRepository = moodHistoryRepository;
     this.chatRoomRepository = chatRoomRepository;
     this.chatRoomService = chatRoomService;
     this.chatMessageService = chatMessageService;
-    this.geminiApiAdapter = geminiApiAdapter;
+    this.geminiResponseCache = geminiResponseCache;
     this.emotionAnalysisService = emotionAnalysisService;
+    this.sessionStore = sessionStore;
   }
 
   @Override
@@ -81,6 +88,7 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
             .build();
 
     UserMoodHistory saved = moodHistoryRepository.save(moodHistory);
+    moodHistoryRepository.refreshLatestMood(saved);
     log.info("기분 질문 생성 완료 - 사용자: {}, 질문ID: {}", userId, inquiryId);
 
     return saved;
@@ -111,6 +119,7 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
 
       if (!analysisResult.isEmpty()) {
         moodHistory.setEmotionAnalysis(analysisResult.getRawJson());
+        moodHistory.setEmotionScores(analysisResult.getScores());
         moodHistory.updateMoodTypeAndIntensity(
             analysisResult.getMoodType(), analysisResult.getIntensity());
 
@@ -126,6 +135,7 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
     }
 
     UserMoodHistory saved = moodHistoryRepository.save(moodHistory);
+    moodHistoryRepository.refreshLatestMood(saved);
     log.info("기분 답변 저장 완료 - 질문ID: {}, 사용자: {}", inquiryId, saved.getUserId());
 
     return saved;
@@ -197,8 +207,11 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
   private String generateMoodQuestion() {
     try {
       GeminiTextResponse response =
-          geminiApiAdapter.generateText(PromptTemplate.MOOD_INQUIRY_PROMPT);
-      if (!response.isEmpty()) {
+          geminiResponseCache.generateText(
+              PromptTemplate.MOOD_INQUIRY_PROMPT,
+              PromptTemplate.MOOD_INQUIRY_PROMPT,
+              MOOD_QUESTION_VARIANTS);
+      if (response != null && !response.isEmpty()) {
         return response.getText();
       }
     } catch (Exception e) {
@@ -235,6 +248,9 @@ public class MoodInquiryServiceImpl implements MoodInquiryService {
                       .build();
 
               chatMessageService.sendMessage(messageRequest);
+              // 채팅방에 보낸 질문이 다음 AI 프롬프트의 대화 기록에도 들어가도록 대화 창에 이어 붙인다
+              sessionStore.appendTurn(
+                  userId, chatRoom.getId(), ChatTurn.ai(moodInquiry.getInquiry()));
               log.info("사용자 {}에게 기분 질문 전송 완료: {}", userId, moodInquiry.getInquiry());
             });
   }
@@ -0,0 +1,277 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse.MemberStatusDto;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.UserStatusMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PresenceService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.TeamPresence;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.TeamRosterCache;
+import com.deveagles.be15_deveagles_be.features.team.command.domain.exception.TeamBusinessException;
+import com.deveagles.be15_deveagles_be.features.team.command.domain.exception.TeamErrorCode;
+import com.deveagles.be15_deveagles_be.features.team.query.dto.response.MyTeamListResponse;
+import com.deveagles.be15_deveagles_be.features.team.query.mapper.TeamMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 접속 상태 관리
+ *
+ * <p>접속 상태는 {@link PresenceStore} 에 세션 수와 하트비트 만료 시각으로 저장한다. 이 서버에 열린 세션은 사용자별 개수로 들고 있다가 주기적으로
+ * 하트비트를 보내고, 같은 주기에 하트비트가 끊긴 사용자를 정리한다. 세션 종료는 유예 시간 뒤에 스케줄러에서 반영하므로 새로고침처럼 바로 다시 연결하는 경우
+ * 오프라인/온라인 알림이 나가지 않는다.
+ *
+ * <p>상태 변경은 전체가 아니라 사용자가 속한 팀 토픽({@code /topic/status.team.{teamId}})으로만 보낸다. 사용자의 팀 목록은
+ * 짧게 캐시하므로 팀 가입·탈퇴는 캐시 유지 시간 안에 반영된다. 알림을 보내기 전에 팀 상태 버전을 올려 두므로, 알림을 놓친 클라이언트는 마지막으로 받은
+ * 버전 이후의 변경만 {@link #getTeamPresence(Long, Long, Long)} 로 다시 받을 수 있다.
+ */
+@Slf4j
+@Service
+public class PresenceServiceImpl implements PresenceService {
+
+  /** 팀원 접속 상태 변경 토픽. 뒤에 팀 ID 가 붙는다. */
+  public static final String TEAM_STATUS_TOPIC_PREFIX = "/topic/status.team.";
+
+  /** 팀 단위 접속 상태 이전에 쓰던 전체 온라인 사용자 SET */
+  private static final String LEGACY_ONLINE_USERS_KEY = "chat:online_users";
+
+  private final PresenceStore presenceStore;
+  private final TeamRosterCache teamRosterCache;
+  private final TeamMapper teamMapper;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService scheduler;
+  private final long offlineGraceMillis;
+  private final long heartbeatIntervalMillis;
+  private final Cache<String, List<Long>> userTeams;
+
+  /** 이 서버에 열린 사용자별 세션 수. 종료 유예 중인 세션도 포함되어 하트비트 대상이 된다. */
+  private final Map<String, Integer> localSessions = new ConcurrentHashMap<>();
+
+  @Autowired
+  public PresenceServiceImpl(
+      PresenceStore presenceStore,
+      TeamRosterCache teamRosterCache,
+      TeamMapper teamMapper,
+      SimpMessagingTemplate messagingTemplate,
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${chat.presence.offline-grace-ms:2000}") long offlineGraceMillis,
+      @Value("${chat.presence.heartbeat-interval-ms:20000}") long heartbeatIntervalMillis,
+      @Value("${chat.presence.team-cache-ttl-seconds:60}") long teamCacheTtlSeconds) {
+    this(
+        presenceStore,
+        teamRosterCache,
+        teamMapper,
+        messagingTemplate,
+        redisTemplate,
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "chat-presence");
+              thread.setDaemon(true);
+              return thread;
+            }),
+        offlineGraceMillis,
+        heartbeatIntervalMillis,
+        Duration.ofSeconds(teamCacheTtlSeconds),
+        Ticker.systemTicker());
+  }
+
+  PresenceServiceImpl(
+      PresenceStore presenceStore,
+      TeamRosterCache teamRosterCache,
+      TeamMapper teamMapper,
+      SimpMessagingTemplate messagingTemplate,
+      RedisTemplate<String, String> redisTemplate,
+      ScheduledExecutorService scheduler,
+      long offlineGraceMillis,
+      long heartbeatIntervalMillis,
+      Duration teamCacheTtl,
+      Ticker ticker) {
+    this.presenceStore = presenceStore;
+    this.teamRosterCache = teamRosterCache;
+    this.teamMapper = teamMapper;
+    this.messagingTemplate = messagingTemplate;
+    this.redisTemplate = redisTemplate;
+    this.scheduler = scheduler;
+    this.offlineGraceMillis = offlineGraceMillis;
+    this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+    this.userTeams =
+        Caffeine.newBuilder()
+            .expireAfterWrite(teamCacheTtl)
+            .maximumSize(10_000)
+            .ticker(ticker)
+            .build();
+  }
+
+  @PostConstruct
+  public void start() {
+    scheduler.scheduleWithFixedDelay(
+        this::heartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+
+    try {
+      redisTemplate.unlink(LEGACY_ONLINE_USERS_KEY);
+    } catch (Exception e) {
+      log.warn("이전 온라인 사용자 키 삭제 실패: {}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdown();
+  }
+
+  @Override
+  public void sessionConnected(String userId) {
+    localSessions.merge(userId, 1, Integer::sum);
+
+    try {
+      if (presenceStore.acquire(userId)) {
+        publish(userId, true);
+      }
+    } catch (Exception e) {
+      log.error("접속 상태 등록 실패: userId={}, error={}", userId, e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void sessionDisconnected(String userId) {
+    try {
+      scheduler.schedule(() -> releaseSession(userId), offlineGraceMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // 서버 종료 중에는 유예 없이 바로 해제한다
+      releaseSession(userId);
+    }
+  }
+
+  @Override
+  public void forceOffline(String userId) {
+    if (presenceStore.forceRelease(userId)) {
+      publish(userId, false);
+    }
+  }
+
+  @Override
+  public Map<String, Boolean> getOnlineStatus(Collection<String> userIds) {
+    return presenceStore.areOnline(userIds);
+  }
+
+  @Override
+  public TeamPresenceResponse getTeamPresence(Long requesterId, Long teamId, Long sinceVersion) {
+    Set<Long> roster = teamRosterCache.members(teamId);
+    if (!roster.contains(requesterId)) {
+      // 캐시 이후에 가입한 팀원일 수 있으므로 한 번 다시 읽는다
+      roster = teamRosterCache.reload(teamId);
+      if (!roster.contains(requesterId)) {
+        throw new TeamBusinessException(TeamErrorCode.NOT_TEAM_MEMBER);
+      }
+    }
+
+    List<String> memberIds = roster.stream().map(String::valueOf).toList();
+    TeamPresence presence = presenceStore.readTeam(teamId, memberIds, sinceVersion);
+
+    // Redis 가 초기화되어 버전이 요청보다 작아졌으면 변경분 대신 전체를 돌려준다
+    boolean delta = sinceVersion != null && sinceVersion <= presence.version();
+    List<MemberStatusDto> members =
+        presence.online().entrySet().stream()
+            .filter(entry -> !delta || presence.changedSince().contains(entry.getKey()))
+            .map(
+                entry ->
+                    MemberStatusDto.builder()
+                        .userId(Long.valueOf(entry.getKey()))
+                        .online(entry.getValue())
+                        .build())
+            .toList();
+
+    return TeamPresenceResponse.builder()
+        .teamId(teamId)
+        .version(presence.version())
+        .delta(delta)
+        .members(members)
+        .build();
+  }
+
+  @Override
+  public Set<String> getOnlineUsers() {
+    return presenceStore.onlineUsers();
+  }
+
+  void releaseSession(String userId) {
+    localSessions.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+
+    try {
+      if (presenceStore.release(userId)) {
+        publish(userId, false);
+      }
+    } catch (Exception e) {
+      // 세션 수가 남아도 이 서버의 하트비트가 멈추므로 만료 정리에서 오프라인 처리된다
+      log.error("접속 상태 해제 실패: userId={}, error={}", userId, e.getMessage(), e);
+    }
+  }
+
+  void heartbeat() {
+    try {
+      presenceStore.heartbeat(List.copyOf(localSessions.keySet()));
+
+      List<String> expired = presenceStore.sweepExpired();
+      if (!expired.isEmpty()) {
+        log.info("하트비트가 끊긴 사용자 {}명 오프라인 처리", expired.size());
+        expired.forEach(userId -> publish(userId, false));
+      }
+    } catch (Exception e) {
+      log.warn("접속 상태 하트비트 실패: {}", e.getMessage());
+    }
+  }
+
+  private void publish(String userId, boolean online) {
+    List<Long> teamIds = teamsOf(userId);
+    if (teamIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      presenceStore.recordTeamChange(userId, teamIds);
+    } catch (Exception e) {
+      log.warn("팀 상태 버전 기록 실패: userId={}, error={}", userId, e.getMessage());
+    }
+
+    UserStatusMessage statusMessage = new UserStatusMessage(userId, online);
+    for (Long teamId : teamIds) {
+      messagingTemplate.convertAndSend(TEAM_STATUS_TOPIC_PREFIX + teamId, statusMessage);
+    }
+    log.debug("사용자 상태 변경 알림 전송: {}, 팀 {}개", statusMessage, teamIds.size());
+  }
+
+  private List<Long> teamsOf(String userId) {
+    long id;
+    try {
+      id = Long.parseLong(userId);
+    } catch (NumberFormatException e) {
+      log.warn("사용자 ID 형식이 아니어서 상태 알림을 건너뜁니다: {}", userId);
+      return List.of();
+    }
+
+    return userTeams.get(
+        userId,
+        key ->
+            teamMapper.selectMyTeamList(id).stream().map(MyTeamListResponse::getTeamId).toList());
+  }
+}
@@ -1,6 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ReadReceiptService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.UnreadCountStore;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
@@ -8,7 +9,9 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.R
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +26,7 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
 
   private final ReadReceiptRepository readReceiptRepository;
   private final ChatMessageRepository chatMessageRepository;
+  private final UnreadCountStore unreadCountStore;
 
   @Override
   public ReadReceipt markMessageAsRead(String chatroomId, String messageId, String userId) {
@@ -48,6 +52,7 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
             .build();
 
     ReadReceipt saved = readReceiptRepository.save(readReceipt);
+    unreadCountStore.reset(chatroomId, userId);
     log.info(
         "ReadReceipt 저장 완료: userId={}, messageId={}, chatroomId={}", userId, messageId, chatroomId);
 
@@ -127,6 +132,31 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
   @Override
   @Transactional(readOnly = true)
   public int getUnreadMessageCount(String chatroomId, String userId) {
+    return getUnreadMessageCounts(List.of(chatroomId), userId).getOrDefault(chatroomId, 0);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<String, Integer> getUnreadMessageCounts(List<String> chatroomIds, String userId) {
+    Map<String, Integer> counts = new HashMap<>(unreadCountStore.getCounts(userId, chatroomIds));
+
+    // Redis 카운터가 없는 채팅방만 MongoDB 기준으로 재계산 후 카운터 복구
+    Map<String, Integer> reconciled = new HashMap<>();
+    for (String chatroomId : chatroomIds) {
+      if (!counts.containsKey(chatroomId)) {
+        reconciled.put(chatroomId, countUnreadMessages(chatroomId, userId));
+      }
+    }
+
+    if (!reconciled.isEmpty()) {
+      log.debug("읽지 않은 메시지 카운터 재계산: userId={}, chatroomIds={}", userId, reconciled.keySet());
+      unreadCountStore.putIfAbsent(userId, reconciled);
+      counts.putAll(reconciled);
+    }
+    return counts;
+  }
+
+  private int countUnreadMessages(String chatroomId, String userId) {
     log.debug("읽지 않은 메시지 수 계산: chatroomId={}, userId={}", chatroomId, userId);
 
     try {
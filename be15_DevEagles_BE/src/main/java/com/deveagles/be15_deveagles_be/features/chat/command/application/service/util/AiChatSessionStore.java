@@ -0,0 +1,183 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 채팅 세션 저장소
+ *
+ * <p>사용자·채팅방별 세션을 마지막 활동 기준(expire-after-access)으로 만료시킨다. 조회는 락 없이 이루어지고, 만료 항목 정리는 캐시 쓰기와 함께 조금씩
+ * 나누어 처리되므로 전체 세션을 주기적으로 훑는 작업이 없다. 최대 개수를 넘으면 자주 쓰이지 않는 세션부터 밀어낸다.
+ *
+ * <p>세션마다 최근 대화 창({@link ChatContextWindow})을 들고 있어 AI 프롬프트를 만들 때 DB 를 읽지 않는다. 창은 세션 시작 후 첫 메시지에서 한
+ * 번만 DB 로 채우고({@link #resume}), 이후에는 주고받는 메시지를 {@link #appendTurn} 으로 이어 붙인다. 기분 질문처럼 AI 응답 생성 밖에서
+ * 채팅방에 보내는 AI 메시지도 같은 방법으로 이어 붙여야 창이 채팅방 내용과 어긋나지 않는다.
+ */
+@Slf4j
+@Component
+public class AiChatSessionStore {
+
+  private final Cache<String, AiChatSession> sessions;
+  private final Clock clock;
+  private final int maxTurns;
+  private final int historyTokenBudget;
+
+  @Autowired
+  public AiChatSessionStore(
+      MeterRegistry meterRegistry,
+      @Value("${chat.ai-session.ttl-hours:24}") long ttlHours,
+      @Value("${chat.ai-session.max-sessions:1000}") long maxSessions,
+      @Value("${chat.ai-session.max-turns:10}") int maxTurns,
+      @Value("${chat.ai-session.history-token-budget:1000}") int historyTokenBudget) {
+    this(
+        meterRegistry,
+        Duration.ofHours(ttlHours),
+        maxSessions,
+        maxTurns,
+        historyTokenBudget,
+        Ticker.systemTicker(),
+        Clock.systemUTC());
+  }
+
+  AiChatSessionStore(
+      MeterRegistry meterRegistry,
+      Duration ttl,
+      long maxSessions,
+      int maxTurns,
+      int historyTokenBudget,
+      Ticker ticker,
+      Clock clock) {
+    this.clock = clock;
+    this.maxTurns = maxTurns;
+    this.historyTokenBudget = historyTokenBudget;
+    this.sessions =
+        Caffeine.newBuilder()
+            .expireAfterAccess(ttl)
+            .maximumSize(maxSessions)
+            .ticker(ticker)
+            .removalListener(
+                (String key, AiChatSession session, RemovalCause cause) -> {
+                  if (cause.wasEvicted()) {
+                    log.info("AI 채팅 세션 정리: {}, 사유: {}", key, cause);
+                  }
+                })
+            .build();
+
+    Gauge.builder("chat.ai.session.active", sessions, Cache::estimatedSize)
+        .description("활성 AI 채팅 세션 수")
+        .register(meterRegistry);
+  }
+
+  /** 세션을 새로 시작한다. 같은 사용자·채팅방의 기존 세션은 덮어쓰며, 대화 창은 다음 메시지에서 다시 채운다. */
+  public AiChatSession start(String userId, String chatroomId) {
+    AiChatSession session = AiChatSession.start(userId, chatroomId, clock.instant());
+    sessions.put(key(userId, chatroomId), session);
+    return session;
+  }
+
+  /**
+   * 대화 창이 채워진 세션에 대화를 이어 붙인다.
+   *
+   * @return 갱신된 세션. 세션이 없거나 대화 창을 아직 채우지 않았으면 빈 값이며, 이때는 {@link #resume} 으로 창을 채워야 한다.
+   */
+  public Optional<AiChatSession> appendTurn(String userId, String chatroomId, ChatTurn turn) {
+    Instant now = clock.instant();
+    return Optional.ofNullable(
+            sessions
+                .asMap()
+                .computeIfPresent(
+                    key(userId, chatroomId),
+                    (key, session) -> session.hasContext() ? session.append(turn, now) : session))
+        .filter(AiChatSession::hasContext);
+  }
+
+  /**
+   * 오래된 순서로 정렬된 대화로 세션의 대화 창을 채운다. 세션이 없으면 새로 만든다.
+   *
+   * @param turns 최근 대화. {@link #maxTurns()} 개를 넘는 앞부분은 버려진다.
+   */
+  public AiChatSession resume(String userId, String chatroomId, List<ChatTurn> turns) {
+    Instant now = clock.instant();
+    ChatContextWindow context = ChatContextWindow.of(maxTurns, historyTokenBudget, turns);
+    return sessions
+        .asMap()
+        .compute(
+            key(userId, chatroomId),
+            (key, session) ->
+                (session != null ? session : AiChatSession.start(userId, chatroomId, now))
+                    .withContext(context, now));
+  }
+
+  /** 대화 창에 보관하는 최대 대화 수. 창을 채울 때 DB 에서 읽을 메시지 수이기도 하다. */
+  public int maxTurns() {
+    return maxTurns;
+  }
+
+  public Optional<AiChatSession> find(String userId, String chatroomId) {
+    return Optional.ofNullable(sessions.getIfPresent(key(userId, chatroomId)));
+  }
+
+  public void end(String userId, String chatroomId) {
+    sessions.invalidate(key(userId, chatroomId));
+  }
+
+  long size() {
+    sessions.cleanUp();
+    return sessions.estimatedSize();
+  }
+
+  private static String key(String userId, String chatroomId) {
+    return userId + ":" + chatroomId;
+  }
+
+  /**
+   * 불변 세션 스냅샷. 갱신할 때마다 새 인스턴스로 바꿔 넣는다.
+   *
+   * @param context 최근 대화 창. 아직 채우지 않았으면 null 이다.
+   * @param messageCount 세션 동안 사용자가 보낸 메시지 수
+   */
+  public record AiChatSession(
+      String userId,
+      String chatroomId,
+      Instant initializedAt,
+      Instant lastActivityAt,
+      int messageCount,
+      ChatContextWindow context) {
+
+    static AiChatSession start(String userId, String chatroomId, Instant now) {
+      return new AiChatSession(userId, chatroomId, now, now, 0, null);
+    }
+
+    public boolean hasContext() {
+      return context != null;
+    }
+
+    AiChatSession append(ChatTurn turn, Instant now) {
+      return new AiChatSession(
+          userId,
+          chatroomId,
+          initializedAt,
+          now,
+          turn.fromAi() ? messageCount : messageCount + 1,
+          context.append(turn));
+    }
+
+    AiChatSession withContext(ChatContextWindow context, Instant now) {
+      return new AiChatSession(userId, chatroomId, initializedAt, now, messageCount, context);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.AiStreamChunk;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PromptTemplate;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 응답 스트리밍 전송기
+ *
+ * <p>Gemini 스트리밍 응답의 텍스트 조각을 도착하는 대로 {@code /topic/chatroom.{id}.stream} 으로 보내고, 응답이 끝나면 전체 텍스트를 한
+ * 번만 저장한다. 첫 조각이 도착하기까지 걸린 시간(time to first token)을 AI 응답 지연 지표로 기록한다.
+ */
+@Slf4j
+@Component
+public class AiReplyStreamer {
+
+  private static final String STREAM_TOPIC_FORMAT = "/topic/chatroom.%s.stream";
+
+  private final GeminiApiAdapter geminiApiAdapter;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final boolean enabled;
+  private final Timer firstTokenTimer;
+  private final Timer completionTimer;
+  private final Counter failedCounter;
+
+  public AiReplyStreamer(
+      GeminiApiAdapter geminiApiAdapter,
+      SimpMessagingTemplate messagingTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${chat.ai-stream.enabled:true}") boolean enabled) {
+    this.geminiApiAdapter = geminiApiAdapter;
+    this.messagingTemplate = messagingTemplate;
+    this.enabled = enabled;
+    this.firstTokenTimer =
+        Timer.builder("chat.ai.stream.first_token")
+            .description("AI 응답 요청부터 첫 텍스트 조각 전송까지 걸린 시간")
+            .register(meterRegistry);
+    this.completionTimer =
+        Timer.builder("chat.ai.stream.duration")
+            .description("AI 응답 스트리밍 전체 소요 시간")
+            .register(meterRegistry);
+    this.failedCounter =
+        Counter.builder("chat.ai.stream.failed")
+            .description("중간에 실패한 AI 응답 스트리밍 수")
+            .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 프롬프트로 AI 응답을 스트리밍하고, 끝나면 전체 응답을 저장한다.
+   *
+   * <p>스트리밍이 중간에 실패하면 이미 보낸 부분까지를, 아무것도 받지 못했으면 기본 응답을 저장한다. 어느 경우든 마지막에 done 조각을 보내 클라이언트가
+   * 스트리밍 말풍선을 정리할 수 있게 한다.
+   *
+   * @param chatroomId 채팅방 ID
+   * @param prompt 프롬프트
+   * @param persister 전체 응답 텍스트를 저장하고 채팅방에 전송하는 함수
+   * @return 저장된 AI 메시지
+   */
+  public ChatMessageResponse stream(
+      String chatroomId, String prompt, Function<String, ChatMessageResponse> persister) {
+    return stream(chatroomId, prompt, persister, response -> {});
+  }
+
+  /**
+   * {@link #stream(String, String, Function)} 과 같되, 스트리밍이 끝까지 성공했을 때만 전체 응답을 {@code onCompleted} 에
+   * 넘긴다. 부분 응답이나 기본 응답은 넘기지 않는다.
+   */
+  public ChatMessageResponse stream(
+      String chatroomId,
+      String prompt,
+      Function<String, ChatMessageResponse> persister,
+      Consumer<GeminiTextResponse> onCompleted) {
+    String streamId = UUID.randomUUID().toString();
+    String destination = String.format(STREAM_TOPIC_FORMAT, chatroomId);
+    AtomicInteger sequence = new AtomicInteger();
+    StringBuilder received = new StringBuilder();
+    long startedAt = System.nanoTime();
+
+    Consumer<String> publishChunk =
+        delta -> {
+          int seq = sequence.getAndIncrement();
+          if (seq == 0) {
+            firstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+          }
+          received.append(delta);
+          messagingTemplate.convertAndSend(
+              destination, AiStreamChunk.delta(streamId, chatroomId, seq, delta));
+        };
+
+    String content;
+    try {
+      GeminiTextResponse response = geminiApiAdapter.streamText(prompt, publishChunk);
+      completionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      content = response.getText();
+      onCompleted.accept(response);
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.warn(
+          "AI 응답 스트리밍 실패: chatroomId={}, 받은 조각={}, error={}",
+          chatroomId,
+          sequence.get(),
+          e.getMessage());
+      content =
+          received.length() > 0 ? received.toString() : PromptTemplate.getRandomDefaultResponse();
+    }
+
+    ChatMessageResponse saved = null;
+    try {
+      saved = persister.apply(content);
+      return saved;
+    } finally {
+      messagingTemplate.convertAndSend(
+          destination,
+          AiStreamChunk.done(
+              streamId, chatroomId, sequence.get(), saved != null ? saved.getId() : null));
+    }
+  }
+}
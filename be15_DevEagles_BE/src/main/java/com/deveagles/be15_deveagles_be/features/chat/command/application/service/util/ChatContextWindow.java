@@ -0,0 +1,130 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * AI 프롬프트용 최근 대화 창
+ *
+ * <p>최근 대화 N 개를 고정 크기 링 버퍼로 보관한다. 가득 차면 가장 오래된 대화를 덮어쓴다. 세션 저장소에서 락 없이 읽을 수 있도록 불변이며, 추가할 때마다
+ * 새 창을 만든다. 프롬프트에 넣을 때는 최신 대화부터 토큰 예산 안에 들어가는 만큼만 남긴다.
+ */
+public final class ChatContextWindow {
+
+  private static final String AI_SPEAKER = "수리";
+  private static final String USER_SPEAKER = "사용자";
+  private static final int LINE_OVERHEAD_TOKENS = 2;
+
+  private final ChatTurn[] ring;
+  private final int head;
+  private final int size;
+  private final int tokenBudget;
+
+  private ChatContextWindow(ChatTurn[] ring, int head, int size, int tokenBudget) {
+    this.ring = ring;
+    this.head = head;
+    this.size = size;
+    this.tokenBudget = tokenBudget;
+  }
+
+  public static ChatContextWindow empty(int capacity, int tokenBudget) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("대화 창 크기는 1 이상이어야 합니다: " + capacity);
+    }
+    return new ChatContextWindow(new ChatTurn[capacity], 0, 0, tokenBudget);
+  }
+
+  /** 오래된 순서로 정렬된 대화로 창을 채운다. 크기를 넘는 앞부분은 버려진다. */
+  public static ChatContextWindow of(int capacity, int tokenBudget, List<ChatTurn> turns) {
+    ChatContextWindow window = empty(capacity, tokenBudget);
+    for (ChatTurn turn : turns) {
+      window = window.append(turn);
+    }
+    return window;
+  }
+
+  public ChatContextWindow append(ChatTurn turn) {
+    ChatTurn[] next = ring.clone();
+    if (size < ring.length) {
+      next[(head + size) % ring.length] = turn;
+      return new ChatContextWindow(next, head, size + 1, tokenBudget);
+    }
+    next[head] = turn;
+    return new ChatContextWindow(next, (head + 1) % ring.length, size, tokenBudget);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** i 번째로 오래된 대화 */
+  public ChatTurn get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return ring[(head + index) % ring.length];
+  }
+
+  /**
+   * 프롬프트에 넣을 대화 기록을 만든다.
+   *
+   * <p>최신 대화부터 거슬러 올라가며 토큰 예산을 넘기 직전까지 담고, 출력은 오래된 순서로 한 줄에 하나씩 쓴다.
+   */
+  public String render() {
+    Deque<ChatTurn> included = new ArrayDeque<>(size);
+    int used = 0;
+    for (int i = size - 1; i >= 0; i--) {
+      ChatTurn turn = get(i);
+      int tokens = estimateTokens(turn.content()) + LINE_OVERHEAD_TOKENS;
+      if (used + tokens > tokenBudget) {
+        break;
+      }
+      used += tokens;
+      included.addFirst(turn);
+    }
+
+    StringBuilder history = new StringBuilder();
+    for (ChatTurn turn : included) {
+      if (history.length() > 0) {
+        history.append('\n');
+      }
+      history
+          .append(turn.fromAi() ? AI_SPEAKER : USER_SPEAKER)
+          .append(": ")
+          .append(turn.content());
+    }
+    return history.toString();
+  }
+
+  /**
+   * 토큰 수 추정치. 영문·숫자 등 ASCII 는 네 글자에 한 토큰, 한글 등 그 밖의 글자는 한 글자에 한 토큰으로 보수적으로 센다.
+   */
+  static int estimateTokens(String text) {
+    if (text == null || text.isEmpty()) {
+      return 0;
+    }
+    int ascii = 0;
+    int other = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        ascii++;
+      } else if (!Character.isLowSurrogate(c)) {
+        other++;
+      }
+    }
+    return (ascii + 3) / 4 + other;
+  }
+
+  public record ChatTurn(boolean fromAi, String content) {
+
+    public static ChatTurn user(String content) {
+      return new ChatTurn(false, content);
+    }
+
+    public static ChatTurn ai(String content) {
+      return new ChatTurn(true, content);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatErrorCode;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 멤버십 캐시
+ *
+ * <p>메시지 전송, 읽음 처리, 알림 설정 조회 경로에서는 채팅방 타입과 활성 참가자 여부만 필요하므로 채팅방 문서 전체를 매번 조회하지 않고 스냅샷을
+ * 보관한다. 참가자 변경 시 {@link #evict(String)} 로 무효화하며, 무효화는 Redis 채널로 다른 서버에도 전파된다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+  private static final long TTL_MILLIS = 5 * 60 * 1000L;
+  private static final int MAX_ENTRIES = 10_000;
+
+  /** 멤버십 무효화 전파 채널. 메시지 본문은 채팅방 ID 이다. */
+  public static final String INVALIDATION_CHANNEL = "chat:membership:invalidate";
+
+  private final ChatRoomRepository chatRoomRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Map<String, Membership> memberships = new ConcurrentHashMap<>();
+
+  public ChatRoomMembershipCache(
+      ChatRoomRepository chatRoomRepository, RedisTemplate<String, String> redisTemplate) {
+    this.chatRoomRepository = chatRoomRepository;
+    this.redisTemplate = redisTemplate;
+  }
+
+  public Optional<Membership> get(String chatroomId) {
+    if (chatroomId == null) {
+      return Optional.empty();
+    }
+
+    long now = System.currentTimeMillis();
+    Membership cached = memberships.get(chatroomId);
+    if (cached != null && !cached.isExpired(now)) {
+      return Optional.of(cached);
+    }
+
+    Optional<Membership> loaded =
+        chatRoomRepository.findById(chatroomId).map(chatRoom -> Membership.of(chatRoom, now));
+    loaded.ifPresentOrElse(
+        membership -> put(chatroomId, membership, now), () -> memberships.remove(chatroomId));
+    return loaded;
+  }
+
+  /** 채팅방이 없으면 CHAT_ROOM_NOT_FOUND 예외를 던진다. */
+  public Membership getOrThrow(String chatroomId) {
+    return get(chatroomId)
+        .orElseThrow(() -> new ChatBusinessException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+  }
+
+  /** 이 서버의 스냅샷을 지우고 다른 서버에도 무효화를 전파한다. */
+  public void evict(String chatroomId) {
+    if (chatroomId == null) {
+      return;
+    }
+
+    evictLocal(chatroomId);
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, chatroomId);
+    } catch (Exception e) {
+      log.warn("채팅방 멤버십 무효화 전파 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+    }
+  }
+
+  /** 이 서버의 스냅샷만 지운다. 다른 서버에서 전파된 무효화를 처리할 때 사용한다. */
+  public void evictLocal(String chatroomId) {
+    if (chatroomId != null && memberships.remove(chatroomId) != null) {
+      log.debug("채팅방 멤버십 캐시 무효화: chatroomId={}", chatroomId);
+    }
+  }
+
+  private void put(String chatroomId, Membership membership, long now) {
+    if (memberships.size() >= MAX_ENTRIES) {
+      memberships.values().removeIf(entry -> entry.isExpired(now));
+    }
+    memberships.put(chatroomId, membership);
+  }
+
+  @Getter
+  public static class Membership {
+    private final String chatroomId;
+    private final String teamId;
+    private final ChatRoomType type;
+    private final boolean isDefault;
+    private final Set<String> activeUserIds;
+    private final Set<String> notificationEnabledUserIds;
+    private final long loadedAt;
+
+    private Membership(
+        String chatroomId,
+        String teamId,
+        ChatRoomType type,
+        boolean isDefault,
+        Set<String> activeUserIds,
+        Set<String> notificationEnabledUserIds,
+        long loadedAt) {
+      this.chatroomId = chatroomId;
+      this.teamId = teamId;
+      this.type = type;
+      this.isDefault = isDefault;
+      this.activeUserIds = activeUserIds;
+      this.notificationEnabledUserIds = notificationEnabledUserIds;
+      this.loadedAt = loadedAt;
+    }
+
+    static Membership of(ChatRoom chatRoom, long loadedAt) {
+      List<ChatRoom.Participant> activeParticipants = chatRoom.getActiveParticipants();
+      Set<String> activeUserIds =
+          activeParticipants.stream()
+              .map(ChatRoom.Participant::getUserId)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toUnmodifiableSet());
+      Set<String> notificationEnabledUserIds =
+          activeParticipants.stream()
+              .filter(ChatRoom.Participant::isNotificationEnabled)
+              .map(ChatRoom.Participant::getUserId)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toUnmodifiableSet());
+
+      return new Membership(
+          chatRoom.getId(),
+          chatRoom.getTeamId(),
+          chatRoom.getType(),
+          chatRoom.isDefault(),
+          activeUserIds,
+          notificationEnabledUserIds,
+          loadedAt);
+    }
+
+    public boolean isParticipant(String userId) {
+      return userId != null && activeUserIds.contains(userId);
+    }
+
+    public boolean isNotificationEnabled(String userId) {
+      return userId != null && notificationEnabledUserIds.contains(userId);
+    }
+
+    public boolean isAiChatRoom() {
+      return type == ChatRoomType.AI;
+    }
+
+    public boolean isTeamChatRoom() {
+      return type == ChatRoomType.TEAM;
+    }
+
+    boolean isExpired(long now) {
+      return now - loadedAt > TTL_MILLIS;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 응답 캐시
+ *
+ * <p>대화 첫 인사처럼 거의 같은 입력이나, 기분 조사 질문처럼 매번 같은 프롬프트는 Gemini 를 다시 호출하지 않고 저장된 응답을 돌려준다. 키는 공백·문장부호·
+ * 대소문자를 정규화한 뒤 해시하며(정확 일치), 짧은 키는 글자 2-gram 자카드 유사도가 기준 이상이면 같은 입력으로 본다(유사 일치). 항목은 TTL 이 지나면
+ * 버리고, 최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 밀어낸다.
+ *
+ * <p>같은 키에 응답 변형을 여러 개 모아 둘 수 있다. 변형이 다 모이기 전까지는 Gemini 를 호출해 하나씩 채우고, 다 모이면 그중 하나를 무작위로 돌려준다.
+ */
+@Slf4j
+@Component
+public class GeminiResponseCache {
+
+  private static final String REQUESTS_METRIC = "chat.ai.cache.requests";
+
+  private final GeminiApiAdapter geminiApiAdapter;
+  private final long ttlMillis;
+  private final int maxEntries;
+  private final int similarityMaxLength;
+  private final double similarityThreshold;
+  private final Map<String, Entry> entries;
+  private final Counter exactHitCounter;
+  private final Counter similarHitCounter;
+  private final Counter missCounter;
+
+  public GeminiResponseCache(
+      GeminiApiAdapter geminiApiAdapter,
+      MeterRegistry meterRegistry,
+      @Value("${chat.ai-cache.ttl-seconds:3600}") long ttlSeconds,
+      @Value("${chat.ai-cache.max-entries:1000}") int maxEntries,
+      @Value("${chat.ai-cache.similarity-max-length:30}") int similarityMaxLength,
+      @Value("${chat.ai-cache.similarity-threshold:0.8}") double similarityThreshold) {
+    this.geminiApiAdapter = geminiApiAdapter;
+    this.ttlMillis = ttlSeconds * 1000L;
+    this.maxEntries = maxEntries;
+    this.similarityMaxLength = similarityMaxLength;
+    this.similarityThreshold = similarityThreshold;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > GeminiResponseCache.this.maxEntries;
+          }
+        };
+
+    this.exactHitCounter = requestCounter(meterRegistry, "hit");
+    this.similarHitCounter = requestCounter(meterRegistry, "similar_hit");
+    this.missCounter = requestCounter(meterRegistry, "miss");
+    Gauge.builder("chat.ai.cache.size", this, GeminiResponseCache::size)
+        .description("Gemini 응답 캐시 항목 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.ai.cache.hit_ratio", this, GeminiResponseCache::hitRatio)
+        .description("Gemini 응답 캐시 적중률")
+        .register(meterRegistry);
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(REQUESTS_METRIC)
+        .description("Gemini 응답 캐시 조회 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 응답을 돌려주고, 없으면 Gemini 를 호출해 응답을 저장한다.
+   *
+   * @param key 캐시 키. 프롬프트에서 실제로 달라지는 부분을 넘긴다.
+   * @param prompt Gemini 에 보낼 프롬프트
+   * @param variants 키 하나에 모아 둘 응답 변형 수
+   */
+  public GeminiTextResponse generateText(String key, String prompt, int variants) {
+    Optional<GeminiTextResponse> cached = get(key, variants);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    GeminiTextResponse response = geminiApiAdapter.generateText(prompt);
+    put(key, response, variants);
+    return response;
+  }
+
+  public Optional<GeminiTextResponse> get(String key) {
+    return get(key, 1);
+  }
+
+  public void put(String key, GeminiTextResponse response) {
+    put(key, response, 1);
+  }
+
+  private Optional<GeminiTextResponse> get(String key, int variants) {
+    String normalized = normalize(key);
+    if (normalized.isEmpty()) {
+      return Optional.empty();
+    }
+
+    long now = System.currentTimeMillis();
+    String hash = hash(normalized);
+    synchronized (this) {
+      Entry exact = entries.get(hash);
+      if (exact != null && exact.isExpired(now)) {
+        entries.remove(hash);
+        exact = null;
+      }
+      if (exact != null && exact.responses.size() >= variants) {
+        exactHitCounter.increment();
+        return Optional.of(exact.pick());
+      }
+
+      // 변형을 채우는 중인 키는 유사 항목으로 대신하지 않는다
+      if (exact == null && isShort(normalized)) {
+        Optional<Entry> similar = findSimilar(normalized, variants, now);
+        if (similar.isPresent()) {
+          similarHitCounter.increment();
+          log.debug("Gemini 응답 캐시 유사 일치: key={}, matched={}", normalized, similar.get().key);
+          return Optional.of(similar.get().pick());
+        }
+      }
+    }
+
+    missCounter.increment();
+    return Optional.empty();
+  }
+
+  private void put(String key, GeminiTextResponse response, int variants) {
+    String normalized = normalize(key);
+    if (normalized.isEmpty() || response == null || response.isEmpty()) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    String hash = hash(normalized);
+    synchronized (this) {
+      Entry entry = entries.get(hash);
+      if (entry == null || entry.isExpired(now)) {
+        entry = new Entry(normalized, isShort(normalized) ? bigrams(normalized) : Set.of(), now);
+        entries.put(hash, entry);
+      }
+      if (entry.responses.size() < variants) {
+        entry.responses.add(response);
+      }
+    }
+  }
+
+  private Optional<Entry> findSimilar(String normalized, int variants, long now) {
+    Set<String> grams = bigrams(normalized);
+    Entry best = null;
+    double bestScore = similarityThreshold;
+    for (Entry entry : entries.values()) {
+      if (entry.grams.isEmpty() || entry.isExpired(now) || entry.responses.size() < variants) {
+        continue;
+      }
+      double score = jaccard(grams, entry.grams);
+      if (score >= bestScore) {
+        best = entry;
+        bestScore = score;
+      }
+    }
+    return Optional.ofNullable(best);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private double hitRatio() {
+    double hits = exactHitCounter.count() + similarHitCounter.count();
+    double total = hits + missCounter.count();
+    return total == 0 ? 0.0 : hits / total;
+  }
+
+  private boolean isShort(String normalized) {
+    return normalized.length() <= similarityMaxLength;
+  }
+
+  /** 유니코드 정규화 후 소문자로 바꾸고, 문장부호를 지우고 공백을 하나로 줄인다. */
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFKC)
+        .toLowerCase(Locale.ROOT)
+        .replaceAll("[^\\p{L}\\p{N}]+", " ")
+        .trim();
+  }
+
+  private static String hash(String normalized) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+    }
+  }
+
+  /** 공백을 뺀 글자 2-gram. 한 글자짜리 키는 그 글자 자체를 쓴다. */
+  private static Set<String> bigrams(String normalized) {
+    String compact = normalized.replace(" ", "");
+    Set<String> grams = new HashSet<>();
+    if (compact.length() < 2) {
+      grams.add(compact);
+      return grams;
+    }
+    for (int i = 0; i < compact.length() - 1; i++) {
+      grams.add(compact.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  private static double jaccard(Set<String> a, Set<String> b) {
+    int intersection = 0;
+    for (String gram : a) {
+      if (b.contains(gram)) {
+        intersection++;
+      }
+    }
+    int union = a.size() + b.size() - intersection;
+    return union == 0 ? 0.0 : (double) intersection / union;
+  }
+
+  private final class Entry {
+    private final String key;
+    private final Set<String> grams;
+    private final List<GeminiTextResponse> responses = new ArrayList<>();
+    private final long createdAt;
+
+    private Entry(String key, Set<String> grams, long createdAt) {
+      this.key = key;
+      this.grams = grams;
+      this.createdAt = createdAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - createdAt > ttlMillis;
+    }
+
+    private GeminiTextResponse pick() {
+      return responses.get(ThreadLocalRandom.current().nextInt(responses.size()));
+    }
+  }
+}
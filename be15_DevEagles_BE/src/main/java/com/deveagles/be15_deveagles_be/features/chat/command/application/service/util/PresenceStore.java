@@ -0,0 +1,384 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 접속 상태 저장소 (Redis)
+ *
+ * <p>사용자 ID 해시로 샤드를 나누고, 샤드마다 두 개의 키를 둔다.
+ *
+ * <ul>
+ *   <li>{@code chat:presence:{샤드}:online} - ZSET. 멤버는 사용자 ID, 점수는 접속 상태 만료 시각(ms)
+ *   <li>{@code chat:presence:{샤드}:sessions} - HASH. 사용자별 열린 웹소켓 세션 수
+ * </ul>
+ *
+ * <p>세션 수가 0 이 되면 오프라인이 된다. 서버가 비정상 종료돼 세션 수를 줄이지 못해도, 접속 중인 사용자는 각 서버가 주기적으로 {@link
+ * #heartbeat(Collection)} 로 만료 시각을 늘리므로 하트비트가 끊긴 사용자는 {@link #sweepExpired()} 가 정리한다. 샤드 번호는 Redis
+ * 클러스터 해시 태그로 감싸 한 스크립트가 다루는 두 키가 같은 슬롯에 놓이게 한다. 샤드 수를 바꾸면 기존 키를 찾지 못하므로 모든 서버를 함께 바꿔야 한다.
+ *
+ * <p>팀 단위 변경 조회를 위해 팀마다 상태 버전({@code chat:presence:team:{팀}:version})과 사용자별 마지막 변경 버전 ZSET({@code
+ * chat:presence:team:{팀}:changes})을 둔다. 클라이언트는 받은 버전 이후 바뀐 팀원만 다시 받을 수 있다.
+ */
+@Component
+public class PresenceStore {
+
+  static final String KEY_PREFIX = "chat:presence:";
+  private static final int SWEEP_BATCH_SIZE = 500;
+
+  /**
+   * KEYS[1]=online, KEYS[2]=sessions, ARGV[1]=사용자 ID, ARGV[2]=현재 시각, ARGV[3]=만료 시각. 이번 세션으로 온라인이
+   * 되었으면 1 을 돌려준다. 접속 상태가 없거나 만료됐으면 남아 있던 세션 수는 죽은 서버가 남긴 값이므로 이어 세지 않고 1 로 다시 쓴다.
+   */
+  static final RedisScript<Long> ACQUIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local previous = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+              + "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) "
+              + "if previous and tonumber(previous) > tonumber(ARGV[2]) then "
+              + "redis.call('HINCRBY', KEYS[2], ARGV[1], 1) "
+              + "return 0 "
+              + "end "
+              + "redis.call('HSET', KEYS[2], ARGV[1], 1) "
+              + "return 1",
+          Long.class);
+
+  /** KEYS[1]=online, KEYS[2]=sessions, ARGV[1]=사용자 ID. 마지막 세션이 닫혀 오프라인이 되었으면 1 을 돌려준다. */
+  static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('HINCRBY', KEYS[2], ARGV[1], -1) > 0 then "
+              + "return 0 "
+              + "end "
+              + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+              + "return redis.call('ZREM', KEYS[1], ARGV[1])",
+          Long.class);
+
+  /** KEYS[1]=online, KEYS[2]=sessions, ARGV[1]=사용자 ID. 온라인이었으면 1 을 돌려준다. */
+  static final RedisScript<Long> FORCE_RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "redis.call('HDEL', KEYS[2], ARGV[1]) return redis.call('ZREM', KEYS[1], ARGV[1])",
+          Long.class);
+
+  /** KEYS[1]=online, KEYS[2]=sessions, ARGV[1]=현재 시각, ARGV[2]=최대 개수. 만료되어 지운 사용자 ID 목록을 돌려준다. */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> SWEEP_SCRIPT =
+      new DefaultRedisScript<>(
+          "local expired = "
+              + "redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+              + "for _, userId in ipairs(expired) do "
+              + "redis.call('ZREM', KEYS[1], userId) "
+              + "redis.call('HDEL', KEYS[2], userId) "
+              + "end "
+              + "return expired",
+          List.class);
+
+  /** KEYS[1]=팀 버전, KEYS[2]=팀 변경 기록, ARGV[1]=사용자 ID. 올린 버전을 돌려준다. */
+  private static final byte[] RECORD_TEAM_CHANGE_SCRIPT =
+      serialize(
+          "local version = redis.call('INCR', KEYS[1]) "
+              + "redis.call('ZADD', KEYS[2], version, ARGV[1]) "
+              + "return version");
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final int shards;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  @Autowired
+  public PresenceStore(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${chat.presence.shards:16}") int shards,
+      @Value("${chat.presence.ttl-seconds:60}") long ttlSeconds) {
+    this(redisTemplate, shards, ttlSeconds * 1000, Clock.systemUTC());
+  }
+
+  PresenceStore(
+      RedisTemplate<String, String> redisTemplate, int shards, long ttlMillis, Clock clock) {
+    if (shards < 1) {
+      throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + shards);
+    }
+    this.redisTemplate = redisTemplate;
+    this.shards = shards;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+  }
+
+  /** 세션 하나를 등록한다. 이 세션으로 오프라인에서 온라인이 되었으면 true. */
+  public boolean acquire(String userId) {
+    long now = clock.millis();
+    Long result =
+        redisTemplate.execute(
+            ACQUIRE_SCRIPT,
+            keysOf(userId),
+            userId,
+            String.valueOf(now),
+            String.valueOf(now + ttlMillis));
+    return result != null && result == 1L;
+  }
+
+  /** 세션 하나를 해제한다. 사용자의 마지막 세션이어서 오프라인이 되었으면 true. */
+  public boolean release(String userId) {
+    Long result = redisTemplate.execute(RELEASE_SCRIPT, keysOf(userId), userId);
+    return result != null && result == 1L;
+  }
+
+  /** 남은 세션 수와 관계없이 오프라인으로 만든다. 온라인이었으면 true. */
+  public boolean forceRelease(String userId) {
+    Long result = redisTemplate.execute(FORCE_RELEASE_SCRIPT, keysOf(userId), userId);
+    return result != null && result == 1L;
+  }
+
+  /**
+   * 이 서버에 접속 중인 사용자들의 만료 시각을 한 번의 파이프라인으로 늘린다. ZADD XX 를 사용하므로 이미 오프라인 처리된 사용자(로그아웃, 만료
+   * 정리)는 되살리지 않는다.
+   */
+  public void heartbeat(Collection<String> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+
+    double expiresAt = clock.millis() + ttlMillis;
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              for (String userId : userIds) {
+                connection
+                    .zSetCommands()
+                    .zAdd(
+                        serialize(onlineKey(shardOf(userId))),
+                        expiresAt,
+                        serialize(userId),
+                        ZAddArgs.empty().ifExists());
+              }
+              return null;
+            });
+  }
+
+  /** 하트비트가 끊겨 만료된 사용자를 샤드별로 정리하고, 오프라인이 된 사용자 ID 를 돌려준다. */
+  @SuppressWarnings("unchecked")
+  public List<String> sweepExpired() {
+    String now = String.valueOf(clock.millis());
+    List<String> expired = new ArrayList<>();
+    for (int shard = 0; shard < shards; shard++) {
+      List<String> removed =
+          redisTemplate.execute(
+              SWEEP_SCRIPT,
+              List.of(onlineKey(shard), sessionsKey(shard)),
+              now,
+              String.valueOf(SWEEP_BATCH_SIZE));
+      if (removed != null) {
+        expired.addAll(removed);
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * 여러 사용자의 접속 여부를 조회한다. 샤드마다 ZMSCORE 한 번씩을 하나의 파이프라인으로 보내므로 사용자 수와 관계없이 왕복은 한 번이다.
+   *
+   * @return 요청한 순서대로 사용자 ID 별 접속 여부
+   */
+  public Map<String, Boolean> areOnline(Collection<String> userIds) {
+    Map<Integer, List<String>> byShard = groupByShard(userIds);
+    if (byShard.isEmpty()) {
+      return toOnline(userIds, byShard, List.of(), 0);
+    }
+
+    List<Object> results =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  appendScoreLookups(connection, byShard);
+                  return null;
+                });
+    return toOnline(userIds, byShard, results, 0);
+  }
+
+  /**
+   * 팀 상태 변경 버전을 올리고 변경된 사용자를 기록한다. 팀마다 사용자당 하나의 항목만 남으므로 변경 기록은 팀 크기를 넘지 않는다.
+   *
+   * @param userId 상태가 바뀐 사용자 ID
+   * @param teamIds 사용자가 속한 팀 ID 목록
+   */
+  public void recordTeamChange(String userId, Collection<Long> teamIds) {
+    if (teamIds.isEmpty()) {
+      return;
+    }
+
+    byte[] rawUserId = serialize(userId);
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              for (Long teamId : teamIds) {
+                connection
+                    .scriptingCommands()
+                    .eval(
+                        RECORD_TEAM_CHANGE_SCRIPT,
+                        ReturnType.INTEGER,
+                        2,
+                        serialize(teamVersionKey(teamId)),
+                        serialize(teamChangesKey(teamId)),
+                        rawUserId);
+              }
+              return null;
+            });
+  }
+
+  /**
+   * 팀원들의 접속 여부와 팀 상태 버전을 하나의 파이프라인으로 조회한다. 버전을 먼저 읽으므로 돌려준 접속 여부에는 그 버전까지의 변경이 모두 반영되어 있다.
+   *
+   * @param teamId 팀 ID
+   * @param memberIds 팀원 ID 목록
+   * @param sinceVersion 이 버전 이후 바뀐 사용자도 함께 조회한다. null 이면 조회하지 않는다.
+   */
+  @SuppressWarnings("unchecked")
+  public TeamPresence readTeam(Long teamId, Collection<String> memberIds, Long sinceVersion) {
+    Map<Integer, List<String>> byShard = groupByShard(memberIds);
+    List<Object> results =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  connection.stringCommands().get(serialize(teamVersionKey(teamId)));
+                  if (sinceVersion != null) {
+                    connection
+                        .zSetCommands()
+                        .zRangeByScore(
+                            serialize(teamChangesKey(teamId)), sinceVersion + 1, Double.MAX_VALUE);
+                  }
+                  appendScoreLookups(connection, byShard);
+                  return null;
+                });
+
+    Object rawVersion = results.get(0);
+    long version = rawVersion == null ? 0L : Long.parseLong(rawVersion.toString());
+    Set<String> changed = null;
+    int offset = 1;
+    if (sinceVersion != null) {
+      Object rawChanged = results.get(offset++);
+      changed = rawChanged == null ? Set.of() : new HashSet<>((Collection<String>) rawChanged);
+    }
+    return new TeamPresence(version, toOnline(memberIds, byShard, results, offset), changed);
+  }
+
+  /** 전체 온라인 사용자. 사용자 수에 비례하므로 관리용으로만 사용한다. */
+  @SuppressWarnings("unchecked")
+  public Set<String> onlineUsers() {
+    double now = clock.millis();
+    List<Object> results =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (int shard = 0; shard < shards; shard++) {
+                    connection
+                        .zSetCommands()
+                        .zRangeByScore(
+                            serialize(onlineKey(shard)), Math.nextUp(now), Double.MAX_VALUE);
+                  }
+                  return null;
+                });
+
+    Set<String> online = new HashSet<>();
+    for (Object members : results) {
+      if (members != null) {
+        online.addAll((Collection<String>) members);
+      }
+    }
+    return online;
+  }
+
+  private Map<Integer, List<String>> groupByShard(Collection<String> userIds) {
+    Map<Integer, List<String>> byShard = new LinkedHashMap<>();
+    for (String userId : userIds) {
+      byShard.computeIfAbsent(shardOf(userId), shard -> new ArrayList<>()).add(userId);
+    }
+    return byShard;
+  }
+
+  private static void appendScoreLookups(
+      RedisConnection connection, Map<Integer, List<String>> byShard) {
+    byShard.forEach(
+        (shard, members) ->
+            connection
+                .zSetCommands()
+                .zMScore(
+                    serialize(onlineKey(shard)),
+                    members.stream().map(PresenceStore::serialize).toArray(byte[][]::new)));
+  }
+
+  /** 파이프라인 결과의 offset 부터 샤드 순서대로 들어 있는 ZMSCORE 결과를 사용자별 접속 여부로 바꾼다. */
+  private Map<String, Boolean> toOnline(
+      Collection<String> userIds,
+      Map<Integer, List<String>> byShard,
+      List<Object> results,
+      int offset) {
+    Map<String, Boolean> online = new LinkedHashMap<>();
+    userIds.forEach(userId -> online.put(userId, false));
+
+    long now = clock.millis();
+    int index = offset;
+    for (List<String> members : byShard.values()) {
+      List<?> scores = (List<?>) results.get(index++);
+      for (int i = 0; i < members.size(); i++) {
+        Object score = scores.get(i);
+        if (score instanceof Number expiresAt && expiresAt.longValue() > now) {
+          online.put(members.get(i), true);
+        }
+      }
+    }
+    return online;
+  }
+
+  int shardOf(String userId) {
+    return Math.floorMod(userId.hashCode(), shards);
+  }
+
+  static String onlineKey(int shard) {
+    return KEY_PREFIX + "{" + shard + "}:online";
+  }
+
+  static String sessionsKey(int shard) {
+    return KEY_PREFIX + "{" + shard + "}:sessions";
+  }
+
+  static String teamVersionKey(Long teamId) {
+    return KEY_PREFIX + "team:{" + teamId + "}:version";
+  }
+
+  static String teamChangesKey(Long teamId) {
+    return KEY_PREFIX + "team:{" + teamId + "}:changes";
+  }
+
+  private List<String> keysOf(String userId) {
+    int shard = shardOf(userId);
+    return List.of(onlineKey(shard), sessionsKey(shard));
+  }
+
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
+  }
+
+  /**
+   * 팀 접속 상태 조회 결과
+   *
+   * @param version 조회 시점의 팀 상태 버전
+   * @param online 팀원별 접속 여부
+   * @param changedSince 요청한 버전 이후 상태가 바뀐 사용자. 변경 조회를 요청하지 않았으면 null
+   */
+  public record TeamPresence(long version, Map<String, Boolean> online, Set<String> changedSince) {}
+}
@@ -0,0 +1,74 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 채팅방 마지막 읽은 메시지 (Redis)
+ *
+ * <p>{@code chat:last_read_message:{chatroomId}} 해시에 사용자ID별 마지막 읽은 메시지 ID 를 보관한다. 읽음 위치를 쓸 때마다 같은
+ * 파이프라인에서 {@link #DIRTY_KEY} 에 (채팅방, 사용자)를 추가해, 주기적인 MongoDB 동기화가 바뀐 항목만 처리하도록 한다.
+ */
+@Slf4j
+@Component
+public class ReadPositionStore {
+
+  private static final String REDIS_READ_MESSAGES_PREFIX = "chat:last_read_message:";
+
+  /** 마지막 동기화 이후 읽음 상태가 바뀐 (채팅방, 사용자) 목록. 멤버 형식은 {chatroomId}:{userId} */
+  public static final String DIRTY_KEY = "chat:read_sync:dirty";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public ReadPositionStore(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  public static String dirtyMember(String chatroomId, String userId) {
+    return chatroomId + ":" + userId;
+  }
+
+  /**
+   * 마지막 읽은 메시지를 기록하고 동기화 대상으로 표시한다.
+   *
+   * @param chatroomId 채팅방 ID
+   * @param userId 사용자 ID
+   * @param messageId 마지막 읽은 메시지 ID
+   */
+  public void write(String chatroomId, String userId, String messageId) {
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                write(connection, chatroomId, userId, messageId);
+                return null;
+              });
+    } catch (Exception e) {
+      log.error(
+          "읽음 위치 Redis 업데이트 실패: chatroomId={}, userId={}, error={}",
+          chatroomId,
+          userId,
+          e.getMessage());
+    }
+  }
+
+  /** 호출자의 파이프라인에 읽음 위치 기록과 동기화 표시 명령을 추가한다. */
+  public void write(
+      RedisConnection connection, String chatroomId, String userId, String messageId) {
+    connection
+        .hashCommands()
+        .hSet(
+            serialize(REDIS_READ_MESSAGES_PREFIX + chatroomId),
+            serialize(userId),
+            serialize(messageId));
+    connection.setCommands().sAdd(serialize(DIRTY_KEY), serialize(dirtyMember(chatroomId, userId)));
+  }
+
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
+  }
+}
@@ -0,0 +1,60 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * "N 번마다 한 번" 트리거 (Redis)
+ *
+ * <p>카운터 증가, TTL 설정, 임계값 비교, 초기화를 Lua 스크립트 하나로 처리한다. Redis 는 스크립트를 원자적으로 실행하므로 동시에 호출해도 임계값에
+ * 도달한 호출 하나만 발동을 돌려받고, 왕복도 한 번이다. TTL 은 카운터가 처음 만들어질 때 한 번만 걸리므로 첫 이벤트부터 TTL 안에 N 번을 채우지 못하면
+ * 카운터가 사라진다.
+ */
+@Component
+public class RedisCountTrigger {
+
+  /** KEYS[1]=카운터 키, ARGV[1]=임계값, ARGV[2]=TTL(초). 발동하면 1, 아니면 0 을 돌려준다. */
+  static final RedisScript<Long> INCREMENT_AND_TRIGGER_SCRIPT =
+      new DefaultRedisScript<>(
+          "local count = redis.call('INCR', KEYS[1]) "
+              + "if redis.call('TTL', KEYS[1]) < 0 then "
+              + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+              + "end "
+              + "if count >= tonumber(ARGV[1]) then "
+              + "redis.call('DEL', KEYS[1]) "
+              + "return 1 "
+              + "end "
+              + "return 0",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public RedisCountTrigger(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 카운터를 1 증가시키고, 임계값에 도달했으면 카운터를 초기화한 뒤 발동 여부를 돌려준다.
+   *
+   * @param key 카운터 키
+   * @param threshold 발동 기준 횟수
+   * @param ttl 카운터 유효 시간
+   * @return 이번 호출로 임계값에 도달했으면 true
+   */
+  public boolean hit(String key, int threshold, Duration ttl) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("임계값은 1 이상이어야 합니다: " + threshold);
+    }
+    Long fired =
+        redisTemplate.execute(
+            INCREMENT_AND_TRIGGER_SCRIPT,
+            List.of(key),
+            String.valueOf(threshold),
+            String.valueOf(ttl.toSeconds()));
+    return fired != null && fired == 1L;
+  }
+}
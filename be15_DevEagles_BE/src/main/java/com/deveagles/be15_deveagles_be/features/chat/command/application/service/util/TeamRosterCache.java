@@ -0,0 +1,59 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.team.query.dto.response.TeamMemberResponse;
+import com.deveagles.be15_deveagles_be.features.team.query.mapper.TeamMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀원 ID 목록 캐시
+ *
+ * <p>팀 접속 상태 조회는 팀원 ID 만 필요하므로 팀원 목록을 짧게 캐시해 조회마다 DB 를 읽지 않는다. 팀 가입·탈퇴는 캐시 유지 시간 안에 반영되며, 방금 가입한
+ * 팀원처럼 캐시에 없는 사용자는 {@link #reload(Long)} 로 다시 읽어 확인한다.
+ */
+@Component
+public class TeamRosterCache {
+
+  private final LoadingCache<Long, Set<Long>> rosters;
+
+  @Autowired
+  public TeamRosterCache(
+      TeamMapper teamMapper,
+      @Value("${chat.presence.roster-cache-ttl-seconds:60}") long ttlSeconds,
+      @Value("${chat.presence.roster-cache-max-entries:10000}") long maxEntries) {
+    this(teamMapper, Duration.ofSeconds(ttlSeconds), maxEntries, Ticker.systemTicker());
+  }
+
+  TeamRosterCache(TeamMapper teamMapper, Duration ttl, long maxEntries, Ticker ticker) {
+    this.rosters =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .build(
+                teamId ->
+                    teamMapper.selectTeamMembers(teamId).stream()
+                        .map(TeamMemberResponse::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toUnmodifiableSet()));
+  }
+
+  /** 팀원 ID 목록. 캐시에 없으면 DB 에서 읽는다. */
+  public Set<Long> members(Long teamId) {
+    return rosters.get(teamId);
+  }
+
+  /** 캐시를 버리고 팀원 ID 목록을 다시 읽는다. */
+  public Set<Long> reload(Long teamId) {
+    rosters.invalidate(teamId);
+    return rosters.get(teamId);
+  }
+}
@@ -0,0 +1,152 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 채팅방 읽지 않은 메시지 카운터 (Redis)
+ *
+ * <p>{@code chat:unread:{userId}} 해시에 채팅방ID별 카운터를 보관한다. 메시지 전송 시 수신자 카운터를 증가시키고, 읽음 처리 시 0으로
+ * 초기화한다. 채팅방 목록은 사용자 해시 하나에 대한 HMGET 한 번으로 조회하며, 카운터가 없는 채팅방만 MongoDB 로 재계산한다.
+ */
+@Slf4j
+@Component
+public class UnreadCountStore {
+
+  private static final String REDIS_UNREAD_PREFIX = "chat:unread:";
+  private static final long TTL_SECONDS = 7 * 24 * 60 * 60L;
+
+  /** 카운터가 존재하는 경우에만 증가시킨다. 없는 카운터는 다음 조회 시 MongoDB 기준으로 재계산된다. */
+  private static final byte[] INCREMENT_IF_EXISTS_SCRIPT =
+      serialize(
+          "for _, key in ipairs(KEYS) do "
+              + "if redis.call('HEXISTS', key, ARGV[1]) == 1 then "
+              + "redis.call('HINCRBY', key, ARGV[1], 1) "
+              + "end "
+              + "end "
+              + "return 0");
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public UnreadCountStore(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 사용자의 채팅방별 카운터를 한 번에 조회한다.
+   *
+   * @param userId 사용자 ID
+   * @param chatroomIds 채팅방 ID 목록
+   * @return 카운터가 존재하는 채팅방의 읽지 않은 메시지 수
+   */
+  public Map<String, Integer> getCounts(String userId, List<String> chatroomIds) {
+    Map<String, Integer> counts = new HashMap<>();
+    if (userId == null || chatroomIds == null || chatroomIds.isEmpty()) {
+      return counts;
+    }
+
+    try {
+      List<Object> values =
+          redisTemplate.opsForHash().multiGet(keyOf(userId), new ArrayList<>(chatroomIds));
+      for (int i = 0; i < chatroomIds.size() && i < values.size(); i++) {
+        Object value = values.get(i);
+        if (value != null) {
+          counts.put(chatroomIds.get(i), Math.max(0, Integer.parseInt(value.toString())));
+        }
+      }
+    } catch (Exception e) {
+      log.warn("읽지 않은 메시지 카운터 조회 실패: userId={}, error={}", userId, e.getMessage());
+    }
+    return counts;
+  }
+
+  /**
+   * 재계산한 카운터를 저장한다. 그 사이에 초기화된 카운터는 덮어쓰지 않는다.
+   *
+   * @param userId 사용자 ID
+   * @param counts 채팅방ID별 읽지 않은 메시지 수
+   */
+  public void putIfAbsent(String userId, Map<String, Integer> counts) {
+    if (userId == null || counts == null || counts.isEmpty()) {
+      return;
+    }
+
+    try {
+      byte[] rawKey = serialize(keyOf(userId));
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                counts.forEach(
+                    (chatroomId, count) ->
+                        connection
+                            .hashCommands()
+                            .hSetNX(rawKey, serialize(chatroomId), serialize(count.toString())));
+                connection.keyCommands().expire(rawKey, TTL_SECONDS);
+                return null;
+              });
+    } catch (Exception e) {
+      log.warn("읽지 않은 메시지 카운터 저장 실패: userId={}, error={}", userId, e.getMessage());
+    }
+  }
+
+  /** 사용자의 채팅방 카운터를 0으로 초기화한다. */
+  public void reset(String chatroomId, String userId) {
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                writeReset(connection, chatroomId, userId);
+                return null;
+              });
+    } catch (Exception e) {
+      log.warn(
+          "읽지 않은 메시지 카운터 초기화 실패: chatroomId={}, userId={}, error={}",
+          chatroomId,
+          userId,
+          e.getMessage());
+    }
+  }
+
+  /** 호출자의 파이프라인에 카운터 초기화 명령을 추가한다. */
+  public void writeReset(RedisConnection connection, String chatroomId, String userId) {
+    byte[] rawKey = serialize(keyOf(userId));
+    connection.hashCommands().hSet(rawKey, serialize(chatroomId), serialize("0"));
+    connection.keyCommands().expire(rawKey, TTL_SECONDS);
+  }
+
+  /** 호출자의 파이프라인에 수신자 카운터 증가 스크립트를 추가한다. */
+  public void writeIncrement(
+      RedisConnection connection, String chatroomId, Collection<String> recipientIds) {
+    if (recipientIds == null || recipientIds.isEmpty()) {
+      return;
+    }
+
+    byte[][] keysAndArgs = new byte[recipientIds.size() + 1][];
+    int index = 0;
+    for (String recipientId : recipientIds) {
+      keysAndArgs[index++] = serialize(keyOf(recipientId));
+    }
+    keysAndArgs[index] = serialize(chatroomId);
+    connection
+        .scriptingCommands()
+        .eval(INCREMENT_IF_EXISTS_SCRIPT, ReturnType.INTEGER, recipientIds.size(), keysAndArgs);
+  }
+
+  private static String keyOf(String userId) {
+    return REDIS_UNREAD_PREFIX + userId;
+  }
+
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
+  }
+}
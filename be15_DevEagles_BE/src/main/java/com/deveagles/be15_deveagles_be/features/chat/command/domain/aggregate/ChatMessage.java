@@ -5,9 +5,14 @@ import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "chat_message")
+// 채팅방 메시지 목록을 (createdAt, _id) 커서로 조회할 때 정렬 없이 범위 스캔 한 번으로 처리
+@CompoundIndex(
+    name = "chatroom_deleted_created_id_idx",
+    def = "{'chatroomId': 1, 'deletedAt': 1, 'createdAt': -1, '_id': -1}")
 @Getter
 @Builder
 public class ChatMessage {
@@ -0,0 +1,138 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 감정별 점수
+ *
+ * <p>{@link MoodType} 순서(ordinal)를 인덱스로 쓰는 고정 크기 float 배열이다. 감정 분석 원본 JSON 을 다시 읽지 않고 대표 감정을
+ * 고르거나 집계할 수 있도록 {@link UserMoodHistory} 에 함께 저장하며, DB 에는 감정 수 × 4 바이트로 저장한다. 저장 형식이 순서에 묶여 있으므로
+ * MoodType 에는 뒤에 추가만 해야 한다. 불변이다.
+ */
+public final class EmotionScores {
+
+  private static final MoodType[] MOOD_TYPES = MoodType.values();
+  private static final EmotionScores EMPTY = new EmotionScores(new float[MOOD_TYPES.length]);
+
+  private final float[] scores;
+
+  private EmotionScores(float[] scores) {
+    this.scores = scores;
+  }
+
+  public static EmotionScores empty() {
+    return EMPTY;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public float score(MoodType moodType) {
+    return scores[moodType.ordinal()];
+  }
+
+  public boolean isEmpty() {
+    for (float score : scores) {
+      if (score > 0f) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** 점수가 가장 높은 감정. 점수가 모두 0 이면 NEUTRAL */
+  public MoodType strongest() {
+    int strongest = MoodType.NEUTRAL.ordinal();
+    float max = 0f;
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] > max) {
+        max = scores[i];
+        strongest = i;
+      }
+    }
+    return MOOD_TYPES[strongest];
+  }
+
+  public Map<MoodType, Float> toMap() {
+    Map<MoodType, Float> map = new EnumMap<>(MoodType.class);
+    for (MoodType moodType : MOOD_TYPES) {
+      map.put(moodType, scores[moodType.ordinal()]);
+    }
+    return map;
+  }
+
+  public byte[] toBytes() {
+    ByteBuffer buffer = ByteBuffer.allocate(scores.length * Float.BYTES);
+    for (float score : scores) {
+      buffer.putFloat(score);
+    }
+    return buffer.array();
+  }
+
+  /** 저장된 바이트를 읽는다. 감정 종류가 늘어나기 전에 저장된 값이면 없는 감정은 0 으로 채운다. */
+  public static EmotionScores fromBytes(byte[] bytes) {
+    float[] scores = new float[MOOD_TYPES.length];
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    for (int i = 0; i < scores.length && buffer.remaining() >= Float.BYTES; i++) {
+      scores[i] = buffer.getFloat();
+    }
+    return new EmotionScores(scores);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof EmotionScores other && Arrays.equals(scores, other.scores);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(scores);
+  }
+
+  @Override
+  public String toString() {
+    return "EmotionScores" + toMap();
+  }
+
+  public static final class Builder {
+
+    private final float[] scores = new float[MOOD_TYPES.length];
+
+    private Builder() {}
+
+    /** 감정 분석 라벨의 점수를 기록한다. 알 수 없는 라벨은 NEUTRAL 로 모으고, 같은 감정이 여러 번 오면 높은 점수를 남긴다. */
+    public Builder put(String label, double score) {
+      return put(toMoodType(label), score);
+    }
+
+    public Builder put(MoodType moodType, double score) {
+      int index = moodType.ordinal();
+      scores[index] = Math.max(scores[index], (float) score);
+      return this;
+    }
+
+    public EmotionScores build() {
+      return new EmotionScores(scores.clone());
+    }
+
+    private static MoodType toMoodType(String label) {
+      if (label == null || label.isBlank()) {
+        return MoodType.NEUTRAL;
+      }
+      try {
+        return MoodType.valueOf(label.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        return MoodType.NEUTRAL;
+      }
+    }
+  }
+}
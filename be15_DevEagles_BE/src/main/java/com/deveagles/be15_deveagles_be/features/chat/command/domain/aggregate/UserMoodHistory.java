@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -58,12 +59,19 @@ public class UserMoodHistory {
   @Column(name = "emotion_analysis")
   private String emotionAnalysis;
 
+  /** 감정별 점수. 대표 감정 선택과 집계는 원본 JSON 대신 이 값을 쓴다. */
+  @JsonIgnore
+  @Convert(converter = EmotionScoresConverter.class)
+  @Column(name = "emotion_scores", columnDefinition = "VARBINARY(64)")
+  private EmotionScores emotionScores;
+
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
   @Column(name = "answered_at")
   private LocalDateTime answeredAt;
 
+  // EmotionScores 가 순서(ordinal)로 저장하므로 새 감정은 맨 뒤에 추가한다
   public enum MoodType {
     JOY,
     SADNESS,
@@ -85,6 +93,11 @@ public class UserMoodHistory {
     this.emotionAnalysis = emotionAnalysis;
   }
 
+  /** 감정별 점수를 설정 */
+  public void setEmotionScores(EmotionScores emotionScores) {
+    this.emotionScores = emotionScores;
+  }
+
   /** 기분 유형과 강도를 업데이트 (서비스 레이어에서 호출) */
   public void updateMoodTypeAndIntensity(MoodType moodType, int intensity) {
     this.moodType = moodType;
@@ -111,4 +124,17 @@ public class UserMoodHistory {
       return dbData != null ? dbData.toString() : null;
     }
   }
+
+  @Converter
+  public static class EmotionScoresConverter implements AttributeConverter<EmotionScores, byte[]> {
+    @Override
+    public byte[] convertToDatabaseColumn(EmotionScores attribute) {
+      return attribute != null ? attribute.toBytes() : null;
+    }
+
+    @Override
+    public EmotionScores convertToEntityAttribute(byte[] dbData) {
+      return dbData != null ? EmotionScores.fromBytes(dbData) : null;
+    }
+  }
 }
@@ -21,6 +21,12 @@ public interface ChatMessageRepository {
   List<ChatMessage> findMessagesByChatroomIdAfterTimestamp(
       String chatroomId, LocalDateTime timestamp, int limit);
 
+  /** cursor 보다 이전 메시지를 (createdAt, id) 내림차순으로 조회한다. cursor 가 null 이면 최신 메시지부터 조회한다. */
+  List<ChatMessage> findMessagesBefore(String chatroomId, MessageCursor cursor, int limit);
+
+  /** cursor 보다 이후 메시지를 (createdAt, id) 오름차순으로 조회한다. */
+  List<ChatMessage> findMessagesAfter(String chatroomId, MessageCursor cursor, int limit);
+
   PagedResult<ChatMessage> findMessagesByChatroomIdWithPagination(
       String chatroomId, int page, int size);
 
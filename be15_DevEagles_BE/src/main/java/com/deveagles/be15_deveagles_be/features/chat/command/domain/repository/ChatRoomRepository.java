@@ -4,6 +4,7 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ChatRoomRepository {
@@ -31,6 +32,10 @@ public interface ChatRoomRepository {
 
   List<ChatRoom> findByParticipantsUserIdAndDeletedAtIsNull(String userId);
 
+  void updateLastMessage(String chatroomId, ChatRoom.LastMessageInfo lastMessage);
+
+  void updateLastReadMessages(Map<String, Map<String, String>> lastReadMessageIdsByChatroom);
+
   void delete(ChatRoom chatRoom);
 
   void deleteById(String id);
@@ -0,0 +1,54 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 메시지 목록 keyset 페이지네이션 커서
+ *
+ * <p>(createdAt, id) 를 담아 클라이언트에는 불투명한 문자열로 전달한다. 같은 시각에 저장된 메시지도 id 로 순서가 정해지므로 페이지 경계에서
+ * 메시지가 빠지거나 중복되지 않는다. MongoDB 는 밀리초까지만 저장하므로 createdAt 도 밀리초로 맞춘다.
+ *
+ * @param createdAt 경계 메시지 생성 시각
+ * @param id 경계 메시지 ID
+ */
+public record MessageCursor(LocalDateTime createdAt, String id) {
+
+  private static final String SEPARATOR = "|";
+
+  public MessageCursor {
+    createdAt = createdAt.truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  public static MessageCursor of(ChatMessage message) {
+    return new MessageCursor(message.getCreatedAt(), message.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MessageCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+        throw new ChatBusinessException(ChatErrorCode.INVALID_MESSAGE_CURSOR);
+      }
+      return new MessageCursor(
+          LocalDateTime.parse(raw.substring(0, separatorIndex)), raw.substring(separatorIndex + 1));
+    } catch (ChatBusinessException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new ChatBusinessException(ChatErrorCode.INVALID_MESSAGE_CURSOR);
+    }
+  }
+}
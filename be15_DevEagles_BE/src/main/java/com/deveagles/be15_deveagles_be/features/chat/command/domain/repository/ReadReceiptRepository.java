@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface ReadReceiptRepository {
   ReadReceipt save(ReadReceipt readReceipt);
 
+  void upsertAll(Collection<ReadReceipt> readReceipts);
+
   List<ReadReceipt> findByMessageId(String messageId);
 
   Optional<ReadReceipt> findByMessageIdAndUserId(String messageId, String userId);
@@ -5,10 +5,13 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.Us
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserMoodHistoryRepository extends JpaRepository<UserMoodHistory, Long> {
@@ -44,4 +47,49 @@ public interface UserMoodHistoryRepository extends JpaRepository<UserMoodHistory
   @Query(
       "SELECT h FROM UserMoodHistory h WHERE h.userId = :userId AND h.emotionAnalysis IS NOT NULL AND h.emotionAnalysis <> ''")
   List<UserMoodHistory> findByUserIdWithEmotionAnalysis(@Param("userId") String userId);
+
+  /** 감정별 점수가 아직 없는 분석 이력을 ID 순으로 조회한다 (백필용) */
+  @Query(
+      "SELECT h FROM UserMoodHistory h WHERE h.id > :afterId AND h.emotionScores IS NULL "
+          + "AND h.emotionAnalysis IS NOT NULL ORDER BY h.id")
+  List<UserMoodHistory> findWithoutEmotionScores(@Param("afterId") Long afterId, Pageable pageable);
+
+  /**
+   * 사용자별 최근 기분 (user_latest_mood) 을 갱신한다. 팀원 목록에서 한 번의 조인으로 읽기 위한 값이며, 이미 더 최근 이력이 반영되어 있으면 그대로
+   * 둔다. 가장 최근 이력이 아직 답변 전이면 기분과 강도는 null 이다. created_at 은 앞 컬럼들의 비교에 쓰이므로 마지막에 갱신한다.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "INSERT INTO user_latest_mood "
+              + "(user_id, mood_history_id, mood_type, intensity, created_at) "
+              + "VALUES (:userId, :moodHistoryId, :moodType, :intensity, :createdAt) "
+              + "ON DUPLICATE KEY UPDATE "
+              + "mood_history_id = "
+              + "IF(VALUES(created_at) >= created_at, VALUES(mood_history_id), mood_history_id), "
+              + "mood_type = IF(VALUES(created_at) >= created_at, VALUES(mood_type), mood_type), "
+              + "intensity = IF(VALUES(created_at) >= created_at, VALUES(intensity), intensity), "
+              + "created_at = GREATEST(created_at, VALUES(created_at))",
+      nativeQuery = true)
+  void upsertLatestMood(
+      @Param("userId") Long userId,
+      @Param("moodHistoryId") Long moodHistoryId,
+      @Param("moodType") String moodType,
+      @Param("intensity") Integer intensity,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  /** 저장한 기분 이력을 사용자별 최근 기분에 반영한다. 기분 이력을 저장한 뒤 호출한다. */
+  default void refreshLatestMood(UserMoodHistory history) {
+    if (history.getId() == null || history.getUserId() == null) {
+      return;
+    }
+    boolean answered = history.getUserAnswer() != null && history.getMoodType() != null;
+    upsertLatestMood(
+        Long.valueOf(history.getUserId()),
+        history.getId(),
+        answered ? history.getMoodType().name() : null,
+        answered ? history.getIntensity() : null,
+        history.getCreatedAt());
+  }
 }
@@ -0,0 +1,225 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.HuggingFaceApiException;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter.EmotionAnalysisResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감정 분석 마이크로 배치 처리기
+ *
+ * <p>감정 분석 요청을 최대 대기 시간 또는 최대 건수만큼 모았다가 HuggingFace 에 inputs 배열 하나로 보내고, 결과를 요청별 future 로 나누어 돌려준다.
+ * 부하가 몰릴 때 HTTP 요청 수와 꼬리 지연을 줄이기 위한 것으로, 한가할 때는 요청 하나가 최대 대기 시간만큼만 늦어진다. 보내는 중인 배치가 동시 전송 한도에
+ * 이르면 수집 스레드가 직접 보내므로, 그동안 들어온 요청은 다음 배치로 더 크게 묶인다.
+ */
+@Slf4j
+@Component
+public class EmotionAnalysisBatcher {
+
+  private final HuggingFaceApiAdapter huggingFaceApiAdapter;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final long resultTimeoutMillis;
+  private final BlockingQueue<PendingAnalysis> queue;
+  private final ThreadPoolExecutor sender;
+  private final Thread collector;
+  private volatile boolean running = true;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer batchTimer;
+  private final Counter rejectedCounter;
+
+  public EmotionAnalysisBatcher(
+      HuggingFaceApiAdapter huggingFaceApiAdapter,
+      MeterRegistry meterRegistry,
+      @Value("${huggingface.batch.max-size:16}") int maxBatchSize,
+      @Value("${huggingface.batch.max-wait-ms:20}") long maxWaitMillis,
+      @Value("${huggingface.batch.queue-capacity:500}") int queueCapacity,
+      @Value("${huggingface.batch.concurrency:4}") int concurrency,
+      @Value("${huggingface.batch.result-timeout-ms:10000}") long resultTimeoutMillis) {
+    this.huggingFaceApiAdapter = huggingFaceApiAdapter;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.resultTimeoutMillis = resultTimeoutMillis;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.sender =
+        new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "emotion-batch-send-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.sender.allowCoreThreadTimeOut(true);
+
+    Gauge.builder("chat.emotion.batch.queue.depth", queue, BlockingQueue::size)
+        .description("배치 전송을 기다리는 감정 분석 요청 수")
+        .register(meterRegistry);
+    this.batchSizeSummary =
+        DistributionSummary.builder("chat.emotion.batch.size")
+            .description("한 번의 HuggingFace 요청에 묶인 감정 분석 수")
+            .register(meterRegistry);
+    this.batchTimer =
+        Timer.builder("chat.emotion.batch.latency")
+            .description("감정 분석 배치 요청 소요 시간")
+            .register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("chat.emotion.batch.rejected")
+            .description("대기열이 가득 차 거절된 감정 분석 요청 수")
+            .register(meterRegistry);
+
+    this.collector = new Thread(this::collectLoop, "emotion-batch-collector");
+    this.collector.setDaemon(true);
+    this.collector.start();
+  }
+
+  /** 감정 분석을 요청한다. 대기열이 가득 찼거나 종료 중이면 실패한 future 를 돌려준다. */
+  public CompletableFuture<EmotionAnalysisResponse> submit(String text) {
+    if (text == null || text.trim().isEmpty()) {
+      return CompletableFuture.failedFuture(
+          new HuggingFaceApiException.ValidationException("분석할 텍스트는 비어있을 수 없습니다", "EMPTY_TEXT"));
+    }
+
+    PendingAnalysis pending = new PendingAnalysis(text, new CompletableFuture<>());
+    if (!running || !queue.offer(pending)) {
+      rejectedCounter.increment();
+      return CompletableFuture.failedFuture(
+          new HuggingFaceApiException.UnexpectedException(
+              "감정 분석 대기열이 가득 찼습니다", "BATCH_QUEUE_FULL"));
+    }
+    return pending.result();
+  }
+
+  /** 감정 분석 결과를 기다려 돌려준다. {@link HuggingFaceApiAdapter#analyzeEmotion} 과 같은 예외를 던진다. */
+  public EmotionAnalysisResponse analyze(String text) {
+    try {
+      EmotionAnalysisResponse response =
+          submit(text).get(resultTimeoutMillis, TimeUnit.MILLISECONDS);
+      if (response.isEmpty()) {
+        throw new HuggingFaceApiException.ParsingException(
+            "감정 분석 결과를 추출할 수 없습니다", "EMOTION_EXTRACTION_FAILED");
+      }
+      return response;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new HuggingFaceApiException.UnexpectedException(
+          "감정 분석 중 예기치 않은 오류: " + e.getCause(), "UNEXPECTED_ERROR");
+    } catch (TimeoutException e) {
+      throw new HuggingFaceApiException.ConnectionException("감정 분석 결과 대기 시간 초과", "BATCH_TIMEOUT");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HuggingFaceApiException.UnexpectedException("감정 분석 대기 중 인터럽트", "INTERRUPTED");
+    }
+  }
+
+  private void collectLoop() {
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingAnalysis first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+
+        List<PendingAnalysis> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          PendingAnalysis next =
+              remaining > 0 && running ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            break;
+          }
+          batch.add(next);
+        }
+
+        sender.execute(() -> send(batch));
+      } catch (InterruptedException e) {
+        if (running) {
+          log.warn("감정 분석 배치 수집 스레드 인터럽트");
+        }
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        log.error("감정 분석 배치 수집 중 오류 발생", e);
+      }
+    }
+  }
+
+  private void send(List<PendingAnalysis> batch) {
+    List<String> texts = batch.stream().map(PendingAnalysis::text).toList();
+    batchSizeSummary.record(batch.size());
+
+    long startedAt = System.nanoTime();
+    try {
+      List<EmotionAnalysisResponse> results = huggingFaceApiAdapter.analyzeEmotions(texts);
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).result().complete(results.get(i));
+      }
+    } catch (Exception e) {
+      log.warn("감정 분석 배치 요청 실패: 건수={}, error={}", batch.size(), e.getMessage());
+      batch.forEach(pending -> pending.result().completeExceptionally(e));
+    } finally {
+      batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    try {
+      collector.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    sender.shutdown();
+    try {
+      if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+        sender.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      sender.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+
+    PendingAnalysis pending;
+    while ((pending = queue.poll()) != null) {
+      pending
+          .result()
+          .completeExceptionally(
+              new HuggingFaceApiException.UnexpectedException(
+                  "감정 분석 처리기가 종료되었습니다", "BATCH_SHUTDOWN"));
+    }
+  }
+
+  private record PendingAnalysis(String text, CompletableFuture<EmotionAnalysisResponse> result) {}
+}
@@ -1,25 +1,35 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.GeminiApiException;
-import java.util.Collections;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @Component
@@ -27,6 +37,9 @@ public class GeminiApiAdapter {
   private static final Logger log = LoggerFactory.getLogger(GeminiApiAdapter.class);
   private static final int DEFAULT_MAX_TOKENS = 200;
   private static final double DEFAULT_TEMPERATURE = 0.7;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String GENERATE_METHOD = ":generateContent";
+  private static final String STREAM_METHOD = ":streamGenerateContent";
 
   private final RestTemplate restTemplate;
   private final GeminiRequestBuilder requestBuilder;
@@ -38,26 +51,17 @@ public class GeminiApiAdapter {
   @Value("${gemini.api.url}")
   private String apiUrl;
 
-  @Value("${gemini.api.timeout:5000}")
-  private int apiTimeoutMs;
+  // 비어 있으면 apiUrl 의 :generateContent 를 :streamGenerateContent 로 바꿔 쓴다
+  @Value("${gemini.api.stream-url:}")
+  private String streamUrl;
 
   @Autowired
-  public GeminiApiAdapter(RestTemplate restTemplate) {
-    this.restTemplate = configureRestTemplate(restTemplate);
+  public GeminiApiAdapter(@Qualifier("geminiRestTemplate") RestTemplate restTemplate) {
+    this.restTemplate = restTemplate;
     this.requestBuilder = new GeminiRequestBuilder();
     this.responseParser = new GeminiResponseParser();
   }
 
-  private RestTemplate configureRestTemplate(RestTemplate template) {
-    if (template.getRequestFactory() instanceof SimpleClientHttpRequestFactory) {
-      SimpleClientHttpRequestFactory factory =
-          (SimpleClientHttpRequestFactory) template.getRequestFactory();
-      factory.setConnectTimeout(apiTimeoutMs);
-      factory.setReadTimeout(apiTimeoutMs);
-    }
-    return template;
-  }
-
   public GeminiTextResponse generateText(String prompt) {
     return generateText(prompt, DEFAULT_TEMPERATURE, DEFAULT_MAX_TOKENS);
   }
@@ -65,27 +69,55 @@ public class GeminiApiAdapter {
   public GeminiTextResponse generateText(String prompt, double temperature, int maxTokens) {
     validatePrompt(prompt);
 
-    try {
-      Map<String, Object> request = requestBuilder.buildRequest(prompt, temperature, maxTokens);
-      String apiUrlWithKey = apiUrl + "?key=" + apiKey;
-      log.debug("Gemini API 호출: {}", apiUrlWithKey);
+    Map<String, Object> request = requestBuilder.buildRequest(prompt, temperature, maxTokens);
+    String apiUrlWithKey = apiUrl + "?key=" + apiKey;
+    log.debug("Gemini API 호출: {}", apiUrlWithKey);
 
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
 
-      ResponseEntity<Map> responseEntity =
-          restTemplate.exchange(apiUrlWithKey, HttpMethod.POST, entity, Map.class);
+    // 응답 본문을 Map 으로 변환하지 않고 스트림에서 필요한 값만 읽는다
+    return execute(apiUrlWithKey, new HttpEntity<>(request, headers), this::extractResponse);
+  }
 
-      log.debug("Gemini API 응답 수신됨 (상태 코드: {})", responseEntity.getStatusCode());
+  /**
+   * 스트리밍 엔드포인트(SSE)로 텍스트를 생성하고, 텍스트 조각이 도착할 때마다 콜백으로 넘긴다.
+   *
+   * <p>스트리밍 URL 을 알 수 없으면 일반 호출 결과를 한 조각으로 넘긴다.
+   *
+   * @param prompt 프롬프트
+   * @param onChunk 새로 도착한 텍스트 조각을 받는 콜백 (HTTP 응답을 읽는 스레드에서 호출)
+   * @return 조각을 모두 이어 붙인 전체 응답
+   */
+  public GeminiTextResponse streamText(String prompt, Consumer<String> onChunk) {
+    validatePrompt(prompt);
 
-      if (!responseEntity.getStatusCode().is2xxSuccessful()) {
-        throw new GeminiApiException.ServerException(
-            "Gemini API 응답 오류: " + responseEntity.getStatusCode(),
-            "API_ERROR_" + responseEntity.getStatusCode().value());
-      }
+    String streamBaseUrl = resolveStreamUrl();
+    if (streamBaseUrl == null) {
+      GeminiTextResponse response = generateText(prompt);
+      onChunk.accept(response.getText());
+      return response;
+    }
+
+    Map<String, Object> request =
+        requestBuilder.buildRequest(prompt, DEFAULT_TEMPERATURE, DEFAULT_MAX_TOKENS);
+    String streamUrlWithKey = streamBaseUrl + "?alt=sse&key=" + apiKey;
+    log.debug("Gemini 스트리밍 API 호출: {}", streamUrlWithKey);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
 
-      return responseParser.parse(responseEntity.getBody());
+    return execute(
+        streamUrlWithKey,
+        new HttpEntity<>(request, headers),
+        response -> readEventStream(response, onChunk));
+  }
+
+  private <T> T execute(String url, HttpEntity<?> entity, ResponseExtractor<T> extractor) {
+    try {
+      return restTemplate.execute(
+          url, HttpMethod.POST, restTemplate.httpEntityCallback(entity), extractor);
     } catch (HttpClientErrorException e) {
       log.error("Gemini API 클라이언트 오류: {}", e.getMessage());
       throw new GeminiApiException.ClientException(
@@ -107,6 +139,78 @@ public class GeminiApiAdapter {
     }
   }
 
+  private GeminiTextResponse extractResponse(ClientHttpResponse response) throws IOException {
+    log.debug("Gemini API 응답 수신됨 (상태 코드: {})", response.getStatusCode());
+    checkStatus(response);
+    return responseParser.parse(response.getBody());
+  }
+
+  // SSE 이벤트마다 data 줄을 모아 하나의 응답 조각(JSON)으로 해석한다
+  private GeminiTextResponse readEventStream(ClientHttpResponse response, Consumer<String> onChunk)
+      throws IOException {
+    checkStatus(response);
+
+    StringBuilder text = new StringBuilder();
+    StringBuilder data = new StringBuilder();
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isEmpty()) {
+        dispatchEvent(data, text, onChunk);
+      } else if (line.startsWith("data:")) {
+        if (data.length() > 0) {
+          data.append('\n');
+        }
+        data.append(line.startsWith("data: ") ? line.substring(6) : line.substring(5));
+      }
+    }
+    dispatchEvent(data, text, onChunk);
+
+    if (text.toString().trim().isEmpty()) {
+      throw textExtractionFailed();
+    }
+    return new GeminiTextResponse(text.toString(), 1.0);
+  }
+
+  private void dispatchEvent(StringBuilder data, StringBuilder text, Consumer<String> onChunk)
+      throws IOException {
+    if (data.length() == 0) {
+      return;
+    }
+    String payload = data.toString();
+    data.setLength(0);
+
+    Optional<String> chunk = responseParser.parseChunkText(payload);
+    if (chunk.isPresent() && !chunk.get().isEmpty()) {
+      text.append(chunk.get());
+      onChunk.accept(chunk.get());
+    }
+  }
+
+  private void checkStatus(ClientHttpResponse response) throws IOException {
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new GeminiApiException.ServerException(
+          "Gemini API 응답 오류: " + response.getStatusCode(),
+          "API_ERROR_" + response.getStatusCode().value());
+    }
+  }
+
+  private String resolveStreamUrl() {
+    if (streamUrl != null && !streamUrl.isBlank()) {
+      return streamUrl;
+    }
+    if (apiUrl != null && apiUrl.endsWith(GENERATE_METHOD)) {
+      return apiUrl.substring(0, apiUrl.length() - GENERATE_METHOD.length()) + STREAM_METHOD;
+    }
+    return null;
+  }
+
+  private static GeminiApiException.ParsingException textExtractionFailed() {
+    return new GeminiApiException.ParsingException(
+        "API 응답에서 텍스트를 추출할 수 없습니다", "TEXT_EXTRACTION_FAILED");
+  }
+
   private void validatePrompt(String prompt) {
     if (prompt == null || prompt.trim().isEmpty()) {
       throw new GeminiApiException.ValidationException("프롬프트는 비어있을 수 없습니다", "EMPTY_PROMPT");
@@ -134,92 +238,129 @@ public class GeminiApiAdapter {
     }
   }
 
+  /** 응답 전체를 객체로 올리지 않고 첫 번째 후보의 텍스트(content.parts[0].text)와 신뢰도만 읽는다. */
   private static class GeminiResponseParser {
     private final Logger log = LoggerFactory.getLogger(GeminiResponseParser.class);
 
-    public GeminiTextResponse parse(Map<String, Object> response) {
-      if (response == null) {
-        throw new GeminiApiException.ParsingException("API 응답이 null입니다", "NULL_RESPONSE");
-      }
-
-      try {
-        return extractCandidates(response)
-            .flatMap(this::extractFirstCandidate)
-            .flatMap(this::extractContent)
-            .flatMap(this::extractParts)
-            .flatMap(this::extractFirstPart)
-            .flatMap(this::extractText)
-            .map(text -> createResponse(text, extractConfidence(response), response))
-            .orElseThrow(
-                () ->
-                    new GeminiApiException.ParsingException(
-                        "API 응답에서 텍스트를 추출할 수 없습니다", "TEXT_EXTRACTION_FAILED"));
-      } catch (GeminiApiException e) {
-        throw e;
-      } catch (Exception e) {
-        log.error("API 응답 파싱 중 예외 발생: {}", e.getMessage(), e);
-        throw new GeminiApiException.ParsingException(
-            "API 응답 파싱 중 예외 발생: " + e.getMessage(), "PARSING_ERROR");
+    public GeminiTextResponse parse(InputStream body) throws IOException {
+      try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+        return readFirstCandidate(parser)
+            .filter(response -> !response.isEmpty())
+            .orElseThrow(GeminiApiAdapter::textExtractionFailed);
+      } catch (JsonProcessingException e) {
+        throw parsingError(e);
       }
     }
 
-    private Optional<List<Map<String, Object>>> extractCandidates(Map<String, Object> response) {
-      return Optional.ofNullable(response)
-          .map(r -> (List<Map<String, Object>>) r.get("candidates"));
+    // 스트리밍 조각은 텍스트 없이 finishReason 이나 usageMetadata 만 담을 수 있고, 공백 조각도 그대로 살린다
+    public Optional<String> parseChunkText(String chunk) throws IOException {
+      try (JsonParser parser = JSON_FACTORY.createParser(chunk)) {
+        return readFirstCandidate(parser).map(GeminiTextResponse::getText);
+      } catch (JsonProcessingException e) {
+        throw parsingError(e);
+      }
     }
 
-    private Optional<Map<String, Object>> extractFirstCandidate(
-        List<Map<String, Object>> candidates) {
-      return Optional.ofNullable(candidates).filter(c -> !c.isEmpty()).map(c -> c.get(0));
-    }
+    private Optional<GeminiTextResponse> readFirstCandidate(JsonParser parser) throws IOException {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        throw new GeminiApiException.ParsingException("API 응답이 비어 있습니다", "NULL_RESPONSE");
+      }
+      if (token != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
 
-    private Optional<Map<String, Object>> extractContent(Map<String, Object> candidate) {
-      return Optional.ofNullable(candidate).map(c -> (Map<String, Object>) c.get("content"));
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("candidates".equals(field) && value == JsonToken.START_ARRAY) {
+          // 첫 번째 후보만 읽고 나머지 본문은 건너뛴다
+          if (parser.nextToken() == JsonToken.START_OBJECT) {
+            return readCandidate(parser);
+          }
+          break;
+        }
+        parser.skipChildren();
+      }
+      return Optional.empty();
     }
 
-    private Optional<List<Map<String, Object>>> extractParts(Map<String, Object> content) {
-      return Optional.ofNullable(content).map(c -> (List<Map<String, Object>>) c.get("parts"));
-    }
+    private Optional<GeminiTextResponse> readCandidate(JsonParser parser) throws IOException {
+      String text = null;
+      double confidence = 1.0;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("content".equals(field) && value == JsonToken.START_OBJECT) {
+          text = readFirstPartText(parser);
+        } else if ("confidence".equals(field) && value.isNumeric()) {
+          confidence = parser.getDoubleValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
 
-    private Optional<Map<String, Object>> extractFirstPart(List<Map<String, Object>> parts) {
-      return Optional.ofNullable(parts).filter(p -> !p.isEmpty()).map(p -> p.get(0));
+      if (text == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new GeminiTextResponse(text, confidence));
     }
 
-    private Optional<String> extractText(Map<String, Object> part) {
-      return Optional.ofNullable(part)
-          .map(p -> (String) p.get("text"))
-          .filter(text -> !text.trim().isEmpty());
+    private String readFirstPartText(JsonParser parser) throws IOException {
+      String text = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (!"parts".equals(field) || value != JsonToken.START_ARRAY) {
+          parser.skipChildren();
+          continue;
+        }
+
+        JsonToken element = parser.nextToken();
+        if (element == JsonToken.START_OBJECT) {
+          text = readTextField(parser);
+          element = parser.nextToken();
+        }
+        while (element != null && element != JsonToken.END_ARRAY) {
+          parser.skipChildren();
+          element = parser.nextToken();
+        }
+      }
+      return text;
     }
 
-    private double extractConfidence(Map<String, Object> response) {
-      return extractCandidates(response)
-          .flatMap(this::extractFirstCandidate)
-          .map(c -> c.get("confidence"))
-          .filter(Number.class::isInstance)
-          .map(Number.class::cast)
-          .map(Number::doubleValue)
-          .orElse(1.0);
+    private String readTextField(JsonParser parser) throws IOException {
+      String text = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("text".equals(field) && value == JsonToken.VALUE_STRING) {
+          text = parser.getText();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return text;
     }
 
-    private GeminiTextResponse createResponse(
-        String text, double confidence, Map<String, Object> rawResponse) {
-      return new GeminiTextResponse(text, confidence, rawResponse);
+    private GeminiApiException.ParsingException parsingError(JsonProcessingException e) {
+      log.error("API 응답 파싱 중 예외 발생: {}", e.getMessage(), e);
+      return new GeminiApiException.ParsingException(
+          "API 응답 파싱 중 예외 발생: " + e.getMessage(), "PARSING_ERROR");
     }
   }
 
   public static class GeminiTextResponse {
     private final String text;
     private final double confidence;
-    private final Map<String, Object> rawResponse;
 
-    public GeminiTextResponse(String text, double confidence, Map<String, Object> rawResponse) {
+    public GeminiTextResponse(String text, double confidence) {
       this.text = text;
       this.confidence = confidence;
-      this.rawResponse = Collections.unmodifiableMap(rawResponse);
     }
 
     public static GeminiTextResponse empty() {
-      return new GeminiTextResponse("", 0.0, Collections.emptyMap());
+      return new GeminiTextResponse("", 0.0);
     }
 
     public String getText() {
@@ -230,10 +371,6 @@ public class GeminiApiAdapter {
       return confidence;
     }
 
-    public Map<String, Object> getRawResponse() {
-      return rawResponse;
-    }
-
     public boolean isEmpty() {
       return text == null || text.trim().isEmpty();
     }
@@ -1,7 +1,12 @@
 package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.HuggingFaceApiException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,11 +21,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
@@ -31,7 +36,6 @@ public class HuggingFaceApiAdapter {
   private static final Logger log = LoggerFactory.getLogger(HuggingFaceApiAdapter.class);
 
   private final RestTemplate restTemplate;
-  private final ObjectMapper objectMapper;
   private final HuggingFaceRequestBuilder requestBuilder;
   private final HuggingFaceResponseParser responseParser;
 
@@ -41,76 +45,52 @@ public class HuggingFaceApiAdapter {
   @Value("${huggingface.api.url}")
   private String apiUrl;
 
-  @Value("${huggingface.api.timeout:5000}")
-  private int apiTimeoutMs;
-
   @Autowired
   public HuggingFaceApiAdapter(
-      RestTemplate restTemplate, @Qualifier("restTemplateObjectMapper") ObjectMapper objectMapper) {
-    this.restTemplate = configureRestTemplate(restTemplate, objectMapper);
-    this.objectMapper = objectMapper;
+      @Qualifier("huggingFaceRestTemplate") RestTemplate restTemplate,
+      @Qualifier("restTemplateObjectMapper") ObjectMapper objectMapper) {
+    this.restTemplate = restTemplate;
     this.requestBuilder = new HuggingFaceRequestBuilder();
     this.responseParser = new HuggingFaceResponseParser(objectMapper);
   }
 
-  private RestTemplate configureRestTemplate(RestTemplate template, ObjectMapper objectMapper) {
-    MappingJackson2HttpMessageConverter messageConverter =
-        new MappingJackson2HttpMessageConverter();
-    messageConverter.setObjectMapper(objectMapper);
-    template.getMessageConverters().add(0, messageConverter);
-
-    if (template.getRequestFactory() instanceof SimpleClientHttpRequestFactory) {
-      SimpleClientHttpRequestFactory factory =
-          (SimpleClientHttpRequestFactory) template.getRequestFactory();
-      factory.setConnectTimeout(apiTimeoutMs);
-      factory.setReadTimeout(apiTimeoutMs);
-    }
+  public EmotionAnalysisResponse analyzeEmotion(String text) {
+    validateInput(text);
 
-    return template;
+    EmotionAnalysisResponse response = analyzeEmotions(List.of(text)).get(0);
+    if (response.isEmpty()) {
+      throw new HuggingFaceApiException.ParsingException(
+          "감정 분석 결과를 추출할 수 없습니다", "EMOTION_EXTRACTION_FAILED");
+    }
+    return response;
   }
 
-  public EmotionAnalysisResponse analyzeEmotion(String text) {
-    validateInput(text);
+  /**
+   * 여러 텍스트를 inputs 배열 하나로 묶어 한 번에 분석한다.
+   *
+   * @return 입력 순서와 같은 순서의 결과. 결과를 추출하지 못한 입력은 {@link EmotionAnalysisResponse#empty()} 이다.
+   */
+  public List<EmotionAnalysisResponse> analyzeEmotions(List<String> texts) {
+    if (texts == null || texts.isEmpty()) {
+      throw new HuggingFaceApiException.ValidationException("분석할 텍스트가 없습니다", "EMPTY_TEXT");
+    }
+    texts.forEach(this::validateInput);
 
+    List<EmotionAnalysisResponse> results;
     try {
-      Map<String, Object> requestBody = requestBuilder.buildRequest(text);
+      Map<String, Object> requestBody = requestBuilder.buildRequest(texts);
       HttpHeaders headers = createHeaders();
       HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-      log.info("HuggingFace API 호출: {}", apiUrl);
-
-      try {
-        ResponseEntity<Object> response = restTemplate.postForEntity(apiUrl, entity, Object.class);
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-          throw new HuggingFaceApiException.ServerException(
-              "HuggingFace API 응답 오류: " + response.getStatusCode(),
-              "API_ERROR_" + response.getStatusCode().value());
-        }
-
-        Object responseBody = response.getBody();
-        log.info(
-            "HuggingFace API 응답 수신: {}",
-            responseBody != null ? responseBody.getClass().getName() : "null");
-
-        String emotionAnalysisJson = objectMapper.writeValueAsString(responseBody);
-        log.debug("감정 분석 JSON: {}", emotionAnalysisJson);
+      log.info("HuggingFace API 호출: {}, 입력 {}건", apiUrl, texts.size());
 
-        return responseParser.parse(responseBody, emotionAnalysisJson);
-      } catch (org.springframework.http.InvalidMediaTypeException e) {
-        log.warn("응답의 Content-Type 헤더 파싱 중 오류 발생: {}", e.getMessage());
-
-        Object responseBody = restTemplate.postForObject(apiUrl, entity, Object.class);
-
-        if (responseBody != null) {
-          String emotionAnalysisJson = objectMapper.writeValueAsString(responseBody);
-          log.debug("대체 방법을 통한 감정 분석 JSON: {}", emotionAnalysisJson);
-          return responseParser.parse(responseBody, emotionAnalysisJson);
-        }
-
-        throw new HuggingFaceApiException.ParsingException(
-            "응답의 Content-Type 헤더 파싱 중 오류: " + e.getMessage(), "INVALID_MEDIA_TYPE");
-      }
+      // Content-Type 헤더와 무관하게 본문을 그대로 읽어 스트림 파서로 해석한다
+      results =
+          restTemplate.execute(
+              apiUrl,
+              HttpMethod.POST,
+              restTemplate.httpEntityCallback(entity),
+              this::extractResponse);
     } catch (HttpClientErrorException e) {
       log.error("HuggingFace API 클라이언트 오류: {}", e.getMessage());
       throw new HuggingFaceApiException.ClientException(
@@ -130,6 +110,35 @@ public class HuggingFaceApiAdapter {
       throw new HuggingFaceApiException.UnexpectedException(
           "HuggingFace API 호출 중 예기치 않은 오류: " + e.getMessage(), "UNEXPECTED_ERROR");
     }
+
+    if (results == null || results.isEmpty()) {
+      throw new HuggingFaceApiException.ParsingException(
+          "감정 분석 결과를 추출할 수 없습니다", "EMOTION_EXTRACTION_FAILED");
+    }
+    if (results.size() != texts.size()) {
+      throw new HuggingFaceApiException.ParsingException(
+          "감정 분석 결과 수가 입력 수와 다릅니다: 입력=" + texts.size() + ", 결과=" + results.size(),
+          "BATCH_SIZE_MISMATCH");
+    }
+    return results;
+  }
+
+  private List<EmotionAnalysisResponse> extractResponse(ClientHttpResponse response)
+      throws IOException {
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new HuggingFaceApiException.ServerException(
+          "HuggingFace API 응답 오류: " + response.getStatusCode(),
+          "API_ERROR_" + response.getStatusCode().value());
+    }
+
+    byte[] body = StreamUtils.copyToByteArray(response.getBody());
+    log.info("HuggingFace API 응답 수신: {} bytes", body.length);
+
+    if (log.isDebugEnabled()) {
+      log.debug("감정 분석 JSON: {}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    return responseParser.parse(body);
   }
 
   private void validateInput(String text) {
@@ -147,9 +156,9 @@ public class HuggingFaceApiAdapter {
   }
 
   private static class HuggingFaceRequestBuilder {
-    public Map<String, Object> buildRequest(String text) {
+    public Map<String, Object> buildRequest(List<String> texts) {
       Map<String, Object> requestBody = new HashMap<>();
-      requestBody.put("inputs", text);
+      requestBody.put("inputs", texts);
       return requestBody;
     }
   }
@@ -162,56 +171,64 @@ public class HuggingFaceApiAdapter {
       this.objectMapper = objectMapper;
     }
 
-    public EmotionAnalysisResponse parse(Object responseBody, String rawJson) {
-      if (responseBody == null) {
-        throw new HuggingFaceApiException.ParsingException("응답 본문이 null입니다", "NULL_RESPONSE");
+    // [[{label, score}, ...], ...] 형태에서 입력마다 결과 목록을 읽는다. 각 결과의 rawJson 은 단건 응답과 같은
+    // [[...]] 형태로 저장한다.
+    public List<EmotionAnalysisResponse> parse(byte[] body) throws IOException {
+      if (body.length == 0) {
+        throw new HuggingFaceApiException.ParsingException("응답 본문이 비어 있습니다", "NULL_RESPONSE");
       }
 
-      try {
-        return parseResponseData(responseBody, rawJson)
-            .orElseThrow(
-                () ->
-                    new HuggingFaceApiException.ParsingException(
-                        "감정 분석 결과를 추출할 수 없습니다", "EMOTION_EXTRACTION_FAILED"));
-      } catch (HuggingFaceApiException e) {
-        throw e;
-      } catch (Exception e) {
+      try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+          throw new HuggingFaceApiException.ParsingException(
+              "감정 분석 결과를 추출할 수 없습니다", "EMOTION_EXTRACTION_FAILED");
+        }
+
+        List<EmotionAnalysisResponse> results = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+          if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            results.add(EmotionAnalysisResponse.empty());
+            continue;
+          }
+
+          int start = (int) parser.currentTokenLocation().getByteOffset();
+          List<EmotionData> emotions = readEmotionList(parser);
+          int end = (int) parser.currentLocation().getByteOffset();
+          String rawJson = "[" + new String(body, start, end - start, StandardCharsets.UTF_8) + "]";
+          results.add(toResponse(rawJson, emotions).orElseGet(EmotionAnalysisResponse::empty));
+        }
+        return results;
+      } catch (JsonProcessingException e) {
         log.error("감정 추출 중 오류 발생: {}", e.getMessage());
         throw new HuggingFaceApiException.ParsingException(
             "감정 추출 중 오류 발생: " + e.getMessage(), "PARSING_ERROR");
       }
     }
 
-    private Optional<EmotionAnalysisResponse> parseResponseData(
-        Object responseBody, String rawJson) {
-      if (!(responseBody instanceof List<?>)) {
-        return Optional.empty();
-      }
-
-      List<?> outerList = (List<?>) responseBody;
-      if (outerList.isEmpty() || !(outerList.get(0) instanceof List<?>)) {
-        return Optional.empty();
+    // 입력 하나의 결과 배열을 END_ARRAY 까지 읽는다
+    private List<EmotionData> readEmotionList(JsonParser parser) throws IOException {
+      List<EmotionData> emotions = new ArrayList<>();
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+        if (token != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
+        }
+        readEmotionData(parser).ifPresent(emotions::add);
       }
+      return emotions;
+    }
 
-      List<?> innerList = (List<?>) outerList.get(0);
-      List<EmotionData> emotions = new ArrayList<>();
+    private Optional<EmotionAnalysisResponse> toResponse(
+        String rawJson, List<EmotionData> emotions) {
       String topEmotion = "";
       double topScore = 0.0;
-
-      for (Object item : innerList) {
-        if (item instanceof Map<?, ?> emotion) {
-          Optional<EmotionData> extractedEmotion = extractEmotionData(emotion);
-
-          extractedEmotion.ifPresent(
-              data -> {
-                emotions.add(data);
-              });
-
-          if (extractedEmotion.isPresent() && extractedEmotion.get().getScore() > topScore) {
-            EmotionData data = extractedEmotion.get();
-            topScore = data.getScore();
-            topEmotion = data.getLabel();
-          }
+      for (EmotionData data : emotions) {
+        if (data.getScore() > topScore) {
+          topScore = data.getScore();
+          topEmotion = data.getLabel();
         }
       }
 
@@ -223,15 +240,26 @@ public class HuggingFaceApiAdapter {
       return Optional.empty();
     }
 
-    private Optional<EmotionData> extractEmotionData(Map<?, ?> emotion) {
-      try {
-        String label = String.valueOf(emotion.get("label"));
-        double score = ((Number) emotion.get("score")).doubleValue();
-        return Optional.of(new EmotionData(label, score));
-      } catch (Exception e) {
-        log.warn("감정 데이터 추출 실패: {}", e.getMessage());
+    private Optional<EmotionData> readEmotionData(JsonParser parser) throws IOException {
+      String label = null;
+      Double score = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("label".equals(field) && value == JsonToken.VALUE_STRING) {
+          label = parser.getText();
+        } else if ("score".equals(field) && value.isNumeric()) {
+          score = parser.getDoubleValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (label == null || score == null) {
+        log.warn("감정 데이터 추출 실패: label={}, score={}", label, score);
         return Optional.empty();
       }
+      return Optional.of(new EmotionData(label, score));
     }
   }
 
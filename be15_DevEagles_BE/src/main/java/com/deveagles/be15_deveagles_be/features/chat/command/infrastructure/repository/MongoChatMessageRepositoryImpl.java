@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.rep
 import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -10,15 +11,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MongoChatMessageRepositoryImpl implements ChatMessageRepository {
 
   private final SpringDataMongoChatMessageRepository repository;
+  private final MongoTemplate mongoTemplate;
 
-  public MongoChatMessageRepositoryImpl(SpringDataMongoChatMessageRepository repository) {
+  public MongoChatMessageRepositoryImpl(
+      SpringDataMongoChatMessageRepository repository, MongoTemplate mongoTemplate) {
     this.repository = repository;
+    this.mongoTemplate = mongoTemplate;
   }
 
   @Override
@@ -57,6 +65,34 @@ public class MongoChatMessageRepositoryImpl implements ChatMessageRepository {
         chatroomId, timestamp, pageable);
   }
 
+  @Override
+  public List<ChatMessage> findMessagesBefore(String chatroomId, MessageCursor cursor, int limit) {
+    Criteria criteria = Criteria.where("chatroomId").is(chatroomId).and("deletedAt").isNull();
+    if (cursor != null) {
+      criteria.orOperator(
+          Criteria.where("createdAt").lt(cursor.createdAt()),
+          Criteria.where("createdAt").is(cursor.createdAt()).and("_id").lt(cursor.id()));
+    }
+    return findByCursor(criteria, Direction.DESC, limit);
+  }
+
+  @Override
+  public List<ChatMessage> findMessagesAfter(String chatroomId, MessageCursor cursor, int limit) {
+    Criteria criteria = Criteria.where("chatroomId").is(chatroomId).and("deletedAt").isNull();
+    criteria.orOperator(
+        Criteria.where("createdAt").gt(cursor.createdAt()),
+        Criteria.where("createdAt").is(cursor.createdAt()).and("_id").gt(cursor.id()));
+    return findByCursor(criteria, Direction.ASC, limit);
+  }
+
+  // (chatroomId, deletedAt, createdAt, _id) 인덱스를 한 방향으로 범위 스캔한다
+  private List<ChatMessage> findByCursor(Criteria criteria, Direction direction, int limit) {
+    Query query = new Query(criteria);
+    query.with(Sort.by(direction, "createdAt").and(Sort.by(direction, "_id")));
+    query.limit(limit);
+    return mongoTemplate.find(query, ChatMessage.class);
+  }
+
   @Override
   public PagedResult<ChatMessage> findMessagesByChatroomIdWithPagination(
       String chatroomId, int page, int size) {
@@ -5,20 +5,29 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.Ch
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MongoChatRoomRepositoryImpl implements ChatRoomRepository {
 
   private final SpringDataMongoChatRoomRepository repository;
+  private final MongoTemplate mongoTemplate;
 
-  public MongoChatRoomRepositoryImpl(SpringDataMongoChatRoomRepository repository) {
+  public MongoChatRoomRepositoryImpl(
+      SpringDataMongoChatRoomRepository repository, MongoTemplate mongoTemplate) {
     this.repository = repository;
+    this.mongoTemplate = mongoTemplate;
   }
 
   @Override
@@ -84,6 +93,39 @@ public class MongoChatRoomRepositoryImpl implements ChatRoomRepository {
     return repository.findByParticipantsUserIdAndDeletedAtIsNull(userId);
   }
 
+  @Override
+  public void updateLastMessage(String chatroomId, ChatRoom.LastMessageInfo lastMessage) {
+    Query query = new Query(Criteria.where("_id").is(chatroomId));
+    Update update = new Update().set("lastMessage", lastMessage);
+    mongoTemplate.updateFirst(query, update, ChatRoom.class);
+  }
+
+  @Override
+  public void updateLastReadMessages(
+      Map<String, Map<String, String>> lastReadMessageIdsByChatroom) {
+    if (lastReadMessageIdsByChatroom == null || lastReadMessageIdsByChatroom.isEmpty()) {
+      return;
+    }
+
+    // 채팅방 문서 전체를 저장하지 않고 해당 참가자의 lastReadMessageId 만 위치 연산자로 갱신
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+    lastReadMessageIdsByChatroom.forEach(
+        (chatroomId, lastReadMessageIds) ->
+            lastReadMessageIds.forEach(
+                (userId, messageId) -> {
+                  Query query =
+                      new Query(
+                          Criteria.where("_id")
+                              .is(chatroomId)
+                              .and("participants")
+                              .elemMatch(Criteria.where("userId").is(userId)));
+                  Update update = new Update().set("participants.$.lastReadMessageId", messageId);
+                  bulkOperations.updateOne(query, update);
+                }));
+    bulkOperations.execute();
+  }
+
   @Override
   public void delete(ChatRoom chatRoom) {
     repository.delete(chatRoom);
@@ -6,15 +6,26 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MongoReadReceiptRepositoryImpl implements ReadReceiptRepository {
 
+  private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
   private final SpringDataMongoReadReceiptRepository repository;
+  private final MongoTemplate mongoTemplate;
 
-  public MongoReadReceiptRepositoryImpl(SpringDataMongoReadReceiptRepository repository) {
+  public MongoReadReceiptRepositoryImpl(
+      SpringDataMongoReadReceiptRepository repository, MongoTemplate mongoTemplate) {
     this.repository = repository;
+    this.mongoTemplate = mongoTemplate;
   }
 
   @Override
@@ -22,6 +33,41 @@ public class MongoReadReceiptRepositoryImpl implements ReadReceiptRepository {
     return repository.save(readReceipt);
   }
 
+  @Override
+  public void upsertAll(Collection<ReadReceipt> readReceipts) {
+    if (readReceipts == null || readReceipts.isEmpty()) {
+      return;
+    }
+
+    // message_user_idx 유니크 인덱스 기준 upsert 이므로 이미 읽은 메시지는 그대로 유지된다
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadReceipt.class);
+    for (ReadReceipt readReceipt : readReceipts) {
+      Query query =
+          new Query(
+              Criteria.where("messageId")
+                  .is(readReceipt.getMessageId())
+                  .and("userId")
+                  .is(readReceipt.getUserId()));
+      Update update =
+          new Update()
+              .setOnInsert("chatroomId", readReceipt.getChatroomId())
+              .setOnInsert("readAt", readReceipt.getReadAt());
+      bulkOperations.upsert(query, update);
+    }
+
+    try {
+      bulkOperations.execute();
+    } catch (BulkOperationException e) {
+      // 동시 upsert 경합으로 인한 중복 키 오류는 이미 저장된 것이므로 무시
+      boolean onlyDuplicates =
+          e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR_CODE);
+      if (!onlyDuplicates) {
+        throw e;
+      }
+    }
+  }
+
   @Override
   public List<ReadReceipt> findByMessageId(String messageId) {
     return repository.findByMessageId(messageId);
@@ -0,0 +1,42 @@
+package com.deveagles.be15_deveagles_be.features.chat.config.websocket;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 서버 단위 웹소켓 CONNECT 허용 토큰 버킷
+ *
+ * <p>초당 {@code permitsPerSecond} 개씩 채워지고 최대 {@code burst} 개까지 쌓인다. 서버 재시작 직후처럼 클라이언트가 한꺼번에 재연결할
+ * 때 버킷을 넘는 CONNECT 는 거절해 클라이언트 재시도 간격에 따라 나눠 들어오게 한다.
+ */
+class ConnectAdmissionLimiter {
+
+  private final double permitsPerNano;
+  private final double burst;
+  private final LongSupplier nanoTime;
+
+  private double available;
+  private long refilledAt;
+
+  ConnectAdmissionLimiter(double permitsPerSecond, int burst, LongSupplier nanoTime) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("permitsPerSecond 와 burst 는 0 보다 커야 합니다.");
+    }
+    this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+    this.burst = burst;
+    this.nanoTime = nanoTime;
+    this.available = burst;
+    this.refilledAt = nanoTime.getAsLong();
+  }
+
+  synchronized boolean tryAcquire() {
+    long now = nanoTime.getAsLong();
+    available = Math.min(burst, available + (now - refilledAt) * permitsPerNano);
+    refilledAt = now;
+
+    if (available < 1) {
+      return false;
+    }
+    available -= 1;
+    return true;
+  }
+}
@@ -1,12 +1,25 @@
 package com.deveagles.be15_deveagles_be.features.chat.config.websocket;
 
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenRevocationStore;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.security.Principal;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
@@ -15,13 +28,81 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * STOMP CONNECT 인증
+ *
+ * <p>Principal 은 검증된 토큰 클레임으로 만들며 사용자를 DB 에서 읽지 않는다. 서명 검증 결과는 토큰별로 잠깐 캐시해 재연결이 몰릴 때 같은 토큰을
+ * 다시 파싱하지 않는다. 로그아웃·탈퇴 여부는 캐시와 관계없이 매번 로컬 필터와 캐시({@link TokenRevocationStore}, {@link
+ * UserStatusCache})로 확인한다.
+ *
+ * <p>서버마다 CONNECT 를 토큰 버킷({@link ConnectAdmissionLimiter})으로 제한한다. 버킷을 넘는 CONNECT 는 ERROR 프레임으로
+ * 거절되고 클라이언트의 재연결 간격에 따라 나눠 들어온다.
+ *
+ * <p>토큰이 없는 CONNECT 는 이전처럼 Principal 없이 통과시킨다. 토큰이 있으면 인증에 성공해야 연결된다. 서명이 틀리거나 만료된 토큰은 이전에도
+ * 검증 예외로 ERROR 프레임을 받았고, 이제는 로그아웃된 토큰, 탈퇴한 계정, 사용자 조회 실패도 익명으로 연결하지 않고 ERROR 프레임으로 거절한다.
+ * 프론트엔드는 연결 실패 시 만료된 토큰을 지우고 재연결을 멈추며, 그 밖의 거절은 지수 백오프로 정해진 횟수까지만 다시 시도한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
+  private static final String CONNECT_METRIC = "chat.websocket.connect";
+  private static final String AUTH_LATENCY_METRIC = "chat.websocket.connect.auth";
+
   private final JwtTokenProvider jwtTokenProvider;
   private final UserDetailsService userDetailsService;
+  private final TokenRevocationStore tokenRevocationStore;
+  private final UserStatusCache userStatusCache;
+  private final ConnectAdmissionLimiter admissionLimiter;
+  private final Cache<String, VerifiedToken> verifiedTokens;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public WebSocketAuthInterceptor(
+      JwtTokenProvider jwtTokenProvider,
+      UserDetailsService userDetailsService,
+      TokenRevocationStore tokenRevocationStore,
+      UserStatusCache userStatusCache,
+      MeterRegistry meterRegistry,
+      @Value("${websocket.connect.permits-per-second:200}") double permitsPerSecond,
+      @Value("${websocket.connect.burst:400}") int burst,
+      @Value("${websocket.connect.verified-token-ttl-seconds:60}") long verifiedTokenTtlSeconds,
+      @Value("${websocket.connect.verified-token-max-entries:10000}") long maxVerifiedTokens) {
+    this(
+        jwtTokenProvider,
+        userDetailsService,
+        tokenRevocationStore,
+        userStatusCache,
+        meterRegistry,
+        new ConnectAdmissionLimiter(permitsPerSecond, burst, System::nanoTime),
+        Duration.ofSeconds(verifiedTokenTtlSeconds),
+        maxVerifiedTokens,
+        Ticker.systemTicker());
+  }
+
+  WebSocketAuthInterceptor(
+      JwtTokenProvider jwtTokenProvider,
+      UserDetailsService userDetailsService,
+      TokenRevocationStore tokenRevocationStore,
+      UserStatusCache userStatusCache,
+      MeterRegistry meterRegistry,
+      ConnectAdmissionLimiter admissionLimiter,
+      Duration verifiedTokenTtl,
+      long maxVerifiedTokens,
+      Ticker ticker) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.userDetailsService = userDetailsService;
+    this.tokenRevocationStore = tokenRevocationStore;
+    this.userStatusCache = userStatusCache;
+    this.meterRegistry = meterRegistry;
+    this.admissionLimiter = admissionLimiter;
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .expireAfterWrite(verifiedTokenTtl)
+            .maximumSize(maxVerifiedTokens)
+            .ticker(ticker)
+            .build();
+  }
 
   @Override
   public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -29,29 +110,87 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
     if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
-      String token = extractTokenFromHeaders(accessor);
-
-      if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-        try {
-          String username = jwtTokenProvider.getUsernameFromJWT(token);
-          CustomUser userDetails = (CustomUser) userDetailsService.loadUserByUsername(username);
-
-          // Principal 설정 (userId를 name으로 사용)
-          Principal principal = () -> String.valueOf(userDetails.getUserId());
-          accessor.setUser(principal);
-
-          log.info("웹소켓 인증 성공: userId={}", userDetails.getUserId());
-        } catch (Exception e) {
-          log.error("웹소켓 인증 실패: {}", e.getMessage());
-        }
-      } else {
-        log.warn("웹소켓 연결 시 유효하지 않은 토큰");
-      }
+      authenticate(message, accessor);
     }
 
     return message;
   }
 
+  private void authenticate(Message<?> message, StompHeaderAccessor accessor) {
+    if (!admissionLimiter.tryAcquire()) {
+      countConnect("throttled");
+      throw new MessageDeliveryException(message, "연결 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    String token = extractTokenFromHeaders(accessor);
+    if (!StringUtils.hasText(token)) {
+      countConnect("anonymous");
+      log.warn("웹소켓 연결 시 유효하지 않은 토큰");
+      return;
+    }
+
+    long startedAt = System.nanoTime();
+    VerifiedToken verified = verifiedTokens.getIfPresent(token);
+    boolean cacheHit = verified != null && !verified.isExpired(System.currentTimeMillis());
+    try {
+      if (!cacheHit) {
+        verified = verify(token);
+        verifiedTokens.put(token, verified);
+      }
+
+      if (tokenRevocationStore.isRevoked(verified.revocationId())) {
+        throw new MessageDeliveryException(message, "로그아웃된 토큰입니다.");
+      }
+      if (userStatusCache.activeStatus(verified.userId()).isEmpty()) {
+        throw new MessageDeliveryException(message, "사용할 수 없는 계정입니다.");
+      }
+    } catch (RuntimeException e) {
+      verifiedTokens.invalidate(token);
+      countConnect("rejected");
+      log.warn("웹소켓 인증 실패: {}", e.getMessage());
+      throw e;
+    } finally {
+      Timer.builder(AUTH_LATENCY_METRIC)
+          .description("웹소켓 CONNECT 인증 소요 시간")
+          .tag("cache", cacheHit ? "hit" : "miss")
+          .register(meterRegistry)
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    // Principal 설정 (userId를 name으로 사용)
+    String userId = String.valueOf(verified.userId());
+    Principal principal = () -> userId;
+    accessor.setUser(principal);
+    countConnect("accepted");
+
+    log.info("웹소켓 인증 성공: userId={}", userId);
+  }
+
+  /** 서명·만료를 검증하고 Principal 에 필요한 값만 남긴다. 클레임이 부족한 이전 형식 토큰만 사용자를 DB 에서 읽는다. */
+  private VerifiedToken verify(String token) {
+    Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+    Long userId =
+        jwtTokenProvider
+            .getUserFromClaims(claims)
+            .map(CustomUser::getUserId)
+            .orElseGet(
+                () ->
+                    ((CustomUser) userDetailsService.loadUserByUsername(claims.getSubject()))
+                        .getUserId());
+    return new VerifiedToken(
+        userId,
+        TokenRevocationStore.revocationId(claims.getId(), token),
+        claims.getExpiration().getTime());
+  }
+
+  private void countConnect(String result) {
+    Counter.builder(CONNECT_METRIC)
+        .description("웹소켓 CONNECT 요청 수")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
   private String extractTokenFromHeaders(StompHeaderAccessor accessor) {
     // Authorization 헤더에서 토큰 추출
     String authHeader = accessor.getFirstNativeHeader("Authorization");
@@ -67,4 +206,12 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     return null;
   }
+
+  /** 검증을 마친 토큰. 캐시에 남아 있어도 토큰 자체가 만료되면 다시 검증한다. */
+  private record VerifiedToken(Long userId, String revocationId, long expiresAtMillis) {
+
+    boolean isExpired(long nowMillis) {
+      return nowMillis >= expiresAtMillis;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.chat.config.websocket;
 
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.ClusterBroadcastRelay;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +29,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private String brokerPrefix;
 
   private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+  private final ClusterBroadcastRelay clusterBroadcastRelay;
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -38,6 +40,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   public void configureMessageBroker(MessageBrokerRegistry registry) {
     registry.enableSimpleBroker(brokerPrefix);
     registry.setApplicationDestinationPrefixes(applicationDestinationPrefix);
+    // 다른 노드 구독자에게도 전달되도록 브로커로 가는 메시지를 클러스터에 중계
+    registry.configureBrokerChannel().interceptors(clusterBroadcastRelay);
   }
 
   @Override
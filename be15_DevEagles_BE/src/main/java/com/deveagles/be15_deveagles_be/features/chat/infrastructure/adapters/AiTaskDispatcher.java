@@ -0,0 +1,189 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 응답 생성과 감정 분석 작업 전용 실행기
+ *
+ * <p>외부 AI API 호출은 수 초씩 블로킹되므로 공용 ForkJoinPool 대신 크기와 대기열이 제한된 전용 풀에서 실행한다. {@link #submit}
+ * 은 사용자별 동시 작업 수(대기 중 포함)도 제한하며, 한도나 대기열이 가득 차면 작업을 거절하고 호출자가 넘긴 대체 동작을 실행한다.
+ */
+@Slf4j
+@Component
+public class AiTaskDispatcher {
+
+  private static final String ANONYMOUS_USER = "anonymous";
+
+  private final ThreadPoolExecutor executor;
+  private final int perUserLimit;
+  private final Map<String, Integer> userInFlight = new ConcurrentHashMap<>();
+  private final AtomicInteger running = new AtomicInteger();
+  private final MeterRegistry meterRegistry;
+
+  public AiTaskDispatcher(
+      MeterRegistry meterRegistry,
+      @Value("${chat.ai-dispatch.pool-size:16}") int poolSize,
+      @Value("${chat.ai-dispatch.queue-capacity:200}") int queueCapacity,
+      @Value("${chat.ai-dispatch.per-user-limit:2}") int perUserLimit) {
+    this.meterRegistry = meterRegistry;
+    this.perUserLimit = perUserLimit;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "ai-dispatch-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.executor.allowCoreThreadTimeOut(true);
+
+    Gauge.builder("chat.ai.dispatch.in_flight", running, AtomicInteger::get)
+        .description("실행 중인 AI 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.ai.dispatch.queue.depth", executor, e -> e.getQueue().size())
+        .description("실행 대기 중인 AI 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * AI 작업을 제출한다.
+   *
+   * @param userId 작업을 요청한 사용자 ID
+   * @param taskName 작업 종류 (메트릭 태그)
+   * @param task 실행할 작업
+   * @param onRejected 거절 시 호출자 스레드에서 실행할 대체 동작 (null 가능)
+   * @return 제출 성공 여부
+   */
+  public boolean submit(String userId, String taskName, Runnable task, Runnable onRejected) {
+    String userKey = userId != null ? userId : ANONYMOUS_USER;
+    if (!acquire(userKey)) {
+      reject(taskName, "user_limit", userKey, onRejected);
+      return false;
+    }
+    return dispatch(userKey, true, taskName, task, onRejected);
+  }
+
+  /**
+   * 사용자별 한도 없이 AI 작업을 제출한다. 대기열 한도만 적용된다.
+   *
+   * <p>메시지마다 빠짐없이 실행되어야 하는 가벼운 작업용이다. 응답 생성과 같은 사용자 한도를 나눠 쓰면 응답이 진행 중일 때 함께 거절되기 때문이다.
+   *
+   * @param userId 작업을 요청한 사용자 ID (로그용)
+   * @param taskName 작업 종류 (메트릭 태그)
+   * @param task 실행할 작업
+   * @param onRejected 거절 시 호출자 스레드에서 실행할 대체 동작 (null 가능)
+   * @return 제출 성공 여부
+   */
+  public boolean submitUnlimited(
+      String userId, String taskName, Runnable task, Runnable onRejected) {
+    String userKey = userId != null ? userId : ANONYMOUS_USER;
+    return dispatch(userKey, false, taskName, task, onRejected);
+  }
+
+  private boolean dispatch(
+      String userKey, boolean holdsUserSlot, String taskName, Runnable task, Runnable onRejected) {
+    long enqueuedAt = System.nanoTime();
+    try {
+      executor.execute(() -> run(userKey, holdsUserSlot, taskName, task, enqueuedAt));
+      return true;
+    } catch (RejectedExecutionException e) {
+      if (holdsUserSlot) {
+        release(userKey);
+      }
+      reject(taskName, "queue_full", userKey, onRejected);
+      return false;
+    }
+  }
+
+  private void run(
+      String userKey, boolean holdsUserSlot, String taskName, Runnable task, long enqueuedAt) {
+    Timer.builder("chat.ai.dispatch.queue.wait")
+        .description("AI 작업이 실행되기까지 대기한 시간")
+        .tag("task", taskName)
+        .register(meterRegistry)
+        .record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+    running.incrementAndGet();
+    try {
+      task.run();
+    } catch (Exception e) {
+      log.error("AI 작업 실행 중 오류 발생: task={}, userId={}", taskName, userKey, e);
+    } finally {
+      running.decrementAndGet();
+      if (holdsUserSlot) {
+        release(userKey);
+      }
+    }
+  }
+
+  private boolean acquire(String userKey) {
+    boolean[] acquired = {false};
+    userInFlight.compute(
+        userKey,
+        (key, count) -> {
+          int current = count == null ? 0 : count;
+          if (current >= perUserLimit) {
+            return count;
+          }
+          acquired[0] = true;
+          return current + 1;
+        });
+    return acquired[0];
+  }
+
+  private void release(String userKey) {
+    userInFlight.computeIfPresent(userKey, (key, count) -> count <= 1 ? null : count - 1);
+  }
+
+  private void reject(String taskName, String reason, String userKey, Runnable onRejected) {
+    Counter.builder("chat.ai.dispatch.rejected")
+        .description("거절된 AI 작업 수")
+        .tag("task", taskName)
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+    log.warn("AI 작업 거절: task={}, reason={}, userId={}", taskName, reason, userKey);
+
+    if (onRejected == null) {
+      return;
+    }
+    try {
+      onRejected.run();
+    } catch (Exception e) {
+      log.error("AI 작업 거절 후 대체 동작 실패: task={}, userId={}", taskName, userKey, e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,126 +1,228 @@
 package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
 
-import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
+/**
+ * 채팅 Redis 캐시 warm-up
+ *
+ * <p>애플리케이션 준비 완료 후 백그라운드 스레드 하나에서 최근 대화가 있었던 채팅방부터 페이지 단위로 최근 메시지와 읽음 상태를 Redis 에
+ * 적재한다. 기간 내 대화가 없는 채팅방은 첫 조회 시 {@link RecentMessageCache} 로 채워진다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ChatInitializer {
 
-  private final ChatRoomRepository chatRoomRepository;
-  private final ChatMessageRepository chatMessageRepository;
-  private final MongoTemplate mongoTemplate;
-  private final RedisTemplate<String, String> redisTemplate;
-  private final ObjectMapper objectMapper;
-
   private static final String REDIS_READ_MESSAGES_PREFIX = "chat:last_read_message:";
-  private static final String REDIS_CHAT_MESSAGES_PREFIX = "chat:messages:";
   private static final int MAX_INITIAL_MESSAGES = 50;
 
-  @PostConstruct
+  private final MongoTemplate mongoTemplate;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RecentMessageCache recentMessageCache;
+  private final boolean enabled;
+  private final int pageSize;
+  private final int activeDays;
+  private final ExecutorService warmupExecutor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0L,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(1),
+          runnable -> {
+            Thread thread = new Thread(runnable, "chat-cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final AtomicInteger processedRooms = new AtomicInteger();
+  private final AtomicInteger warmedRooms = new AtomicInteger();
+  private final AtomicInteger completed = new AtomicInteger();
+
+  public ChatInitializer(
+      MongoTemplate mongoTemplate,
+      RedisTemplate<String, String> redisTemplate,
+      RecentMessageCache recentMessageCache,
+      MeterRegistry meterRegistry,
+      @Value("${chat.warmup.enabled:true}") boolean enabled,
+      @Value("${chat.warmup.page-size:100}") int pageSize,
+      @Value("${chat.warmup.active-days:7}") int activeDays) {
+    this.mongoTemplate = mongoTemplate;
+    this.redisTemplate = redisTemplate;
+    this.recentMessageCache = recentMessageCache;
+    this.enabled = enabled;
+    this.pageSize = pageSize;
+    this.activeDays = activeDays;
+
+    Gauge.builder("chat.warmup.rooms.processed", processedRooms, AtomicInteger::get)
+        .description("warm-up 에서 확인한 채팅방 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.warmup.rooms.warmed", warmedRooms, AtomicInteger::get)
+        .description("warm-up 에서 최근 메시지를 적재한 채팅방 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.warmup.completed", completed, AtomicInteger::get)
+        .description("warm-up 완료 여부 (1: 완료)")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
   public void initialize() {
+    if (!enabled) {
+      log.info("채팅 Redis 캐시 warm-up 비활성화");
+      return;
+    }
+
     try {
-      log.info("채팅 시스템 초기화 시작...");
-      initializeRecentMessages();
-      initializeReadStatus();
-      log.info("채팅 시스템 초기화 완료!");
-    } catch (Exception e) {
-      log.error("채팅 시스템 초기화 중 오류 발생: {}", e.getMessage(), e);
+      warmupExecutor.execute(this::warmUp);
+    } catch (RejectedExecutionException e) {
+      log.warn("채팅 Redis 캐시 warm-up 이 이미 진행 중입니다.");
     }
   }
 
-  private void initializeRecentMessages() {
-    log.info("최근 채팅 메시지 Redis 캐싱 시작...");
-    int roomCount = 0;
-    int messageCount = 0;
-
-    Query chatRoomQuery = new Query(Criteria.where("deletedAt").isNull());
-    List<ChatRoom> chatRooms = mongoTemplate.find(chatRoomQuery, ChatRoom.class);
+  @PreDestroy
+  public void shutdown() {
+    warmupExecutor.shutdownNow();
+  }
 
-    for (ChatRoom chatRoom : chatRooms) {
-      String chatroomId = chatRoom.getId();
-      String redisKey = REDIS_CHAT_MESSAGES_PREFIX + chatroomId;
+  void warmUp() {
+    log.info("채팅 Redis 캐시 warm-up 시작: 최근 {}일 대화 채팅방, 페이지 크기 {}", activeDays, pageSize);
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime since =
+        ZonedDateTime.now(ZoneOffset.UTC).toLocalDateTime().minusDays(activeDays);
 
-      Long existingCount = redisTemplate.opsForZSet().size(redisKey);
-      if (existingCount != null && existingCount > 0) {
-        log.debug("채팅방 {}의 메시지 {}개가 이미 Redis에 캐싱되어 있습니다. 건너뜁니다.", chatroomId, existingCount);
-        continue;
-      }
+    try {
+      // (lastMessage.sentAt, _id) 내림차순 커서로 페이지를 이어서 조회
+      ChatRoom cursor = null;
+      while (!Thread.currentThread().isInterrupted()) {
+        List<ChatRoom> page = findPage(since, cursor);
+        if (page.isEmpty()) {
+          break;
+        }
 
-      Query query = new Query();
-      query.addCriteria(Criteria.where("chatroomId").is(chatroomId).and("deletedAt").isNull());
-      query.with(Sort.by(Direction.DESC, "createdAt"));
-      query.limit(MAX_INITIAL_MESSAGES);
-
-      List<ChatMessage> recentMessages = mongoTemplate.find(query, ChatMessage.class);
-      if (!recentMessages.isEmpty()) {
-        for (ChatMessage message : recentMessages) {
-          try {
-            ChatMessageResponse response = ChatMessageResponse.from(message);
-            String messageJson = objectMapper.writeValueAsString(response);
-            double score = message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
-            redisTemplate.opsForZSet().add(redisKey, messageJson, score);
-            messageCount++;
-          } catch (Exception e) {
-            log.error("메시지 캐싱 중 오류: messageId={}, error={}", message.getId(), e.getMessage());
-          }
+        warmUpPage(page);
+        processedRooms.addAndGet(page.size());
+        if (page.size() < pageSize) {
+          break;
         }
-        roomCount++;
-        log.debug("채팅방 {}의 최근 메시지 {}개를 Redis에 캐싱했습니다.", chatroomId, recentMessages.size());
+        cursor = page.get(page.size() - 1);
       }
+
+      completed.set(1);
+      log.info(
+          "채팅 Redis 캐시 warm-up 완료: 확인 {}개, 적재 {}개, {}ms",
+          processedRooms.get(),
+          warmedRooms.get(),
+          System.currentTimeMillis() - startedAt);
+    } catch (Exception e) {
+      log.error("채팅 Redis 캐시 warm-up 중 오류 발생: {}", e.getMessage(), e);
     }
-    log.info("{}개 채팅방의 총 {}개 메시지를 Redis에 캐싱 완료", roomCount, messageCount);
   }
 
-  private void initializeReadStatus() {
-    log.info("읽음 상태 Redis 동기화 시작...");
-    int participantCount = 0;
-
-    Query chatRoomQuery = new Query(Criteria.where("deletedAt").isNull());
-    List<ChatRoom> chatRooms = mongoTemplate.find(chatRoomQuery, ChatRoom.class);
-
-    for (ChatRoom chatRoom : chatRooms) {
-      String chatroomId = chatRoom.getId();
-      String redisKey = REDIS_READ_MESSAGES_PREFIX + chatroomId;
-
-      for (ChatRoom.Participant participant : chatRoom.getActiveParticipants()) {
-        String userId = participant.getUserId();
-        String lastReadMessageId = participant.getLastReadMessageId();
-
-        if (lastReadMessageId != null && !lastReadMessageId.isEmpty()) {
-          try {
-            Object existingData = redisTemplate.opsForHash().get(redisKey, userId);
-            if (existingData == null) {
-              redisTemplate.opsForHash().put(redisKey, userId, lastReadMessageId);
-              participantCount++;
-            }
-          } catch (Exception e) {
-            log.error(
-                "참가자 읽음 상태 동기화 중 오류: chatroomId={}, userId={}, error={}",
-                chatroomId,
-                userId,
-                e.getMessage());
-          }
-        }
+  private List<ChatRoom> findPage(LocalDateTime since, ChatRoom cursor) {
+    Criteria criteria = Criteria.where("deletedAt").isNull().and("lastMessage.sentAt").gte(since);
+    if (cursor != null) {
+      LocalDateTime cursorSentAt = cursor.getLastMessage().getSentAt();
+      criteria.orOperator(
+          Criteria.where("lastMessage.sentAt").lt(cursorSentAt),
+          Criteria.where("lastMessage.sentAt").is(cursorSentAt).and("_id").lt(cursor.getId()));
+    }
+
+    Query query = new Query(criteria);
+    query.fields().include("lastMessage").include("participants");
+    query.with(Sort.by(Direction.DESC, "lastMessage.sentAt").and(Sort.by(Direction.DESC, "_id")));
+    query.limit(pageSize);
+    return mongoTemplate.find(query, ChatRoom.class);
+  }
+
+  private void warmUpPage(List<ChatRoom> page) {
+    // 이미 캐시된 채팅방을 한 번의 왕복으로 확인
+    List<Object> existing =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (ChatRoom chatRoom : page) {
+                    connection
+                        .keyCommands()
+                        .exists(serialize(RecentMessageCache.keyOf(chatRoom.getId())));
+                  }
+                  return null;
+                });
+
+    List<ChatRoom> missingRooms = new ArrayList<>();
+    List<List<ChatMessage>> missingMessages = new ArrayList<>();
+    for (int i = 0; i < page.size(); i++) {
+      if (!Boolean.TRUE.equals(existing.get(i))) {
+        ChatRoom chatRoom = page.get(i);
+        missingRooms.add(chatRoom);
+        missingMessages.add(findRecentMessages(chatRoom.getId()));
       }
     }
-    log.info("총 {}개의 참가자 읽음 상태 Redis 동기화 완료", participantCount);
+
+    // 최근 메시지 ZADD 와 읽음 상태 HSETNX 를 페이지당 하나의 파이프라인으로 전송
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              for (int i = 0; i < missingRooms.size(); i++) {
+                String chatroomId = missingRooms.get(i).getId();
+                List<ChatMessage> messages = missingMessages.get(i);
+                if (recentMessageCache.writeMessages(connection, chatroomId, messages) > 0) {
+                  warmedRooms.incrementAndGet();
+                }
+              }
+              for (ChatRoom chatRoom : page) {
+                byte[] rawKey = serialize(REDIS_READ_MESSAGES_PREFIX + chatRoom.getId());
+                for (ChatRoom.Participant participant : chatRoom.getActiveParticipants()) {
+                  String lastReadMessageId = participant.getLastReadMessageId();
+                  if (lastReadMessageId != null && !lastReadMessageId.isEmpty()) {
+                    connection
+                        .hashCommands()
+                        .hSetNX(
+                            rawKey,
+                            serialize(participant.getUserId()),
+                            serialize(lastReadMessageId));
+                  }
+                }
+              }
+              return null;
+            });
+  }
+
+  private List<ChatMessage> findRecentMessages(String chatroomId) {
+    Query query = new Query();
+    query.addCriteria(Criteria.where("chatroomId").is(chatroomId).and("deletedAt").isNull());
+    query.with(Sort.by(Direction.DESC, "createdAt"));
+    query.limit(MAX_INITIAL_MESSAGES);
+    return mongoTemplate.find(query, ChatMessage.class);
+  }
+
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
   }
 }
@@ -1,16 +1,22 @@
 package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
 
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ReadPositionStore;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.ToIntFunction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
@@ -22,74 +28,96 @@ public class ChatRedisSyncScheduler {
   private final ObjectMapper objectMapper;
 
   private static final String REDIS_READ_MESSAGES_PREFIX = "chat:last_read_message:";
-  private static final String REDIS_ONLINE_USERS_KEY = "chat:online_users";
-  private static final String REDIS_CHAT_MESSAGES_PREFIX = "chat:messages:";
+  private static final int MAX_RECENT_MESSAGES = 100;
+  private static final int SYNC_BATCH_SIZE = 500;
+  private static final int SCAN_COUNT = 500;
 
   @Scheduled(fixedRate = 300000)
-  @Transactional
   public void syncReadStatusToMongoDB() {
     log.info("Redis에서 MongoDB로 읽음 상태 동기화 시작");
 
+    int syncCount = 0;
     try {
-      Set<String> chatRoomKeys = redisTemplate.keys(REDIS_READ_MESSAGES_PREFIX + "*");
+      // SPOP 으로 꺼내므로 여러 인스턴스가 동시에 실행해도 같은 항목을 중복 처리하지 않는다
+      List<String> dirtyMembers;
+      while (!(dirtyMembers = popDirtyMembers()).isEmpty()) {
+        syncCount += syncBatch(dirtyMembers);
+        if (dirtyMembers.size() < SYNC_BATCH_SIZE) {
+          break;
+        }
+      }
 
-      if (chatRoomKeys == null || chatRoomKeys.isEmpty()) {
+      if (syncCount == 0) {
         log.info("동기화할 읽음 상태가 없습니다.");
         return;
       }
+      log.info("읽음 상태 동기화 완료: {} 개의 항목 처리됨", syncCount);
+    } catch (Exception e) {
+      log.error("읽음 상태 동기화 중 오류 발생: {}", e.getMessage(), e);
+    }
+  }
 
-      int syncCount = 0;
-
-      for (String redisKey : chatRoomKeys) {
-        String chatroomId = redisKey.substring(REDIS_READ_MESSAGES_PREFIX.length());
-
-        Map<Object, Object> userReadData = redisTemplate.opsForHash().entries(redisKey);
+  private List<String> popDirtyMembers() {
+    List<String> members =
+        redisTemplate.opsForSet().pop(ReadPositionStore.DIRTY_KEY, SYNC_BATCH_SIZE);
+    return members != null ? members : List.of();
+  }
 
-        if (userReadData.isEmpty()) {
-          continue;
-        }
+  private int syncBatch(List<String> dirtyMembers) {
+    List<ReadTarget> targets = new ArrayList<>(dirtyMembers.size());
+    for (String member : dirtyMembers) {
+      int separator = member.indexOf(':');
+      if (separator > 0 && separator < member.length() - 1) {
+        targets.add(
+            new ReadTarget(member.substring(0, separator), member.substring(separator + 1)));
+      }
+    }
+    if (targets.isEmpty()) {
+      return 0;
+    }
 
-        for (Map.Entry<Object, Object> entry : userReadData.entrySet()) {
-          String userId = entry.getKey().toString();
-          String messageId = entry.getValue().toString();
-
-          try {
-            updateChatRoomReadStatus(chatroomId, userId, messageId);
-            syncCount++;
-          } catch (Exception e) {
-            log.error(
-                "MongoDB에 읽음 상태 동기화 중 오류: chatroomId={}, userId={}, messageId={}, error={}",
-                chatroomId,
-                userId,
-                messageId,
-                e.getMessage());
-          }
-        }
+    // 현재 읽음 상태를 파이프라인으로 한 번에 조회
+    List<Object> messageIds =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (ReadTarget target : targets) {
+                    connection
+                        .hashCommands()
+                        .hGet(
+                            serialize(REDIS_READ_MESSAGES_PREFIX + target.chatroomId()),
+                            serialize(target.userId()));
+                  }
+                  return null;
+                });
+
+    Map<String, Map<String, String>> lastReadMessageIdsByChatroom = new HashMap<>();
+    int count = 0;
+    for (int i = 0; i < targets.size(); i++) {
+      Object messageId = i < messageIds.size() ? messageIds.get(i) : null;
+      if (messageId != null) {
+        ReadTarget target = targets.get(i);
+        lastReadMessageIdsByChatroom
+            .computeIfAbsent(target.chatroomId(), key -> new HashMap<>())
+            .put(target.userId(), messageId.toString());
+        count++;
       }
+    }
 
-      log.info("읽음 상태 동기화 완료: {} 개의 항목 처리됨", syncCount);
+    try {
+      chatRoomRepository.updateLastReadMessages(lastReadMessageIdsByChatroom);
     } catch (Exception e) {
-      log.error("읽음 상태 동기화 중 오류 발생: {}", e.getMessage(), e);
+      // 다음 주기에 다시 처리되도록 되돌려 놓는다
+      redisTemplate
+          .opsForSet()
+          .add(ReadPositionStore.DIRTY_KEY, dirtyMembers.toArray(String[]::new));
+      log.error(
+          "MongoDB에 읽음 상태 동기화 중 오류, 다음 주기에 재시도: count={}, error={}",
+          dirtyMembers.size(),
+          e.getMessage());
+      return 0;
     }
-  }
-
-  private void updateChatRoomReadStatus(String chatroomId, String userId, String messageId) {
-    chatRoomRepository
-        .findById(chatroomId)
-        .ifPresent(
-            chatRoom -> {
-              ChatRoom.Participant participant = chatRoom.getParticipant(userId);
-
-              if (participant != null) {
-                participant.updateLastReadMessage(messageId);
-                chatRoomRepository.save(chatRoom);
-                log.debug(
-                    "MongoDB 읽음 상태 업데이트: chatroomId={}, userId={}, messageId={}",
-                    chatroomId,
-                    userId,
-                    messageId);
-              }
-            });
+    return count;
   }
 
   @Scheduled(cron = "0 0 * * * *")
@@ -97,63 +125,64 @@ public class ChatRedisSyncScheduler {
     log.info("오래된 Redis 메시지 데이터 정리 시작");
 
     try {
-      Set<String> messageKeys = redisTemplate.keys(REDIS_CHAT_MESSAGES_PREFIX + "*");
+      int keyCount = scanKeys(RecentMessageCache.keyPattern(), this::trimRecentMessages);
+      // 이전 형식(ChatMessageResponse JSON)으로 저장된 캐시는 더 이상 읽지 않으므로 삭제
+      int legacyCount =
+          scanKeys(RecentMessageCache.LEGACY_KEY_PREFIX + "*", this::unlinkLegacyMessages);
 
-      if (messageKeys == null || messageKeys.isEmpty()) {
-        return;
-      }
+      log.info("Redis 메시지 데이터 정리 완료: {} 개의 채팅방 확인, 이전 형식 {} 개 삭제", keyCount, legacyCount);
+    } catch (Exception e) {
+      log.error("Redis 데이터 정리 중 오류 발생: {}", e.getMessage(), e);
+    }
+  }
 
-      for (String key : messageKeys) {
-        long size = redisTemplate.opsForZSet().size(key);
-        if (size > 100) {
-          redisTemplate.opsForZSet().removeRange(key, 0, size - 101);
-          log.debug("Redis 채팅방 메시지 정리: key={}, 삭제된 메시지 수={}", key, size - 100);
+  // KEYS 대신 SCAN 으로 나눠서 순회하고, 모은 키 묶음마다 handler 로 파이프라인 처리한다
+  private int scanKeys(String pattern, ToIntFunction<List<String>> handler) {
+    ScanOptions scanOptions = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+    List<String> keys = new ArrayList<>(SCAN_COUNT);
+    int keyCount = 0;
+
+    try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+      while (cursor.hasNext()) {
+        keys.add(cursor.next());
+        if (keys.size() >= SCAN_COUNT) {
+          keyCount += handler.applyAsInt(keys);
+          keys.clear();
         }
       }
-
-      log.info("Redis 메시지 데이터 정리 완료");
-    } catch (Exception e) {
-      log.error("Redis 데이터 정리 중 오류 발생: {}", e.getMessage(), e);
+      keyCount += handler.applyAsInt(keys);
     }
+    return keyCount;
   }
 
-  @Scheduled(cron = "0 */10 * * * *") // 10분마다 실행
-  public void cleanupInvalidOnlineUsers() {
-    log.info("유효하지 않은 온라인 사용자 데이터 정리 시작");
+  private int trimRecentMessages(List<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
 
-    try {
-      Set<String> onlineUsers = redisTemplate.opsForSet().members(REDIS_ONLINE_USERS_KEY);
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              for (String key : keys) {
+                connection.zSetCommands().zRemRange(serialize(key), 0, -(MAX_RECENT_MESSAGES + 1));
+              }
+              return null;
+            });
+    return keys.size();
+  }
 
-      if (onlineUsers == null || onlineUsers.isEmpty()) {
-        log.info("정리할 온라인 사용자가 없습니다.");
-        return;
-      }
+  private int unlinkLegacyMessages(List<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
 
-      int removedCount = 0;
-
-      for (String userId : onlineUsers) {
-        // 빈 문자열, null, 이메일 형태의 잘못된 데이터 제거
-        if (userId == null
-            || userId.trim().isEmpty()
-            || userId.equals("null")
-            || userId.equals("undefined")
-            || userId.contains("@")) {
-
-          Long removed = redisTemplate.opsForSet().remove(REDIS_ONLINE_USERS_KEY, userId);
-          if (removed != null && removed > 0) {
-            removedCount++;
-            log.info("유효하지 않은 온라인 사용자 제거: {}", userId);
-          }
-        }
-      }
+    redisTemplate.unlink(keys);
+    return keys.size();
+  }
 
-      if (removedCount > 0) {
-        log.info("유효하지 않은 온라인 사용자 {} 명 정리 완료", removedCount);
-      } else {
-        log.debug("정리할 유효하지 않은 온라인 사용자가 없습니다.");
-      }
-    } catch (Exception e) {
-      log.error("온라인 사용자 정리 중 오류 발생: {}", e.getMessage(), e);
-    }
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
   }
+
+  private record ReadTarget(String chatroomId, String userId) {}
 }
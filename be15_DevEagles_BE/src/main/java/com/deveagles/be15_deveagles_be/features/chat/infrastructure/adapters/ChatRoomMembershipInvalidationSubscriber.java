@@ -0,0 +1,41 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 서버에서 전파된 채팅방 멤버십 무효화를 구독해 이 서버의 {@link ChatRoomMembershipCache} 스냅샷을 지운다.
+ *
+ * <p>자기 자신이 보낸 무효화도 수신하지만 이미 지워진 항목을 한 번 더 지울 뿐이다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipInvalidationSubscriber {
+
+  private final ChatRoomMembershipCache chatRoomMembershipCache;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public ChatRoomMembershipInvalidationSubscriber(
+      ChatRoomMembershipCache chatRoomMembershipCache,
+      RedisMessageListenerContainer listenerContainer) {
+    this.chatRoomMembershipCache = chatRoomMembershipCache;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    MessageListener messageListener =
+        (message, pattern) ->
+            chatRoomMembershipCache.evictLocal(
+                new String(message.getBody(), StandardCharsets.UTF_8));
+    listenerContainer.addMessageListener(
+        messageListener, new ChannelTopic(ChatRoomMembershipCache.INVALIDATION_CHANNEL));
+    log.info("채팅방 멤버십 무효화 채널 구독: {}", ChatRoomMembershipCache.INVALIDATION_CHANNEL);
+  }
+}
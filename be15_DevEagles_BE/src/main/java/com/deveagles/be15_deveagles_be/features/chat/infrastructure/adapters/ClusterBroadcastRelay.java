@@ -0,0 +1,238 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 멀티 노드 STOMP 브로드캐스트 중계
+ *
+ * <p>simple broker 는 노드 내 메모리에서만 동작하므로, brokerChannel 로 들어오는 채팅방/상태 메시지를 {@link
+ * ClusterBroadcastTransport} 로 다른 노드에 전달하고, 다른 노드에서 받은 메시지는 로컬 brokerChannel 에 다시 넣어 구독자에게 보낸다.
+ * 발행은 짧은 주기로 묶어서 보내고, 수신 측은 자기 노드 메시지와 이미 처리한 메시지를 걸러낸다.
+ */
+@Slf4j
+@Component
+public class ClusterBroadcastRelay implements ChannelInterceptor {
+
+  static final String REMOTE_HEADER = "clusterRemote";
+  private static final int MAX_SEEN_MESSAGES = 10_000;
+
+  private final ClusterBroadcastTransport transport;
+  private final ObjectMapper objectMapper;
+  private final MessageChannel brokerChannel;
+  private final boolean enabled;
+  private final List<String> destinationPrefixes;
+  private final long flushIntervalMs;
+  private final int maxBatchSize;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Queue<ClusterMessage> outbound = new ConcurrentLinkedQueue<>();
+  private final Set<String> seenMessageIds =
+      Collections.newSetFromMap(
+          Collections.synchronizedMap(
+              new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                  return size() > MAX_SEEN_MESSAGES;
+                }
+              }));
+  private final ScheduledExecutorService flushExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "chat-cluster-relay");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Counter publishedCounter;
+  private final Counter receivedCounter;
+  private final Counter duplicateCounter;
+
+  public ClusterBroadcastRelay(
+      ClusterBroadcastTransport transport,
+      ObjectMapper objectMapper,
+      @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+      MeterRegistry meterRegistry,
+      @Value("${chat.cluster.enabled:true}") boolean enabled,
+      @Value("${chat.cluster.destination-prefixes:/topic/chatroom.,/topic/status}")
+          List<String> destinationPrefixes,
+      @Value("${chat.cluster.flush-interval-ms:10}") long flushIntervalMs,
+      @Value("${chat.cluster.max-batch-size:100}") int maxBatchSize) {
+    this.transport = transport;
+    this.objectMapper = objectMapper;
+    this.brokerChannel = brokerChannel;
+    this.enabled = enabled;
+    this.destinationPrefixes = destinationPrefixes;
+    this.flushIntervalMs = flushIntervalMs;
+    this.maxBatchSize = maxBatchSize;
+
+    this.publishedCounter =
+        Counter.builder("chat.cluster.messages.published")
+            .description("다른 노드로 발행한 브로커 메시지 수")
+            .register(meterRegistry);
+    this.receivedCounter =
+        Counter.builder("chat.cluster.messages.received")
+            .description("다른 노드에서 받아 로컬 구독자에게 전달한 메시지 수")
+            .register(meterRegistry);
+    this.duplicateCounter =
+        Counter.builder("chat.cluster.messages.duplicate")
+            .description("중복으로 버린 수신 메시지 수")
+            .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      log.info("클러스터 브로드캐스트 비활성화");
+      return;
+    }
+
+    transport.subscribe(this::onBatch);
+    flushExecutor.scheduleWithFixedDelay(
+        this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    log.info("클러스터 브로드캐스트 시작: nodeId={}", nodeId);
+  }
+
+  @PreDestroy
+  public void stop() {
+    flushExecutor.shutdown();
+    flush();
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    if (!enabled || message.getHeaders().containsKey(REMOTE_HEADER)) {
+      return message;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    String destination = accessor.getDestination();
+    if (accessor.getMessageType() != SimpMessageType.MESSAGE || !isRelayed(destination)) {
+      return message;
+    }
+
+    byte[] payload = toBytes(message.getPayload());
+    if (payload == null) {
+      log.warn("클러스터로 전달할 수 없는 페이로드: destination={}", destination);
+      return message;
+    }
+
+    MimeType contentType = accessor.getContentType();
+    outbound.add(
+        new ClusterMessage(
+            UUID.randomUUID().toString(),
+            nodeId,
+            destination,
+            contentType != null ? contentType.toString() : null,
+            payload));
+    return message;
+  }
+
+  void flush() {
+    try {
+      while (!outbound.isEmpty()) {
+        List<ClusterMessage> batch = new ArrayList<>(maxBatchSize);
+        ClusterMessage next;
+        while (batch.size() < maxBatchSize && (next = outbound.poll()) != null) {
+          batch.add(next);
+        }
+        if (batch.isEmpty()) {
+          return;
+        }
+
+        transport.publish(objectMapper.writeValueAsString(batch));
+        publishedCounter.increment(batch.size());
+      }
+    } catch (Exception e) {
+      log.error("클러스터 브로드캐스트 발행 실패: error={}", e.getMessage());
+    }
+  }
+
+  void onBatch(String batch) {
+    List<ClusterMessage> messages;
+    try {
+      messages = objectMapper.readValue(batch, new TypeReference<List<ClusterMessage>>() {});
+    } catch (Exception e) {
+      log.error("클러스터 브로드캐스트 수신 메시지 해석 실패: error={}", e.getMessage());
+      return;
+    }
+
+    for (ClusterMessage clusterMessage : messages) {
+      // 자기 노드 메시지는 이미 로컬에 전달되었다
+      if (nodeId.equals(clusterMessage.nodeId())) {
+        continue;
+      }
+      if (!seenMessageIds.add(clusterMessage.id())) {
+        duplicateCounter.increment();
+        continue;
+      }
+
+      SimpMessageHeaderAccessor accessor =
+          SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+      accessor.setDestination(clusterMessage.destination());
+      if (clusterMessage.contentType() != null) {
+        accessor.setContentType(MimeTypeUtils.parseMimeType(clusterMessage.contentType()));
+      }
+      accessor.setHeader(REMOTE_HEADER, Boolean.TRUE);
+      brokerChannel.send(
+          MessageBuilder.createMessage(clusterMessage.payload(), accessor.getMessageHeaders()));
+      receivedCounter.increment();
+    }
+  }
+
+  String getNodeId() {
+    return nodeId;
+  }
+
+  private boolean isRelayed(String destination) {
+    if (destination == null) {
+      return false;
+    }
+    for (String prefix : destinationPrefixes) {
+      if (destination.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static byte[] toBytes(Object payload) {
+    if (payload instanceof byte[] bytes) {
+      return bytes;
+    }
+    if (payload instanceof String text) {
+      return text.getBytes(StandardCharsets.UTF_8);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,21 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import java.util.function.Consumer;
+
+/** 노드 간 브로커 메시지 전달 수단. 기본 구현은 Redis pub/sub 이며 Kafka 등으로 교체할 수 있다. */
+public interface ClusterBroadcastTransport {
+
+  /**
+   * 직렬화된 메시지 묶음을 모든 노드에 발행
+   *
+   * @param batch 직렬화된 {@link ClusterMessage} 목록
+   */
+  void publish(String batch);
+
+  /**
+   * 다른 노드가 발행한 메시지 묶음 수신 등록
+   *
+   * @param listener 수신 처리기
+   */
+  void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,13 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+/**
+ * 노드 간 전달되는 브로커 메시지
+ *
+ * @param id 메시지 ID (노드별 중복 제거용)
+ * @param nodeId 발행 노드 ID
+ * @param destination STOMP 목적지
+ * @param contentType 페이로드 Content-Type
+ * @param payload 변환이 끝난 메시지 본문
+ */
+public record ClusterMessage(
+    String id, String nodeId, String destination, String contentType, byte[] payload) {}
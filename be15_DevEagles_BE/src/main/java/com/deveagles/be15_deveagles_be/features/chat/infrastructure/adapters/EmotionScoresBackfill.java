@@ -0,0 +1,116 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감정별 점수 백필
+ *
+ * <p>감정별 점수 컬럼이 생기기 전에 저장된 이력의 감정 분석 JSON 을 한 번씩만 읽어 점수를 채운다. 애플리케이션 준비 완료 후 백그라운드 스레드 하나에서 ID 순
+ * 페이지 단위로 진행하며, 점수가 없는 이력만 대상으로 하므로 모두 채워진 뒤에는 조회 한 번으로 끝난다. 분석 결과를 읽을 수 없는 이력에는 빈 점수를 저장해
+ * 다시 대상이 되지 않게 한다.
+ *
+ * <p>컬럼은 {@code ALTER TABLE user_mood_history ADD COLUMN emotion_scores VARBINARY(64) NULL} 로 미리
+ * 추가해야 한다.
+ */
+@Slf4j
+@Component
+public class EmotionScoresBackfill {
+
+  private final UserMoodHistoryRepository userMoodHistoryRepository;
+  private final EmotionAnalysisService emotionAnalysisService;
+  private final boolean enabled;
+  private final int pageSize;
+  private final ExecutorService backfillExecutor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0L,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(1),
+          runnable -> {
+            Thread thread = new Thread(runnable, "emotion-scores-backfill");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public EmotionScoresBackfill(
+      UserMoodHistoryRepository userMoodHistoryRepository,
+      EmotionAnalysisService emotionAnalysisService,
+      @Value("${chat.emotion-scores-backfill.enabled:true}") boolean enabled,
+      @Value("${chat.emotion-scores-backfill.page-size:500}") int pageSize) {
+    this.userMoodHistoryRepository = userMoodHistoryRepository;
+    this.emotionAnalysisService = emotionAnalysisService;
+    this.enabled = enabled;
+    this.pageSize = pageSize;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (!enabled) {
+      log.info("감정별 점수 백필 비활성화");
+      return;
+    }
+
+    try {
+      backfillExecutor.execute(this::backfill);
+    } catch (RejectedExecutionException e) {
+      log.warn("감정별 점수 백필이 이미 진행 중입니다.");
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    backfillExecutor.shutdownNow();
+  }
+
+  /** @return 점수를 채운 이력 수 */
+  int backfill() {
+    long startedAt = System.currentTimeMillis();
+    int filled = 0;
+
+    try {
+      long cursor = 0L;
+      while (!Thread.currentThread().isInterrupted()) {
+        List<UserMoodHistory> page =
+            userMoodHistoryRepository.findWithoutEmotionScores(cursor, PageRequest.of(0, pageSize));
+        if (page.isEmpty()) {
+          break;
+        }
+
+        for (UserMoodHistory history : page) {
+          history.setEmotionScores(
+              emotionAnalysisService.parseEmotionScores(history.getEmotionAnalysis()));
+        }
+        userMoodHistoryRepository.saveAll(page);
+        filled += page.size();
+
+        if (page.size() < pageSize) {
+          break;
+        }
+        cursor = page.get(page.size() - 1).getId();
+      }
+
+      if (filled > 0) {
+        log.info("감정별 점수 백필 완료: {}건, {}ms", filled, System.currentTimeMillis() - startedAt);
+      }
+    } catch (Exception e) {
+      log.error("감정별 점수 백필 중 오류 발생: {}", e.getMessage(), e);
+    }
+    return filled;
+  }
+}
@@ -0,0 +1,213 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ReadStatusMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ReadPositionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.UnreadCountStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ReadReceiptRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽음 처리 배치 writer
+ *
+ * <p>/app/chat.read 요청을 (채팅방, 사용자) 단위로 가장 최신 메시지 하나로 합쳐 두었다가 주기적으로 한 번에 저장한다. 저장은 MongoDB bulkWrite
+ * upsert, Redis 읽음 상태와 읽지 않은 메시지 카운터 초기화는 파이프라인으로 처리하고, 읽음 이벤트도 사용자당 한 번만 전송한다.
+ */
+@Slf4j
+@Component
+public class ReadReceiptBatchWriter {
+
+  private static final String CHATROOM_READ_TOPIC_FORMAT = "/topic/chatroom.%s.read";
+
+  private final ReadReceiptRepository readReceiptRepository;
+  private final ChatRoomService chatRoomService;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final UnreadCountStore unreadCountStore;
+  private final ReadPositionStore readPositionStore;
+  private final Map<ReadKey, String> pendingReads = new ConcurrentHashMap<>();
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer flushTimer;
+
+  public ReadReceiptBatchWriter(
+      ReadReceiptRepository readReceiptRepository,
+      ChatRoomService chatRoomService,
+      RedisTemplate<String, String> redisTemplate,
+      SimpMessagingTemplate messagingTemplate,
+      UnreadCountStore unreadCountStore,
+      ReadPositionStore readPositionStore,
+      MeterRegistry meterRegistry) {
+    this.readReceiptRepository = readReceiptRepository;
+    this.chatRoomService = chatRoomService;
+    this.redisTemplate = redisTemplate;
+    this.messagingTemplate = messagingTemplate;
+    this.unreadCountStore = unreadCountStore;
+    this.readPositionStore = readPositionStore;
+
+    Gauge.builder("chat.read_receipt.queue.depth", pendingReads, Map::size)
+        .description("플러시 대기 중인 (채팅방, 사용자) 읽음 처리 수")
+        .register(meterRegistry);
+    this.batchSizeSummary =
+        DistributionSummary.builder("chat.read_receipt.batch.size")
+            .description("한 번의 플러시에 저장된 읽음 처리 수")
+            .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("chat.read_receipt.flush.latency")
+            .description("읽음 처리 배치 플러시 소요 시간")
+            .register(meterRegistry);
+  }
+
+  /** 읽음 요청을 적재한다. 같은 (채팅방, 사용자)의 이전 요청보다 최신 메시지인 경우에만 덮어쓴다. */
+  public void enqueue(String chatroomId, String userId, String messageId) {
+    pendingReads.merge(
+        new ReadKey(chatroomId, userId), messageId, ReadReceiptBatchWriter::newerMessageId);
+  }
+
+  public int getQueueDepth() {
+    return pendingReads.size();
+  }
+
+  @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:200}")
+  public void flush() {
+    if (pendingReads.isEmpty()) {
+      return;
+    }
+
+    List<PendingRead> batch = drain();
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    flushTimer.record(() -> writeBatch(batch));
+    batchSizeSummary.record(batch.size());
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private List<PendingRead> drain() {
+    List<PendingRead> batch = new ArrayList<>(pendingReads.size());
+    for (ReadKey key : pendingReads.keySet()) {
+      String messageId = pendingReads.remove(key);
+      if (messageId != null) {
+        batch.add(new PendingRead(key, messageId));
+      }
+    }
+    return batch;
+  }
+
+  private void writeBatch(List<PendingRead> batch) {
+    LocalDateTime utcTime = ZonedDateTime.now(ZoneOffset.UTC).toLocalDateTime();
+    List<ReadReceipt> readReceipts =
+        batch.stream()
+            .map(
+                pending ->
+                    ReadReceipt.builder()
+                        .chatroomId(pending.key().chatroomId())
+                        .userId(pending.key().userId())
+                        .messageId(pending.messageId())
+                        .readAt(utcTime)
+                        .build())
+            .toList();
+
+    List<PendingRead> persisted;
+    try {
+      readReceiptRepository.upsertAll(readReceipts);
+      persisted = batch;
+    } catch (Exception e) {
+      log.error(
+          "ReadReceipt 배치 저장 실패, ChatRoom 폴백 처리: count={}, error={}",
+          batch.size(),
+          e.getMessage());
+      persisted = fallbackToChatRoom(batch);
+    }
+    updateRedisReadStatus(persisted);
+
+    for (PendingRead pending : persisted) {
+      ReadStatusMessage readStatusMessage =
+          new ReadStatusMessage(
+              pending.key().chatroomId(), pending.key().userId(), pending.messageId());
+      String destination = String.format(CHATROOM_READ_TOPIC_FORMAT, pending.key().chatroomId());
+      messagingTemplate.convertAndSend(destination, readStatusMessage);
+    }
+    log.debug("읽음 처리 배치 플러시 완료: 요청={}, 저장={}", batch.size(), persisted.size());
+  }
+
+  private void updateRedisReadStatus(List<PendingRead> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                for (PendingRead pending : batch) {
+                  readPositionStore.write(
+                      connection,
+                      pending.key().chatroomId(),
+                      pending.key().userId(),
+                      pending.messageId());
+                  unreadCountStore.writeReset(
+                      connection, pending.key().chatroomId(), pending.key().userId());
+                }
+                return null;
+              });
+    } catch (Exception e) {
+      log.error("Redis 읽음 상태 배치 업데이트 실패: count={}, error={}", batch.size(), e.getMessage());
+    }
+  }
+
+  private List<PendingRead> fallbackToChatRoom(List<PendingRead> batch) {
+    List<PendingRead> persisted = new ArrayList<>(batch.size());
+    for (PendingRead pending : batch) {
+      try {
+        chatRoomService.updateLastReadMessage(
+            pending.key().chatroomId(), pending.key().userId(), pending.messageId());
+        persisted.add(pending);
+      } catch (Exception e) {
+        log.error(
+            "ChatRoom 폴백 읽음 처리 실패: userId={}, messageId={}, chatroomId={}, error={}",
+            pending.key().userId(),
+            pending.messageId(),
+            pending.key().chatroomId(),
+            e.getMessage());
+      }
+    }
+    return persisted;
+  }
+
+  /** ObjectId 는 생성 시각 순으로 정렬되므로 더 큰 값을 최신 메시지로 본다. 비교할 수 없으면 나중 요청을 따른다. */
+  static String newerMessageId(String current, String candidate) {
+    if (ObjectId.isValid(current) && ObjectId.isValid(candidate)) {
+      return new ObjectId(candidate).compareTo(new ObjectId(current)) >= 0 ? candidate : current;
+    }
+    return candidate;
+  }
+
+  record ReadKey(String chatroomId, String userId) {}
+
+  private record PendingRead(ReadKey key, String messageId) {}
+}
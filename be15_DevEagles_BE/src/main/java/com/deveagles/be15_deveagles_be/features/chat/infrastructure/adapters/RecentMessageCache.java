@@ -0,0 +1,102 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.service.util.MessageResponseConverter;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 최근 메시지 Redis 캐시 적재
+ *
+ * <p>{@code chat:recent_messages:{chatroomId}} ZSET 에 메시지를 UTC epoch millis 점수로 저장한다. 멤버는
+ * 메시지 조회 API 가 내려주는 {@code MessageResponse} JSON 그대로이므로 조회 시 역직렬화 없이 응답에 쓸 수 있다. 시작 시
+ * warm-up 과 캐시가 비어 있는 채팅방의 첫 조회에서 사용한다.
+ */
+@Slf4j
+@Component
+public class RecentMessageCache {
+
+  private static final String REDIS_CHAT_MESSAGES_PREFIX = "chat:recent_messages:";
+
+  /** ChatMessageResponse JSON 을 저장하던 이전 형식의 키. 정리 스케줄러에서 삭제한다. */
+  public static final String LEGACY_KEY_PREFIX = "chat:messages:";
+  private static final int MAX_RECENT_MESSAGES = 100;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final MessageResponseConverter messageResponseConverter;
+
+  public RecentMessageCache(
+      RedisTemplate<String, String> redisTemplate,
+      MessageResponseConverter messageResponseConverter) {
+    this.redisTemplate = redisTemplate;
+    this.messageResponseConverter = messageResponseConverter;
+  }
+
+  /** 캐시가 비어 있는 채팅방을 MongoDB 조회 결과로 채운다. */
+  public void fill(String chatroomId, List<ChatMessage> messages) {
+    if (messages == null || messages.isEmpty()) {
+      return;
+    }
+
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                writeMessages(connection, chatroomId, messages);
+                return null;
+              });
+      log.debug("채팅방 최근 메시지 캐시 적재: chatroomId={}, count={}", chatroomId, messages.size());
+    } catch (Exception e) {
+      log.warn("채팅방 최근 메시지 캐시 적재 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+    }
+  }
+
+  /**
+   * 호출자의 파이프라인에 메시지 적재 명령을 추가한다. 채팅방당 ZADD 한 번과 개수 유지용 ZREMRANGEBYRANK 한 번만 보낸다.
+   *
+   * @return 적재한 메시지 수
+   */
+  public int writeMessages(
+      RedisConnection connection, String chatroomId, List<ChatMessage> messages) {
+    Set<Tuple> tuples = new LinkedHashSet<>(messages.size());
+    for (ChatMessage message : messages) {
+      try {
+        String messageJson = messageResponseConverter.serialize(message).json();
+        double score = message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        tuples.add(new DefaultTuple(serialize(messageJson), score));
+      } catch (Exception e) {
+        log.error("메시지 캐싱 중 오류: messageId={}, error={}", message.getId(), e.getMessage());
+      }
+    }
+    if (tuples.isEmpty()) {
+      return 0;
+    }
+
+    byte[] rawKey = serialize(keyOf(chatroomId));
+    connection.zSetCommands().zAdd(rawKey, tuples);
+    connection.zSetCommands().zRemRange(rawKey, 0, -(MAX_RECENT_MESSAGES + 1));
+    return tuples.size();
+  }
+
+  public static String keyOf(String chatroomId) {
+    return REDIS_CHAT_MESSAGES_PREFIX + chatroomId;
+  }
+
+  public static String keyPattern() {
+    return REDIS_CHAT_MESSAGES_PREFIX + "*";
+  }
+
+  private static byte[] serialize(String value) {
+    return StringRedisSerializer.UTF_8.serialize(value);
+  }
+}
@@ -0,0 +1,43 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RedisClusterBroadcastTransport implements ClusterBroadcastTransport {
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final String channel;
+
+  public RedisClusterBroadcastTransport(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${chat.cluster.channel:chat:cluster:broadcast}") String channel) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.channel = channel;
+  }
+
+  @Override
+  public void publish(String batch) {
+    redisTemplate.convertAndSend(channel, batch);
+  }
+
+  @Override
+  public void subscribe(Consumer<String> listener) {
+    MessageListener messageListener =
+        (message, pattern) ->
+            listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+    listenerContainer.addMessageListener(messageListener, new ChannelTopic(channel));
+    log.info("클러스터 브로드캐스트 채널 구독: {}", channel);
+  }
+}
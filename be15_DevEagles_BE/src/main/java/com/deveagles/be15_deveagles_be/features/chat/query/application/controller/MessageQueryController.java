@@ -29,7 +29,9 @@ public class MessageQueryController {
   private final MessageQueryService messageQueryService;
 
   @GetMapping
-  @Operation(summary = "메시지 조회", description = "채팅방의 메시지 목록을 조회합니다")
+  @Operation(
+      summary = "메시지 조회",
+      description = "채팅방의 메시지 목록을 조회합니다. 이전 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다")
   @ApiResponses(
       value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -44,14 +46,17 @@ public class MessageQueryController {
       @AuthenticationPrincipal CustomUser customUser,
       @PathVariable String chatroomId,
       @RequestParam(required = false) String before,
+      @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "50") int limit) {
     log.info(
-        "메시지 조회 요청 -> 사용자: {}, 채팅방ID: {}, beforeId: {}",
+        "메시지 조회 요청 -> 사용자: {}, 채팅방ID: {}, beforeId: {}, cursor: {}",
         customUser.getUsername(),
         chatroomId,
-        before);
+        before,
+        cursor);
     MessageListResponse response =
-        messageQueryService.getMessages(customUser.getUserId(), chatroomId, before, limit);
+        messageQueryService.getMessages(
+            customUser.getUserId(), chatroomId, before, cursor, limit);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
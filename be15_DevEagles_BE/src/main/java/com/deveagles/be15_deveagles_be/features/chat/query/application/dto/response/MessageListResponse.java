@@ -11,9 +11,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageListResponse {
-  private List<MessageResponse> messages;
+  // MessageResponse JSON 이 그대로 출력된다
+  private List<SerializedMessage> messages;
+  // 다음(이전) 페이지 조회용 커서, 더 조회할 메시지가 없으면 null
+  private String nextCursor;
 
-  public static MessageListResponse of(List<MessageResponse> messages) {
+  public static MessageListResponse of(List<SerializedMessage> messages) {
     return MessageListResponse.builder().messages(messages).build();
   }
+
+  public static MessageListResponse of(List<SerializedMessage> messages, String nextCursor) {
+    return MessageListResponse.builder().messages(messages).nextCursor(nextCursor).build();
+  }
 }
@@ -0,0 +1,31 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 응답 형식 그대로 직렬화된 메시지
+ *
+ * <p>{@code json} 은 {@link MessageResponse} 를 응답과 같은 ObjectMapper 로 직렬화한 결과이며, 응답을 쓸 때 객체로
+ * 되돌리지 않고 그대로 출력한다. 병합과 커서 계산에 필요한 id, createdAt 만 따로 들고 있다.
+ *
+ * @param id 메시지 ID
+ * @param createdAt 메시지 생성 시각 (UTC)
+ * @param json 직렬화된 {@link MessageResponse}
+ */
+@JsonSerialize(using = SerializedMessage.RawJsonSerializer.class)
+public record SerializedMessage(String id, LocalDateTime createdAt, String json) {
+
+  public static class RawJsonSerializer extends JsonSerializer<SerializedMessage> {
+
+    @Override
+    public void serialize(SerializedMessage value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeRawValue(value.json());
+    }
+  }
+}
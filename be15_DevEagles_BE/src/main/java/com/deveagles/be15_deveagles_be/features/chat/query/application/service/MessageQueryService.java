@@ -5,7 +5,8 @@ import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.respo
 
 public interface MessageQueryService {
 
-  MessageListResponse getMessages(Long userId, String chatroomId, String before, int limit);
+  MessageListResponse getMessages(
+      Long userId, String chatroomId, String before, String cursor, int limit);
 
   MessageReadStatusResponse getMessageReadStatus(Long userId, String chatroomId, String messageId);
 }
@@ -13,6 +13,7 @@ import com.deveagles.be15_deveagles_be.features.chat.query.application.service.C
 import com.deveagles.be15_deveagles_be.features.chat.query.application.service.util.ChatroomResponseConverter;
 import com.deveagles.be15_deveagles_be.features.chat.query.domain.repository.ChatroomQueryRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -40,16 +41,20 @@ public class ChatroomQueryServiceImpl implements ChatroomQueryService {
         chatroomQueryRepository.findChatroomsByUserIdAndTeamId(userId, teamId, page, size);
     int totalCount = chatroomQueryRepository.countChatroomsByUserIdAndTeamId(userId, teamId);
 
+    // 페이지 내 모든 채팅방의 읽지 않은 메시지 수를 한 번에 조회
+    List<String> chatroomIds = chatrooms.stream().map(ChatRoom::getId).toList();
+    Map<String, Integer> unreadCounts =
+        chatroomIds.isEmpty()
+            ? Map.of()
+            : readReceiptService.getUnreadMessageCounts(chatroomIds, String.valueOf(userId));
+
     List<ChatroomResponse> chatroomResponses =
         chatrooms.stream()
             .map(
                 chatroom -> {
                   ChatroomResponse response =
                       chatroomResponseConverter.convertToChatroomResponse(chatroom);
-                  // ReadReceiptService를 사용하여 읽지 않은 메시지 수 계산
-                  int unreadCount =
-                      readReceiptService.getUnreadMessageCount(
-                          chatroom.getId(), String.valueOf(userId));
+                  int unreadCount = unreadCounts.getOrDefault(chatroom.getId(), 0);
                   return ChatroomResponse.builder()
                       .id(response.getId())
                       .teamId(response.getTeamId())
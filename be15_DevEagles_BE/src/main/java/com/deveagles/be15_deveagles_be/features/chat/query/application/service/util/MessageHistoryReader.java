@@ -0,0 +1,181 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.RecentMessageCache;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.deveagles.be15_deveagles_be.features.chat.query.domain.repository.MessageQueryRepository;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 최근 메시지 창과 MongoDB 를 이어서 읽는 메시지 이력 조회기
+ *
+ * <p>Redis ZSET 은 채팅방의 최신 메시지 구간을 빈틈없이 담고 있으므로, 먼저 Redis 에서 커서 이전 메시지를 읽고 모자란 만큼만 Redis 에서 읽은
+ * 가장 오래된 메시지(이음매) 아래를 MongoDB 에서 읽는다. 두 결과는 모두 (createdAt, id) 내림차순이므로 한 번의 선형 병합으로 합친다. 최신
+ * 구간을 읽었는데 Redis 창이 비어 있거나 짧으면 MongoDB 결과로 창을 채운다.
+ */
+@Slf4j
+@Component
+public class MessageHistoryReader {
+
+  // 커서와 같은 밀리초에 저장된 메시지는 걸러지므로 그만큼 여유 있게 읽는다
+  private static final int BOUNDARY_SLACK = 5;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final MessageQueryRepository messageQueryRepository;
+  private final MessageResponseConverter messageResponseConverter;
+  private final RecentMessageCache recentMessageCache;
+
+  public MessageHistoryReader(
+      RedisTemplate<String, String> redisTemplate,
+      MessageQueryRepository messageQueryRepository,
+      MessageResponseConverter messageResponseConverter,
+      RecentMessageCache recentMessageCache) {
+    this.redisTemplate = redisTemplate;
+    this.messageQueryRepository = messageQueryRepository;
+    this.messageResponseConverter = messageResponseConverter;
+    this.recentMessageCache = recentMessageCache;
+  }
+
+  /**
+   * before 이전 메시지를 최신순으로 limit 개까지 조회한다.
+   *
+   * @param chatroomId 채팅방 ID
+   * @param before 이 메시지보다 이전 메시지만 조회 (null 이면 가장 최근 메시지부터)
+   * @param limit 최대 조회 개수
+   * @return (createdAt, id) 내림차순 메시지 목록
+   */
+  public List<SerializedMessage> read(String chatroomId, MessageCursor before, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+
+    List<SerializedMessage> cached = new ArrayList<>(limit);
+    boolean cacheReadable = false;
+    boolean windowExhausted = false;
+    try {
+      int fetchCount = limit + BOUNDARY_SLACK;
+      double maxScore = before == null ? Double.POSITIVE_INFINITY : scoreOf(before.createdAt());
+      Set<TypedTuple<String>> tuples =
+          redisTemplate
+              .opsForZSet()
+              .reverseRangeByScoreWithScores(
+                  RecentMessageCache.keyOf(chatroomId),
+                  Double.NEGATIVE_INFINITY,
+                  maxScore,
+                  0,
+                  fetchCount);
+      cacheReadable = true;
+      windowExhausted = tuples == null || tuples.size() < fetchCount;
+
+      if (tuples != null) {
+        for (TypedTuple<String> tuple : tuples) {
+          if (cached.size() >= limit) {
+            break;
+          }
+          if (tuple.getValue() == null || tuple.getScore() == null) {
+            continue;
+          }
+          try {
+            SerializedMessage message =
+                messageResponseConverter.fromCache(tuple.getValue(), tuple.getScore());
+            if (before == null || isBefore(message, before)) {
+              cached.add(message);
+            }
+          } catch (IOException e) {
+            log.warn("캐시된 메시지 파싱 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+          }
+        }
+      }
+    } catch (Exception e) {
+      log.error("Redis에서 메시지 조회 중 오류 발생: chatroomId={}, error={}", chatroomId, e.getMessage());
+    }
+
+    if (cached.size() >= limit) {
+      log.debug("Redis 캐시에서 {}개의 메시지를 반환합니다: chatroomId={}", cached.size(), chatroomId);
+      return cached;
+    }
+
+    // Redis 창 아래 구간만 MongoDB 에서 조회
+    SerializedMessage oldestCached = cached.isEmpty() ? null : cached.get(cached.size() - 1);
+    MessageCursor seam =
+        oldestCached == null
+            ? before
+            : new MessageCursor(oldestCached.createdAt(), oldestCached.id());
+    List<ChatMessage> messagesFromDb =
+        messageQueryRepository.findMessagesBefore(chatroomId, seam, limit - cached.size());
+    log.debug(
+        "Redis {}개, MongoDB {}개 메시지 조회: chatroomId={}",
+        cached.size(),
+        messagesFromDb.size(),
+        chatroomId);
+
+    // 최신 구간에서 Redis 창 끝까지 읽었다면 MongoDB 결과는 창 바로 아래에 이어지므로 창을 채운다
+    if (cacheReadable && windowExhausted && (before == null || !cached.isEmpty())) {
+      recentMessageCache.fill(chatroomId, messagesFromDb);
+    }
+
+    List<SerializedMessage> older = new ArrayList<>(messagesFromDb.size());
+    for (ChatMessage message : messagesFromDb) {
+      try {
+        older.add(messageResponseConverter.serialize(message));
+      } catch (Exception e) {
+        log.error("메시지 직렬화 중 오류 발생: messageId={}, error={}", message.getId(), e.getMessage());
+      }
+    }
+    return merge(cached, older, limit);
+  }
+
+  /** (createdAt, id) 내림차순으로 정렬된 두 목록을 한 번 순회로 합치고, 이음매에서 겹친 메시지는 한 번만 남긴다. */
+  static List<SerializedMessage> merge(
+      List<SerializedMessage> newer, List<SerializedMessage> older, int limit) {
+    List<SerializedMessage> merged = new ArrayList<>(Math.min(limit, newer.size() + older.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < limit && (i < newer.size() || j < older.size())) {
+      SerializedMessage next;
+      if (j >= older.size()) {
+        next = newer.get(i++);
+      } else if (i >= newer.size()) {
+        next = older.get(j++);
+      } else {
+        int compared = compare(newer.get(i), older.get(j));
+        if (compared == 0) {
+          j++;
+          next = newer.get(i++);
+        } else if (compared > 0) {
+          next = newer.get(i++);
+        } else {
+          next = older.get(j++);
+        }
+      }
+      if (merged.isEmpty() || !merged.get(merged.size() - 1).id().equals(next.id())) {
+        merged.add(next);
+      }
+    }
+    return merged;
+  }
+
+  private static int compare(SerializedMessage a, SerializedMessage b) {
+    int compared = a.createdAt().compareTo(b.createdAt());
+    return compared != 0 ? compared : a.id().compareTo(b.id());
+  }
+
+  private static boolean isBefore(SerializedMessage message, MessageCursor cursor) {
+    int compared = message.createdAt().compareTo(cursor.createdAt());
+    return compared < 0 || (compared == 0 && message.id().compareTo(cursor.id()) < 0);
+  }
+
+  private static double scoreOf(LocalDateTime createdAt) {
+    return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+}
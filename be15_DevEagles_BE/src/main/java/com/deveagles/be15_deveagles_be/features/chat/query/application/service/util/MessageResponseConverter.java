@@ -3,11 +3,26 @@ package com.deveagles.be15_deveagles_be.features.chat.query.application.service.
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MessageResponseConverter {
 
+  private final ObjectMapper objectMapper;
+
+  public MessageResponseConverter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
   /**
    * ChatMessage를 MessageResponse로 변환
    *
@@ -47,4 +62,46 @@ public class MessageResponseConverter {
         .deletedAt(message.isDeleted() ? message.getCreatedAt() : null)
         .build();
   }
+
+  /**
+   * ChatMessage를 응답 형식 JSON으로 직렬화. Redis 최근 메시지 캐시도 같은 형식으로 저장한다.
+   *
+   * @param message 직렬화할 ChatMessage
+   * @return SerializedMessage
+   */
+  public SerializedMessage serialize(ChatMessage message) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(convertFromChatMessage(message));
+    return new SerializedMessage(message.getId(), message.getCreatedAt(), json);
+  }
+
+  /**
+   * Redis 최근 메시지 캐시 항목을 역직렬화 없이 SerializedMessage로 감싼다. createdAt 은 점수(UTC epoch millis)에서, id 는
+   * JSON 의 첫 필드만 읽어서 얻는다.
+   *
+   * @param json 캐시에 저장된 응답 형식 JSON
+   * @param score 캐시 점수
+   * @return SerializedMessage
+   */
+  public SerializedMessage fromCache(String json, double score) throws IOException {
+    LocalDateTime createdAt =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli((long) score), ZoneOffset.UTC);
+    return new SerializedMessage(readId(json), createdAt, json);
+  }
+
+  private String readId(String json) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("메시지 JSON 형식이 아닙니다.");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if ("id".equals(field)) {
+          return parser.getValueAsString();
+        }
+        parser.skipChildren();
+      }
+    }
+    throw new IOException("메시지 JSON 에 id 가 없습니다.");
+  }
 }
@@ -1,12 +1,16 @@
 package com.deveagles.be15_deveagles_be.features.chat.query.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface MessageQueryRepository {
 
-  List<ChatMessage> findMessages(String chatroomId, String beforeMessageId, int limit);
+  Optional<ChatMessage> findMessageById(String messageId);
+
+  List<ChatMessage> findMessagesBefore(String chatroomId, MessageCursor cursor, int limit);
 
   Map<String, Object> getMessageReadStatus(String chatroomId, String messageId);
 }
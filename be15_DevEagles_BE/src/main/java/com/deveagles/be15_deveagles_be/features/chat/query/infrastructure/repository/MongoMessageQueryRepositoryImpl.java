@@ -2,10 +2,10 @@ package com.deveagles.be15_deveagles_be.features.chat.query.infrastructure.repos
 
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
-import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.repository.SpringDataMongoChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.repository.SpringDataMongoReadReceiptRepository;
 import com.deveagles.be15_deveagles_be.features.chat.query.domain.repository.MessageQueryRepository;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,9 +13,6 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -27,41 +24,23 @@ import org.springframework.stereotype.Repository;
 public class MongoMessageQueryRepositoryImpl implements MessageQueryRepository {
 
   private final MongoTemplate mongoTemplate;
-  private final SpringDataMongoChatMessageRepository chatMessageRepository;
+  private final ChatMessageRepository chatMessageRepository;
   private final SpringDataMongoReadReceiptRepository readReceiptRepository;
 
   @Override
-  public List<ChatMessage> findMessages(String chatroomId, String beforeMessageId, int limit) {
-    if (chatroomId == null || chatroomId.isBlank()) {
-      return new ArrayList<>();
+  public Optional<ChatMessage> findMessageById(String messageId) {
+    if (messageId == null || messageId.isBlank()) {
+      return Optional.empty();
     }
+    return chatMessageRepository.findById(messageId);
+  }
 
-    if (beforeMessageId == null || beforeMessageId.isBlank()) {
-      PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Direction.DESC, "createdAt"));
-      return chatMessageRepository.findByChatroomIdAndDeletedAtIsNullOrderByCreatedAtDesc(
-          chatroomId, pageRequest);
-    } else {
-      Optional<ChatMessage> optionalMessage = chatMessageRepository.findById(beforeMessageId);
-      if (optionalMessage.isEmpty()) {
-        return new ArrayList<>();
-      }
-
-      ChatMessage message = optionalMessage.get();
-      LocalDateTime beforeTime = message.getCreatedAt();
-
-      Query query = new Query();
-      query.addCriteria(
-          Criteria.where("chatroomId")
-              .is(chatroomId)
-              .and("createdAt")
-              .lt(beforeTime)
-              .and("deletedAt")
-              .isNull());
-      query.with(Sort.by(Direction.DESC, "createdAt"));
-      query.limit(limit);
-
-      return mongoTemplate.find(query, ChatMessage.class);
+  @Override
+  public List<ChatMessage> findMessagesBefore(String chatroomId, MessageCursor cursor, int limit) {
+    if (chatroomId == null || chatroomId.isBlank()) {
+      return new ArrayList<>();
     }
+    return chatMessageRepository.findMessagesBefore(chatroomId, cursor, limit);
   }
 
   @Override
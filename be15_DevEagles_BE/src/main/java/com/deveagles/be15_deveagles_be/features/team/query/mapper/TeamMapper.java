@@ -13,5 +13,7 @@ public interface TeamMapper {
 
   List<TeamMemberResponse> selectTeamMembers(Long teamId);
 
+  List<TeamMemberResponse> selectTeamMembersWithMood(@Param("teamId") Long teamId);
+
   TeamInformationResponse selectTeamInformation(@Param("teamId") Long teamId);
 }
@@ -2,6 +2,7 @@ package com.deveagles.be15_deveagles_be.features.user.command.application.servic
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserCreateRequest;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserEmailPasswordRequest;
@@ -34,6 +35,7 @@ public class UserCommandServiceImpl implements UserCommandService {
   private final PasswordEncoder passwordEncoder;
   private final AmazonS3 amazonS3;
   private final ChatRoomService chatRoomService;
+  private final UserStatusCache userStatusCache;
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
@@ -146,6 +148,8 @@ public class UserCommandServiceImpl implements UserCommandService {
     user.deleteUser(LocalDateTime.now());
 
     userRepository.save(user);
+
+    userStatusCache.evict(userId);
   }
 
   private User findUserByUserId(Long userId) {
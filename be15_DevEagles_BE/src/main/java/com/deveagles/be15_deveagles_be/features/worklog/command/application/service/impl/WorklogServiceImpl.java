@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -56,7 +57,7 @@ public class WorklogServiceImpl implements WorklogService {
   private String apiUrl;
 
   public WorklogServiceImpl(
-      RestTemplate restTemplate,
+      @Qualifier("geminiRestTemplate") RestTemplate restTemplate,
       ObjectMapper objectMapper,
       WorklogRepository worklogRepository,
       UserCommandService userCommandService,
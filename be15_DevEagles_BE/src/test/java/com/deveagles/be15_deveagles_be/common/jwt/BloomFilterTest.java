@@ -0,0 +1,97 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  @DisplayName("넣은 값은 모두 있다고 답한다 (거짓 음성 없음)")
+  void mightContain_hasNoFalseNegatives() {
+    // given
+    BloomFilter filter = BloomFilter.create(10_000, 0.001);
+    List<String> inserted = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      String id = UUID.randomUUID().toString();
+      filter.put(id);
+      inserted.add(id);
+    }
+
+    // then: 예상 수의 두 배를 넣어 거짓 양성이 늘어난 상태에서도 넣은 값은 빠지지 않는다
+    assertThat(inserted).allMatch(filter::mightContain);
+  }
+
+  @Test
+  @DisplayName("예상 수만큼 넣었을 때 거짓 양성 비율이 설정값 근처에 머문다")
+  void mightContain_keepsFalsePositiveRateNearTarget() {
+    // given
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(UUID.randomUUID().toString());
+    }
+
+    // when
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    assertThat((double) falsePositives / probes).isLessThan(0.02);
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 넣어도 넣은 값을 잃지 않는다")
+  void put_concurrently_losesNothing() {
+    // given
+    BloomFilter filter = BloomFilter.create(50_000, 0.001);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+
+    // when
+    try {
+      for (int t = 0; t < 8; t++) {
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  List<String> ids = new ArrayList<>();
+                  for (int i = 0; i < 5_000; i++) {
+                    String id = UUID.randomUUID().toString();
+                    filter.put(id);
+                    ids.add(id);
+                  }
+                  return ids;
+                },
+                executor));
+      }
+      List<String> inserted = new ArrayList<>();
+      futures.forEach(future -> inserted.addAll(future.join()));
+
+      // then
+      assertThat(inserted).hasSize(40_000).allMatch(filter::mightContain);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("잘못된 크기 설정은 거부한다")
+  void create_rejectsInvalidArguments() {
+    assertThatThrownBy(() -> BloomFilter.create(0, 0.01))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.create(100, 1.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,211 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.User;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
+import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthenticationFilterTest {
+
+  private static final String SECRET =
+      Encoders.BASE64.encode("deveagles-test-secret-key-for-hmac-sha-256!!".getBytes());
+
+  private UserRepository userRepository;
+  private UserDetailsService userDetailsService;
+  private TokenRevocationStore tokenRevocationStore;
+  private JwtTokenProvider jwtTokenProvider;
+  private UserStatusCache userStatusCache;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    userDetailsService = mock(UserDetailsService.class);
+    tokenRevocationStore = mock(TokenRevocationStore.class);
+    userStatusCache =
+        new UserStatusCache(userRepository, Duration.ofSeconds(30), 100, Ticker.systemTicker());
+
+    jwtTokenProvider = new JwtTokenProvider(userRepository, userStatusCache, tokenRevocationStore);
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+    jwtTokenProvider.init();
+
+    filter =
+        new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userStatusCache, true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private String token(String type, UserStatus userStatus) {
+    Date now = new Date();
+    return Jwts.builder()
+        .id("jti-" + type)
+        .subject("eagles@email.com")
+        .issuedAt(now)
+        .claims(Map.of("type", type, "userId", "7", "userStatus", userStatus.toString()))
+        .expiration(new Date(now.getTime() + 60_000))
+        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+        .compact();
+  }
+
+  private MockHttpServletResponse doFilter(String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private User user(UserStatus userStatus, LocalDateTime deletedAt) {
+    User user = mock(User.class);
+    when(user.getUserStatus()).thenReturn(userStatus);
+    when(user.getDeletedAt()).thenReturn(deletedAt);
+    return user;
+  }
+
+  @Test
+  @DisplayName("토큰 클레임으로 인증 사용자를 만들고 상태는 캐시에서 한 번만 읽는다")
+  void statelessAuth_buildsUserFromClaims() throws Exception {
+    // given
+    String token = token("access", UserStatus.ENABLED);
+    User user = user(UserStatus.ENABLED, null);
+    when(userRepository.findUserByUserId(7L)).thenReturn(Optional.of(user));
+
+    // when
+    doFilter(token);
+    SecurityContextHolder.clearContext();
+    MockHttpServletResponse response = doFilter(token);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    CustomUser principal = (CustomUser) authentication.getPrincipal();
+    assertThat(principal.getUserId()).isEqualTo(7L);
+    assertThat(principal.getUsername()).isEqualTo("eagles@email.com");
+    assertThat(principal.getUserStatus()).isEqualTo(UserStatus.ENABLED);
+    verify(userRepository, times(1)).findUserByUserId(7L);
+    verify(userRepository, never()).findUserByEmail(anyString());
+    verify(userDetailsService, never()).loadUserByUsername(anyString());
+  }
+
+  @Test
+  @DisplayName("토큰 발급 후 바뀐 사용자 상태를 캐시에서 반영한다")
+  void statelessAuth_usesCurrentStatus() throws Exception {
+    // given
+    String token = token("access", UserStatus.PENDING);
+    User user = user(UserStatus.ENABLED, null);
+    when(userRepository.findUserByUserId(7L)).thenReturn(Optional.of(user));
+
+    // when
+    doFilter(token);
+
+    // then
+    CustomUser principal =
+        (CustomUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    assertThat(principal.getUserStatus()).isEqualTo(UserStatus.ENABLED);
+  }
+
+  @Test
+  @DisplayName("탈퇴한 사용자의 토큰은 거부하고, 캐시를 비우면 바로 반영된다")
+  void statelessAuth_rejectsWithdrawnUser() throws Exception {
+    // given
+    String token = token("access", UserStatus.ENABLED);
+    User active = user(UserStatus.ENABLED, null);
+    User withdrawn = user(UserStatus.ENABLED, LocalDateTime.now());
+    when(userRepository.findUserByUserId(7L))
+        .thenReturn(Optional.of(active))
+        .thenReturn(Optional.of(withdrawn));
+
+    // when
+    MockHttpServletResponse before = doFilter(token);
+    SecurityContextHolder.clearContext();
+    userStatusCache.evict(7L);
+    MockHttpServletResponse after = doFilter(token);
+
+    // then
+    assertThat(before.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    assertThat(after.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  @DisplayName("refreshToken 으로는 인증할 수 없다")
+  void refreshToken_isRejected() throws Exception {
+    // when
+    MockHttpServletResponse response = doFilter(token("refresh", UserStatus.ENABLED));
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+    verify(userRepository, never()).findUserByUserId(7L);
+  }
+
+  @Test
+  @DisplayName("로그아웃된 토큰은 jti 로 폐기 여부를 확인해 거부한다")
+  void revokedToken_isRejected() throws Exception {
+    // given
+    when(tokenRevocationStore.isRevoked("jti-access")).thenReturn(true);
+
+    // when
+    MockHttpServletResponse response = doFilter(token("access", UserStatus.ENABLED));
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+    verify(tokenRevocationStore).isRevoked("jti-access");
+    verify(userRepository, never()).findUserByUserId(7L);
+  }
+
+  @Test
+  @DisplayName("stateless 모드를 끄면 기존처럼 UserDetailsService 로 사용자를 읽는다")
+  void statelessAuthDisabled_loadsUserDetails() throws Exception {
+    // given
+    filter =
+        new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userStatusCache, false);
+    CustomUser loaded =
+        CustomUser.builder()
+            .userId(7L)
+            .username("eagles@email.com")
+            .userStatus(UserStatus.ENABLED)
+            .build();
+    when(userDetailsService.loadUserByUsername("eagles@email.com")).thenReturn(loaded);
+
+    // when
+    doFilter(token("access", UserStatus.ENABLED));
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+        .isSameAs(loaded);
+    verify(userRepository, never()).findUserByUserId(7L);
+  }
+}
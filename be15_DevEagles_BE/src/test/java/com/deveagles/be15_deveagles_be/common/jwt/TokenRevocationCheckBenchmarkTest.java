@@ -0,0 +1,90 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 토큰 폐기 확인 비용 벤치마크
+ *
+ * <p>폐기 목록 10만 건이 들어간 필터에서 폐기되지 않은 토큰을 확인하는 요청당 비용을 잰다. 이 경우 Redis 를 조회하지 않으므로 필터 확인 비용이 곧 요청당
+ * 비용이다. jti 가 있는 토큰과 jti 가 없어 토큰 해시를 계산해야 하는 이전 형식 토큰을 나눠 출력한다. 비교 기준인 기존 경로는 요청마다 Redis
+ * EXISTS 한 번(같은 데이터센터 기준 수백 μs)이다.
+ */
+@Disabled("수동 실행용 벤치마크")
+class TokenRevocationCheckBenchmarkTest {
+
+  private static final int REVOKED = 100_000;
+  private static final int WARMUP_ITERATIONS = 200_000;
+  private static final int MEASURE_ITERATIONS = 1_000_000;
+
+  private final String[] jtis = new String[1024];
+  private final String[] legacyTokens = new String[1024];
+  private TokenRevocationStore store;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    Cursor<String> emptyCursor = mock(Cursor.class);
+    when(redisTemplate.scan(any())).thenReturn(emptyCursor);
+
+    store =
+        new TokenRevocationStore(
+            redisTemplate, Duration.ofMinutes(30), REVOKED, 0.001, Clock.systemUTC());
+    store.sync();
+    for (int i = 0; i < REVOKED; i++) {
+      store.addLocal(UUID.randomUUID().toString());
+    }
+
+    for (int i = 0; i < jtis.length; i++) {
+      jtis[i] = UUID.randomUUID().toString();
+      legacyTokens[i] =
+          "eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + UUID.randomUUID() + ".signature" + i;
+    }
+  }
+
+  @Test
+  @DisplayName("폐기되지 않은 토큰의 요청당 폐기 확인 비용")
+  void measureRevocationCheck() {
+    run(WARMUP_ITERATIONS, false);
+    long jtiNanos = run(MEASURE_ITERATIONS, false);
+
+    run(WARMUP_ITERATIONS, true);
+    long legacyNanos = run(MEASURE_ITERATIONS, true);
+
+    System.out.printf("[jti 토큰] %,d ns/op%n", jtiNanos);
+    System.out.printf("[jti 없는 토큰, SHA-256 포함] %,d ns/op%n", legacyNanos);
+  }
+
+  private long run(int iterations, boolean legacy) {
+    int revoked = 0;
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      int index = i & (jtis.length - 1);
+      String revocationId =
+          legacy
+              ? TokenRevocationStore.revocationId(null, legacyTokens[index])
+              : TokenRevocationStore.revocationId(jtis[index], null);
+      if (store.isRevoked(revocationId)) {
+        revoked++;
+      }
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+
+    if (revoked > iterations / 100) {
+      throw new IllegalStateException("거짓 양성이 너무 많습니다: " + revoked);
+    }
+    return elapsedNanos / iterations;
+  }
+}
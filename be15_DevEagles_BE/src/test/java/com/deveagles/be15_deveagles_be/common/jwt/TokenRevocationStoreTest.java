@@ -0,0 +1,181 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+  private static final Duration EXPIRATION = Duration.ofMinutes(30);
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private Clock clock;
+
+  private TokenRevocationStore store;
+
+  @BeforeEach
+  void setUp() {
+    when(clock.millis()).thenReturn(0L);
+    store = new TokenRevocationStore(redisTemplate, EXPIRATION, 10_000, 0.001, clock);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenScan(String... keys) {
+    Cursor<String> cursor = mock(Cursor.class);
+    Iterator<String> iterator = List.of(keys).iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    if (keys.length > 0) {
+      when(cursor.next()).thenAnswer(invocation -> iterator.next());
+    }
+    when(redisTemplate.scan(any())).thenReturn(cursor);
+  }
+
+  @Test
+  @DisplayName("동기화 후 필터에 없는 토큰은 Redis 를 조회하지 않는다")
+  void isRevoked_filterNegative_skipsRedis() {
+    // given
+    givenScan();
+    store.sync();
+
+    // when
+    boolean revoked = store.isRevoked("not-revoked");
+
+    // then
+    assertThat(revoked).isFalse();
+    verify(redisTemplate, never()).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("첫 동기화 전에는 필터를 믿지 않고 Redis 로 확인한다")
+  void isRevoked_beforeSync_checksRedis() {
+    // given
+    when(redisTemplate.hasKey("BL:revoked-elsewhere")).thenReturn(true);
+
+    // when & then
+    assertThat(store.isSynced()).isFalse();
+    assertThat(store.isRevoked("revoked-elsewhere")).isTrue();
+  }
+
+  @Test
+  @DisplayName("폐기하면 Redis 에 저장하고 전파하며, 이 서버에서 바로 폐기로 확인된다")
+  void revoke_storesPublishesAndIsVisibleLocally() {
+    // given
+    givenScan();
+    store.sync();
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.hasKey("BL:jti-1")).thenReturn(true);
+
+    // when
+    store.revoke("jti-1", Duration.ofMinutes(10));
+
+    // then
+    verify(valueOperations).set("BL:jti-1", "logout", Duration.ofMinutes(10));
+    verify(redisTemplate).convertAndSend(TokenRevocationStore.REVOCATION_CHANNEL, "jti-1");
+    assertThat(store.isRevoked("jti-1")).isTrue();
+  }
+
+  @Test
+  @DisplayName("이미 만료된 토큰은 저장하지 않는다")
+  void revoke_expiredToken_isIgnored() {
+    // when
+    store.revoke("jti-1", Duration.ofMillis(-1));
+
+    // then
+    verify(redisTemplate, never()).opsForValue();
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("다른 서버에서 폐기된 토큰은 동기화 또는 전파로 필터에 들어가 거짓 음성이 없다")
+  void syncAndPropagation_haveNoFalseNegatives() {
+    // given
+    givenScan("BL:synced-1", "BL:synced-2");
+    store.sync();
+    store.addLocal("propagated-1");
+    when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+    // when & then
+    assertThat(store.isRevoked("synced-1")).isTrue();
+    assertThat(store.isRevoked("synced-2")).isTrue();
+    assertThat(store.isRevoked("propagated-1")).isTrue();
+  }
+
+  @Test
+  @DisplayName("필터를 교체해도 폐기 ID 는 access token 유효시간 동안 남는다")
+  void rotation_keepsIdsForOneExpirationPeriod() {
+    // given
+    givenScan();
+    store.sync();
+    when(clock.millis()).thenReturn(EXPIRATION.toMillis() - 1);
+    store.addLocal("late-revocation");
+    when(redisTemplate.hasKey("BL:late-revocation")).thenReturn(true);
+
+    // when: 교체 직후에도 직전 필터에 남아 있다
+    when(clock.millis()).thenReturn(EXPIRATION.toMillis() * 2 - 2);
+    boolean afterFirstRotation = store.isRevoked("late-revocation");
+
+    // when: 유효시간이 지나고 다음 교체가 일어나면 필터에서 빠진다
+    when(clock.millis()).thenReturn(EXPIRATION.toMillis() * 3);
+    boolean afterSecondRotation = store.isRevoked("late-revocation");
+
+    // then
+    assertThat(afterFirstRotation).isTrue();
+    assertThat(afterSecondRotation).isFalse();
+  }
+
+  @Test
+  @DisplayName("이전 형식의 토큰 전체 키는 해시 키로 옮긴다")
+  void sync_migratesLegacyTokenKeys() {
+    // given
+    String legacyToken = "header.payload.signature";
+    String revocationId = TokenRevocationStore.revocationId(null, legacyToken);
+    givenScan("BL:" + legacyToken);
+    when(redisTemplate.getExpire("BL:" + legacyToken, TimeUnit.MILLISECONDS))
+        .thenReturn(60_000L);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.hasKey("BL:" + revocationId)).thenReturn(true);
+
+    // when
+    int count = store.sync();
+
+    // then
+    assertThat(count).isEqualTo(1);
+    verify(valueOperations).set("BL:" + revocationId, "logout", Duration.ofMillis(60_000L));
+    verify(redisTemplate).delete("BL:" + legacyToken);
+    assertThat(store.isRevoked(revocationId)).isTrue();
+  }
+
+  @Test
+  @DisplayName("폐기 ID 는 jti 가 있으면 jti, 없으면 토큰 해시다")
+  void revocationId_prefersJti() {
+    String jti = UUID.randomUUID().toString();
+
+    assertThat(TokenRevocationStore.revocationId(jti, "a.b.c")).isEqualTo(jti);
+    assertThat(TokenRevocationStore.revocationId(null, "a.b.c"))
+        .hasSize(64)
+        .isEqualTo(TokenRevocationStore.revocationId("", "a.b.c"))
+        .doesNotContain(".");
+  }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.UserFindIdRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.response.TokenResponse;
@@ -16,14 +17,12 @@ import com.deveagles.be15_deveagles_be.features.auth.command.application.service
 import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.User;
 import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
 import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 class AuthServiceImplTest {
@@ -58,7 +57,8 @@ class AuthServiceImplTest {
             refreshTokenService,
             redisTemplate,
             authCodeService,
-            mailService);
+            mailService,
+            mock(UserStatusCache.class));
 
     email = "test@email.com";
     password = "password123!";
@@ -115,13 +115,8 @@ class AuthServiceImplTest {
     // given
     String accessToken = "access-token";
     String refreshToken = "refresh-token";
-    long remainingMillis = 3600000L; // 1시간
-
-    ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
 
     when(jwtTokenProvider.getUsernameFromJWT(refreshToken)).thenReturn(email);
-    when(jwtTokenProvider.getRemainingExpiration(accessToken)).thenReturn(remainingMillis);
-    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
     // when
     authService.logout(refreshToken, accessToken);
@@ -129,8 +124,7 @@ class AuthServiceImplTest {
     // then
     verify(jwtTokenProvider).validateToken(refreshToken);
     verify(refreshTokenService).deleteRefreshToken(email);
-    verify(valueOperations)
-        .set(eq("BL:" + accessToken), eq("logout"), eq(Duration.ofMillis(remainingMillis)));
+    verify(jwtTokenProvider).revokeAccessToken(accessToken);
   }
 
   @Test
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.UserFindIdRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.service.AuthCodeService;
@@ -56,7 +57,8 @@ class AuthExceptionTest {
             refreshTokenService,
             redisTemplate,
             authCodeService,
-            mailService);
+            mailService,
+            mock(UserStatusCache.class));
 
     email = "test@email.com";
     password = "password123!";
@@ -3,13 +3,24 @@ package com.deveagles.be15_deveagles_be.features.chat.command.application.servic
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
+import com.deveagles.be15_deveagles_be.common.dto.Pagination;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.request.ChatMessageRequest;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.MoodInquiryService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiReplyStreamer;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.GeminiResponseCache;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
@@ -17,6 +28,7 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.C
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +36,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
@@ -45,6 +59,13 @@ class AiChatServiceImplTest {
 
   @Mock private GeminiApiAdapter geminiApiAdapter;
 
+  @Mock private AiReplyStreamer aiReplyStreamer;
+
+  @Mock private GeminiResponseCache geminiResponseCache;
+
+  @Spy private AiChatSessionStore sessionStore =
+      new AiChatSessionStore(new SimpleMeterRegistry(), 24, 1000, 10, 1000);
+
   @InjectMocks private AiChatServiceImpl aiChatService;
 
   private static final String TEST_USER_ID = "test-user";
@@ -79,8 +100,7 @@ class AiChatServiceImplTest {
             .createdAt(LocalDateTime.now())
             .build();
 
-    geminiResponse =
-        new GeminiTextResponse("안녕하세요! 무엇을 도와드릴까요?", 0.95, Map.of("dummy", "response"));
+    geminiResponse = new GeminiTextResponse("안녕하세요! 무엇을 도와드릴까요?", 0.95);
   }
 
   @Test
@@ -108,9 +128,131 @@ class AiChatServiceImplTest {
 
     verify(moodInquiryService, times(1)).getPendingInquiryId(TEST_USER_ID);
     verify(geminiApiAdapter, times(1)).generateText(anyString());
+    verify(geminiResponseCache, times(1)).put("안녕하세요?", geminiResponse);
     verify(chatMessageService, times(1)).sendMessage(any(ChatMessageRequest.class));
   }
 
+  @Test
+  @DisplayName("대화 맥락은 세션당 한 번만 DB 에서 읽고 이후에는 대화 창으로 만든다")
+  void processUserMessage_buildsHistoryFromSessionWindow() {
+    // Given
+    ChatMessage savedUserMessage =
+        ChatMessage.builder()
+            .chatroomId(TEST_CHATROOM_ID)
+            .senderId(TEST_USER_ID)
+            .content("안녕하세요?")
+            .build();
+    when(moodInquiryService.getPendingInquiryId(TEST_USER_ID)).thenReturn(Optional.empty());
+    when(chatMessageRepository.findRecentMessagesByChatroomId(TEST_CHATROOM_ID, 10))
+        .thenReturn(List.of(savedUserMessage));
+    when(geminiApiAdapter.generateText(anyString())).thenReturn(geminiResponse);
+    when(chatMessageService.sendMessage(any(ChatMessageRequest.class))).thenReturn(aiResponse);
+
+    aiChatService.initializeAiChatSession(TEST_USER_ID, TEST_CHATROOM_ID);
+    aiChatService.processUserMessage(userMessage);
+
+    ChatMessageRequest secondMessage =
+        ChatMessageRequest.builder()
+            .chatroomId(TEST_CHATROOM_ID)
+            .senderId(TEST_USER_ID)
+            .messageType(MessageType.TEXT)
+            .content("오늘 좀 피곤해요")
+            .build();
+
+    // When
+    aiChatService.processUserMessage(secondMessage);
+
+    // Then
+    verify(chatMessageRepository, times(1)).findRecentMessagesByChatroomId(anyString(), anyInt());
+
+    ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+    verify(geminiApiAdapter, times(2)).generateText(prompts.capture());
+    assertTrue(
+        prompts
+            .getValue()
+            .contains("사용자: 안녕하세요?\n수리: 안녕하세요! 무엇을 도와드릴까요?\n사용자: 오늘 좀 피곤해요"));
+  }
+
+  @Test
+  @DisplayName("기분 질문도 대화 창에 들어가 사용자 답변의 프롬프트에 이어진다")
+  void processUserMessage_afterMoodInquiry_includesQuestionInHistory() {
+    // given
+    startConversation();
+
+    ChatRoom chatRoom = mock(ChatRoom.class);
+    when(chatRoom.getId()).thenReturn(TEST_CHATROOM_ID);
+    when(chatRoom.getUserId()).thenReturn(TEST_USER_ID);
+    Pagination pagination = Pagination.builder().currentPage(0).totalPages(1).totalItems(1).build();
+    when(chatRoomRepository.findActiveChatRoomsByType(eq(ChatRoomType.AI), anyInt(), anyInt()))
+        .thenReturn(new PagedResult<>(List.of(chatRoom), pagination));
+    when(chatRoomRepository.findByTeamIdAndUserIdAndTypeAndDeletedAtIsNull(
+            isNull(), eq(TEST_USER_ID), eq(ChatRoomType.AI)))
+        .thenReturn(Optional.of(chatRoom));
+    when(moodHistoryRepository.save(any(UserMoodHistory.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(geminiResponseCache.generateText(anyString(), anyString(), anyInt()))
+        .thenReturn(new GeminiTextResponse("오늘 기분이 어떠신가요?", 0.9));
+
+    MoodInquiryServiceImpl moodInquirySender =
+        new MoodInquiryServiceImpl(
+            moodHistoryRepository,
+            chatRoomRepository,
+            mock(ChatRoomService.class),
+            chatMessageService,
+            geminiResponseCache,
+            mock(EmotionAnalysisService.class),
+            sessionStore);
+    moodInquirySender.sendMoodInquiryToAllUsers();
+
+    // when
+    aiChatService.processUserMessage(textMessage("좋아요"));
+
+    // then
+    ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+    verify(geminiApiAdapter, times(2)).generateText(prompts.capture());
+    assertTrue(
+        prompts
+            .getValue()
+            .contains("수리: 안녕하세요! 무엇을 도와드릴까요?\n수리: 오늘 기분이 어떠신가요?\n사용자: 좋아요"));
+  }
+
+  @Test
+  @DisplayName("기본 응답으로 대신한 메시지도 사용자 대화로 대화 창에 남는다")
+  void sendDefaultResponse_recordsUserTurnBeforeDefaultReply() {
+    // given
+    startConversation();
+    aiChatService.sendDefaultResponse(textMessage("오늘 좀 피곤해요"));
+
+    // when
+    aiChatService.processUserMessage(textMessage("고마워요"));
+
+    // then
+    ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+    verify(geminiApiAdapter, times(2)).generateText(prompts.capture());
+    String prompt = prompts.getValue();
+    assertTrue(prompt.contains("수리: 안녕하세요! 무엇을 도와드릴까요?\n사용자: 오늘 좀 피곤해요\n수리: "));
+    assertTrue(prompt.contains("\n사용자: 고마워요"));
+  }
+
+  @Test
+  @DisplayName("대화 첫 메시지가 캐시에 있으면 Gemini 를 호출하지 않는다")
+  void processUserMessage_conversationOpenerCached_skipsGemini() {
+    // Given
+    when(moodInquiryService.getPendingInquiryId(TEST_USER_ID)).thenReturn(Optional.empty());
+    when(chatMessageRepository.findRecentMessagesByChatroomId(anyString(), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(geminiResponseCache.get("안녕하세요?")).thenReturn(Optional.of(geminiResponse));
+    when(chatMessageService.sendMessage(any(ChatMessageRequest.class))).thenReturn(aiResponse);
+
+    // When
+    ChatMessageResponse result = aiChatService.processUserMessage(userMessage);
+
+    // Then
+    assertEquals("ai-msg-id", result.getId());
+    verify(geminiApiAdapter, never()).generateText(anyString());
+    verify(aiReplyStreamer, never()).stream(anyString(), anyString(), any(), any());
+  }
+
   @Test
   @DisplayName("감정 질문이 있을 때 MoodInquiryService가 호출되는지 테스트")
   void processUserMessage_withMoodInquiry_callsMoodInquiryService() {
@@ -166,8 +308,8 @@ class AiChatServiceImplTest {
     // When
     aiChatService.initializeAiChatSession(TEST_USER_ID, TEST_CHATROOM_ID);
 
-    // Then - 세션이 내부적으로 생성되었지만 검증할 방법이 제한적임
-    // 예외가 발생하지 않으면 성공으로 간주
+    // Then
+    verify(sessionStore, times(1)).start(TEST_USER_ID, TEST_CHATROOM_ID);
   }
 
   @Test
@@ -179,8 +321,8 @@ class AiChatServiceImplTest {
     // When
     aiChatService.terminateAiChatSession(TEST_USER_ID, TEST_CHATROOM_ID);
 
-    // Then - 세션이 내부적으로 제거되었지만 검증할 방법이 제한적임
-    // 예외가 발생하지 않으면 성공으로 간주
+    // Then
+    verify(sessionStore, times(1)).end(TEST_USER_ID, TEST_CHATROOM_ID);
   }
 
   @Test
@@ -205,6 +347,54 @@ class AiChatServiceImplTest {
     assertNotNull(result);
     verify(moodInquiryService, times(1)).getPendingInquiryId(TEST_USER_ID);
     verify(geminiApiAdapter, times(1)).generateText(anyString());
+    verify(geminiResponseCache, never()).put(anyString(), any());
     verify(chatMessageService, times(1)).sendMessage(any(ChatMessageRequest.class));
   }
+
+  @Test
+  @DisplayName("스트리밍 모드에서는 AI 응답을 스트리밍 전송기에 맡긴다")
+  void processUserMessage_streamingEnabled_delegatesToStreamer() {
+    // Given
+    when(moodInquiryService.getPendingInquiryId(TEST_USER_ID)).thenReturn(Optional.empty());
+    when(chatMessageRepository.findRecentMessagesByChatroomId(anyString(), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(aiReplyStreamer.isEnabled()).thenReturn(true);
+    when(aiReplyStreamer.stream(eq(TEST_CHATROOM_ID), anyString(), any(), any()))
+        .thenReturn(aiResponse);
+
+    // When
+    ChatMessageResponse result = aiChatService.processUserMessage(userMessage);
+
+    // Then
+    assertEquals("ai-msg-id", result.getId());
+    verify(aiReplyStreamer, times(1)).stream(eq(TEST_CHATROOM_ID), anyString(), any(), any());
+    verify(geminiApiAdapter, never()).generateText(anyString());
+  }
+
+  /** 세션을 시작하고 첫 메시지에 대한 AI 응답까지 주고받아 대화 창을 채운다. */
+  private void startConversation() {
+    ChatMessage savedUserMessage =
+        ChatMessage.builder()
+            .chatroomId(TEST_CHATROOM_ID)
+            .senderId(TEST_USER_ID)
+            .content("안녕하세요?")
+            .build();
+    when(moodInquiryService.getPendingInquiryId(TEST_USER_ID)).thenReturn(Optional.empty());
+    when(chatMessageRepository.findRecentMessagesByChatroomId(TEST_CHATROOM_ID, 10))
+        .thenReturn(List.of(savedUserMessage));
+    when(geminiApiAdapter.generateText(anyString())).thenReturn(geminiResponse);
+    when(chatMessageService.sendMessage(any(ChatMessageRequest.class))).thenReturn(aiResponse);
+
+    aiChatService.initializeAiChatSession(TEST_USER_ID, TEST_CHATROOM_ID);
+    aiChatService.processUserMessage(userMessage);
+  }
+
+  private ChatMessageRequest textMessage(String content) {
+    return ChatMessageRequest.builder()
+        .chatroomId(TEST_CHATROOM_ID)
+        .senderId(TEST_USER_ID)
+        .messageType(MessageType.TEXT)
+        .content(content)
+        .build();
+  }
 }
@@ -0,0 +1,86 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService.EmotionAnalysisResult;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.RedisCountTrigger;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AutoEmotionAnalysisServiceImplTest {
+
+  @Mock private ChatMessageRepository chatMessageRepository;
+  @Mock private UserMoodHistoryRepository userMoodHistoryRepository;
+  @Mock private EmotionAnalysisService emotionAnalysisService;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private RedisCountTrigger redisCountTrigger;
+
+  @InjectMocks private AutoEmotionAnalysisServiceImpl autoEmotionAnalysisService;
+
+  private final String USER_ID = "1";
+  private final String CHATROOM_ID = "room1";
+  private final String COUNT_KEY = "chat:message_count:1:room1";
+
+  @Test
+  @DisplayName("트리거가 발동하지 않으면 감정 분석을 하지 않는다")
+  void processUserMessage_belowThreshold_skipsAnalysis() {
+    // given
+    when(redisCountTrigger.hit(COUNT_KEY, 5, Duration.ofHours(24))).thenReturn(false);
+
+    // when
+    Optional<UserMoodHistory> result =
+        autoEmotionAnalysisService.processUserMessage(USER_ID, CHATROOM_ID, "안녕");
+
+    // then
+    assertThat(result).isEmpty();
+    verifyNoInteractions(chatMessageRepository, emotionAnalysisService);
+    verify(redisTemplate, never()).delete(anyString());
+  }
+
+  @Test
+  @DisplayName("트리거가 발동하면 최근 사용자 메시지로 감정 분석을 한 번 수행한다")
+  void processUserMessage_triggered_analyzesRecentMessages() {
+    // given
+    when(redisCountTrigger.hit(COUNT_KEY, 5, Duration.ofHours(24))).thenReturn(true);
+    when(chatMessageRepository.findRecentMessagesByChatroomId(CHATROOM_ID, 10))
+        .thenReturn(
+            List.of(
+                ChatMessage.builder().senderId(USER_ID).content("오늘 좋았어").build(),
+                ChatMessage.builder().senderId("ai-assistant").content("다행이에요").build()));
+    EmotionAnalysisResult analysisResult =
+        new EmotionAnalysisResult("[[]]", List.of(), "JOY", 0.9, MoodType.JOY, 90);
+    when(emotionAnalysisService.analyzeEmotion("오늘 좋았어")).thenReturn(analysisResult);
+    when(userMoodHistoryRepository.save(any(UserMoodHistory.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    Optional<UserMoodHistory> result =
+        autoEmotionAnalysisService.processUserMessage(USER_ID, CHATROOM_ID, "오늘 좋았어");
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getMoodType()).isEqualTo(MoodType.JOY);
+    verify(emotionAnalysisService).analyzeEmotion("오늘 좋았어");
+  }
+}
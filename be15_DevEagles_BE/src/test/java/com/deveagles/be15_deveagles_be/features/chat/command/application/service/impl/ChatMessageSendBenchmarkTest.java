@@ -0,0 +1,234 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.request.ChatMessageRequest;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.RecentMessageCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 메시지 전송 지연시간 벤치마크 (실제 MongoDB/Redis 연결 필요)
+ *
+ * <p>하나의 팀 채팅방에 초당 1,000건을 고정 속도로 전송하며 기존 전송 경로와 현재 전송 경로의 p50/p99 지연시간을 비교한다. 지연시간은 예정 전송
+ * 시각부터 측정하여 밀린 요청의 대기 시간도 포함한다.
+ */
+@Disabled("실제 MongoDB/Redis 연결이 필요한 벤치마크")
+@SpringBootTest
+class ChatMessageSendBenchmarkTest {
+
+  private static final int MESSAGES_PER_SECOND = 1_000;
+  private static final int DURATION_SECONDS = 10;
+  private static final int WARMUP_MESSAGES = 2_000;
+  private static final int PARTICIPANT_COUNT = 50;
+  private static final int WORKER_THREADS = 64;
+
+  @Autowired private ChatMessageService chatMessageService;
+  @Autowired private ChatMessageRepository chatMessageRepository;
+  @Autowired private ChatRoomRepository chatRoomRepository;
+  @Autowired private MongoTemplate mongoTemplate;
+  @Autowired private RedisTemplate<String, String> redisTemplate;
+  @Autowired private SimpMessagingTemplate messagingTemplate;
+  @Autowired private ObjectMapper objectMapper;
+
+  private String chatroomId;
+
+  @BeforeEach
+  void setUp() {
+    ChatRoom chatRoom =
+        ChatRoom.builder()
+            .teamId("benchmark-team")
+            .name("benchmark-hot-room")
+            .type(ChatRoomType.TEAM)
+            .createdAt(LocalDateTime.now())
+            .participants(new ArrayList<>())
+            .build();
+    for (int i = 1; i <= PARTICIPANT_COUNT; i++) {
+      chatRoom.addParticipant(String.valueOf(i));
+    }
+    chatroomId = chatRoomRepository.save(chatRoom).getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    mongoTemplate.remove(new Query(Criteria.where("chatroomId").is(chatroomId)), ChatMessage.class);
+    chatRoomRepository.deleteById(chatroomId);
+    redisTemplate.delete(
+        List.of("chat:messages:" + chatroomId, RecentMessageCache.keyOf(chatroomId)));
+  }
+
+  @Test
+  @DisplayName("핫 팀 채팅방 1k msgs/sec 전송 지연시간 비교 (기존 vs 현재)")
+  void compareSendLatency() throws Exception {
+    run("기존 전송 경로", WARMUP_MESSAGES, this::legacySend);
+    long[] legacy = run("기존 전송 경로", MESSAGES_PER_SECOND * DURATION_SECONDS, this::legacySend);
+
+    run("현재 전송 경로", WARMUP_MESSAGES, this::currentSend);
+    long[] current =
+        run("현재 전송 경로", MESSAGES_PER_SECOND * DURATION_SECONDS, this::currentSend);
+
+    report("기존 전송 경로", legacy);
+    report("현재 전송 경로", current);
+  }
+
+  private void currentSend(int sequence) {
+    chatMessageService.sendMessage(createRequest(sequence));
+  }
+
+  /** 변경 이전의 전송 경로를 그대로 재현한다. */
+  private void legacySend(int sequence) {
+    ChatMessageRequest request = createRequest(sequence);
+    ChatRoom chatRoom = chatRoomRepository.findById(chatroomId).orElseThrow();
+    chatRoom.getActiveParticipants().stream()
+        .filter(participant -> participant.getUserId().equals(request.getSenderId()))
+        .findFirst()
+        .orElseThrow();
+
+    ChatMessage savedMessage =
+        chatMessageRepository.save(
+            ChatMessage.builder()
+                .chatroomId(chatroomId)
+                .senderId(request.getSenderId())
+                .senderName(request.getSenderName())
+                .messageType(request.getMessageType())
+                .content(request.getContent())
+                .createdAt(ZonedDateTime.now(ZoneOffset.UTC).toLocalDateTime())
+                .build());
+
+    chatRoom.updateLastMessage(
+        ChatRoom.LastMessageInfo.builder()
+            .id(savedMessage.getId())
+            .content(savedMessage.getContent())
+            .senderId(savedMessage.getSenderId())
+            .senderName(savedMessage.getSenderName())
+            .sentAt(savedMessage.getCreatedAt())
+            .build());
+    chatRoomRepository.save(chatRoom);
+
+    ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
+    messagingTemplate.convertAndSend("/topic/chatroom." + chatroomId, response);
+
+    try {
+      String redisKey = "chat:messages:" + chatroomId;
+      double score = savedMessage.getCreatedAt().atZone(ZoneOffset.UTC).toInstant().toEpochMilli();
+      redisTemplate.opsForZSet().add(redisKey, objectMapper.writeValueAsString(response), score);
+      Long size = redisTemplate.opsForZSet().size(redisKey);
+      if (size != null && size > 100) {
+        redisTemplate.opsForZSet().removeRange(redisKey, 0, 0);
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+
+    // 컨트롤러의 AI 채팅방 확인용 재조회
+    chatRoomRepository.findById(chatroomId);
+  }
+
+  private ChatMessageRequest createRequest(int sequence) {
+    String senderId = String.valueOf(sequence % PARTICIPANT_COUNT + 1);
+    return ChatMessageRequest.builder()
+        .chatroomId(chatroomId)
+        .senderId(senderId)
+        .senderName("벤치마크 사용자 " + senderId)
+        .messageType(MessageType.TEXT)
+        .content("benchmark message " + sequence)
+        .build();
+  }
+
+  private long[] run(String name, int totalMessages, SendOperation operation)
+      throws InterruptedException {
+    long[] latencies = new long[totalMessages];
+    AtomicInteger failures = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(totalMessages);
+    ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS);
+    ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / MESSAGES_PER_SECOND;
+    long startNanos = System.nanoTime();
+    AtomicInteger issued = new AtomicInteger();
+
+    ticker.scheduleAtFixedRate(
+        () -> {
+          long due = (System.nanoTime() - startNanos) / intervalNanos + 1;
+          while (issued.get() < Math.min(due, totalMessages)) {
+            int sequence = issued.getAndIncrement();
+            long scheduledAt = startNanos + sequence * intervalNanos;
+            workers.execute(
+                () -> {
+                  try {
+                    operation.send(sequence);
+                  } catch (Exception e) {
+                    failures.incrementAndGet();
+                  } finally {
+                    latencies[sequence] = System.nanoTime() - scheduledAt;
+                    done.countDown();
+                  }
+                });
+          }
+        },
+        0,
+        intervalNanos,
+        TimeUnit.NANOSECONDS);
+
+    done.await();
+    ticker.shutdownNow();
+    workers.shutdown();
+
+    if (failures.get() > 0) {
+      System.out.printf("[%s] 실패 %d건%n", name, failures.get());
+    }
+    return latencies;
+  }
+
+  private void report(String name, long[] latencies) {
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    System.out.printf(
+        "[%s] %d msgs @ %d msgs/sec -> p50=%.2fms, p99=%.2fms, max=%.2fms%n",
+        name,
+        sorted.length,
+        MESSAGES_PER_SECOND,
+        percentile(sorted, 0.50) / 1_000_000.0,
+        percentile(sorted, 0.99) / 1_000_000.0,
+        sorted[sorted.length - 1] / 1_000_000.0);
+  }
+
+  private long percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  @FunctionalInterface
+  private interface SendOperation {
+    void send(int sequence);
+  }
+}
@@ -14,6 +14,9 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.req
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatMessageService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.EmotionAnalysisService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.GeminiResponseCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
@@ -21,7 +24,6 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.Us
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter.EmotionAnalysisResponse;
@@ -53,12 +55,14 @@ class MoodInquiryServiceImplTest {
 
   @Mock private ChatMessageService chatMessageService;
 
-  @Mock private GeminiApiAdapter geminiApiAdapter;
+  @Mock private GeminiResponseCache geminiResponseCache;
 
   @Mock private HuggingFaceApiAdapter huggingFaceApiAdapter;
 
   @Mock private EmotionAnalysisService emotionAnalysisService;
 
+  @Mock private AiChatSessionStore sessionStore;
+
   @InjectMocks private MoodInquiryServiceImpl moodInquiryService;
 
   private static final String TEST_USER_ID = "test-user";
@@ -73,7 +77,7 @@ class MoodInquiryServiceImplTest {
   @BeforeEach
   void setUp() {
     // 기본 테스트 객체 설정
-    geminiResponse = new GeminiTextResponse("오늘 기분이 어떠신가요?", 0.95, Map.of("dummy", "response"));
+    geminiResponse = new GeminiTextResponse("오늘 기분이 어떠신가요?", 0.95);
 
     List<EmotionData> emotions = new ArrayList<>();
     emotions.add(new EmotionData("JOY", 0.8));
@@ -100,7 +104,8 @@ class MoodInquiryServiceImplTest {
     when(moodHistoryRepository.findByUserIdAndCreatedAtBetween(eq(TEST_USER_ID), any(), any()))
         .thenReturn(Arrays.asList()); // 빈 리스트 반환
 
-    when(geminiApiAdapter.generateText(anyString())).thenReturn(geminiResponse);
+    when(geminiResponseCache.generateText(anyString(), anyString(), anyInt()))
+        .thenReturn(geminiResponse);
 
     when(moodHistoryRepository.save(any(UserMoodHistory.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -115,7 +120,7 @@ class MoodInquiryServiceImplTest {
     assertEquals(MoodType.NEUTRAL, result.getMoodType());
     assertNotNull(result.getInquiryId());
 
-    verify(geminiApiAdapter, times(1)).generateText(anyString());
+    verify(geminiResponseCache, times(1)).generateText(anyString(), anyString(), anyInt());
     verify(moodHistoryRepository, times(1)).save(any(UserMoodHistory.class));
   }
 
@@ -134,7 +139,7 @@ class MoodInquiryServiceImplTest {
             () -> moodInquiryService.generateMoodInquiry(TEST_USER_ID));
 
     assertEquals("이미 오늘 기분 질문이 생성되었습니다.", exception.getMessage());
-    verify(geminiApiAdapter, never()).generateText(anyString());
+    verify(geminiResponseCache, never()).generateText(anyString(), anyString(), anyInt());
     verify(moodHistoryRepository, never()).save(any(UserMoodHistory.class));
   }
 
@@ -167,6 +172,7 @@ class MoodInquiryServiceImplTest {
 
     verify(emotionAnalysisService, times(1)).analyzeEmotion(userAnswer);
     verify(moodHistoryRepository, times(1)).save(any(UserMoodHistory.class));
+    verify(moodHistoryRepository, times(1)).refreshLatestMood(result);
   }
 
   @Test
@@ -208,7 +214,8 @@ class MoodInquiryServiceImplTest {
         .thenReturn(Optional.of(chatRoom2));
 
     // 공통 모킹
-    when(geminiApiAdapter.generateText(anyString())).thenReturn(geminiResponse);
+    when(geminiResponseCache.generateText(anyString(), anyString(), anyInt()))
+        .thenReturn(geminiResponse);
 
     UserMoodHistory moodHistory1 = mock(UserMoodHistory.class);
     when(moodHistory1.getInquiryId()).thenReturn("inquiry1");
@@ -245,6 +252,8 @@ class MoodInquiryServiceImplTest {
         .findActiveChatRoomsByType(eq(ChatRoomType.AI), anyInt(), anyInt());
     verify(moodHistoryRepository, times(2)).save(any(UserMoodHistory.class));
     verify(chatMessageService, times(2)).sendMessage(any(ChatMessageRequest.class));
+    verify(sessionStore).appendTurn("user1", "chatroom1", ChatTurn.ai("오늘 기분이 어떠신가요?"));
+    verify(sessionStore).appendTurn("user2", "chatroom2", ChatTurn.ai("오늘 기분이 어떠신가요?"));
 
     // 파라미터가 올바르게 전달되는지 확인
     ArgumentCaptor<ChatMessageRequest> messageCaptor =
@@ -0,0 +1,282 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.TeamPresenceResponse.MemberStatusDto;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.UserStatusMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.TeamPresence;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.TeamRosterCache;
+import com.deveagles.be15_deveagles_be.features.team.command.domain.exception.TeamBusinessException;
+import com.deveagles.be15_deveagles_be.features.team.query.dto.response.MyTeamListResponse;
+import com.deveagles.be15_deveagles_be.features.team.query.mapper.TeamMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceImplTest {
+
+  private static final long OFFLINE_GRACE_MILLIS = 2_000L;
+
+  @Mock private PresenceStore presenceStore;
+  @Mock private TeamRosterCache teamRosterCache;
+  @Mock private TeamMapper teamMapper;
+  @Mock private SimpMessagingTemplate messagingTemplate;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ScheduledExecutorService scheduler;
+
+  private PresenceServiceImpl presenceService;
+
+  @BeforeEach
+  void setUp() {
+    presenceService =
+        new PresenceServiceImpl(
+            presenceStore,
+            teamRosterCache,
+            teamMapper,
+            messagingTemplate,
+            redisTemplate,
+            scheduler,
+            OFFLINE_GRACE_MILLIS,
+            20_000L,
+            Duration.ofSeconds(60),
+            Ticker.systemTicker());
+  }
+
+  private static MyTeamListResponse team(long teamId) {
+    return MyTeamListResponse.builder().teamId(teamId).teamName("팀" + teamId).build();
+  }
+
+  private void verifyStatusSent(long teamId, String userId, boolean online) {
+    verify(messagingTemplate)
+        .convertAndSend(
+            eq("/topic/status.team." + teamId),
+            argThat(
+                (Object payload) ->
+                    payload instanceof UserStatusMessage message
+                        && message.getUserId().equals(userId)
+                        && message.isOnline() == online));
+  }
+
+  @Test
+  @DisplayName("첫 세션이 연결되면 사용자가 속한 팀 토픽에만 온라인 상태를 보낸다")
+  void sessionConnected_publishesToUserTeamsOnly() {
+    // given
+    when(presenceStore.acquire("7")).thenReturn(true);
+    when(teamMapper.selectMyTeamList(7L)).thenReturn(List.of(team(1L), team(2L)));
+
+    // when
+    presenceService.sessionConnected("7");
+
+    // then
+    verifyStatusSent(1L, "7", true);
+    verifyStatusSent(2L, "7", true);
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/status"), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("이미 다른 세션으로 온라인이면 상태를 다시 보내지 않는다")
+  void sessionConnected_alreadyOnline_doesNotPublish() {
+    // given
+    when(presenceStore.acquire("7")).thenReturn(false);
+
+    // when
+    presenceService.sessionConnected("7");
+
+    // then
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("세션 종료는 유예 시간 뒤 스케줄러에서 해제하고, 마지막 세션이면 오프라인 상태를 보낸다")
+  void sessionDisconnected_releasesOnSchedulerAfterGrace() {
+    // given
+    when(presenceStore.release("7")).thenReturn(true);
+    when(teamMapper.selectMyTeamList(7L)).thenReturn(List.of(team(1L)));
+
+    // when
+    presenceService.sessionDisconnected("7");
+
+    // then: 호출 스레드에서는 해제하지 않는다
+    ArgumentCaptor<Runnable> release = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler)
+        .schedule(release.capture(), eq(OFFLINE_GRACE_MILLIS), eq(TimeUnit.MILLISECONDS));
+    verify(presenceStore, never()).release(anyString());
+
+    release.getValue().run();
+    verifyStatusSent(1L, "7", false);
+  }
+
+  @Test
+  @DisplayName("하트비트는 이 서버에 연결된 사용자만 갱신하고, 만료 정리된 사용자의 오프라인 상태를 보낸다")
+  void heartbeat_refreshesLocalUsersAndPublishesExpired() {
+    // given
+    when(presenceStore.acquire(anyString())).thenReturn(false);
+    presenceService.sessionConnected("7");
+    presenceService.sessionConnected("7");
+    presenceService.sessionConnected("8");
+    when(presenceStore.sweepExpired()).thenReturn(List.of("9"));
+    when(teamMapper.selectMyTeamList(9L)).thenReturn(List.of(team(3L)));
+
+    // when
+    presenceService.heartbeat();
+
+    // then
+    verify(presenceStore)
+        .heartbeat(
+            argThat(userIds -> userIds.size() == 2 && userIds.containsAll(List.of("7", "8"))));
+    verifyStatusSent(3L, "9", false);
+  }
+
+  @Test
+  @DisplayName("마지막 세션이 해제된 사용자는 하트비트 대상에서 빠진다")
+  void releaseSession_lastSession_stopsHeartbeat() {
+    // given
+    when(presenceStore.acquire("7")).thenReturn(false);
+    presenceService.sessionConnected("7");
+    presenceService.releaseSession("7");
+    when(presenceStore.sweepExpired()).thenReturn(List.of());
+
+    // when
+    presenceService.heartbeat();
+
+    // then
+    verify(presenceStore).heartbeat(List.of());
+  }
+
+  @Test
+  @DisplayName("사용자의 팀 목록은 캐시해 상태가 바뀔 때마다 조회하지 않는다")
+  void publish_cachesUserTeams() {
+    // given
+    when(presenceStore.acquire("7")).thenReturn(true);
+    when(presenceStore.forceRelease("7")).thenReturn(true);
+    when(teamMapper.selectMyTeamList(7L)).thenReturn(List.of(team(1L)));
+
+    // when
+    presenceService.sessionConnected("7");
+    presenceService.forceOffline("7");
+
+    // then
+    verify(teamMapper, times(1)).selectMyTeamList(7L);
+    verifyStatusSent(1L, "7", false);
+  }
+
+  @Test
+  @DisplayName("상태 알림을 보내기 전에 소속 팀의 상태 버전을 올린다")
+  void publish_recordsTeamChangeBeforeSending() {
+    // given
+    when(presenceStore.acquire("7")).thenReturn(true);
+    when(teamMapper.selectMyTeamList(7L)).thenReturn(List.of(team(1L), team(2L)));
+
+    // when
+    presenceService.sessionConnected("7");
+
+    // then
+    InOrder inOrder = inOrder(presenceStore, messagingTemplate);
+    inOrder.verify(presenceStore).recordTeamChange("7", List.of(1L, 2L));
+    inOrder.verify(messagingTemplate).convertAndSend(eq("/topic/status.team.1"), any(Object.class));
+  }
+
+  private static Map<String, Boolean> statuses(Object... userIdAndOnline) {
+    Map<String, Boolean> statuses = new LinkedHashMap<>();
+    for (int i = 0; i < userIdAndOnline.length; i += 2) {
+      statuses.put((String) userIdAndOnline[i], (Boolean) userIdAndOnline[i + 1]);
+    }
+    return statuses;
+  }
+
+  @Test
+  @DisplayName("since 없이 조회하면 캐시된 팀원 전체의 접속 상태와 현재 버전을 돌려준다")
+  void getTeamPresence_full() {
+    // given
+    when(teamRosterCache.members(1L)).thenReturn(Set.of(7L, 8L));
+    when(presenceStore.readTeam(eq(1L), anyCollection(), isNull()))
+        .thenReturn(new TeamPresence(12L, statuses("7", true, "8", false), null));
+
+    // when
+    TeamPresenceResponse response = presenceService.getTeamPresence(7L, 1L, null);
+
+    // then
+    assertThat(response.getVersion()).isEqualTo(12L);
+    assertThat(response.getDelta()).isFalse();
+    assertThat(response.getMembers())
+        .extracting(MemberStatusDto::getUserId, MemberStatusDto::getOnline)
+        .containsExactly(tuple(7L, true), tuple(8L, false));
+  }
+
+  @Test
+  @DisplayName("since 를 보내면 그 버전 이후 상태가 바뀐 팀원만 돌려준다")
+  void getTeamPresence_delta() {
+    // given
+    when(teamRosterCache.members(1L)).thenReturn(Set.of(7L, 8L, 9L));
+    when(presenceStore.readTeam(eq(1L), anyCollection(), eq(10L)))
+        .thenReturn(
+            new TeamPresence(12L, statuses("7", true, "8", false, "9", true), Set.of("8")));
+
+    // when
+    TeamPresenceResponse response = presenceService.getTeamPresence(7L, 1L, 10L);
+
+    // then
+    assertThat(response.getDelta()).isTrue();
+    assertThat(response.getMembers()).extracting(MemberStatusDto::getUserId).containsExactly(8L);
+  }
+
+  @Test
+  @DisplayName("since 가 현재 버전보다 크면 (Redis 초기화) 전체 팀원을 돌려준다")
+  void getTeamPresence_versionReset_returnsFull() {
+    // given
+    when(teamRosterCache.members(1L)).thenReturn(Set.of(7L));
+    when(presenceStore.readTeam(eq(1L), anyCollection(), eq(50L)))
+        .thenReturn(new TeamPresence(3L, statuses("7", true), Set.of()));
+
+    // when
+    TeamPresenceResponse response = presenceService.getTeamPresence(7L, 1L, 50L);
+
+    // then
+    assertThat(response.getDelta()).isFalse();
+    assertThat(response.getMembers()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("캐시된 팀원 목록에 없으면 한 번 다시 읽고, 그래도 없으면 예외가 발생한다")
+  void getTeamPresence_notMember_throwsAfterReload() {
+    // given
+    when(teamRosterCache.members(1L)).thenReturn(Set.of(8L));
+    when(teamRosterCache.reload(1L)).thenReturn(Set.of(8L));
+
+    // when & then
+    assertThatThrownBy(() -> presenceService.getTeamPresence(7L, 1L, null))
+        .isInstanceOf(TeamBusinessException.class);
+    verify(presenceStore, never()).readTeam(any(), anyCollection(), any());
+  }
+}
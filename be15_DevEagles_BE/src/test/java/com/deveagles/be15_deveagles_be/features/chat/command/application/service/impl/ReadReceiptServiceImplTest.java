@@ -0,0 +1,93 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.UnreadCountStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ReadReceiptRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptServiceImplTest {
+
+  @Mock private ReadReceiptRepository readReceiptRepository;
+  @Mock private ChatMessageRepository chatMessageRepository;
+  @Mock private UnreadCountStore unreadCountStore;
+
+  @InjectMocks private ReadReceiptServiceImpl readReceiptService;
+
+  private final String USER_ID = "1";
+
+  @Test
+  @DisplayName("Redis 카운터가 모두 있으면 MongoDB 를 조회하지 않는다")
+  void getUnreadMessageCounts_allCached() {
+    // given
+    List<String> chatroomIds = List.of("room1", "room2");
+    when(unreadCountStore.getCounts(USER_ID, chatroomIds))
+        .thenReturn(Map.of("room1", 3, "room2", 0));
+
+    // when
+    Map<String, Integer> counts = readReceiptService.getUnreadMessageCounts(chatroomIds, USER_ID);
+
+    // then
+    assertThat(counts).containsEntry("room1", 3).containsEntry("room2", 0);
+    verify(chatMessageRepository, never())
+        .countUnreadMessagesByChatroomIdAfterTimestamp(anyString(), any());
+    verify(unreadCountStore, never()).putIfAbsent(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("카운터가 없는 채팅방만 MongoDB 기준으로 재계산하고 카운터를 복구한다")
+  void getUnreadMessageCounts_reconcilesMissing() {
+    // given
+    List<String> chatroomIds = List.of("room1", "room2");
+    when(unreadCountStore.getCounts(USER_ID, chatroomIds)).thenReturn(Map.of("room1", 3));
+    when(readReceiptRepository.findByChatroomIdAndUserIdAndReadAtAfter(
+            eq("room2"), eq(USER_ID), any(LocalDateTime.class)))
+        .thenReturn(List.of());
+    when(chatMessageRepository.countUnreadMessagesByChatroomIdAfterTimestamp(
+            "room2", LocalDateTime.MIN))
+        .thenReturn(7L);
+
+    // when
+    Map<String, Integer> counts = readReceiptService.getUnreadMessageCounts(chatroomIds, USER_ID);
+
+    // then
+    assertThat(counts).containsEntry("room1", 3).containsEntry("room2", 7);
+    verify(unreadCountStore).putIfAbsent(USER_ID, Map.of("room2", 7));
+    verify(chatMessageRepository, never())
+        .countUnreadMessagesByChatroomIdAfterTimestamp(eq("room1"), any());
+  }
+
+  @Test
+  @DisplayName("메시지 읽음 처리 시 읽지 않은 메시지 카운터를 초기화한다")
+  void markMessageAsRead_resetsCounter() {
+    // given
+    when(readReceiptRepository.findByMessageIdAndUserId("message1", USER_ID))
+        .thenReturn(Optional.empty());
+    when(readReceiptRepository.save(any(ReadReceipt.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    readReceiptService.markMessageAsRead("room1", "message1", USER_ID);
+
+    // then
+    verify(unreadCountStore).reset("room1", USER_ID);
+  }
+}
@@ -0,0 +1,114 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.AiChatSessionStore.AiChatSession;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AiChatSessionStoreTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private SimpleMeterRegistry meterRegistry;
+  private AiChatSessionStore store;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    store =
+        new AiChatSessionStore(
+            meterRegistry, Duration.ofHours(24), 1000, 3, 1000, nanos::get, Clock.systemUTC());
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  @DisplayName("대화를 이어 붙이면 대화 창, 메시지 수, 마지막 활동 시각을 갱신한다")
+  void appendTurn_updatesSession() {
+    // given
+    AiChatSession started = store.start("user1", "room1");
+    store.resume("user1", "room1", List.of(ChatTurn.user("안녕")));
+
+    // when
+    store.appendTurn("user1", "room1", ChatTurn.ai("반가워요"));
+    AiChatSession updated =
+        store.appendTurn("user1", "room1", ChatTurn.user("오늘 피곤해")).orElseThrow();
+
+    // then
+    assertThat(updated.messageCount()).isEqualTo(1);
+    assertThat(updated.initializedAt()).isEqualTo(started.initializedAt());
+    assertThat(updated.lastActivityAt()).isAfterOrEqualTo(started.lastActivityAt());
+    assertThat(updated.context().render()).isEqualTo("사용자: 안녕\n수리: 반가워요\n사용자: 오늘 피곤해");
+  }
+
+  @Test
+  @DisplayName("대화 창을 채우기 전이거나 세션이 없으면 대화를 이어 붙이지 않는다")
+  void appendTurn_withoutContext_returnsEmpty() {
+    // given
+    store.start("user1", "room1");
+
+    // when & then
+    assertThat(store.appendTurn("user1", "room1", ChatTurn.user("안녕"))).isEmpty();
+    assertThat(store.appendTurn("user2", "room1", ChatTurn.user("안녕"))).isEmpty();
+    assertThat(store.find("user2", "room1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("세션이 없으면 대화 창을 채우면서 새로 만들고, 최대 대화 수만 남긴다")
+  void resume_createsSessionAndKeepsLatestTurns() {
+    // when
+    AiChatSession session =
+        store.resume(
+            "user1",
+            "room1",
+            List.of(
+                ChatTurn.user("1"), ChatTurn.ai("2"), ChatTurn.user("3"), ChatTurn.ai("4")));
+
+    // then
+    assertThat(session.context().size()).isEqualTo(3);
+    assertThat(session.context().render()).isEqualTo("수리: 2\n사용자: 3\n수리: 4");
+    assertThat(store.find("user1", "room1")).contains(session);
+  }
+
+  @Test
+  @DisplayName("마지막 활동 후 TTL 이 지나면 세션이 만료된다")
+  void session_expiresAfterInactivity() {
+    // given
+    store.resume("user1", "room1", List.of());
+    advance(Duration.ofHours(20));
+    store.appendTurn("user1", "room1", ChatTurn.user("안녕"));
+
+    // when & then
+    advance(Duration.ofHours(20));
+    assertThat(store.find("user1", "room1")).isPresent();
+
+    advance(Duration.ofHours(25));
+    assertThat(store.find("user1", "room1")).isEmpty();
+    assertThat(store.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("종료한 세션은 더 이상 조회되지 않는다")
+  void end_removesSession() {
+    // given
+    store.start("user1", "room1");
+    store.start("user1", "room2");
+
+    // when
+    store.end("user1", "room1");
+
+    // then
+    assertThat(store.find("user1", "room1")).isEmpty();
+    assertThat(store.find("user1", "room2")).isPresent();
+    assertThat(meterRegistry.get("chat.ai.session.active").gauge().value()).isEqualTo(1.0);
+  }
+}
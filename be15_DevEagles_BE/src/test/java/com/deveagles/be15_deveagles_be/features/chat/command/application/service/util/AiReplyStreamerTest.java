@@ -0,0 +1,142 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.AiStreamChunk;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.GeminiApiException;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AiReplyStreamerTest {
+
+  private static final String CHATROOM_ID = "chatroom1";
+  private static final String STREAM_TOPIC = "/topic/chatroom.chatroom1.stream";
+
+  @Mock private GeminiApiAdapter geminiApiAdapter;
+  @Mock private SimpMessagingTemplate messagingTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AiReplyStreamer aiReplyStreamer;
+  private final List<String> persisted = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    aiReplyStreamer = new AiReplyStreamer(geminiApiAdapter, messagingTemplate, meterRegistry, true);
+  }
+
+  private ChatMessageResponse persist(String content) {
+    persisted.add(content);
+    return ChatMessageResponse.builder().id("ai-msg-id").content(content).build();
+  }
+
+  private List<AiStreamChunk> publishedChunks(int count) {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(messagingTemplate, times(count)).convertAndSend(eq(STREAM_TOPIC), captor.capture());
+    return captor.getAllValues().stream().map(AiStreamChunk.class::cast).toList();
+  }
+
+  @Test
+  @DisplayName("텍스트 조각을 도착 순서대로 보내고 전체 응답은 한 번만 저장한다")
+  void stream_publishesChunksAndPersistsOnce() {
+    // given
+    when(geminiApiAdapter.streamText(eq("prompt"), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<String> onChunk = invocation.getArgument(1);
+              onChunk.accept("안녕");
+              onChunk.accept("하세요");
+              return new GeminiTextResponse("안녕하세요", 1.0);
+            });
+
+    // when
+    ChatMessageResponse result = aiReplyStreamer.stream(CHATROOM_ID, "prompt", this::persist);
+
+    // then
+    assertThat(result.getId()).isEqualTo("ai-msg-id");
+    assertThat(persisted).containsExactly("안녕하세요");
+
+    List<AiStreamChunk> chunks = publishedChunks(3);
+    assertThat(chunks).extracting(AiStreamChunk::getDelta).containsExactly("안녕", "하세요", null);
+    assertThat(chunks).extracting(AiStreamChunk::getSequence).containsExactly(0, 1, 2);
+    assertThat(chunks.get(2).isDone()).isTrue();
+    assertThat(chunks.get(2).getMessageId()).isEqualTo("ai-msg-id");
+    assertThat(meterRegistry.get("chat.ai.stream.first_token").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("스트리밍이 중간에 끊기면 이미 보낸 부분까지 저장한다")
+  void stream_persistsPartialTextOnFailure() {
+    // given
+    when(geminiApiAdapter.streamText(eq("prompt"), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<String> onChunk = invocation.getArgument(1);
+              onChunk.accept("안녕");
+              throw new GeminiApiException.ConnectionException("연결 끊김", "CONNECTION_ERROR");
+            });
+
+    // when
+    aiReplyStreamer.stream(CHATROOM_ID, "prompt", this::persist);
+
+    // then
+    assertThat(persisted).containsExactly("안녕");
+    assertThat(publishedChunks(2).get(1).isDone()).isTrue();
+    assertThat(meterRegistry.get("chat.ai.stream.failed").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("완료 콜백은 스트리밍이 끝까지 성공했을 때만 호출된다")
+  void stream_notifiesCompletionOnlyOnSuccess() {
+    // given
+    GeminiTextResponse full = new GeminiTextResponse("안녕하세요", 1.0);
+    when(geminiApiAdapter.streamText(eq("ok"), any())).thenReturn(full);
+    when(geminiApiAdapter.streamText(eq("broken"), any()))
+        .thenThrow(new GeminiApiException.ServerException("서버 오류", "SERVER_ERROR_503"));
+    List<GeminiTextResponse> completed = new ArrayList<>();
+
+    // when
+    aiReplyStreamer.stream(CHATROOM_ID, "ok", this::persist, completed::add);
+    aiReplyStreamer.stream(CHATROOM_ID, "broken", this::persist, completed::add);
+
+    // then
+    assertThat(completed).containsExactly(full);
+    assertThat(persisted).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("조각을 하나도 받지 못하면 기본 응답을 저장한다")
+  void stream_persistsDefaultResponseWhenNothingReceived() {
+    // given
+    when(geminiApiAdapter.streamText(eq("prompt"), any()))
+        .thenThrow(new GeminiApiException.ServerException("서버 오류", "SERVER_ERROR_503"));
+
+    // when
+    aiReplyStreamer.stream(CHATROOM_ID, "prompt", this::persist);
+
+    // then
+    assertThat(persisted).hasSize(1);
+    assertThat(persisted.get(0)).isNotBlank();
+    assertThat(publishedChunks(1).get(0).isDone()).isTrue();
+    assertThat(meterRegistry.get("chat.ai.stream.first_token").timer().count()).isZero();
+  }
+}
@@ -0,0 +1,51 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatContextWindowTest {
+
+  @Test
+  @DisplayName("가득 찬 창에 대화를 넣으면 가장 오래된 대화를 덮어쓴다")
+  void append_overwritesOldestTurnWhenFull() {
+    // given
+    ChatContextWindow window = ChatContextWindow.empty(2, 1000);
+
+    // when
+    ChatContextWindow first = window.append(ChatTurn.user("하나"));
+    ChatContextWindow full = first.append(ChatTurn.ai("둘")).append(ChatTurn.user("셋"));
+
+    // then
+    assertThat(full.size()).isEqualTo(2);
+    assertThat(full.get(0)).isEqualTo(ChatTurn.ai("둘"));
+    assertThat(full.get(1)).isEqualTo(ChatTurn.user("셋"));
+    assertThat(first.size()).isEqualTo(1);
+    assertThat(first.get(0)).isEqualTo(ChatTurn.user("하나"));
+  }
+
+  @Test
+  @DisplayName("토큰 예산을 넘으면 오래된 대화부터 빼고 최신 대화를 남긴다")
+  void render_dropsOldestTurnsOverBudget() {
+    // given: 한글 5자 + 줄 오버헤드 2 = 대화당 7 토큰
+    ChatContextWindow window =
+        ChatContextWindow.of(
+            10,
+            15,
+            List.of(ChatTurn.user("첫번째말"), ChatTurn.ai("두번째말이"), ChatTurn.user("세번째말이")));
+
+    // when & then
+    assertThat(window.render()).isEqualTo("수리: 두번째말이\n사용자: 세번째말이");
+  }
+
+  @Test
+  @DisplayName("ASCII 는 네 글자에 한 토큰, 그 밖의 글자는 한 글자에 한 토큰으로 센다")
+  void estimateTokens_countsAsciiAndOtherCharacters() {
+    assertThat(ChatContextWindow.estimateTokens(null)).isZero();
+    assertThat(ChatContextWindow.estimateTokens("hello")).isEqualTo(2);
+    assertThat(ChatContextWindow.estimateTokens("안녕 hi")).isEqualTo(3);
+  }
+}
@@ -0,0 +1,115 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.PromptTemplate;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatContextWindow.ChatTurn;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AI 프롬프트 조립 벤치마크
+ *
+ * <p>최근 대화 10건으로 프롬프트를 만드는 비용을 비교한다. 기존 경로는 매 메시지마다 최근 메시지 목록을 DB 에서 읽어 문자열을 새로 만들었고, 현재 경로는 세션의
+ * 대화 창에 새 대화를 넣고 토큰 예산 안에서 렌더링한다. DB 조회는 측정에서 빠져 있으므로, 기존 경로의 실제 비용은 여기에 조회 한 번(수 ms)이 더해진다.
+ */
+@Disabled("수동 실행용 벤치마크")
+class ChatPromptAssemblyBenchmarkTest {
+
+  private static final int TURNS = 10;
+  private static final int WARMUP_ITERATIONS = 50_000;
+  private static final int MEASURE_ITERATIONS = 500_000;
+  private static final String USER_MESSAGE = "요즘 일이 많아서 좀 지치네요. 주말에는 뭘 하면 좋을까요?";
+
+  private final List<ChatMessage> recentMessages = new ArrayList<>();
+  private ChatContextWindow window;
+
+  @BeforeEach
+  void setUp() {
+    LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 0);
+    List<ChatTurn> turns = new ArrayList<>();
+    // findRecentMessagesByChatroomId 와 같이 최신 메시지가 앞에 오도록 쌓는다
+    for (int i = TURNS - 1; i >= 0; i--) {
+      boolean fromAi = i % 2 == 1;
+      String content =
+          fromAi ? "그럴 때는 잠깐 산책을 하며 쉬어 보는 건 어떨까요? #" + i : "오늘 회의가 길어서 피곤했어요. #" + i;
+      recentMessages.add(
+          ChatMessage.builder()
+              .chatroomId("benchmark-room")
+              .senderId(fromAi ? "ai-assistant" : "user-1")
+              .messageType(MessageType.TEXT)
+              .content(content)
+              .createdAt(base.plusSeconds(i))
+              .build());
+    }
+    for (int i = recentMessages.size() - 1; i >= 0; i--) {
+      ChatMessage message = recentMessages.get(i);
+      turns.add(new ChatTurn("ai-assistant".equals(message.getSenderId()), message.getContent()));
+    }
+    window = ChatContextWindow.of(TURNS, 1000, turns);
+  }
+
+  @Test
+  @DisplayName("최근 대화 10건 프롬프트 조립 비용 비교 (기존 vs 현재)")
+  void comparePromptAssembly() {
+    run("기존 경로", WARMUP_ITERATIONS, this::legacyPath);
+    Result legacy = run("기존 경로", MEASURE_ITERATIONS, this::legacyPath);
+
+    run("현재 경로", WARMUP_ITERATIONS, this::currentPath);
+    Result current = run("현재 경로", MEASURE_ITERATIONS, this::currentPath);
+
+    report("기존 경로", legacy);
+    report("현재 경로", current);
+  }
+
+  /** 변경 이전의 조립 경로: 조회한 메시지 목록을 역순으로 훑어 대화 기록을 만든다. */
+  private String legacyPath() {
+    StringBuilder historyBuilder = new StringBuilder();
+    for (int i = recentMessages.size() - 1; i >= 0; i--) {
+      ChatMessage message = recentMessages.get(i);
+      String senderName = "ai-assistant".equals(message.getSenderId()) ? "수리" : "사용자";
+      historyBuilder.append(senderName).append(": ").append(message.getContent()).append("\n");
+    }
+    return PromptTemplate.getAiResponsePromptWithHistory(
+        historyBuilder.toString().trim(), USER_MESSAGE);
+  }
+
+  private String currentPath() {
+    ChatContextWindow next = window.append(ChatTurn.user(USER_MESSAGE));
+    return PromptTemplate.getAiResponsePromptWithHistory(next.render(), USER_MESSAGE);
+  }
+
+  private Result run(String name, int iterations, Supplier<String> assembler) {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    long sink = 0;
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink += assembler.get().length();
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    if (sink == 0) {
+      throw new IllegalStateException(name + " 프롬프트가 비어 있습니다.");
+    }
+    return new Result(elapsedNanos / iterations, allocated / iterations);
+  }
+
+  private void report(String name, Result result) {
+    System.out.printf(
+        "[%s] %,d ns/op, %,d bytes/op 할당%n", name, result.nanosPerOp(), result.bytesPerOp());
+  }
+
+  private record Result(long nanosPerOp, long bytesPerOp) {}
+}
@@ -0,0 +1,136 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache.Membership;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom.ChatRoomType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipCacheTest {
+
+  @Mock private ChatRoomRepository chatRoomRepository;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  @InjectMocks private ChatRoomMembershipCache chatRoomMembershipCache;
+
+  private final String CHATROOM_ID = "chatroom1";
+  private ChatRoom chatRoom;
+
+  @BeforeEach
+  void setUp() {
+    chatRoom =
+        ChatRoom.builder()
+            .id(CHATROOM_ID)
+            .teamId("team1")
+            .name("팀 채팅방")
+            .type(ChatRoomType.TEAM)
+            .isDefault(true)
+            .createdAt(LocalDateTime.now())
+            .participants(new ArrayList<>())
+            .build();
+    chatRoom.addParticipant("1");
+    chatRoom.addParticipant("2");
+    chatRoom.addParticipant("3");
+    chatRoom.removeParticipant("2");
+    chatRoom.getParticipant("3").toggleNotification();
+  }
+
+  @Test
+  @DisplayName("채팅방 멤버십은 한 번만 조회하고 이후에는 캐시에서 반환한다")
+  void get_loadsOnce() {
+    // given
+    when(chatRoomRepository.findById(CHATROOM_ID)).thenReturn(Optional.of(chatRoom));
+
+    // when
+    Optional<Membership> first = chatRoomMembershipCache.get(CHATROOM_ID);
+    Optional<Membership> second = chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // then
+    assertThat(first).isPresent();
+    assertThat(second).containsSame(first.get());
+    assertThat(first.get().isParticipant("1")).isTrue();
+    assertThat(first.get().isParticipant("2")).isFalse();
+    assertThat(first.get().isTeamChatRoom()).isTrue();
+    assertThat(first.get().isDefault()).isTrue();
+    assertThat(first.get().isNotificationEnabled("1")).isTrue();
+    assertThat(first.get().isNotificationEnabled("3")).isFalse();
+    verify(chatRoomRepository, times(1)).findById(CHATROOM_ID);
+  }
+
+  @Test
+  @DisplayName("무효화 후에는 채팅방을 다시 조회한다")
+  void evict_reloads() {
+    // given
+    when(chatRoomRepository.findById(CHATROOM_ID)).thenReturn(Optional.of(chatRoom));
+    chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // when
+    chatRoomMembershipCache.evict(CHATROOM_ID);
+    chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // then
+    verify(chatRoomRepository, times(2)).findById(CHATROOM_ID);
+    verify(redisTemplate).convertAndSend(ChatRoomMembershipCache.INVALIDATION_CHANNEL, CHATROOM_ID);
+  }
+
+  @Test
+  @DisplayName("다른 서버에서 전파된 무효화는 다시 전파하지 않는다")
+  void evictLocal_doesNotPublish() {
+    // given
+    when(chatRoomRepository.findById(CHATROOM_ID)).thenReturn(Optional.of(chatRoom));
+    chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // when
+    chatRoomMembershipCache.evictLocal(CHATROOM_ID);
+    chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // then
+    verify(chatRoomRepository, times(2)).findById(CHATROOM_ID);
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 채팅방을 필수로 조회하면 예외가 발생한다")
+  void getOrThrow_notFound() {
+    // given
+    when(chatRoomRepository.findById(CHATROOM_ID)).thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> chatRoomMembershipCache.getOrThrow(CHATROOM_ID))
+        .isInstanceOf(ChatBusinessException.class);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 채팅방은 빈 값을 반환한다")
+  void get_notFound() {
+    // given
+    when(chatRoomRepository.findById(CHATROOM_ID)).thenReturn(Optional.empty());
+
+    // when
+    Optional<Membership> membership = chatRoomMembershipCache.get(CHATROOM_ID);
+
+    // then
+    assertThat(membership).isEmpty();
+  }
+}
@@ -0,0 +1,151 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiResponseCacheTest {
+
+  private static final String MOOD_PROMPT = "사용자의 기분을 묻는 질문을 1개만 생성해주세요. 질문은 짧고 친근하게 해주세요.";
+
+  @Mock private GeminiApiAdapter geminiApiAdapter;
+
+  private SimpleMeterRegistry meterRegistry;
+  private GeminiResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = newCache(3600, 100);
+  }
+
+  private GeminiResponseCache newCache(long ttlSeconds, int maxEntries) {
+    return new GeminiResponseCache(
+        geminiApiAdapter, meterRegistry, ttlSeconds, maxEntries, 30, 0.8);
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get("chat.ai.cache.requests").tag("result", result).counter().count();
+  }
+
+  @Test
+  @DisplayName("공백, 문장부호, 대소문자만 다른 입력은 정확 일치로 찾는다")
+  void get_normalizesKeyForExactMatch() {
+    // given
+    GeminiTextResponse response = new GeminiTextResponse("안녕하세요! 반가워요", 1.0);
+    cache.put("Hello 수리야!", response);
+
+    // when & then
+    assertThat(cache.get("  hello   수리야??")).contains(response);
+    assertThat(requests("hit")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("짧은 입력은 글자 2-gram 유사도가 기준 이상이면 유사 일치로 찾는다")
+  void get_matchesSimilarShortKey() {
+    // given
+    GeminiTextResponse response = new GeminiTextResponse("좋은 아침이에요", 1.0);
+    cache.put("좋은 아침이에요 수리야", response);
+
+    // when & then
+    assertThat(cache.get("좋은 아침이에요 수리")).contains(response);
+    assertThat(cache.get("오늘 점심 뭐 먹지")).isEmpty();
+    assertThat(requests("similar_hit")).isEqualTo(1.0);
+    assertThat(requests("miss")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("긴 입력은 유사 일치를 쓰지 않는다")
+  void get_skipsSimilarityForLongKey() {
+    // given
+    cache.put(MOOD_PROMPT, new GeminiTextResponse("오늘 기분은 어떤 색인가요?", 1.0));
+
+    // when & then
+    assertThat(cache.get(MOOD_PROMPT.replace("1개만", "한 개만"))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("변형 수만큼 모일 때까지만 Gemini 를 호출하고 이후에는 모인 응답을 돌려준다")
+  void generateText_collectsVariantsThenServesFromCache() {
+    // given
+    when(geminiApiAdapter.generateText(MOOD_PROMPT))
+        .thenReturn(
+            new GeminiTextResponse("질문 1", 1.0),
+            new GeminiTextResponse("질문 2", 1.0),
+            new GeminiTextResponse("질문 3", 1.0));
+
+    // when
+    Set<String> questions = new HashSet<>();
+    for (int i = 0; i < 20; i++) {
+      questions.add(cache.generateText(MOOD_PROMPT, MOOD_PROMPT, 3).getText());
+    }
+
+    // then
+    verify(geminiApiAdapter, times(3)).generateText(MOOD_PROMPT);
+    assertThat(questions).containsExactlyInAnyOrder("질문 1", "질문 2", "질문 3");
+    assertThat(requests("hit")).isEqualTo(17.0);
+    assertThat(requests("miss")).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("빈 응답은 저장하지 않는다")
+  void generateText_doesNotCacheEmptyResponse() {
+    // given
+    when(geminiApiAdapter.generateText(anyString())).thenReturn(GeminiTextResponse.empty());
+
+    // when
+    cache.generateText("안녕", "prompt", 1);
+    cache.generateText("안녕", "prompt", 1);
+
+    // then
+    verify(geminiApiAdapter, times(2)).generateText("prompt");
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("TTL 이 지난 항목은 쓰지 않는다")
+  void get_ignoresExpiredEntry() throws InterruptedException {
+    // given
+    cache = newCache(0, 100);
+    cache.put("안녕", new GeminiTextResponse("안녕하세요", 1.0));
+    Thread.sleep(5);
+
+    // when & then
+    assertThat(cache.get("안녕")).isEmpty();
+    verify(geminiApiAdapter, never()).generateText(anyString());
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 밀어낸다")
+  void put_evictsLeastRecentlyUsedEntry() {
+    // given
+    cache = newCache(3600, 2);
+    cache.put("하나", new GeminiTextResponse("1", 1.0));
+    cache.put("둘둘", new GeminiTextResponse("2", 1.0));
+    cache.get("하나");
+
+    // when
+    cache.put("셋셋", new GeminiTextResponse("3", 1.0));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("하나")).isPresent();
+    assertThat(cache.get("둘둘")).isEmpty();
+  }
+}
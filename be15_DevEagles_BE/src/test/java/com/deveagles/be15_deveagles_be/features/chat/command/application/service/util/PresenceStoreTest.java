@@ -0,0 +1,207 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.ACQUIRE_SCRIPT;
+import static com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.RELEASE_SCRIPT;
+import static com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.SWEEP_SCRIPT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.PresenceStore.TeamPresence;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceStoreTest {
+
+  private static final long NOW = 1_000_000L;
+  private static final long TTL_MILLIS = 60_000L;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  private PresenceStore store(int shards) {
+    return new PresenceStore(
+        redisTemplate,
+        shards,
+        TTL_MILLIS,
+        Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("세션 등록은 같은 샤드 해시 태그의 두 키와 만료 시각으로 스크립트를 실행한다")
+  void acquire_runsScriptOnShardKeys() {
+    // given
+    PresenceStore store = store(1);
+    when(redisTemplate.execute(
+            ACQUIRE_SCRIPT,
+            List.of("chat:presence:{0}:online", "chat:presence:{0}:sessions"),
+            "7",
+            String.valueOf(NOW),
+            String.valueOf(NOW + TTL_MILLIS)))
+        .thenReturn(1L);
+
+    // when & then
+    assertThat(store.acquire("7")).isTrue();
+  }
+
+  @Test
+  @DisplayName("만료됐지만 아직 정리되지 않은 접속 상태로 다시 접속하면 남은 세션 수를 이어 세지 않고 1 로 시작한다")
+  void acquire_afterExpiredUnsweptEntry_resetsSessionCount() {
+    // given
+    PresenceStore store = store(1);
+    // 스크립트는 만료 시각이 현재 시각 이하이면 온라인으로 바뀐 것으로 보고 1 을 돌려준다
+    when(redisTemplate.execute(
+            ACQUIRE_SCRIPT,
+            List.of("chat:presence:{0}:online", "chat:presence:{0}:sessions"),
+            "7",
+            String.valueOf(NOW),
+            String.valueOf(NOW + TTL_MILLIS)))
+        .thenReturn(1L);
+
+    // when
+    boolean becameOnline = store.acquire("7");
+
+    // then
+    assertThat(becameOnline).isTrue();
+    String script = ACQUIRE_SCRIPT.getScriptAsString();
+    String liveBranch = "if previous and tonumber(previous) > tonumber(ARGV[2]) then";
+    // 세션 수 증가는 만료 여부를 확인한 뒤, 살아 있는 항목일 때만 일어난다
+    assertThat(script.indexOf("HINCRBY"))
+        .isGreaterThan(script.indexOf("ZSCORE"))
+        .isGreaterThan(script.indexOf(liveBranch));
+    assertThat(script.substring(script.indexOf("end ")))
+        .contains("redis.call('HSET', KEYS[2], ARGV[1], 1)");
+  }
+
+  @Test
+  @DisplayName("다른 세션이 남아 있으면 세션 해제가 오프라인으로 바뀌지 않는다")
+  void release_keepsOnlineWhileSessionsRemain() {
+    // given
+    PresenceStore store = store(1);
+    when(redisTemplate.execute(
+            RELEASE_SCRIPT,
+            List.of("chat:presence:{0}:online", "chat:presence:{0}:sessions"),
+            "7"))
+        .thenReturn(0L);
+
+    // when & then
+    assertThat(store.release("7")).isFalse();
+  }
+
+  @Test
+  @DisplayName("여러 사용자 조회는 파이프라인 한 번으로 처리하고 만료 시각이 지난 사용자는 오프라인으로 본다")
+  void areOnline_usesSinglePipelineAndIgnoresExpiredScores() {
+    // given
+    PresenceStore store = store(1);
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(
+            List.<Object>of(Arrays.asList((double) NOW + 1_000, (double) NOW - 1_000, null)));
+
+    // when
+    Map<String, Boolean> online = store.areOnline(List.of("1", "2", "3"));
+
+    // then
+    assertThat(online)
+        .containsExactly(Map.entry("1", true), Map.entry("2", false), Map.entry("3", false));
+  }
+
+  @Test
+  @DisplayName("여러 샤드에 흩어진 사용자도 요청한 순서대로 결과를 돌려준다")
+  void areOnline_mapsResultsBackAcrossShards() {
+    // given
+    PresenceStore store = store(2);
+    List<String> userIds = List.of("1", "2", "3", "4");
+    // 샤드 순서는 처음 등장한 사용자의 샤드 순서를 따른다
+    int firstShard = store.shardOf("1");
+    List<Double> firstShardScores =
+        userIds.stream()
+            .filter(userId -> store.shardOf(userId) == firstShard)
+            .map(userId -> (double) NOW + 1_000)
+            .toList();
+    List<Double> secondShardScores =
+        userIds.stream()
+            .filter(userId -> store.shardOf(userId) != firstShard)
+            .map(userId -> (Double) null)
+            .toList();
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.<Object>of(firstShardScores, secondShardScores));
+
+    // when
+    Map<String, Boolean> online = store.areOnline(userIds);
+
+    // then
+    assertThat(online.keySet()).containsExactlyElementsOf(userIds);
+    userIds.forEach(
+        userId -> assertThat(online.get(userId)).isEqualTo(store.shardOf(userId) == firstShard));
+  }
+
+  @Test
+  @DisplayName("팀 조회는 버전, 변경된 사용자, 접속 여부를 한 파이프라인 결과에서 순서대로 읽는다")
+  void readTeam_parsesVersionChangesAndScores() {
+    // given
+    PresenceStore store = store(1);
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(
+            List.<Object>of("12", Set.of("8"), Arrays.asList((double) NOW + 1_000, null)));
+
+    // when
+    TeamPresence presence = store.readTeam(1L, List.of("7", "8"), 10L);
+
+    // then
+    assertThat(presence.version()).isEqualTo(12L);
+    assertThat(presence.changedSince()).containsExactly("8");
+    assertThat(presence.online()).containsExactly(Map.entry("7", true), Map.entry("8", false));
+  }
+
+  @Test
+  @DisplayName("상태 변경이 없던 팀은 버전 0 으로 보고, 변경 조회를 요청하지 않으면 변경 목록이 없다")
+  void readTeam_withoutVersionOrSince() {
+    // given
+    PresenceStore store = store(1);
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(Arrays.<Object>asList(null, Arrays.asList((Double) null)));
+
+    // when
+    TeamPresence presence = store.readTeam(1L, List.of("7"), null);
+
+    // then
+    assertThat(presence.version()).isZero();
+    assertThat(presence.changedSince()).isNull();
+    assertThat(presence.online()).containsExactly(Map.entry("7", false));
+  }
+
+  @Test
+  @DisplayName("만료 정리는 모든 샤드를 돌며 오프라인이 된 사용자를 모은다")
+  void sweepExpired_collectsAcrossShards() {
+    // given
+    PresenceStore store = store(2);
+    when(redisTemplate.execute(
+            eq(SWEEP_SCRIPT),
+            eq(List.of("chat:presence:{0}:online", "chat:presence:{0}:sessions")),
+            any(),
+            any()))
+        .thenReturn(List.of("2"));
+    when(redisTemplate.execute(
+            eq(SWEEP_SCRIPT),
+            eq(List.of("chat:presence:{1}:online", "chat:presence:{1}:sessions")),
+            any(),
+            any()))
+        .thenReturn(List.of("3", "5"));
+
+    // when & then
+    assertThat(store.sweepExpired()).containsExactly("2", "3", "5");
+  }
+}
@@ -0,0 +1,115 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * {@link RedisCountTrigger} Lua 스크립트 통합 테스트 (실제 Redis 연결 필요)
+ *
+ * <p>localhost:6379 Redis 에서 실제 스크립트를 실행해 동시 호출 시 임계값마다 한 번만 발동하는지, 카운터의 TTL 과 초기화가 스크립트대로 동작하는지
+ * 확인한다.
+ */
+@Disabled("실제 Redis 연결이 필요한 통합 테스트")
+class RedisCountTriggerIntegrationTest {
+
+  private static final String KEY = "chat:message_count:integration-test";
+
+  private LettuceConnectionFactory connectionFactory;
+  private RedisTemplate<String, String> redisTemplate;
+  private RedisCountTrigger redisCountTrigger;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(connectionFactory);
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(new StringRedisSerializer());
+    redisTemplate.afterPropertiesSet();
+    redisTemplate.delete(KEY);
+
+    redisCountTrigger = new RedisCountTrigger(redisTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (redisTemplate != null) {
+      redisTemplate.delete(KEY);
+    }
+    if (connectionFactory != null) {
+      connectionFactory.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("첫 호출에 TTL 이 걸리고, 임계값에 도달하면 카운터가 지워진다")
+  void hit_setsTtlAndDeletesAtThreshold() {
+    // when
+    boolean first = redisCountTrigger.hit(KEY, 3, Duration.ofSeconds(60));
+
+    // then
+    assertThat(first).isFalse();
+    assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("1");
+    assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isBetween(1L, 60L);
+
+    assertThat(redisCountTrigger.hit(KEY, 3, Duration.ofSeconds(60))).isFalse();
+    assertThat(redisCountTrigger.hit(KEY, 3, Duration.ofSeconds(60))).isTrue();
+    assertThat(redisTemplate.hasKey(KEY)).isFalse();
+  }
+
+  @Test
+  @DisplayName("동시에 호출해도 임계값마다 정확히 한 번만 발동한다")
+  void hit_firesExactlyOnceUnderConcurrency() throws Exception {
+    // given
+    int threads = 16;
+    int hitsPerThread = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger fired = new AtomicInteger();
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                start.await();
+                for (int i = 0; i < hitsPerThread; i++) {
+                  if (redisCountTrigger.hit(KEY, 5, Duration.ofHours(24))) {
+                    fired.incrementAndGet();
+                  }
+                }
+                return null;
+              }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(fired.get()).isEqualTo(threads * hitsPerThread / 5);
+    assertThat(redisTemplate.hasKey(KEY)).isFalse();
+  }
+}
@@ -0,0 +1,83 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.service.util;
+
+import static com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.RedisCountTrigger.INCREMENT_AND_TRIGGER_SCRIPT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/** 스크립트 인자 전달과 결과 해석만 확인한다. 스크립트 자체의 원자성은 RedisCountTriggerIntegrationTest 에서 실제 Redis 로 확인한다. */
+@ExtendWith(MockitoExtension.class)
+class RedisCountTriggerTest {
+
+  private static final String KEY = "chat:message_count:user1:room1";
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  private RedisCountTrigger redisCountTrigger;
+
+  @BeforeEach
+  void setUp() {
+    redisCountTrigger = new RedisCountTrigger(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("카운터 키, 임계값, TTL(초)을 스크립트 인자로 넘긴다")
+  void hit_passesKeyThresholdAndTtl() {
+    // given
+    when(redisTemplate.execute(eq(INCREMENT_AND_TRIGGER_SCRIPT), anyList(), any(), any()))
+        .thenReturn(0L);
+
+    // when
+    redisCountTrigger.hit(KEY, 5, Duration.ofHours(24));
+
+    // then
+    verify(redisTemplate)
+        .execute(eq(INCREMENT_AND_TRIGGER_SCRIPT), eq(List.of(KEY)), eq("5"), eq("86400"));
+  }
+
+  @Test
+  @DisplayName("스크립트가 1 을 돌려주면 발동한다")
+  void hit_scriptReturnsOne_fires() {
+    // given
+    when(redisTemplate.execute(eq(INCREMENT_AND_TRIGGER_SCRIPT), anyList(), any(), any()))
+        .thenReturn(1L);
+
+    // when & then
+    assertThat(redisCountTrigger.hit(KEY, 5, Duration.ofHours(24))).isTrue();
+  }
+
+  @Test
+  @DisplayName("스크립트가 0 이나 null 을 돌려주면 발동하지 않는다")
+  void hit_scriptReturnsZeroOrNull_doesNotFire() {
+    // given
+    when(redisTemplate.execute(eq(INCREMENT_AND_TRIGGER_SCRIPT), anyList(), any(), any()))
+        .thenReturn(0L, (Long) null);
+
+    // when & then
+    assertThat(redisCountTrigger.hit(KEY, 5, Duration.ofHours(24))).isFalse();
+    assertThat(redisCountTrigger.hit(KEY, 5, Duration.ofHours(24))).isFalse();
+  }
+
+  @Test
+  @DisplayName("임계값이 1 미만이면 예외가 발생한다")
+  void hit_withInvalidThreshold_throwsException() {
+    assertThatThrownBy(() -> redisCountTrigger.hit(KEY, 0, Duration.ofHours(24)))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(redisTemplate);
+  }
+}
@@ -0,0 +1,67 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmotionScoresTest {
+
+  @Test
+  @DisplayName("라벨 대소문자와 상관없이 감정별로 점수를 모으고, 알 수 없는 라벨은 NEUTRAL 로 모은다")
+  void builder_mapsLabelsToMoodTypes() {
+    // when
+    EmotionScores scores =
+        EmotionScores.builder()
+            .put("joy", 0.6)
+            .put("SADNESS", 0.2)
+            .put("contempt", 0.1)
+            .put("unknown", 0.05)
+            .build();
+
+    // then
+    assertThat(scores.score(MoodType.JOY)).isEqualTo(0.6f);
+    assertThat(scores.score(MoodType.SADNESS)).isEqualTo(0.2f);
+    assertThat(scores.score(MoodType.NEUTRAL)).isEqualTo(0.1f);
+    assertThat(scores.score(MoodType.ANGER)).isZero();
+    assertThat(scores.strongest()).isEqualTo(MoodType.JOY);
+  }
+
+  @Test
+  @DisplayName("점수가 모두 0 이면 비어 있고 대표 감정은 NEUTRAL 이다")
+  void empty_strongestIsNeutral() {
+    assertThat(EmotionScores.empty().isEmpty()).isTrue();
+    assertThat(EmotionScores.empty().strongest()).isEqualTo(MoodType.NEUTRAL);
+  }
+
+  @Test
+  @DisplayName("바이트로 저장했다가 읽어도 같은 점수를 돌려준다")
+  void toBytes_roundTrips() {
+    // given
+    EmotionScores scores = EmotionScores.builder().put(MoodType.FEAR, 0.75).build();
+
+    // when
+    byte[] bytes = scores.toBytes();
+
+    // then
+    assertThat(bytes).hasSize(MoodType.values().length * Float.BYTES);
+    assertThat(EmotionScores.fromBytes(bytes)).isEqualTo(scores);
+  }
+
+  @Test
+  @DisplayName("감정 종류가 늘기 전에 저장된 짧은 값은 없는 감정을 0 으로 읽는다")
+  void fromBytes_withShorterValue_fillsMissingWithZero() {
+    // given
+    byte[] bytes = EmotionScores.builder().put(MoodType.JOY, 0.9).build().toBytes();
+    byte[] older = Arrays.copyOf(bytes, Float.BYTES * 2);
+
+    // when
+    EmotionScores scores = EmotionScores.fromBytes(older);
+
+    // then
+    assertThat(scores.score(MoodType.JOY)).isEqualTo(0.9f);
+    assertThat(scores.score(MoodType.NEUTRAL)).isZero();
+  }
+}
@@ -0,0 +1,35 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.ChatBusinessException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageCursorTest {
+
+  @Test
+  @DisplayName("인코딩한 커서를 디코딩하면 밀리초 단위 시각과 ID 가 그대로 복원된다")
+  void encodeDecode_roundTrip() {
+    // given
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_789);
+    MessageCursor cursor = new MessageCursor(createdAt, "65f1c2a9e4b0a1b2c3d4e5f6");
+
+    // when
+    MessageCursor decoded = MessageCursor.decode(cursor.encode());
+
+    // then
+    assertThat(decoded.createdAt()).isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000));
+    assertThat(decoded.id()).isEqualTo("65f1c2a9e4b0a1b2c3d4e5f6");
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 커서는 ChatBusinessException 을 던진다")
+  void decode_invalidCursor() {
+    assertThatThrownBy(() -> MessageCursor.decode("not-a-cursor"))
+        .isInstanceOf(ChatBusinessException.class);
+    assertThatThrownBy(() -> MessageCursor.decode(null)).isInstanceOf(ChatBusinessException.class);
+  }
+}
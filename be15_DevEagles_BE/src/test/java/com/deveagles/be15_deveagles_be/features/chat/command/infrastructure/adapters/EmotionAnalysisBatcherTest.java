@@ -0,0 +1,126 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig;
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig.PoolSettings;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.HuggingFaceApiException;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter.EmotionAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmotionAnalysisBatcherTest {
+
+  private StubHttpServer server;
+  private CloseableHttpClient httpClient;
+  private SimpleMeterRegistry meterRegistry;
+  private EmotionAnalysisBatcher batcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = StubHttpServer.start();
+    meterRegistry = new SimpleMeterRegistry();
+    httpClient =
+        AiHttpClientConfig.pooledHttpClient(
+            "huggingface", new PoolSettings(1000, 2000, 2, 30000), meterRegistry);
+    HuggingFaceApiAdapter huggingFaceApiAdapter =
+        new HuggingFaceApiAdapter(
+            AiHttpClientConfig.restTemplateFor(httpClient), new ObjectMapper());
+    ReflectionTestUtils.setField(huggingFaceApiAdapter, "apiKey", "test-api-key");
+    ReflectionTestUtils.setField(huggingFaceApiAdapter, "apiUrl", server.url("/models/emotion"));
+
+    // 최대 건수가 먼저 차도록 대기 시간을 넉넉히 둔다
+    batcher =
+        new EmotionAnalysisBatcher(huggingFaceApiAdapter, meterRegistry, 3, 1000, 10, 2, 5000);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    batcher.shutdown();
+    httpClient.close();
+    server.close();
+  }
+
+  @Test
+  @DisplayName("동시에 들어온 요청을 HTTP 요청 하나로 묶고 결과를 요청별로 돌려준다")
+  void submit_coalescesRequestsIntoOneBatch() throws Exception {
+    // Given
+    server.enqueue(
+        200,
+        "[[{\"label\":\"JOY\",\"score\":0.9}],"
+            + "[{\"label\":\"SADNESS\",\"score\":0.7}],"
+            + "[{\"label\":\"ANGER\",\"score\":0.6}]]");
+
+    // When
+    CompletableFuture<EmotionAnalysisResponse> first = batcher.submit("좋아요");
+    CompletableFuture<EmotionAnalysisResponse> second = batcher.submit("슬퍼요");
+    CompletableFuture<EmotionAnalysisResponse> third = batcher.submit("화나요");
+
+    // Then
+    assertEquals("JOY", first.get(5, TimeUnit.SECONDS).getDominantEmotion());
+    assertEquals("SADNESS", second.get(5, TimeUnit.SECONDS).getDominantEmotion());
+    assertEquals("ANGER", third.get(5, TimeUnit.SECONDS).getDominantEmotion());
+
+    assertEquals(1, server.requests().size());
+    assertEquals("{\"inputs\":[\"좋아요\",\"슬퍼요\",\"화나요\"]}", server.requests().get(0).body());
+    assertEquals(3.0, meterRegistry.get("chat.emotion.batch.size").summary().max());
+  }
+
+  @Test
+  @DisplayName("최대 건수에 못 미쳐도 대기 시간이 지나면 모인 만큼 보낸다")
+  void analyze_sendsPartialBatchAfterMaxWait() {
+    // Given
+    server.enqueue(200, "[[{\"label\":\"JOY\",\"score\":0.9}]]");
+
+    // When
+    EmotionAnalysisResponse result = batcher.analyze("좋아요");
+
+    // Then
+    assertEquals("JOY", result.getDominantEmotion());
+    assertEquals("{\"inputs\":[\"좋아요\"]}", server.requests().get(0).body());
+  }
+
+  @Test
+  @DisplayName("배치 요청이 실패하면 묶인 모든 요청이 같은 예외로 실패한다")
+  void submit_whenBatchFails_failsEveryRequest() {
+    // Given
+    server.enqueue(503, "{\"error\":\"Model is currently loading\"}");
+
+    // When
+    CompletableFuture<EmotionAnalysisResponse> first = batcher.submit("좋아요");
+    CompletableFuture<EmotionAnalysisResponse> second = batcher.submit("슬퍼요");
+    CompletableFuture<EmotionAnalysisResponse> third = batcher.submit("화나요");
+
+    // Then
+    for (CompletableFuture<EmotionAnalysisResponse> future : List.of(first, second, third)) {
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(HuggingFaceApiException.ServerException.class, exception.getCause());
+    }
+    assertEquals(1, server.requests().size());
+  }
+
+  @Test
+  @DisplayName("빈 텍스트는 대기열에 넣지 않고 바로 실패한다")
+  void analyze_withEmptyText_throwsValidationException() {
+    // When & Then
+    HuggingFaceApiException.ValidationException exception =
+        assertThrows(HuggingFaceApiException.ValidationException.class, () -> batcher.analyze(" "));
+
+    assertEquals("EMPTY_TEXT", exception.getErrorCode());
+    assertEquals(0, server.requests().size());
+  }
+}
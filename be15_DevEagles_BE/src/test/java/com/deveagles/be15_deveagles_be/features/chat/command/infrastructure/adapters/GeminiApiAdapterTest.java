@@ -5,138 +5,231 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig;
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig.PoolSettings;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.GeminiApiException;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.GeminiApiAdapter.GeminiTextResponse;
-import java.util.HashMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
-@ExtendWith(MockitoExtension.class)
-@ActiveProfiles("test")
 class GeminiApiAdapterTest {
 
-  @Mock private RestTemplate restTemplate;
-
+  private static final String VALID_RESPONSE =
+      """
+      {
+        "candidates": [
+          {
+            "content": {"parts": [{"text": "Hello, human!"}, {"text": "ignored"}], "role": "model"},
+            "finishReason": "STOP",
+            "index": 0,
+            "safetyRatings": [],
+            "confidence": 0.9
+          },
+          {"content": {"parts": [{"text": "second candidate"}]}}
+        ],
+        "promptFeedback": {"safetyRatings": []}
+      }
+      """;
+
+  private StubHttpServer server;
+  private SimpleMeterRegistry meterRegistry;
+  private CloseableHttpClient httpClient;
   private GeminiApiAdapter geminiApiAdapter;
 
   @BeforeEach
-  void setUp() {
-    // 수동으로 어댑터 생성 및 Mock 주입
-    geminiApiAdapter = new GeminiApiAdapter(restTemplate);
+  void setUp() throws IOException {
+    server = StubHttpServer.start();
+    meterRegistry = new SimpleMeterRegistry();
+    httpClient =
+        AiHttpClientConfig.pooledHttpClient(
+            "gemini", new PoolSettings(1000, 2000, 2, 30000), meterRegistry);
+    geminiApiAdapter = new GeminiApiAdapter(AiHttpClientConfig.restTemplateFor(httpClient));
 
     // @Value 어노테이션으로 주입되는 필드 값 설정
     ReflectionTestUtils.setField(geminiApiAdapter, "apiKey", "test-api-key");
-    ReflectionTestUtils.setField(geminiApiAdapter, "apiUrl", "https://test-api-url");
-    ReflectionTestUtils.setField(geminiApiAdapter, "apiTimeoutMs", 5000);
+    ReflectionTestUtils.setField(geminiApiAdapter, "apiUrl", server.url("/v1/generate"));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.close();
   }
 
   @Test
   @DisplayName("정상적인 API 응답 처리 테스트")
   void generateText_withValidResponse_returnsText() {
     // Given
-    String promptText = "Hello, AI!";
-
-    // API 응답 모킹
-    Map<String, Object> content = new HashMap<>();
-    content.put("parts", List.of(Map.of("text", "Hello, human!")));
+    server.enqueue(200, VALID_RESPONSE);
 
-    Map<String, Object> candidate = new HashMap<>();
-    candidate.put("content", content);
-    candidate.put("finishReason", "STOP");
-    candidate.put("index", 0);
-    candidate.put("safetyRatings", List.of());
+    // When
+    GeminiTextResponse result = geminiApiAdapter.generateText("Hello, AI!");
 
-    Map<String, Object> response = new HashMap<>();
-    response.put("candidates", List.of(candidate));
-    response.put("promptFeedback", Map.of("safetyRatings", List.of()));
+    // Then
+    assertNotNull(result);
+    assertFalse(result.isEmpty());
+    assertEquals("Hello, human!", result.getText());
+    assertEquals(0.9, result.getConfidence());
 
-    ResponseEntity<Map> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
+    StubHttpServer.RecordedRequest request = server.requests().get(0);
+    assertEquals("key=test-api-key", request.uri().getQuery());
+    assertTrue(request.body().contains("Hello, AI!"));
+  }
 
-    when(restTemplate.exchange(
-            anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
-        .thenReturn(responseEntity);
+  @Test
+  @DisplayName("연속 호출은 풀의 연결을 재사용한다")
+  void generateText_reusesPooledConnection() {
+    // Given
+    server.enqueue(200, VALID_RESPONSE);
+    server.enqueue(200, VALID_RESPONSE);
 
     // When
-    GeminiTextResponse result = geminiApiAdapter.generateText(promptText);
+    geminiApiAdapter.generateText("첫 번째");
+    geminiApiAdapter.generateText("두 번째");
 
     // Then
-    assertNotNull(result);
-    assertFalse(result.isEmpty());
-    assertEquals("Hello, human!", result.getText());
+    assertEquals(2, server.requests().size());
+    assertEquals(1, server.connectionCount());
+    assertEquals(1.0, requestCount("new"));
+    assertEquals(1.0, requestCount("reused"));
+  }
 
-    verify(restTemplate, times(1))
-        .exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+  @Test
+  @DisplayName("불완전한 API 응답 처리 테스트")
+  void generateText_withIncompleteResponse_throwsParsingException() {
+    // Given
+    server.enqueue(200, "{\"promptFeedback\": {\"safetyRatings\": []}}");
+
+    // When & Then
+    GeminiApiException.ParsingException exception =
+        assertThrows(
+            GeminiApiException.ParsingException.class,
+            () -> geminiApiAdapter.generateText("Hello, AI!"));
+
+    assertTrue(exception.getMessage().contains("텍스트를 추출할 수 없습니다"));
+    assertEquals("TEXT_EXTRACTION_FAILED", exception.getErrorCode());
   }
 
   @Test
-  @DisplayName("API 호출 예외 처리 테스트")
-  void generateText_whenApiCallFails_throwsUnexpectedException() {
+  @DisplayName("잘린 JSON 응답은 파싱 오류로 처리한다")
+  void generateText_withTruncatedJson_throwsParsingException() {
     // Given
-    String promptText = "Hello, AI!";
+    server.enqueue(200, "{\"candidates\": [{\"content\": {\"parts\": [");
 
-    when(restTemplate.exchange(
-            anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
-        .thenThrow(new RuntimeException("API 호출 실패"));
+    // When & Then
+    GeminiApiException.ParsingException exception =
+        assertThrows(
+            GeminiApiException.ParsingException.class,
+            () -> geminiApiAdapter.generateText("Hello, AI!"));
+
+    assertEquals("PARSING_ERROR", exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("서버 오류 응답 처리 테스트")
+  void generateText_whenServerFails_throwsServerException() {
+    // Given
+    server.enqueue(503, "{\"error\": {\"code\": 503}}");
 
     // When & Then
-    GeminiApiException.UnexpectedException exception =
+    GeminiApiException.ServerException exception =
         assertThrows(
-            GeminiApiException.UnexpectedException.class,
-            () -> geminiApiAdapter.generateText(promptText));
+            GeminiApiException.ServerException.class,
+            () -> geminiApiAdapter.generateText("Hello, AI!"));
+
+    assertEquals("SERVER_ERROR_503", exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("API 서버에 연결할 수 없으면 연결 오류로 처리한다")
+  void generateText_whenServerUnavailable_throwsConnectionException() {
+    // Given
+    server.close();
 
-    assertTrue(exception.getMessage().contains("API 호출 실패"));
-    assertEquals("UNEXPECTED_ERROR", exception.getErrorCode());
+    // When & Then
+    GeminiApiException.ConnectionException exception =
+        assertThrows(
+            GeminiApiException.ConnectionException.class,
+            () -> geminiApiAdapter.generateText("Hello, AI!"));
 
-    verify(restTemplate, times(1))
-        .exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+    assertEquals("CONNECTION_ERROR", exception.getErrorCode());
   }
 
   @Test
-  @DisplayName("불완전한 API 응답 처리 테스트")
-  void generateText_withIncompleteResponse_throwsParsingException() {
+  @DisplayName("스트리밍 응답은 SSE 이벤트마다 텍스트 조각을 넘기고 전체 텍스트를 반환한다")
+  void streamText_deliversChunksInOrder() {
     // Given
-    String promptText = "Hello, AI!";
+    ReflectionTestUtils.setField(
+        geminiApiAdapter, "apiUrl", server.url("/v1/models/gemini:generateContent"));
+    String events =
+        "data: {\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"안녕\"}]}}]}\r\n\r\n"
+            + "data: {\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"하세요\"}]}}]}\r\n\r\n"
+            + "data: {\"candidates\": [{\"finishReason\": \"STOP\"}],"
+            + " \"usageMetadata\": {\"totalTokenCount\": 12}}\r\n\r\n";
+    server.enqueue(200, "text/event-stream", events);
+    List<String> chunks = new ArrayList<>();
 
-    // 불완전한 응답 모킹 (candidates 없음)
-    Map<String, Object> response = new HashMap<>();
-    response.put("promptFeedback", Map.of("safetyRatings", List.of()));
+    // When
+    GeminiTextResponse result = geminiApiAdapter.streamText("Hello, AI!", chunks::add);
 
-    ResponseEntity<Map> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
+    // Then
+    assertEquals(List.of("안녕", "하세요"), chunks);
+    assertEquals("안녕하세요", result.getText());
 
-    when(restTemplate.exchange(
-            anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
-        .thenReturn(responseEntity);
+    StubHttpServer.RecordedRequest request = server.requests().get(0);
+    assertEquals("/v1/models/gemini:streamGenerateContent", request.uri().getPath());
+    assertEquals("alt=sse&key=test-api-key", request.uri().getQuery());
+  }
+
+  @Test
+  @DisplayName("텍스트 조각이 없는 스트림은 파싱 오류로 처리한다")
+  void streamText_withoutText_throwsParsingException() {
+    // Given
+    ReflectionTestUtils.setField(
+        geminiApiAdapter, "apiUrl", server.url("/v1/models/gemini:generateContent"));
+    server.enqueue(
+        200, "text/event-stream", "data: {\"candidates\": [{\"finishReason\": \"SAFETY\"}]}\n\n");
 
     // When & Then
     GeminiApiException.ParsingException exception =
         assertThrows(
             GeminiApiException.ParsingException.class,
-            () -> geminiApiAdapter.generateText(promptText));
+            () -> geminiApiAdapter.streamText("Hello, AI!", chunk -> {}));
 
-    assertTrue(exception.getMessage().contains("텍스트를 추출할 수 없습니다"));
     assertEquals("TEXT_EXTRACTION_FAILED", exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("스트리밍 URL 을 알 수 없으면 일반 응답을 한 조각으로 넘긴다")
+  void streamText_withoutStreamUrl_fallsBackToSingleChunk() {
+    // Given
+    server.enqueue(200, VALID_RESPONSE);
+    List<String> chunks = new ArrayList<>();
+
+    // When
+    GeminiTextResponse result = geminiApiAdapter.streamText("Hello, AI!", chunks::add);
+
+    // Then
+    assertEquals(List.of("Hello, human!"), chunks);
+    assertEquals("Hello, human!", result.getText());
+    assertEquals("/v1/generate", server.requests().get(0).uri().getPath());
+  }
 
-    verify(restTemplate, times(1))
-        .exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+  private double requestCount(String connection) {
+    return meterRegistry
+        .get(AiHttpClientConfig.REQUESTS_METRIC)
+        .tag("client", "gemini")
+        .tag("connection", connection)
+        .counter()
+        .count();
   }
 }
@@ -5,80 +5,61 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig;
+import com.deveagles.be15_deveagles_be.common.config.AiHttpClientConfig.PoolSettings;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.exception.HuggingFaceApiException;
 import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.HuggingFaceApiAdapter.EmotionAnalysisResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.ArrayList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.Spy;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
-@ExtendWith(MockitoExtension.class)
-@ActiveProfiles("test")
 class HuggingFaceApiAdapterTest {
 
-  @Mock private RestTemplate restTemplate;
-
-  @Spy
-  @Qualifier("restTemplateObjectMapper") private ObjectMapper objectMapper = new ObjectMapper();
-
+  private StubHttpServer server;
+  private CloseableHttpClient httpClient;
   private HuggingFaceApiAdapter huggingFaceApiAdapter;
 
   @BeforeEach
-  void setUp() {
-    // 수동으로 어댑터 생성 및 Mock 주입
-    huggingFaceApiAdapter = new HuggingFaceApiAdapter(restTemplate, objectMapper);
+  void setUp() throws IOException {
+    server = StubHttpServer.start();
+    httpClient =
+        AiHttpClientConfig.pooledHttpClient(
+            "huggingface", new PoolSettings(1000, 2000, 2, 30000), new SimpleMeterRegistry());
+    huggingFaceApiAdapter =
+        new HuggingFaceApiAdapter(
+            AiHttpClientConfig.restTemplateFor(httpClient), new ObjectMapper());
 
     // @Value 어노테이션으로 주입되는 필드 값 설정
     ReflectionTestUtils.setField(huggingFaceApiAdapter, "apiKey", "test-api-key");
-    ReflectionTestUtils.setField(huggingFaceApiAdapter, "apiUrl", "https://test-api-url");
+    ReflectionTestUtils.setField(huggingFaceApiAdapter, "apiUrl", server.url("/models/emotion"));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.close();
   }
 
   @Test
   @DisplayName("정상적인 감정 분석 응답 처리 테스트")
   void analyzeEmotion_withValidResponse_returnsEmotionAnalysis() {
     // Given
-    String text = "오늘은 정말 기분이 좋아요!";
-
-    // HuggingFace API의 응답을 구조화된 형태로 모킹
-    List<List<Map<String, Object>>> apiResponse = new ArrayList<>();
-    List<Map<String, Object>> emotionsList = new ArrayList<>();
-
-    emotionsList.add(Map.of("label", "JOY", "score", 0.8));
-    emotionsList.add(Map.of("label", "SADNESS", "score", 0.1));
-    emotionsList.add(Map.of("label", "ANGER", "score", 0.05));
-    emotionsList.add(Map.of("label", "FEAR", "score", 0.03));
-    emotionsList.add(Map.of("label", "SURPRISE", "score", 0.02));
-
-    apiResponse.add(emotionsList);
-
-    ResponseEntity<Object> responseEntity = new ResponseEntity<>(apiResponse, HttpStatus.OK);
-
-    when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Object.class)))
-        .thenReturn(responseEntity);
+    String apiResponse =
+        "[[{\"label\":\"JOY\",\"score\":0.8},{\"label\":\"SADNESS\",\"score\":0.1},"
+            + "{\"label\":\"ANGER\",\"score\":0.05},{\"label\":\"FEAR\",\"score\":0.03},"
+            + "{\"label\":\"SURPRISE\",\"score\":0.02}]]";
+    server.enqueue(200, apiResponse);
 
     // When
-    EmotionAnalysisResponse result = huggingFaceApiAdapter.analyzeEmotion(text);
+    EmotionAnalysisResponse result = huggingFaceApiAdapter.analyzeEmotion("오늘은 정말 기분이 좋아요!");
 
     // Then
     assertNotNull(result);
@@ -86,84 +67,111 @@ class HuggingFaceApiAdapterTest {
     assertEquals("JOY", result.getDominantEmotion());
     assertEquals(0.8, result.getDominantScore());
     assertEquals(5, result.getEmotions().size());
+    assertEquals(apiResponse, result.getRawJson());
 
-    verify(restTemplate, times(1))
-        .postForEntity(anyString(), any(HttpEntity.class), eq(Object.class));
+    StubHttpServer.RecordedRequest request = server.requests().get(0);
+    assertEquals("Bearer test-api-key", request.headers().getFirst("Authorization"));
+    assertTrue(request.body().contains("오늘은 정말 기분이 좋아요!"));
   }
 
   @Test
-  @DisplayName("API 호출 예외 처리 테스트")
-  void analyzeEmotion_whenApiCallFails_throwsUnexpectedException() {
+  @DisplayName("서버 오류 응답 처리 테스트")
+  void analyzeEmotion_whenServerFails_throwsServerException() {
     // Given
-    String text = "오늘은 정말 기분이 좋아요!";
-
-    when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Object.class)))
-        .thenThrow(new RuntimeException("API 호출 실패"));
+    server.enqueue(503, "{\"error\":\"Model is currently loading\"}");
 
     // When & Then
-    HuggingFaceApiException.UnexpectedException exception =
+    HuggingFaceApiException.ServerException exception =
         assertThrows(
-            HuggingFaceApiException.UnexpectedException.class,
-            () -> huggingFaceApiAdapter.analyzeEmotion(text));
-
-    assertTrue(exception.getMessage().contains("API 호출 실패"));
-    assertEquals("UNEXPECTED_ERROR", exception.getErrorCode());
+            HuggingFaceApiException.ServerException.class,
+            () -> huggingFaceApiAdapter.analyzeEmotion("오늘은 정말 기분이 좋아요!"));
 
-    verify(restTemplate, times(1))
-        .postForEntity(anyString(), any(HttpEntity.class), eq(Object.class));
+    assertEquals("SERVER_ERROR_503", exception.getErrorCode());
   }
 
   @Test
   @DisplayName("예상치 못한 응답 형식 처리 테스트")
   void analyzeEmotion_withUnexpectedResponseFormat_throwsParsingException() {
     // Given
-    String text = "오늘은 정말 기분이 좋아요!";
-
     // 예상치 못한 형식의 응답 (List<List<Map>> 구조가 아님)
-    Map<String, String> unexpectedResponse = Map.of("error", "Unexpected format");
+    server.enqueue(200, "{\"error\":\"Unexpected format\"}");
 
-    ResponseEntity<Object> responseEntity = new ResponseEntity<>(unexpectedResponse, HttpStatus.OK);
+    // When & Then
+    HuggingFaceApiException.ParsingException exception =
+        assertThrows(
+            HuggingFaceApiException.ParsingException.class,
+            () -> huggingFaceApiAdapter.analyzeEmotion("오늘은 정말 기분이 좋아요!"));
 
-    when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Object.class)))
-        .thenReturn(responseEntity);
+    assertTrue(exception.getMessage().contains("감정 분석 결과를 추출할 수 없습니다"));
+    assertEquals("EMOTION_EXTRACTION_FAILED", exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("빈 응답 처리 테스트")
+  void analyzeEmotion_withEmptyResponse_throwsParsingException() {
+    // Given
+    server.enqueue(200, "[]");
 
     // When & Then
     HuggingFaceApiException.ParsingException exception =
         assertThrows(
             HuggingFaceApiException.ParsingException.class,
-            () -> huggingFaceApiAdapter.analyzeEmotion(text));
+            () -> huggingFaceApiAdapter.analyzeEmotion("오늘은 정말 기분이 좋아요!"));
 
     assertTrue(exception.getMessage().contains("감정 분석 결과를 추출할 수 없습니다"));
     assertEquals("EMOTION_EXTRACTION_FAILED", exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("점수가 없는 항목은 건너뛰고 나머지로 대표 감정을 고른다")
+  void analyzeEmotion_skipsInvalidEntries() {
+    // Given
+    server.enqueue(
+        200, "[[{\"label\":\"JOY\"},{\"label\":\"SADNESS\",\"score\":0.6,\"extra\":[1,2]}]]");
 
-    verify(restTemplate, times(1))
-        .postForEntity(anyString(), any(HttpEntity.class), eq(Object.class));
+    // When
+    EmotionAnalysisResponse result = huggingFaceApiAdapter.analyzeEmotion("조금 슬퍼요");
+
+    // Then
+    assertEquals("SADNESS", result.getDominantEmotion());
+    assertEquals(1, result.getEmotions().size());
   }
 
   @Test
-  @DisplayName("빈 응답 처리 테스트")
-  void analyzeEmotion_withEmptyResponse_throwsParsingException() {
+  @DisplayName("여러 텍스트를 inputs 배열 하나로 보내고 입력 순서대로 결과를 나눈다")
+  void analyzeEmotions_withBatch_returnsResultsInInputOrder() {
     // Given
-    String text = "오늘은 정말 기분이 좋아요!";
+    server.enqueue(
+        200,
+        "[[{\"label\":\"JOY\",\"score\":0.9}],[{\"label\":\"SADNESS\",\"score\":0.7}],[]]");
 
-    // 빈 응답
-    List<List<Map<String, Object>>> emptyResponse = new ArrayList<>();
+    // When
+    List<EmotionAnalysisResponse> results =
+        huggingFaceApiAdapter.analyzeEmotions(List.of("좋아요", "슬퍼요", "음"));
 
-    ResponseEntity<Object> responseEntity = new ResponseEntity<>(emptyResponse, HttpStatus.OK);
+    // Then
+    assertEquals(3, results.size());
+    assertEquals("JOY", results.get(0).getDominantEmotion());
+    assertEquals("[[{\"label\":\"JOY\",\"score\":0.9}]]", results.get(0).getRawJson());
+    assertEquals("SADNESS", results.get(1).getDominantEmotion());
+    assertTrue(results.get(2).isEmpty());
+
+    assertEquals(1, server.requests().size());
+    assertEquals("{\"inputs\":[\"좋아요\",\"슬퍼요\",\"음\"]}", server.requests().get(0).body());
+  }
 
-    when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Object.class)))
-        .thenReturn(responseEntity);
+  @Test
+  @DisplayName("결과 수가 입력 수와 다르면 예외가 발생한다")
+  void analyzeEmotions_withResultCountMismatch_throwsParsingException() {
+    // Given
+    server.enqueue(200, "[[{\"label\":\"JOY\",\"score\":0.9}]]");
 
     // When & Then
     HuggingFaceApiException.ParsingException exception =
         assertThrows(
             HuggingFaceApiException.ParsingException.class,
-            () -> huggingFaceApiAdapter.analyzeEmotion(text));
-
-    assertTrue(exception.getMessage().contains("감정 분석 결과를 추출할 수 없습니다"));
-    assertEquals("EMOTION_EXTRACTION_FAILED", exception.getErrorCode());
+            () -> huggingFaceApiAdapter.analyzeEmotions(List.of("좋아요", "슬퍼요")));
 
-    verify(restTemplate, times(1))
-        .postForEntity(anyString(), any(HttpEntity.class), eq(Object.class));
+    assertEquals("BATCH_SIZE_MISMATCH", exception.getErrorCode());
   }
 }
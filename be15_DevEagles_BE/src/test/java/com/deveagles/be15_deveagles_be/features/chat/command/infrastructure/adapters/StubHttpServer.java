@@ -0,0 +1,92 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** 외부 AI API 어댑터 테스트용 로컬 HTTP 스텁 서버. 등록한 응답을 순서대로 돌려주고 받은 요청과 클라이언트 연결을 기록한다. */
+final class StubHttpServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+  private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean stopped = new AtomicBoolean();
+
+  private StubHttpServer(HttpServer server) {
+    this.server = server;
+    server.createContext("/", this::handle);
+  }
+
+  static StubHttpServer start() throws IOException {
+    HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    StubHttpServer stub = new StubHttpServer(server);
+    server.start();
+    return stub;
+  }
+
+  void enqueue(int status, String body) {
+    enqueue(status, "application/json", body);
+  }
+
+  void enqueue(int status, String contentType, String body) {
+    responses.add(new StubResponse(status, contentType, body));
+  }
+
+  String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  List<RecordedRequest> requests() {
+    return requests;
+  }
+
+  /** 요청을 보낸 클라이언트 소켓 수. keep-alive 로 연결을 재사용하면 요청 수보다 작다. */
+  int connectionCount() {
+    return clientPorts.size();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String requestBody =
+        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    requests.add(
+        new RecordedRequest(exchange.getRequestURI(), exchange.getRequestHeaders(), requestBody));
+    clientPorts.add(exchange.getRemoteAddress().getPort());
+
+    StubResponse response = responses.poll();
+    if (response == null) {
+      response = new StubResponse(500, "application/json", "{\"error\":\"no stub response\"}");
+    }
+    byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", response.contentType());
+    exchange.sendResponseHeaders(response.status(), bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (stopped.compareAndSet(false, true)) {
+      server.stop(0);
+    }
+  }
+
+  record RecordedRequest(URI uri, Headers headers, String body) {}
+
+  private record StubResponse(int status, String contentType, String body) {}
+}
@@ -0,0 +1,159 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoCollection;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * 대용량 채팅방 메시지 이력 조회 부하 테스트 (실제 MongoDB 연결 필요)
+ *
+ * <p>메시지 500만 건이 쌓인 채팅방에서 깊이별로 한 페이지를 조회하며 기존 page/size 방식과 (createdAt, _id) 커서 방식의 조회 시간을
+ * 비교하고, 커서 조회가 정렬 단계 없이 페이지 크기만큼의 인덱스 키만 읽는지 실행 계획으로 확인한다.
+ */
+@Disabled("실제 MongoDB 연결이 필요한 부하 테스트")
+@SpringBootTest
+class ChatMessageHistoryLoadTest {
+
+  private static final int MESSAGE_COUNT = 5_000_000;
+  private static final int INSERT_BATCH_SIZE = 10_000;
+  private static final int PAGE_SIZE = 50;
+  private static final int[] DEPTHS = {0, 10_000, 1_000_000, 4_900_000};
+  private static final String INDEX_NAME = "chatroom_deleted_created_id_idx";
+
+  @Autowired private ChatMessageRepository chatMessageRepository;
+  @Autowired private MongoTemplate mongoTemplate;
+
+  private final String chatroomId = "load-test-" + UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    Document indexKeys =
+        new Document("chatroomId", 1)
+            .append("deletedAt", 1)
+            .append("createdAt", -1)
+            .append("_id", -1);
+    mongoTemplate
+        .indexOps(ChatMessage.class)
+        .ensureIndex(new CompoundIndexDefinition(indexKeys).named(INDEX_NAME));
+
+    MongoCollection<Document> collection = mongoTemplate.getCollection("chat_message");
+    Instant base = Instant.parse("2024-01-01T00:00:00Z");
+    List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      // 두 건씩 같은 시각으로 저장해 _id 로 순서가 갈리는 경계도 함께 검증
+      batch.add(
+          new Document("chatroomId", chatroomId)
+              .append("senderId", String.valueOf(i % 50 + 1))
+              .append("senderName", "부하 테스트 사용자")
+              .append("messageType", "TEXT")
+              .append("content", "load test message " + i)
+              .append("createdAt", Date.from(base.plusMillis(i / 2))));
+      if (batch.size() == INSERT_BATCH_SIZE) {
+        collection.insertMany(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      collection.insertMany(batch);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    mongoTemplate.remove(new Query(Criteria.where("chatroomId").is(chatroomId)), ChatMessage.class);
+  }
+
+  @Test
+  @DisplayName("500만 건 채팅방에서 깊이별 한 페이지 조회 시간 비교 (page/size vs 커서)")
+  void compareHistoryPageLatency() {
+    for (int depth : DEPTHS) {
+      MessageCursor cursor = cursorAt(depth);
+
+      long offsetStarted = System.nanoTime();
+      List<ChatMessage> offsetPage =
+          chatMessageRepository
+              .findMessagesByChatroomIdWithPagination(chatroomId, depth / PAGE_SIZE, PAGE_SIZE)
+              .getContent();
+      long offsetMillis = (System.nanoTime() - offsetStarted) / 1_000_000;
+
+      long cursorStarted = System.nanoTime();
+      List<ChatMessage> cursorPage =
+          chatMessageRepository.findMessagesBefore(chatroomId, cursor, PAGE_SIZE);
+      long cursorMillis = (System.nanoTime() - cursorStarted) / 1_000_000;
+
+      System.out.printf(
+          "[깊이 %,d] page/size: %dms (%d건), 커서: %dms (%d건)%n",
+          depth, offsetMillis, offsetPage.size(), cursorMillis, cursorPage.size());
+      assertThat(cursorPage).hasSize(PAGE_SIZE);
+      assertCursorPlan(cursor);
+    }
+  }
+
+  private void assertCursorPlan(MessageCursor cursor) {
+    Document filter = new Document("chatroomId", chatroomId).append("deletedAt", null);
+    if (cursor != null) {
+      // 저장 시와 같은 변환 규칙(MongoDBConfig)으로 Date 를 만든다
+      Date createdAt = Date.from(cursor.createdAt().atZone(ZoneId.systemDefault()).toInstant());
+      filter.append(
+          "$or",
+          List.of(
+              new Document("createdAt", new Document("$lt", createdAt)),
+              new Document("createdAt", createdAt)
+                  .append("_id", new Document("$lt", new ObjectId(cursor.id())))));
+    }
+
+    Document explain =
+        mongoTemplate
+            .getCollection("chat_message")
+            .find(filter)
+            .sort(new Document("createdAt", -1).append("_id", -1))
+            .limit(PAGE_SIZE)
+            .explain(ExplainVerbosity.EXECUTION_STATS);
+
+    String winningPlan = explain.get("queryPlanner", Document.class).toJson();
+    Document stats = explain.get("executionStats", Document.class);
+    System.out.printf(
+        "  실행 계획: keysExamined=%s, docsExamined=%s%n",
+        stats.get("totalKeysExamined"), stats.get("totalDocsExamined"));
+    assertThat(winningPlan).contains(INDEX_NAME).doesNotContain("\"SORT\"");
+    // $or 두 구간을 SORT_MERGE 로 합치므로 구간마다 최대 한 페이지까지만 읽는다
+    assertThat(((Number) stats.get("totalDocsExamined")).intValue())
+        .isLessThanOrEqualTo(PAGE_SIZE * 2);
+  }
+
+  /** 깊이 위치의 경계 메시지로 커서를 만든다. 테스트 준비용이라 측정에는 포함하지 않는다. */
+  private MessageCursor cursorAt(int depth) {
+    if (depth == 0) {
+      return null;
+    }
+    Query query = new Query(Criteria.where("chatroomId").is(chatroomId));
+    query.with(Sort.by(Direction.DESC, "createdAt").and(Sort.by(Direction.DESC, "_id")));
+    query.skip(depth - 1L).limit(1);
+    return MessageCursor.of(mongoTemplate.findOne(query, ChatMessage.class));
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatRoomResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl.ChatRoomServiceImpl;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomHelper;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomValidator;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ParticipantValidator;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
@@ -30,6 +31,7 @@ public class ChatRoomParticipantTest {
   @Mock private ChatRoomValidator chatRoomValidator;
   @Mock private ChatRoomHelper chatRoomHelper;
   @Mock private ParticipantValidator participantValidator;
+  @Mock private ChatRoomMembershipCache chatRoomMembershipCache;
 
   @InjectMocks private ChatRoomServiceImpl chatRoomService;
 
@@ -7,6 +7,7 @@ import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.req
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl.ChatRoomServiceImpl;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomHelper;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomMembershipCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomOperationHelper;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ChatRoomValidator;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ParticipantValidator;
@@ -37,6 +38,7 @@ class ChatRoomServiceTest {
   @Mock private ParticipantValidator participantValidator;
   @Mock private ChatRoomHelper chatRoomHelper;
   @Mock private ChatRoomOperationHelper operationHelper;
+  @Mock private ChatRoomMembershipCache chatRoomMembershipCache;
 
   private ChatRoomService chatRoomService;
 
@@ -48,7 +50,8 @@ class ChatRoomServiceTest {
             chatRoomValidator,
             participantValidator,
             chatRoomHelper,
-            operationHelper);
+            operationHelper,
+            chatRoomMembershipCache);
   }
 
   @Test
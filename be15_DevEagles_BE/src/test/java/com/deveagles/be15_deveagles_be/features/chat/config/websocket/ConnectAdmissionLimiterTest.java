@@ -0,0 +1,37 @@
+package com.deveagles.be15_deveagles_be.features.chat.config.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectAdmissionLimiterTest {
+
+  @Test
+  @DisplayName("버킷 크기만큼 몰아서 허용한 뒤에는 초당 허용량만큼 다시 채워진다")
+  void tryAcquire_allowsBurstThenRefills() {
+    // given
+    AtomicLong nanos = new AtomicLong();
+    ConnectAdmissionLimiter limiter = new ConnectAdmissionLimiter(10, 3, nanos::get);
+
+    // when & then: 버킷 크기만큼 허용
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    // 0.1초에 하나씩 채워진다
+    nanos.addAndGet(100_000_000L);
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    // 오래 비어 있어도 버킷 크기 이상 쌓이지 않는다
+    nanos.addAndGet(60_000_000_000L);
+    int allowed = 0;
+    while (limiter.tryAcquire()) {
+      allowed++;
+    }
+    assertThat(allowed).isEqualTo(3);
+  }
+}
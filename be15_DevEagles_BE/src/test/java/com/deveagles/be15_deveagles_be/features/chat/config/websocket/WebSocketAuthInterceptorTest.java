@@ -0,0 +1,209 @@
+package com.deveagles.be15_deveagles_be.features.chat.config.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenRevocationStore;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
+import com.deveagles.be15_deveagles_be.features.user.command.domain.aggregate.UserStatus;
+import com.deveagles.be15_deveagles_be.features.user.command.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class WebSocketAuthInterceptorTest {
+
+  private static final String SECRET =
+      Encoders.BASE64.encode("deveagles-test-secret-key-for-hmac-sha-256!!".getBytes());
+
+  private JwtTokenProvider jwtTokenProvider;
+  private UserDetailsService userDetailsService;
+  private TokenRevocationStore tokenRevocationStore;
+  private UserStatusCache userStatusCache;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    userDetailsService = mock(UserDetailsService.class);
+    tokenRevocationStore = mock(TokenRevocationStore.class);
+    userStatusCache = mock(UserStatusCache.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    JwtTokenProvider provider =
+        new JwtTokenProvider(mock(UserRepository.class), userStatusCache, tokenRevocationStore);
+    ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+    provider.init();
+    jwtTokenProvider = spy(provider);
+  }
+
+  private WebSocketAuthInterceptor interceptor(int burst) {
+    return new WebSocketAuthInterceptor(
+        jwtTokenProvider,
+        userDetailsService,
+        tokenRevocationStore,
+        userStatusCache,
+        meterRegistry,
+        new ConnectAdmissionLimiter(1, burst, () -> 0L),
+        Duration.ofSeconds(60),
+        100,
+        Ticker.systemTicker());
+  }
+
+  private String token() {
+    return token(60_000);
+  }
+
+  private String token(long validForMillis) {
+    Date now = new Date();
+    return Jwts.builder()
+        .id("jti-1")
+        .subject("eagles@email.com")
+        .issuedAt(now)
+        .claims(Map.of("type", "access", "userId", "7", "userStatus", "ENABLED"))
+        .expiration(new Date(now.getTime() + validForMillis))
+        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+        .compact();
+  }
+
+  private Message<byte[]> connect(String token) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+    if (token != null) {
+      accessor.setNativeHeader("Authorization", "Bearer " + token);
+    }
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private String principalName(Message<?> message) {
+    return StompHeaderAccessor.wrap(message).getUser().getName();
+  }
+
+  private double connectCount(String result) {
+    return meterRegistry.counter("chat.websocket.connect", "result", result).count();
+  }
+
+  @Test
+  @DisplayName("토큰 클레임으로 Principal 을 만들고 같은 토큰의 재연결은 다시 파싱하지 않는다")
+  void connect_buildsPrincipalFromClaimsAndCachesVerification() {
+    // given
+    WebSocketAuthInterceptor interceptor = interceptor(10);
+    String token = token();
+    when(userStatusCache.activeStatus(7L)).thenReturn(Optional.of(UserStatus.ENABLED));
+
+    // when
+    Message<?> first = interceptor.preSend(connect(token), null);
+    Message<?> second = interceptor.preSend(connect(token), null);
+
+    // then
+    assertThat(principalName(first)).isEqualTo("7");
+    assertThat(principalName(second)).isEqualTo("7");
+    verify(jwtTokenProvider, times(1)).parseVerifiedClaims(token);
+    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    assertThat(connectCount("accepted")).isEqualTo(2);
+    assertThat(meterRegistry.timer("chat.websocket.connect.auth", "cache", "hit").count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.timer("chat.websocket.connect.auth", "cache", "miss").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("검증 결과가 캐시에 있어도 로그아웃된 토큰은 거절한다")
+  void connect_rejectsRevokedTokenEvenWhenCached() {
+    // given
+    WebSocketAuthInterceptor interceptor = interceptor(10);
+    String token = token();
+    when(userStatusCache.activeStatus(7L)).thenReturn(Optional.of(UserStatus.ENABLED));
+    interceptor.preSend(connect(token), null);
+    when(tokenRevocationStore.isRevoked("jti-1")).thenReturn(true);
+
+    // when & then
+    assertThatThrownBy(() -> interceptor.preSend(connect(token), null))
+        .isInstanceOf(MessageDeliveryException.class);
+    assertThat(connectCount("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("탈퇴한 사용자의 토큰은 거절한다")
+  void connect_rejectsWithdrawnUser() {
+    // given
+    WebSocketAuthInterceptor interceptor = interceptor(10);
+    when(userStatusCache.activeStatus(7L)).thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> interceptor.preSend(connect(token()), null))
+        .isInstanceOf(MessageDeliveryException.class);
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 익명으로 연결하지 않고 ERROR 프레임이 되도록 거절한다")
+  void connect_rejectsExpiredToken() {
+    // given
+    WebSocketAuthInterceptor interceptor = interceptor(10);
+    Message<byte[]> message = connect(token(-1_000));
+
+    // when & then
+    assertThatThrownBy(() -> interceptor.preSend(message, null))
+        .isInstanceOf(BadCredentialsException.class)
+        .hasMessage("Expired JWT Token");
+    assertThat(StompHeaderAccessor.wrap(message).getUser()).isNull();
+    assertThat(connectCount("rejected")).isEqualTo(1);
+    assertThat(connectCount("anonymous")).isZero();
+    verify(tokenRevocationStore, never()).isRevoked(anyString());
+  }
+
+  @Test
+  @DisplayName("서버의 CONNECT 버킷을 넘으면 토큰을 검증하지 않고 거절한다")
+  void connect_throttlesBeyondBurst() {
+    // given
+    WebSocketAuthInterceptor interceptor = interceptor(2);
+    String token = token();
+    when(userStatusCache.activeStatus(7L)).thenReturn(Optional.of(UserStatus.ENABLED));
+    interceptor.preSend(connect(token), null);
+    interceptor.preSend(connect(token), null);
+
+    // when & then
+    assertThatThrownBy(() -> interceptor.preSend(connect(token), null))
+        .isInstanceOf(MessageDeliveryException.class);
+    assertThat(connectCount("accepted")).isEqualTo(2);
+    assertThat(connectCount("throttled")).isEqualTo(1);
+    verify(tokenRevocationStore, times(2)).isRevoked(any());
+  }
+
+  @Test
+  @DisplayName("토큰이 없으면 기존처럼 Principal 없이 통과시킨다")
+  void connect_withoutToken_passesAnonymously() {
+    // when
+    Message<?> message = interceptor(10).preSend(connect(null), null);
+
+    // then
+    assertThat(StompHeaderAccessor.wrap(message).getUser()).isNull();
+    assertThat(connectCount("anonymous")).isEqualTo(1);
+  }
+}
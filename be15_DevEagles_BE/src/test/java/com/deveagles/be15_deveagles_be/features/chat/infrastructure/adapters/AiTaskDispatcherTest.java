@@ -0,0 +1,145 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AiTaskDispatcherTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private AiTaskDispatcher dispatcher;
+  private CountDownLatch release;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    dispatcher = new AiTaskDispatcher(meterRegistry, 1, 1, 2);
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    dispatcher.shutdown();
+  }
+
+  private Runnable blocking(CountDownLatch started) {
+    return () -> {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  private double rejected(String reason) {
+    return meterRegistry
+        .counter("chat.ai.dispatch.rejected", "task", "reply", "reason", reason)
+        .count();
+  }
+
+  @Test
+  @DisplayName("사용자별 한도를 넘는 작업은 거절하고 대체 동작을 실행한다")
+  void submit_rejectsOverUserLimit() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicInteger fallbacks = new AtomicInteger();
+    dispatcher.submit("1", "reply", blocking(started), fallbacks::incrementAndGet);
+    dispatcher.submit("1", "reply", () -> {}, fallbacks::incrementAndGet);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    boolean accepted = dispatcher.submit("1", "reply", () -> {}, fallbacks::incrementAndGet);
+
+    // then
+    assertThat(accepted).isFalse();
+    assertThat(fallbacks).hasValue(1);
+    assertThat(rejected("user_limit")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 다른 사용자의 작업도 거절한다")
+  void submit_rejectsWhenQueueFull() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicInteger fallbacks = new AtomicInteger();
+    dispatcher.submit("1", "reply", blocking(started), null);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    dispatcher.submit("2", "reply", () -> {}, null);
+
+    // when
+    boolean accepted = dispatcher.submit("3", "reply", () -> {}, fallbacks::incrementAndGet);
+
+    // then
+    assertThat(accepted).isFalse();
+    assertThat(fallbacks).hasValue(1);
+    assertThat(rejected("queue_full")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("작업이 끝나면 사용자별 한도가 반환되어 다시 제출할 수 있다")
+  void submit_releasesUserSlot() throws Exception {
+    // given
+    CountDownLatch done = new CountDownLatch(2);
+    dispatcher.submit("1", "reply", done::countDown, null);
+    dispatcher.submit("1", "reply", done::countDown, null);
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    CountDownLatch next = new CountDownLatch(1);
+    boolean accepted = false;
+    for (int attempt = 0; attempt < 50 && !accepted; attempt++) {
+      accepted = dispatcher.submit("1", "reply", next::countDown, null);
+      if (!accepted) {
+        Thread.sleep(10);
+      }
+    }
+
+    // then
+    assertThat(accepted).isTrue();
+    assertThat(next.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("응답 생성이 진행 중이어도 연속으로 보낸 메시지의 감정 분석 작업은 모두 실행된다")
+  void submitUnlimited_emotionNotBlockedByReplies() throws Exception {
+    // given: AI 채팅방에 메시지 두 개를 연달아 보내 응답 생성 두 개가 사용자 한도를 모두 쓴 상태
+    AiTaskDispatcher wideDispatcher = new AiTaskDispatcher(meterRegistry, 4, 10, 2);
+    CountDownLatch repliesStarted = new CountDownLatch(2);
+    CountDownLatch emotionsRun = new CountDownLatch(2);
+    try {
+      // when
+      boolean reply1 = wideDispatcher.submit("1", "reply", blocking(repliesStarted), null);
+      boolean emotion1 =
+          wideDispatcher.submitUnlimited("1", "emotion", emotionsRun::countDown, null);
+      boolean reply2 = wideDispatcher.submit("1", "reply", blocking(repliesStarted), null);
+      boolean emotion2 =
+          wideDispatcher.submitUnlimited("1", "emotion", emotionsRun::countDown, null);
+
+      // then
+      assertThat(reply1).isTrue();
+      assertThat(reply2).isTrue();
+      assertThat(emotion1).isTrue();
+      assertThat(emotion2).isTrue();
+      assertThat(emotionsRun.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(repliesStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(
+              meterRegistry
+                  .counter("chat.ai.dispatch.rejected", "task", "emotion", "reason", "user_limit")
+                  .count())
+          .isZero();
+    } finally {
+      release.countDown();
+      wideDispatcher.shutdown();
+    }
+  }
+}
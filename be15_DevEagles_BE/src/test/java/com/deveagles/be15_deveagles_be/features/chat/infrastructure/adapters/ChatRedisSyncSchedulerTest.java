@@ -0,0 +1,92 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ReadPositionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRedisSyncSchedulerTest {
+
+  @Mock private ChatRoomRepository chatRoomRepository;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private SetOperations<String, String> setOperations;
+
+  private ChatRedisSyncScheduler chatRedisSyncScheduler;
+
+  @BeforeEach
+  void setUp() {
+    chatRedisSyncScheduler =
+        new ChatRedisSyncScheduler(chatRoomRepository, redisTemplate, new ObjectMapper());
+    when(redisTemplate.opsForSet()).thenReturn(setOperations);
+  }
+
+  @Test
+  @DisplayName("변경된 (채팅방, 사용자)만 꺼내서 한 번의 bulkWrite 로 반영한다")
+  void syncReadStatusToMongoDB_dirtyOnly() {
+    // given
+    when(setOperations.pop(ReadPositionStore.DIRTY_KEY, 500))
+        .thenReturn(List.of("room1:1", "room1:2", "room2:1"));
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(Arrays.asList("message1", null, "message3"));
+
+    // when
+    chatRedisSyncScheduler.syncReadStatusToMongoDB();
+
+    // then
+    verify(chatRoomRepository)
+        .updateLastReadMessages(
+            Map.of("room1", Map.of("1", "message1"), "room2", Map.of("1", "message3")));
+  }
+
+  @Test
+  @DisplayName("변경된 항목이 없으면 MongoDB 를 갱신하지 않는다")
+  void syncReadStatusToMongoDB_nothingDirty() {
+    // given
+    when(setOperations.pop(ReadPositionStore.DIRTY_KEY, 500))
+        .thenReturn(List.of());
+
+    // when
+    chatRedisSyncScheduler.syncReadStatusToMongoDB();
+
+    // then
+    verify(chatRoomRepository, never()).updateLastReadMessages(anyMap());
+  }
+
+  @Test
+  @DisplayName("MongoDB 반영 실패 시 꺼낸 항목을 다시 변경 목록에 넣는다")
+  void syncReadStatusToMongoDB_requeueOnFailure() {
+    // given
+    when(setOperations.pop(ReadPositionStore.DIRTY_KEY, 500))
+        .thenReturn(List.of("room1:1"));
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.of("message1"));
+    doThrow(new RuntimeException("mongo down"))
+        .when(chatRoomRepository)
+        .updateLastReadMessages(anyMap());
+
+    // when
+    chatRedisSyncScheduler.syncReadStatusToMongoDB();
+
+    // then
+    verify(setOperations).add(ReadPositionStore.DIRTY_KEY, "room1:1");
+  }
+}
@@ -0,0 +1,82 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.Be15DevEaglesBeApplication;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+
+/**
+ * 두 노드 간 STOMP 브로드캐스트 중계 통합 테스트 (실제 MongoDB/Redis 연결 필요)
+ *
+ * <p>같은 Redis 를 바라보는 애플리케이션 컨텍스트 두 개를 띄우고, A 노드에서 보낸 채팅방 메시지가 B 노드의 로컬 브로커에 한 번만 전달되는지
+ * 확인한다.
+ */
+@Disabled("실제 MongoDB/Redis 연결이 필요한 통합 테스트")
+class ClusterBroadcastIntegrationTest {
+
+  private ConfigurableApplicationContext nodeA;
+  private ConfigurableApplicationContext nodeB;
+
+  @BeforeEach
+  void setUp() {
+    nodeA = startNode();
+    nodeB = startNode();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (nodeA != null) {
+      nodeA.close();
+    }
+    if (nodeB != null) {
+      nodeB.close();
+    }
+  }
+
+  @Test
+  @DisplayName("A 노드에서 보낸 채팅방 메시지가 B 노드 구독자에게 한 번 전달된다")
+  void broadcast_reachesOtherNode() throws Exception {
+    // given
+    String destination = "/topic/chatroom.cluster-test";
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    AbstractSubscribableChannel brokerChannelB =
+        nodeB.getBean("brokerChannel", AbstractSubscribableChannel.class);
+    brokerChannelB.subscribe(
+        message -> {
+          if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+            received.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+            latch.countDown();
+          }
+        });
+
+    // when
+    nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(destination, "hello-cluster");
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(200);
+    assertThat(received).hasSize(1);
+    assertThat(received.get(0)).contains("hello-cluster");
+  }
+
+  private static ConfigurableApplicationContext startNode() {
+    return new SpringApplicationBuilder(Be15DevEaglesBeApplication.class)
+        .properties("server.port=0", "chat.warmup.enabled=false")
+        .run();
+  }
+}
@@ -0,0 +1,138 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterBroadcastRelayTest {
+
+  @Mock private ClusterBroadcastTransport transport;
+  @Mock private MessageChannel brokerChannel;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private ClusterBroadcastRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay =
+        new ClusterBroadcastRelay(
+            transport,
+            objectMapper,
+            brokerChannel,
+            new SimpleMeterRegistry(),
+            true,
+            List.of("/topic/chatroom.", "/topic/status"),
+            10,
+            2);
+  }
+
+  @Test
+  @DisplayName("채팅방 메시지는 묶음 크기 단위로 다른 노드에 발행한다")
+  void preSend_batchesRelayedDestinations() throws Exception {
+    // given
+    for (int i = 0; i < 3; i++) {
+      relay.preSend(brokerMessage("/topic/chatroom.room1", "message" + i), brokerChannel);
+    }
+    relay.preSend(brokerMessage("/topic/notifications", "ignored"), brokerChannel);
+
+    // when
+    relay.flush();
+
+    // then
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(transport, times(2)).publish(captor.capture());
+    List<ClusterMessage> first = readBatch(captor.getAllValues().get(0));
+    List<ClusterMessage> second = readBatch(captor.getAllValues().get(1));
+    assertThat(first).hasSize(2);
+    assertThat(second).hasSize(1);
+    assertThat(first.get(0).destination()).isEqualTo("/topic/chatroom.room1");
+    assertThat(new String(second.get(0).payload(), StandardCharsets.UTF_8)).isEqualTo("message2");
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 받은 메시지는 다시 발행하지 않는다")
+  void preSend_skipsRemoteMessages() {
+    // given
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination("/topic/status");
+    accessor.setHeader(ClusterBroadcastRelay.REMOTE_HEADER, Boolean.TRUE);
+    Message<byte[]> message =
+        MessageBuilder.createMessage(
+            "online".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+
+    // when
+    relay.preSend(message, brokerChannel);
+    relay.flush();
+
+    // then
+    verify(transport, never()).publish(anyString());
+  }
+
+  @Test
+  @DisplayName("수신 메시지 중 자기 노드 메시지와 중복 메시지는 버리고 나머지만 로컬 브로커로 보낸다")
+  void onBatch_skipsOwnAndDuplicateMessages() throws Exception {
+    // given
+    byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+    ClusterMessage remote =
+        new ClusterMessage("id-1", "other-node", "/topic/chatroom.room1", null, payload);
+    ClusterMessage own =
+        new ClusterMessage("id-2", relay.getNodeId(), "/topic/chatroom.room1", null, payload);
+    String batch = objectMapper.writeValueAsString(List.of(remote, own, remote));
+
+    // when
+    relay.onBatch(batch);
+
+    // then
+    ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+    verify(brokerChannel, times(1)).send(captor.capture());
+    Message<?> delivered = captor.getValue();
+    assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders()))
+        .isEqualTo("/topic/chatroom.room1");
+    assertThat(delivered.getHeaders().get(ClusterBroadcastRelay.REMOTE_HEADER))
+        .isEqualTo(Boolean.TRUE);
+    assertThat((byte[]) delivered.getPayload()).isEqualTo(payload);
+  }
+
+  @Test
+  @DisplayName("해석할 수 없는 수신 메시지는 무시한다")
+  void onBatch_ignoresMalformedBatch() {
+    // when
+    relay.onBatch("not-json");
+
+    // then
+    verify(brokerChannel, never()).send(any());
+  }
+
+  private List<ClusterMessage> readBatch(String batch) throws Exception {
+    return objectMapper.readValue(batch, new TypeReference<List<ClusterMessage>>() {});
+  }
+
+  private static Message<byte[]> brokerMessage(String destination, String payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(
+        payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+}
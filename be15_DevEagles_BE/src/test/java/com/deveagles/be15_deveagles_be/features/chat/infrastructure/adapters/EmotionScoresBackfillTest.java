@@ -0,0 +1,94 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.impl.EmotionAnalysisServiceImpl;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.EmotionScores;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.adapters.EmotionAnalysisBatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionScoresBackfillTest {
+
+  @Mock private UserMoodHistoryRepository userMoodHistoryRepository;
+  @Mock private EmotionAnalysisBatcher emotionAnalysisBatcher;
+
+  private EmotionScoresBackfill backfill;
+
+  @BeforeEach
+  void setUp() {
+    EmotionAnalysisServiceImpl emotionAnalysisService =
+        new EmotionAnalysisServiceImpl(emotionAnalysisBatcher, new ObjectMapper());
+    backfill =
+        new EmotionScoresBackfill(userMoodHistoryRepository, emotionAnalysisService, true, 2);
+  }
+
+  private UserMoodHistory history(long id, String emotionAnalysis) {
+    return UserMoodHistory.builder()
+        .id(id)
+        .userId("1")
+        .emotionAnalysis(emotionAnalysis)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  @Test
+  @DisplayName("점수가 없는 이력을 ID 순 페이지로 읽어 감정 분석 JSON 에서 점수를 채운다")
+  void backfill_fillsScoresPageByPage() {
+    // given
+    UserMoodHistory first =
+        history(1L, "[[{\"label\":\"JOY\",\"score\":0.8},{\"label\":\"SADNESS\",\"score\":0.1}]]");
+    UserMoodHistory second = history(2L, "{\"error\":\"Unexpected format\"}");
+    UserMoodHistory third = history(5L, "[[{\"label\":\"ANGER\",\"score\":0.7}]]");
+    when(userMoodHistoryRepository.findWithoutEmotionScores(0L, PageRequest.of(0, 2)))
+        .thenReturn(List.of(first, second));
+    when(userMoodHistoryRepository.findWithoutEmotionScores(2L, PageRequest.of(0, 2)))
+        .thenReturn(List.of(third));
+
+    // when
+    int filled = backfill.backfill();
+
+    // then
+    assertThat(filled).isEqualTo(3);
+    assertThat(first.getEmotionScores().strongest()).isEqualTo(MoodType.JOY);
+    assertThat(first.getEmotionScores().score(MoodType.SADNESS)).isEqualTo(0.1f);
+    assertThat(second.getEmotionScores()).isEqualTo(EmotionScores.empty());
+    assertThat(third.getEmotionScores().strongest()).isEqualTo(MoodType.ANGER);
+    verify(userMoodHistoryRepository).saveAll(List.of(first, second));
+    verify(userMoodHistoryRepository).saveAll(List.of(third));
+  }
+
+  @Test
+  @DisplayName("채울 이력이 없으면 저장하지 않는다")
+  void backfill_withNothingToFill_savesNothing() {
+    // given
+    when(userMoodHistoryRepository.findWithoutEmotionScores(anyLong(), any()))
+        .thenReturn(List.of());
+
+    // when
+    int filled = backfill.backfill();
+
+    // then
+    assertThat(filled).isZero();
+    verify(userMoodHistoryRepository, never()).saveAll(any());
+    verify(userMoodHistoryRepository).findWithoutEmotionScores(eq(0L), any());
+  }
+}
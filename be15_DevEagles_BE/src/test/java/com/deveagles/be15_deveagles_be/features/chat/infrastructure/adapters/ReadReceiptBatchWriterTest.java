@@ -0,0 +1,120 @@
+package com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ReadStatusMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ReadPositionStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.UnreadCountStore;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ReadReceipt;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ReadReceiptRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptBatchWriterTest {
+
+  @Mock private ReadReceiptRepository readReceiptRepository;
+  @Mock private ChatRoomService chatRoomService;
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private SimpMessagingTemplate messagingTemplate;
+  @Mock private UnreadCountStore unreadCountStore;
+  @Mock private ReadPositionStore readPositionStore;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ReadReceiptBatchWriter readReceiptBatchWriter;
+
+  private static final String CHATROOM_ID = "chatroom1";
+  private static final String READ_TOPIC = "/topic/chatroom." + CHATROOM_ID + ".read";
+  private static final String MESSAGE_1 = "665f00000000000000000001";
+  private static final String MESSAGE_2 = "665f00000000000000000002";
+  private static final String MESSAGE_3 = "665f00000000000000000003";
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    readReceiptBatchWriter =
+        new ReadReceiptBatchWriter(
+            readReceiptRepository,
+            chatRoomService,
+            redisTemplate,
+            messagingTemplate,
+            unreadCountStore,
+            readPositionStore,
+            meterRegistry);
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 읽음 요청은 가장 최신 메시지 하나로 합쳐서 저장하고 한 번만 전송한다")
+  void flush_coalescesPerUser() {
+    // given
+    readReceiptBatchWriter.enqueue(CHATROOM_ID, "1", MESSAGE_1);
+    readReceiptBatchWriter.enqueue(CHATROOM_ID, "1", MESSAGE_3);
+    readReceiptBatchWriter.enqueue(CHATROOM_ID, "1", MESSAGE_2);
+    readReceiptBatchWriter.enqueue(CHATROOM_ID, "2", MESSAGE_1);
+    assertThat(readReceiptBatchWriter.getQueueDepth()).isEqualTo(2);
+
+    // when
+    readReceiptBatchWriter.flush();
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<ReadReceipt>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(readReceiptRepository).upsertAll(captor.capture());
+    Map<String, String> savedByUser =
+        captor.getValue().stream()
+            .collect(Collectors.toMap(ReadReceipt::getUserId, ReadReceipt::getMessageId));
+    assertThat(savedByUser).containsEntry("1", MESSAGE_3).containsEntry("2", MESSAGE_1);
+
+    verify(messagingTemplate, times(2))
+        .convertAndSend(eq(READ_TOPIC), any(ReadStatusMessage.class));
+    assertThat(readReceiptBatchWriter.getQueueDepth()).isZero();
+    assertThat(meterRegistry.get("chat.read_receipt.batch.size").summary().totalAmount())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("대기 중인 요청이 없으면 저장하지 않는다")
+  void flush_empty() {
+    // when
+    readReceiptBatchWriter.flush();
+
+    // then
+    verify(readReceiptRepository, never()).upsertAll(anyCollection());
+  }
+
+  @Test
+  @DisplayName("배치 저장 실패 시 ChatRoom 참가자 읽음 상태로 폴백한다")
+  void flush_fallbackOnFailure() {
+    // given
+    readReceiptBatchWriter.enqueue(CHATROOM_ID, "1", MESSAGE_1);
+    doThrow(new RuntimeException("mongo down"))
+        .when(readReceiptRepository)
+        .upsertAll(anyCollection());
+
+    // when
+    readReceiptBatchWriter.flush();
+
+    // then
+    verify(chatRoomService).updateLastReadMessage(CHATROOM_ID, "1", MESSAGE_1);
+    verify(messagingTemplate).convertAndSend(eq(READ_TOPIC), any(ReadStatusMessage.class));
+  }
+}
@@ -22,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -121,7 +122,8 @@ public class ChatroomQueryServiceImplTest {
         .thenReturn(1);
     when(chatroomResponseConverter.convertToChatroomResponse(mockChatRoom))
         .thenReturn(mockChatroomResponse);
-    when(readReceiptService.getUnreadMessageCount(eq(CHATROOM_ID), eq(USER_ID_STR))).thenReturn(3);
+    when(readReceiptService.getUnreadMessageCounts(eq(List.of(CHATROOM_ID)), eq(USER_ID_STR)))
+        .thenReturn(Map.of(CHATROOM_ID, 3));
 
     // when
     ChatroomListResponse response = chatroomQueryService.getChatrooms(USER_ID, TEAM_ID, page, size);
@@ -132,12 +134,13 @@ public class ChatroomQueryServiceImplTest {
     assertThat(response.getChatrooms()).hasSize(1);
     assertThat(response.getChatrooms().get(0).getId()).isEqualTo(CHATROOM_ID);
     assertThat(response.getChatrooms().get(0).getTeamId()).isEqualTo(TEAM_ID);
+    assertThat(response.getChatrooms().get(0).getUnreadCount()).isEqualTo(3);
 
     verify(chatroomQueryRepository)
         .findChatroomsByUserIdAndTeamId(eq(USER_ID), eq(TEAM_ID), eq(page), eq(size));
     verify(chatroomQueryRepository).countChatroomsByUserIdAndTeamId(eq(USER_ID), eq(TEAM_ID));
     verify(chatroomResponseConverter).convertToChatroomResponse(mockChatRoom);
-    verify(readReceiptService).getUnreadMessageCount(eq(CHATROOM_ID), eq(USER_ID_STR));
+    verify(readReceiptService).getUnreadMessageCounts(eq(List.of(CHATROOM_ID)), eq(USER_ID_STR));
   }
 
   @Test
@@ -1,22 +1,28 @@
 package com.deveagles.be15_deveagles_be.features.chat.query.application.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.util.ReadPositionStore;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
 import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageListResponse;
 import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageReadStatusResponse;
-import com.deveagles.be15_deveagles_be.features.chat.query.application.service.util.MessageResponseConverter;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.service.util.MessageHistoryReader;
 import com.deveagles.be15_deveagles_be.features.chat.query.domain.repository.MessageQueryRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,15 +30,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class MessageQueryServiceImplTest {
 
   @Mock private MessageQueryRepository messageQueryRepository;
-  @Mock private RedisTemplate<String, String> redisTemplate;
-  @Mock private ObjectMapper objectMapper;
-  @Mock private MessageResponseConverter messageResponseConverter;
+  @Mock private ReadPositionStore readPositionStore;
+  @Mock private MessageHistoryReader messageHistoryReader;
 
   @InjectMocks private MessageQueryServiceImpl messageQueryService;
 
@@ -95,42 +99,86 @@ public class MessageQueryServiceImplTest {
         .build();
   }
 
+  private List<SerializedMessage> serialized(List<ChatMessage> messages) {
+    return messages.stream()
+        .map(message -> new SerializedMessage(message.getId(), message.getCreatedAt(), "{}"))
+        .toList();
+  }
+
   @Test
   @DisplayName("메시지 목록 조회 테스트")
   void getMessages_Success() {
     // given
-    when(messageQueryRepository.findMessages(eq(CHATROOM_ID), eq(BEFORE_MESSAGE_ID), eq(LIMIT)))
-        .thenReturn(mockMessages);
+    ChatMessage beforeMessage = createChatMessage("message0", "이전 메시지", "2", "테스트 사용자2");
+    MessageCursor beforeCursor = MessageCursor.of(beforeMessage);
+    when(messageQueryRepository.findMessageById(BEFORE_MESSAGE_ID))
+        .thenReturn(Optional.of(beforeMessage));
+    when(messageHistoryReader.read(CHATROOM_ID, beforeCursor, LIMIT))
+        .thenReturn(serialized(mockMessages));
 
     // when
     MessageListResponse response =
-        messageQueryService.getMessages(USER_ID, CHATROOM_ID, BEFORE_MESSAGE_ID, LIMIT);
+        messageQueryService.getMessages(USER_ID, CHATROOM_ID, BEFORE_MESSAGE_ID, null, LIMIT);
 
     // then
     assertThat(response).isNotNull();
-    // Redis를 통한 조회는 Mock이므로 정확한 결과 검증은 생략하고 null이 아님만 확인
-    assertThat(response.getMessages()).isNotNull();
+    assertThat(response.getMessages())
+        .extracting(SerializedMessage::id)
+        .containsExactly("message1", "message2", "message3");
+    assertThat(response.getNextCursor()).isNull();
 
-    verify(messageQueryRepository).findMessages(eq(CHATROOM_ID), eq(BEFORE_MESSAGE_ID), eq(LIMIT));
+    verify(messageHistoryReader).read(CHATROOM_ID, beforeCursor, LIMIT);
+    verify(readPositionStore).write(CHATROOM_ID, USER_ID_STR, "message1");
   }
 
   @Test
-  @DisplayName("메시지 목록 조회 - 빈 결과 테스트")
+  @DisplayName("메시지 목록 조회 - 이전 메시지를 찾을 수 없으면 빈 결과를 반환한다")
   void getMessages_EmptyResult() {
     // given
-    List<ChatMessage> emptyMessages = new ArrayList<>();
-    when(messageQueryRepository.findMessages(eq(CHATROOM_ID), eq(BEFORE_MESSAGE_ID), eq(LIMIT)))
-        .thenReturn(emptyMessages);
+    when(messageQueryRepository.findMessageById(BEFORE_MESSAGE_ID)).thenReturn(Optional.empty());
 
     // when
     MessageListResponse response =
-        messageQueryService.getMessages(USER_ID, CHATROOM_ID, BEFORE_MESSAGE_ID, LIMIT);
+        messageQueryService.getMessages(USER_ID, CHATROOM_ID, BEFORE_MESSAGE_ID, null, LIMIT);
 
     // then
     assertThat(response).isNotNull();
     assertThat(response.getMessages()).isEmpty();
 
-    verify(messageQueryRepository).findMessages(eq(CHATROOM_ID), eq(BEFORE_MESSAGE_ID), eq(LIMIT));
+    verify(messageHistoryReader, never()).read(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("메시지 목록 조회 - 커서 없이 조회하면 가장 최근 메시지부터 조회한다")
+  void getMessages_Latest() {
+    // given
+    when(messageHistoryReader.read(CHATROOM_ID, null, LIMIT)).thenReturn(serialized(mockMessages));
+
+    // when
+    MessageListResponse response =
+        messageQueryService.getMessages(null, CHATROOM_ID, null, null, LIMIT);
+
+    // then
+    assertThat(response.getMessages()).hasSize(3);
+    verify(messageQueryRepository, never()).findMessageById(any());
+    verify(readPositionStore, never()).write(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("메시지 목록 조회 - 커서가 있으면 경계 메시지 조회 없이 커서 이후 페이지를 조회한다")
+  void getMessages_WithCursor() {
+    // given
+    MessageCursor cursor = new MessageCursor(LocalDateTime.of(2025, 1, 1, 12, 0), "message0");
+    when(messageHistoryReader.read(CHATROOM_ID, cursor, 3)).thenReturn(serialized(mockMessages));
+
+    // when
+    MessageListResponse response =
+        messageQueryService.getMessages(null, CHATROOM_ID, null, cursor.encode(), 3);
+
+    // then
+    assertThat(response.getMessages()).hasSize(3);
+    assertThat(MessageCursor.decode(response.getNextCursor()).id()).isEqualTo("message3");
+    verify(messageQueryRepository, never()).findMessageById(any());
   }
 
   @Test
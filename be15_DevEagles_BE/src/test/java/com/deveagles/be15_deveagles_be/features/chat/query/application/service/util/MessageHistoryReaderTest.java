@@ -0,0 +1,214 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.common.config.JacksonConfig;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.MessageCursor;
+import com.deveagles.be15_deveagles_be.features.chat.infrastructure.adapters.RecentMessageCache;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.deveagles.be15_deveagles_be.features.chat.query.domain.repository.MessageQueryRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+class MessageHistoryReaderTest {
+
+  private static final String CHATROOM_ID = "room1";
+  private static final String REDIS_KEY = RecentMessageCache.keyOf(CHATROOM_ID);
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ZSetOperations<String, String> zSetOperations;
+  @Mock private MessageQueryRepository messageQueryRepository;
+  @Mock private RecentMessageCache recentMessageCache;
+
+  private MessageResponseConverter converter;
+  private MessageHistoryReader reader;
+
+  @BeforeEach
+  void setUp() {
+    converter = new MessageResponseConverter(new JacksonConfig().objectMapper());
+    reader =
+        new MessageHistoryReader(
+            redisTemplate, messageQueryRepository, converter, recentMessageCache);
+  }
+
+  private ChatMessage message(int seq, LocalDateTime createdAt) {
+    return ChatMessage.builder()
+        .id(String.format("65f1c2a9e4b0a1b2c3d4%04x", seq))
+        .chatroomId(CHATROOM_ID)
+        .senderId("1")
+        .senderName("사용자1")
+        .messageType(MessageType.TEXT)
+        .content("메시지 " + seq)
+        .createdAt(createdAt)
+        .build();
+  }
+
+  private Set<TypedTuple<String>> window(ChatMessage... newestFirst) throws Exception {
+    Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+    for (ChatMessage message : newestFirst) {
+      double score = message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+      tuples.add(new DefaultTypedTuple<>(converter.serialize(message).json(), score));
+    }
+    return tuples;
+  }
+
+  private void givenWindow(Set<TypedTuple<String>> tuples) {
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(zSetOperations.reverseRangeByScoreWithScores(
+            eq(REDIS_KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+        .thenReturn(tuples);
+  }
+
+  private List<String> ids(List<SerializedMessage> messages) {
+    return messages.stream().map(SerializedMessage::id).toList();
+  }
+
+  @Test
+  @DisplayName("Redis 창에 요청한 만큼 있으면 MongoDB 를 조회하지 않는다")
+  void read_servedFromWindow() throws Exception {
+    // given
+    ChatMessage m3 = message(3, BASE.plusSeconds(3));
+    ChatMessage m2 = message(2, BASE.plusSeconds(2));
+    ChatMessage m1 = message(1, BASE.plusSeconds(1));
+    givenWindow(window(m3, m2, m1));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, null, 2);
+
+    // then
+    assertThat(ids(result)).containsExactly(m3.getId(), m2.getId());
+    verify(messageQueryRepository, never()).findMessagesBefore(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Redis 창이 모자라면 창의 가장 오래된 메시지 아래만 MongoDB 에서 읽어 이어 붙인다")
+  void read_readsBelowSeamFromMongo() throws Exception {
+    // given
+    ChatMessage m4 = message(4, BASE.plusSeconds(4));
+    ChatMessage m3 = message(3, BASE.plusSeconds(3));
+    ChatMessage m2 = message(2, BASE.plusSeconds(2));
+    ChatMessage m1 = message(1, BASE.plusSeconds(1));
+    givenWindow(window(m4, m3));
+    when(messageQueryRepository.findMessagesBefore(CHATROOM_ID, MessageCursor.of(m3), 2))
+        .thenReturn(List.of(m2, m1));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, null, 4);
+
+    // then
+    assertThat(ids(result)).containsExactly(m4.getId(), m3.getId(), m2.getId(), m1.getId());
+    verify(recentMessageCache).fill(CHATROOM_ID, List.of(m2, m1));
+  }
+
+  @Test
+  @DisplayName("커서와 같은 밀리초의 메시지는 (createdAt, id) 기준으로 걸러 경계에서 중복이나 누락이 없다")
+  void read_filtersTiesAtCursor() throws Exception {
+    // given
+    LocalDateTime sameMillis = BASE.plusSeconds(5);
+    ChatMessage newerTie = message(3, sameMillis);
+    ChatMessage cursorMessage = message(2, sameMillis);
+    ChatMessage olderTie = message(1, sameMillis);
+    ChatMessage older = message(0, BASE);
+    givenWindow(window(newerTie, cursorMessage, olderTie, older));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, MessageCursor.of(cursorMessage), 2);
+
+    // then
+    assertThat(ids(result)).containsExactly(olderTie.getId(), older.getId());
+    verify(messageQueryRepository, never()).findMessagesBefore(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("최신 페이지 조회 시 Redis 창이 비어 있으면 MongoDB 조회 결과로 창을 채운다")
+  void read_backfillsEmptyWindow() throws Exception {
+    // given
+    ChatMessage m2 = message(2, BASE.plusSeconds(2));
+    ChatMessage m1 = message(1, BASE.plusSeconds(1));
+    givenWindow(Set.of());
+    when(messageQueryRepository.findMessagesBefore(CHATROOM_ID, null, 3))
+        .thenReturn(List.of(m2, m1));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, null, 3);
+
+    // then
+    assertThat(ids(result)).containsExactly(m2.getId(), m1.getId());
+    verify(recentMessageCache).fill(CHATROOM_ID, List.of(m2, m1));
+  }
+
+  @Test
+  @DisplayName("창보다 오래된 페이지는 MongoDB 에서만 읽고 창을 채우지 않는다")
+  void read_olderPageDoesNotBackfill() throws Exception {
+    // given
+    ChatMessage m1 = message(1, BASE.plusSeconds(1));
+    MessageCursor cursor = new MessageCursor(BASE.plusSeconds(2), message(2, BASE).getId());
+    givenWindow(Set.of());
+    when(messageQueryRepository.findMessagesBefore(CHATROOM_ID, cursor, 3)).thenReturn(List.of(m1));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, cursor, 3);
+
+    // then
+    assertThat(ids(result)).containsExactly(m1.getId());
+    verify(recentMessageCache, never()).fill(any(), any());
+  }
+
+  @Test
+  @DisplayName("Redis 조회에 실패하면 커서 아래를 MongoDB 에서만 읽는다")
+  void read_fallsBackToMongoOnRedisFailure() throws Exception {
+    // given
+    ChatMessage m1 = message(1, BASE.plusSeconds(1));
+    when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("연결 실패"));
+    when(messageQueryRepository.findMessagesBefore(CHATROOM_ID, null, 2)).thenReturn(List.of(m1));
+
+    // when
+    List<SerializedMessage> result = reader.read(CHATROOM_ID, null, 2);
+
+    // then
+    assertThat(ids(result)).containsExactly(m1.getId());
+    verify(recentMessageCache, never()).fill(any(), any());
+  }
+
+  @Test
+  @DisplayName("두 정렬 목록을 병합할 때 겹친 메시지는 한 번만 남긴다")
+  void merge_dedupesOverlap() throws Exception {
+    // given
+    SerializedMessage m3 = converter.serialize(message(3, BASE.plusSeconds(3)));
+    SerializedMessage m2 = converter.serialize(message(2, BASE.plusSeconds(2)));
+    SerializedMessage m1 = converter.serialize(message(1, BASE.plusSeconds(1)));
+
+    // when
+    List<SerializedMessage> result =
+        MessageHistoryReader.merge(List.of(m3, m2), List.of(m2, m1), 10);
+
+    // then
+    assertThat(ids(result)).containsExactly(m3.id(), m2.id(), m1.id());
+  }
+}
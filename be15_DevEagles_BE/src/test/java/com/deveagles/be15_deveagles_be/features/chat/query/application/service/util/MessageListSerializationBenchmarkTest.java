@@ -0,0 +1,126 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.application.service.util;
+
+import com.deveagles.be15_deveagles_be.common.config.JacksonConfig;
+import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageListResponse;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 메시지 목록 응답 직렬화 벤치마크
+ *
+ * <p>Redis 최근 메시지 50건으로 응답 본문을 만드는 비용을 비교한다. 기존 경로는 ChatMessageResponse 역직렬화 → MessageResponse 변환 →
+ * 응답 직렬화이고, 현재 경로는 캐시에 저장된 응답 형식 JSON 을 그대로 응답에 쓴다. 요청당 소요 시간과 할당 바이트를 출력한다.
+ */
+@Disabled("수동 실행용 벤치마크")
+class MessageListSerializationBenchmarkTest {
+
+  private static final int MESSAGES_PER_PAGE = 50;
+  private static final int WARMUP_ITERATIONS = 20_000;
+  private static final int MEASURE_ITERATIONS = 100_000;
+
+  private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+  private final MessageResponseConverter converter = new MessageResponseConverter(objectMapper);
+
+  private final List<String> legacyEntries = new ArrayList<>();
+  private final List<String> wireEntries = new ArrayList<>();
+  private final List<Double> scores = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 0);
+    for (int i = 0; i < MESSAGES_PER_PAGE; i++) {
+      ChatMessage message =
+          ChatMessage.builder()
+              .id(String.format("65f1c2a9e4b0a1b2c3d4%04x", i))
+              .chatroomId("benchmark-room")
+              .senderId(String.valueOf(i % 5 + 1))
+              .senderName("벤치마크 사용자 " + (i % 5 + 1))
+              .messageType(MessageType.TEXT)
+              .content("오늘 회의는 3시에 시작합니다. 자료는 공유 드라이브에 올려 두었습니다. #" + i)
+              .metadata(Map.of("clientId", "web"))
+              .createdAt(base.plusSeconds(i))
+              .build();
+      legacyEntries.add(objectMapper.writeValueAsString(ChatMessageResponse.from(message)));
+      wireEntries.add(converter.serialize(message).json());
+      scores.add((double) message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+  }
+
+  @Test
+  @DisplayName("최근 메시지 50건 응답 생성 비용 비교 (기존 vs 현재)")
+  void compareResponseSerialization() throws Exception {
+    run("기존 경로", WARMUP_ITERATIONS, this::legacyPath);
+    Result legacy = run("기존 경로", MEASURE_ITERATIONS, this::legacyPath);
+
+    run("현재 경로", WARMUP_ITERATIONS, this::currentPath);
+    Result current = run("현재 경로", MEASURE_ITERATIONS, this::currentPath);
+
+    report("기존 경로", legacy);
+    report("현재 경로", current);
+  }
+
+  /** 변경 이전의 조회 경로: 캐시 항목을 객체로 되돌린 뒤 응답을 다시 직렬화한다. */
+  private byte[] legacyPath() throws Exception {
+    List<MessageResponse> messages = new ArrayList<>(MESSAGES_PER_PAGE);
+    for (String entry : legacyEntries) {
+      ChatMessageResponse message = objectMapper.readValue(entry, ChatMessageResponse.class);
+      messages.add(converter.convertFromChatMessageResponse(message));
+    }
+    return objectMapper.writeValueAsBytes(ApiResponse.success(messages));
+  }
+
+  private byte[] currentPath() throws Exception {
+    List<SerializedMessage> messages = new ArrayList<>(MESSAGES_PER_PAGE);
+    for (int i = 0; i < wireEntries.size(); i++) {
+      messages.add(converter.fromCache(wireEntries.get(i), scores.get(i)));
+    }
+    return objectMapper.writeValueAsBytes(ApiResponse.success(MessageListResponse.of(messages)));
+  }
+
+  private Result run(String name, int iterations, ResponseWriter writer) throws Exception {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    long sink = 0;
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink += writer.write().length;
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    if (sink == 0) {
+      throw new IllegalStateException(name + " 응답이 비어 있습니다.");
+    }
+    return new Result(elapsedNanos / iterations, allocated / iterations);
+  }
+
+  private void report(String name, Result result) {
+    System.out.printf(
+        "[%s] %,d ns/op, %,d bytes/op 할당%n", name, result.nanosPerOp(), result.bytesPerOp());
+  }
+
+  private record Result(long nanosPerOp, long bytesPerOp) {}
+
+  @FunctionalInterface
+  private interface ResponseWriter {
+    byte[] write() throws Exception;
+  }
+}
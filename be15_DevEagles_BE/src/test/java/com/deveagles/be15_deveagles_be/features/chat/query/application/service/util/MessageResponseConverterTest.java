@@ -0,0 +1,60 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.application.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.common.config.JacksonConfig;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage.MessageType;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.MessageListResponse;
+import com.deveagles.be15_deveagles_be.features.chat.query.application.dto.response.SerializedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageResponseConverterTest {
+
+  private ObjectMapper objectMapper;
+  private MessageResponseConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new JacksonConfig().objectMapper();
+    converter = new MessageResponseConverter(objectMapper);
+  }
+
+  @Test
+  @DisplayName("캐시 항목을 감싼 메시지 목록은 MessageResponse 목록과 같은 JSON 으로 직렬화된다")
+  void fromCache_writesSameJsonAsMessageResponse() throws Exception {
+    // given
+    ChatMessage message =
+        ChatMessage.builder()
+            .id("65f1c2a9e4b0a1b2c3d4e5f6")
+            .chatroomId("room1")
+            .senderId("1")
+            .senderName("사용자1")
+            .messageType(MessageType.TEXT)
+            .content("안녕하세요 \"따옴표\"")
+            .metadata(Map.of("key", "value"))
+            .createdAt(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000))
+            .build();
+    String cached = converter.serialize(message).json();
+    double score = message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    // when
+    SerializedMessage fromCache = converter.fromCache(cached, score);
+
+    // then
+    assertThat(fromCache.id()).isEqualTo(message.getId());
+    assertThat(fromCache.createdAt()).isEqualTo(message.getCreatedAt());
+    assertThat(objectMapper.writeValueAsString(MessageListResponse.of(List.of(fromCache))))
+        .isEqualTo(
+            "{\"messages\":["
+                + objectMapper.writeValueAsString(converter.convertFromChatMessage(message))
+                + "],\"nextCursor\":null}");
+  }
+}
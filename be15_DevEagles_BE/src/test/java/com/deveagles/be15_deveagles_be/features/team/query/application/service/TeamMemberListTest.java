@@ -3,7 +3,6 @@ package com.deveagles.be15_deveagles_be.features.team.query.application.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import com.deveagles.be15_deveagles_be.features.chat.command.application.service.MoodInquiryService;
 import com.deveagles.be15_deveagles_be.features.team.command.domain.aggregate.TeamMember;
 import com.deveagles.be15_deveagles_be.features.team.command.domain.exception.TeamBusinessException;
 import com.deveagles.be15_deveagles_be.features.team.command.domain.exception.TeamErrorCode;
@@ -21,16 +20,13 @@ class TeamMemberListTest {
 
   private TeamMapper teamMapper;
   private TeamMemberRepository teamMemberRepository;
-  private MoodInquiryService moodInquiryService;
   private TeamQueryServiceImpl teamQueryService;
 
   @BeforeEach
   void setUp() {
     teamMapper = mock(TeamMapper.class);
     teamMemberRepository = mock(TeamMemberRepository.class);
-    moodInquiryService = mock(MoodInquiryService.class);
-    teamQueryService =
-        new TeamQueryServiceImpl(teamMapper, teamMemberRepository, moodInquiryService);
+    teamQueryService = new TeamQueryServiceImpl(teamMapper, teamMemberRepository);
   }
 
   @Test
@@ -72,4 +68,38 @@ class TeamMemberListTest {
         .isInstanceOf(TeamBusinessException.class)
         .hasMessageContaining(TeamErrorCode.NOT_TEAM_MEMBER.getMessage());
   }
+
+  @Test
+  @DisplayName("팀원 감정 현황 조회 - 최근 기분이 조인된 팀원 목록을 한 번에 조회한다")
+  void getTeamMembersWithMood_success() {
+    // given
+    Long userId = 1L;
+    Long teamId = 10L;
+
+    TeamMember mockMember = mock(TeamMember.class);
+    when(teamMemberRepository.findByIdUserIdAndIdTeamIdAndDeletedAtIsNull(userId, teamId))
+        .thenReturn(Optional.of(mockMember));
+
+    TeamMemberResponse member1 =
+        TeamMemberResponse.builder()
+            .userId(1L)
+            .email("hong@example.com")
+            .latestMoodType("JOY")
+            .latestMoodIntensity(80)
+            .build();
+    TeamMemberResponse member2 =
+        TeamMemberResponse.builder().userId(2L).email("kim@example.com").build();
+
+    when(teamMapper.selectTeamMembersWithMood(teamId)).thenReturn(List.of(member1, member2));
+
+    // when
+    List<TeamMemberResponse> result = teamQueryService.getTeamMembersWithMood(userId, teamId);
+
+    // then
+    assertThat(result).containsExactly(member1, member2);
+    assertThat(result.get(0).getLatestMoodType()).isEqualTo("JOY");
+    assertThat(result.get(1).getLatestMoodType()).isNull();
+    verify(teamMapper, times(1)).selectTeamMembersWithMood(teamId);
+    verify(teamMapper, never()).selectTeamMembers(teamId);
+  }
 }
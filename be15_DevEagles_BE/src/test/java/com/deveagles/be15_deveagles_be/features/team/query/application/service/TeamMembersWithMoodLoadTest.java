@@ -0,0 +1,190 @@
+package com.deveagles.be15_deveagles_be.features.team.query.application.service;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.service.MoodInquiryService;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.UserMoodHistory.MoodType;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.UserMoodHistoryRepository;
+import com.deveagles.be15_deveagles_be.features.team.query.dto.response.TeamMemberResponse;
+import com.deveagles.be15_deveagles_be.features.team.query.mapper.TeamMapper;
+import com.deveagles.be15_deveagles_be.features.team.query.service.TeamQueryService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 팀원 감정 현황 부하 테스트 (실제 MariaDB 연결 필요)
+ *
+ * <p>200명 팀에 대해 동시에 팀원 감정 현황을 조회하며 기존 경로(팀원 목록 조회 후 팀원마다 최근 기분 이력 조회)와 현재 경로(user_latest_mood 조인 한
+ * 번)의 p50/p99 지연시간을 비교한다.
+ */
+@Disabled("실제 MariaDB 연결이 필요한 부하 테스트")
+@SpringBootTest
+class TeamMembersWithMoodLoadTest {
+
+  private static final int TEAM_SIZE = 200;
+  private static final int CONCURRENCY = 16;
+  private static final int REQUESTS_PER_THREAD = 50;
+  private static final int WARMUP_REQUESTS = 100;
+
+  @Autowired private TeamQueryService teamQueryService;
+  @Autowired private TeamMapper teamMapper;
+  @Autowired private MoodInquiryService moodInquiryService;
+  @Autowired private UserMoodHistoryRepository userMoodHistoryRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final String marker = "load-" + UUID.randomUUID().toString().substring(0, 8);
+  private final List<Long> userIds = new ArrayList<>();
+  private Long teamId;
+
+  @BeforeEach
+  void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < TEAM_SIZE; i++) {
+      jdbcTemplate.update(
+          "INSERT INTO user (email, password, user_name, phone_number, user_status, created_at,"
+              + " modified_at) VALUES (?, 'load-test', ?, '01000000000', 'ENABLED', ?, ?)",
+          marker + "-" + i + "@example.com",
+          marker + "-" + i,
+          now,
+          now);
+      userIds.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class));
+    }
+
+    jdbcTemplate.update(
+        "INSERT INTO team (user_id, team_name, introduction, created_at, modified_at)"
+            + " VALUES (?, ?, 'load-test', ?, ?)",
+        userIds.get(0),
+        marker,
+        now,
+        now);
+    teamId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+
+    MoodType[] moodTypes = MoodType.values();
+    for (int i = 0; i < TEAM_SIZE; i++) {
+      Long userId = userIds.get(i);
+      jdbcTemplate.update(
+          "INSERT INTO team_member (user_id, team_id, created_at) VALUES (?, ?, ?)",
+          userId,
+          teamId,
+          now);
+
+      UserMoodHistory history =
+          userMoodHistoryRepository.save(
+              UserMoodHistory.builder()
+                  .userId(String.valueOf(userId))
+                  .moodType(moodTypes[i % moodTypes.length])
+                  .intensity(i % 100)
+                  .inquiry("오늘 기분은 어떠세요?")
+                  .inquiryId(marker + "-" + i)
+                  .userAnswer("괜찮아요")
+                  .createdAt(now)
+                  .answeredAt(now)
+                  .build());
+      userMoodHistoryRepository.refreshLatestMood(history);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    String ids = String.join(",", userIds.stream().map(String::valueOf).toList());
+    jdbcTemplate.update("DELETE FROM user_latest_mood WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM user_mood_history WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM team_member WHERE team_id = ?", teamId);
+    jdbcTemplate.update("DELETE FROM team WHERE team_id = ?", teamId);
+    jdbcTemplate.update("DELETE FROM user WHERE user_id IN (" + ids + ")");
+  }
+
+  @Test
+  @DisplayName("200명 팀 감정 현황 동시 조회 지연시간 비교 (기존 vs 현재)")
+  void compareTeamMembersWithMood() throws Exception {
+    run(WARMUP_REQUESTS, this::legacyPath);
+    long[] legacy = run(CONCURRENCY * REQUESTS_PER_THREAD, this::legacyPath);
+
+    run(WARMUP_REQUESTS, this::currentPath);
+    long[] current = run(CONCURRENCY * REQUESTS_PER_THREAD, this::currentPath);
+
+    report("기존 경로", legacy);
+    report("현재 경로", current);
+  }
+
+  private List<TeamMemberResponse> currentPath() {
+    return teamQueryService.getTeamMembersWithMood(userIds.get(0), teamId);
+  }
+
+  /** 변경 이전의 조회 경로: 팀원 목록을 읽고 팀원마다 최근 기분 이력을 조회한다. */
+  private List<TeamMemberResponse> legacyPath() {
+    List<TeamMemberResponse> members = teamMapper.selectTeamMembers(teamId);
+    List<TeamMemberResponse> result = new ArrayList<>(members.size());
+    for (TeamMemberResponse member : members) {
+      UserMoodHistory latest =
+          moodInquiryService
+              .getLatestMoodHistory(String.valueOf(member.getUserId()))
+              .orElse(null);
+      result.add(
+          TeamMemberResponse.builder()
+              .userId(member.getUserId())
+              .userName(member.getUserName())
+              .email(member.getEmail())
+              .profileImageUrl(member.getProfileImageUrl())
+              .latestMoodType(
+                  latest != null && latest.getMoodType() != null
+                      ? latest.getMoodType().name()
+                      : null)
+              .latestMoodIntensity(latest != null ? latest.getIntensity() : null)
+              .build());
+    }
+    return result;
+  }
+
+  private long[] run(int requests, Supplier<List<TeamMemberResponse>> path) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+    try {
+      List<Future<Long>> futures = new ArrayList<>(requests);
+      for (int i = 0; i < requests; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  long startedAt = System.nanoTime();
+                  List<TeamMemberResponse> members = path.get();
+                  if (members.size() != TEAM_SIZE) {
+                    throw new IllegalStateException("팀원 수가 다릅니다: " + members.size());
+                  }
+                  return System.nanoTime() - startedAt;
+                }));
+      }
+
+      long[] latencies = new long[requests];
+      for (int i = 0; i < requests; i++) {
+        latencies[i] = futures.get(i).get();
+      }
+      return latencies;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void report(String name, long[] latencies) {
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    System.out.printf(
+        "[%s] %d건, p50=%.2fms, p99=%.2fms%n",
+        name,
+        sorted.length,
+        sorted[sorted.length / 2] / 1_000_000.0,
+        sorted[(int) (sorted.length * 0.99)] / 1_000_000.0);
+  }
+}
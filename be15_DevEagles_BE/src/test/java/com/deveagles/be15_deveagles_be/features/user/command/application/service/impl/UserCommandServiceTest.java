@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserCreateRequest;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserUpdateRequest;
@@ -48,7 +49,12 @@ class UserCommandServiceTest {
 
     userCommandService =
         new UserCommandServiceImpl(
-            userRepository, modelMapper, passwordEncoder, amazonS3, chatRoomService);
+            userRepository,
+            modelMapper,
+            passwordEncoder,
+            amazonS3,
+            chatRoomService,
+            mock(UserStatusCache.class));
 
     createUser =
         UserCreateRequest.builder()
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.deveagles.be15_deveagles_be.common.jwt.UserStatusCache;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatRoomService;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserCreateRequest;
 import com.deveagles.be15_deveagles_be.features.user.command.application.dto.request.UserUpdateRequest;
@@ -43,7 +44,12 @@ class UserCommandServiceImplTest {
     ChatRoomService chatRoomService = mock(ChatRoomService.class);
     userCommandService =
         new UserCommandServiceImpl(
-            userRepository, modelMapper, passwordEncoder, amazonS3, chatRoomService);
+            userRepository,
+            modelMapper,
+            passwordEncoder,
+            amazonS3,
+            chatRoomService,
+            mock(UserStatusCache.class));
 
     invalidUserId = -1L;
     validPassword = "eagles1234!";
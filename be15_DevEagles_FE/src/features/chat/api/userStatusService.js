@@ -3,21 +3,27 @@ import { createLogger } from '@/utils/logger.js';
 
 const logger = createLogger('userStatusService');
 
-export async function getOnlineUsers() {
+// since 에 이전 응답의 version 을 보내면 그 뒤 상태가 바뀐 팀원만 받는다 (delta: true)
+export async function getTeamPresence(teamId, since) {
   try {
-    const response = await api.get('/user-status/online-users');
+    const params = since !== undefined && since !== null ? { since } : {};
+    const response = await api.get(`/user-status/teams/${teamId}`, { params });
 
     if (response.data?.success && response.data?.data) {
-      const onlineUsers = Array.from(response.data.data);
-      logger.info('[userStatusService] 온라인 사용자 목록 조회 성공:', onlineUsers.length, '명');
-      return onlineUsers;
+      const presence = response.data.data;
+      logger.info(
+        `[userStatusService] 팀 ${teamId} 접속 상태 조회 성공:`,
+        presence.members?.length ?? 0,
+        presence.delta ? '명 변경' : '명'
+      );
+      return presence;
     }
 
-    logger.warn('[userStatusService] 온라인 사용자 목록 조회 응답이 비어있음');
-    return [];
+    logger.warn(`[userStatusService] 팀 ${teamId} 접속 상태 조회 응답이 비어있음`);
+    return null;
   } catch (error) {
-    logger.error('[userStatusService] 온라인 사용자 목록 조회 실패:', error);
-    return [];
+    logger.error(`[userStatusService] 팀 ${teamId} 접속 상태 조회 실패:`, error);
+    return null;
   }
 }
 
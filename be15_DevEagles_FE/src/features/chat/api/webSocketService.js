@@ -152,8 +152,9 @@ function connectWebSocket() {
       subscriptions = {};
       Object.keys(currentSubscriptions).forEach(destination => {
         const callback = currentSubscriptions[destination].callback;
-        if (destination === 'user.status') {
-          subscribeToUserStatus(callback);
+        if (destination.startsWith('status.team.')) {
+          const teamId = destination.split('.')[2];
+          subscribeToTeamStatus(teamId, callback);
         } else if (destination.includes('.read')) {
           const chatRoomId = destination.split('.')[1];
           subscribeToReadStatus(chatRoomId, callback);
@@ -391,6 +392,9 @@ export function unsubscribe(destination) {
     subscriptions[destination].subscription.unsubscribe();
     delete subscriptions[destination];
     logger.info(`${destination} 구독 해제 완료`);
+  } else if (subscriptions[destination]) {
+    // 연결 대기 중인 구독은 재연결 시 다시 구독되지 않도록 지운다
+    delete subscriptions[destination];
   }
 }
 
@@ -454,27 +458,35 @@ export function forceReconnect() {
   }, 1000);
 }
 
-export function subscribeToUserStatus(callback) {
+export function subscribeToTeamStatus(teamId, callback) {
+  const key = `status.team.${teamId}`;
+
   if (!stompClient || !stompClient.connected) {
     if (!validateAndCleanToken()) {
-      logger.warn('[subscribeToUserStatus] 유효한 인증 토큰이 없어 구독하지 않습니다.');
+      logger.warn('[subscribeToTeamStatus] 유효한 인증 토큰이 없어 구독하지 않습니다.');
       return;
     }
 
     logger.info('웹소켓 연결이 없습니다. 연결을 시도합니다.');
     initializeWebSocket();
-    subscriptions['user.status'] = { callback };
-    setTimeout(() => subscribeToUserStatus(callback), 1000);
+    subscriptions[key] = { callback };
+    setTimeout(() => {
+      // 대기 중에 구독이 해제되었으면 다시 구독하지 않는다
+      if (subscriptions[key] && !subscriptions[key].subscription) {
+        subscribeToTeamStatus(teamId, callback);
+      }
+    }, 1000);
     return;
   }
 
-  const destination = '/topic/status';
+  // 서버는 상태 변경을 사용자가 속한 팀 토픽으로만 보낸다
+  const destination = `/topic/status.team.${teamId}`;
 
-  if (subscriptions['user.status']) {
-    unsubscribe('user.status');
+  if (subscriptions[key]) {
+    unsubscribe(key);
   }
 
-  subscriptions['user.status'] = {
+  subscriptions[key] = {
     subscription: stompClient.subscribe(destination, message => {
       try {
         const statusMessage = JSON.parse(message.body);
@@ -487,5 +499,5 @@ export function subscribeToUserStatus(callback) {
     callback,
   };
 
-  logger.info(`[webSocketService] 사용자 상태 구독 완료: ${destination}`);
+  logger.info(`[webSocketService] 팀 ${teamId} 사용자 상태 구독 완료: ${destination}`);
 }
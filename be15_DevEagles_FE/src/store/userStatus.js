@@ -1,13 +1,25 @@
 import { defineStore } from 'pinia';
-import { subscribeToUserStatus, unsubscribe } from '@/features/chat/api/webSocketService';
-import { getOnlineUsers } from '@/features/chat/api/userStatusService';
+import {
+  onConnectionStateChange,
+  subscribeToTeamStatus,
+  unsubscribe,
+} from '@/features/chat/api/webSocketService';
+import { getTeamPresence } from '@/features/chat/api/userStatusService';
+import { useTeamStore } from '@/store/team';
 import { createLogger } from '@/utils/logger.js';
 
 const logger = createLogger('userStatusStore');
 
+// 웹소켓으로 놓친 변경을 팀 상태 버전 기준으로 주기적으로 채운다
+const PRESENCE_POLL_INTERVAL_MS = 60000;
+let presencePollTimer = null;
+let connectionListenerRegistered = false;
+
 export const useUserStatusStore = defineStore('userStatus', {
   state: () => ({
     onlineUsers: new Set(),
+    subscribedTeamIds: [],
+    teamVersions: {},
     isInitialized: false,
   }),
 
@@ -61,31 +73,67 @@ export const useUserStatusStore = defineStore('userStatus', {
       );
     },
 
-    async loadInitialOnlineUsers() {
-      try {
-        logger.info('[UserStatusStore] 초기 온라인 사용자 목록 로드 시작');
-        const onlineUserIds = await getOnlineUsers();
+    // 처음에는 팀원 전체를, 이후에는 마지막 버전 이후 바뀐 팀원만 받아 반영한다
+    async loadTeamPresence(teamId) {
+      const teamIdStr = String(teamId);
+      const presence = await getTeamPresence(teamIdStr, this.teamVersions[teamIdStr]);
 
-        this.onlineUsers.clear();
+      if (!presence || !this.subscribedTeamIds.includes(teamIdStr)) {
+        return;
+      }
 
-        onlineUserIds.forEach(userId => {
-          const userIdStr = String(userId).trim();
-          if (userIdStr && userIdStr !== 'null' && userIdStr !== 'undefined') {
-            if (!userIdStr.includes('@')) {
-              this.onlineUsers.add(userIdStr);
-            }
-          }
-        });
+      (presence.members || []).forEach(member => {
+        this.updateUserStatus(member.userId, Boolean(member.online));
+      });
+      this.teamVersions[teamIdStr] = presence.version;
 
-        logger.info(
-          `[UserStatusStore] 초기 온라인 사용자 ${this.onlineUsers.size}명 로드 완료:`,
-          Array.from(this.onlineUsers)
-        );
-      } catch (error) {
-        logger.error('[UserStatusStore] 초기 온라인 사용자 목록 로드 실패:', error);
+      const mode = presence.delta ? '변경분' : '전체';
+      logger.info(
+        `[UserStatusStore] 팀 ${teamIdStr} 접속 상태 반영: ${mode}, 버전 ${presence.version}`
+      );
+    },
+
+    handleStatusMessage(statusMessage) {
+      logger.debug('[UserStatusStore] 상태 메시지 수신:', statusMessage);
+
+      if (
+        statusMessage &&
+        statusMessage.userId !== undefined &&
+        statusMessage.online !== undefined
+      ) {
+        const userIdStr = String(statusMessage.userId).trim();
+        if (userIdStr && !userIdStr.includes('@')) {
+          this.updateUserStatus(userIdStr, statusMessage.online);
+        } else {
+          logger.debug('[UserStatusStore] 이메일 형태 사용자 ID 무시:', userIdStr);
+        }
+      } else {
+        logger.warn('[UserStatusStore] 잘못된 상태 메시지 형식:', statusMessage);
       }
     },
 
+    // 상태 변경은 팀 토픽으로만 오므로 소속 팀마다 구독한다
+    syncTeamSubscriptions(teamIds) {
+      const nextTeamIds = [...new Set((teamIds || []).filter(Boolean).map(String))];
+
+      this.subscribedTeamIds
+        .filter(teamId => !nextTeamIds.includes(teamId))
+        .forEach(teamId => {
+          unsubscribe(`status.team.${teamId}`);
+          delete this.teamVersions[teamId];
+          logger.info(`[UserStatusStore] 팀 ${teamId} 상태 구독 해제`);
+        });
+
+      const addedTeamIds = nextTeamIds.filter(teamId => !this.subscribedTeamIds.includes(teamId));
+      this.subscribedTeamIds = nextTeamIds;
+
+      // 구독을 먼저 건 뒤 조회해야 그 사이의 변경을 놓치지 않는다
+      addedTeamIds.forEach(teamId => {
+        subscribeToTeamStatus(teamId, statusMessage => this.handleStatusMessage(statusMessage));
+        this.loadTeamPresence(teamId);
+      });
+    },
+
     async initializeUserStatusSubscription() {
       if (this.isInitialized) {
         logger.info('[UserStatusStore] 이미 초기화됨');
@@ -93,43 +141,45 @@ export const useUserStatusStore = defineStore('userStatus', {
       }
 
       logger.info('[UserStatusStore] 사용자 상태 구독 시작');
-      await this.loadInitialOnlineUsers();
-
-      subscribeToUserStatus(statusMessage => {
-        logger.debug('[UserStatusStore] 상태 메시지 수신:', statusMessage);
-
-        if (
-          statusMessage &&
-          statusMessage.userId !== undefined &&
-          statusMessage.online !== undefined
-        ) {
-          const userIdStr = String(statusMessage.userId).trim();
-          if (userIdStr && !userIdStr.includes('@')) {
-            this.updateUserStatus(userIdStr, statusMessage.online);
-          } else {
-            logger.debug('[UserStatusStore] 이메일 형태 사용자 ID 무시:', userIdStr);
+      this.isInitialized = true;
+
+      const teamStore = useTeamStore();
+      this.syncTeamSubscriptions(teamStore.teams.map(team => team.teamId));
+
+      // 재연결되면 끊긴 동안의 변경을 변경분 조회로 채운다
+      if (!connectionListenerRegistered) {
+        connectionListenerRegistered = true;
+        onConnectionStateChange(state => {
+          if (state === 'connected' && this.isInitialized) {
+            this.refreshOnlineUsers();
           }
-        } else {
-          logger.warn('[UserStatusStore] 잘못된 상태 메시지 형식:', statusMessage);
-        }
-      });
+        });
+      }
 
-      this.isInitialized = true;
+      if (presencePollTimer) clearInterval(presencePollTimer);
+      presencePollTimer = setInterval(() => this.refreshOnlineUsers(), PRESENCE_POLL_INTERVAL_MS);
     },
 
     async refreshOnlineUsers() {
-      await this.loadInitialOnlineUsers();
+      await Promise.all(this.subscribedTeamIds.map(teamId => this.loadTeamPresence(teamId)));
     },
 
     reset() {
+      if (presencePollTimer) {
+        clearInterval(presencePollTimer);
+        presencePollTimer = null;
+      }
+
       try {
-        unsubscribe('user.status');
+        this.subscribedTeamIds.forEach(teamId => unsubscribe(`status.team.${teamId}`));
         logger.info('[UserStatusStore] 사용자 상태 웹소켓 구독 해제 완료');
       } catch (error) {
         logger.error('[UserStatusStore] 사용자 상태 구독 해제 실패:', error);
       }
 
       this.onlineUsers.clear();
+      this.subscribedTeamIds = [];
+      this.teamVersions = {};
       this.isInitialized = false;
       logger.info('[UserStatusStore] 상태 초기화됨');
     },